@@ -170,6 +170,8 @@
  * 02-Jul-2013 : Use ParamChecks class (DG);
  * 12-Sep-2013 : Provide auto-detection for JFreeSVG and OrsonPDF 
  *               libraries (no compile time dependencies) (DG);
+ * 16-Oct-2026 : Added layered buffer option that redraws only the data
+ *               layer of an XYPlot when only the dataset has changed;
  * 
  */
 
@@ -216,6 +218,7 @@ import java.io.Serializable;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.EventListener;
 import java.util.Iterator;
 import java.util.List;
@@ -232,24 +235,31 @@ import javax.swing.ToolTipManager;
 import javax.swing.event.EventListenerList;
 import javax.swing.filechooser.FileNameExtensionFilter;
 
+import org.jfree.chart.axis.ValueAxis;
 import org.jfree.chart.editor.ChartEditor;
 import org.jfree.chart.editor.ChartEditorManager;
 import org.jfree.chart.entity.ChartEntity;
 import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.entity.StandardEntityCollection;
 import org.jfree.chart.event.ChartChangeEvent;
+import org.jfree.chart.event.ChartChangeEventType;
 import org.jfree.chart.event.ChartChangeListener;
 import org.jfree.chart.event.ChartProgressEvent;
 import org.jfree.chart.event.ChartProgressListener;
 import org.jfree.chart.panel.Overlay;
 import org.jfree.chart.event.OverlayChangeEvent;
 import org.jfree.chart.event.OverlayChangeListener;
+import org.jfree.chart.plot.CombinedDomainXYPlot;
+import org.jfree.chart.plot.CombinedRangeXYPlot;
 import org.jfree.chart.plot.Pannable;
 import org.jfree.chart.plot.Plot;
 import org.jfree.chart.plot.PlotOrientation;
 import org.jfree.chart.plot.PlotRenderingInfo;
+import org.jfree.chart.plot.XYPlot;
 import org.jfree.chart.plot.Zoomable;
 import org.jfree.chart.util.ParamChecks;
 import org.jfree.chart.util.ResourceBundleWrapper;
+import org.jfree.data.xy.XYDataset;
 import org.jfree.io.SerialUtilities;
 
 /**
@@ -368,6 +378,27 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
     /** The width of the chart buffer. */
     private int chartBufferWidth;
 
+    /**
+     * A flag that controls whether or not the chart buffer is split into a
+     * static layer and a data layer.
+     */
+    private boolean layeredBuffer;
+
+    /** A flag that indicates that only the data layer should be refreshed. */
+    private boolean refreshDataLayer;
+
+    /**
+     * A buffer for the chart without its data layer (<code>null</code> if
+     * the layered buffer is not in use).
+     */
+    private transient Image staticLayer;
+
+    /** The entities that were created when drawing the static layer. */
+    private transient EntityCollection staticEntities;
+
+    /** The axis ranges and series keys when the static layer was drawn. */
+    private transient List staticLayerState;
+
     /**
      * The minimum width for drawing a chart (uses scaling for smaller widths).
      */
@@ -1526,6 +1557,47 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
         this.refreshBuffer = flag;
     }
 
+    /**
+     * Returns the flag that controls whether or not the off-screen buffer is
+     * split into layers.
+     *
+     * @return A boolean.
+     *
+     * @see #setLayeredBuffer(boolean)
+     *
+     * @since 1.0.20
+     */
+    public boolean isLayeredBuffer() {
+        return this.layeredBuffer;
+    }
+
+    /**
+     * Sets the flag that controls whether or not the off-screen buffer is
+     * split into layers.  When this is <code>true</code>, the off-screen
+     * buffer is in use and the chart has an {@link XYPlot} (other than a
+     * combined plot), the titles, legend, axes and gridlines are buffered in
+     * a second image.  When the only change to the chart is a dataset update
+     * that leaves the axis ranges and the series keys unchanged, just the data
+     * layer of the plot is redrawn over that image (see
+     * {@link XYPlot#drawDataLayer(Graphics2D, Rectangle2D, Point2D,
+     * PlotRenderingInfo)}).  This helps with frequently updated charts where
+     * the axis ranges are fixed, at the cost of a second image buffer.
+     *
+     * @param flag  the new flag value.
+     *
+     * @see #isLayeredBuffer()
+     *
+     * @since 1.0.20
+     */
+    public void setLayeredBuffer(boolean flag) {
+        this.layeredBuffer = flag;
+        this.staticLayer = null;
+        this.staticEntities = null;
+        this.staticLayerState = null;
+        this.refreshBuffer = true;
+        repaint();
+    }
+
     /**
      * Paints the component by drawing the chart to fill the entire component,
      * but allowing for the insets (which will be non-zero if a border has been
@@ -1597,10 +1669,24 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
                 this.refreshBuffer = true;
             }
 
+            // can we redraw just the data layer?
+            if (this.refreshDataLayer && !this.refreshBuffer) {
+                this.refreshDataLayer = false;
+                if (this.staticLayer != null && isLayeredBufferSupported()
+                        && getStaticLayerState().equals(
+                        this.staticLayerState)) {
+                    drawDataLayer(scale);
+                }
+                else {
+                    this.refreshBuffer = true;
+                }
+            }
+
             // do we need to redraw the buffer?
             if (this.refreshBuffer) {
 
                 this.refreshBuffer = false; // clear the flag
+                this.refreshDataLayer = false;
 
                 Rectangle2D bufferArea = new Rectangle2D.Double(
                         0, 0, this.chartBufferWidth, this.chartBufferHeight);
@@ -1615,8 +1701,13 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
                         this.chartBufferHeight);
                 bufferG2.fill(r);
                 bufferG2.setComposite(savedComposite);
-                
-                if (scale) {
+
+                if (this.layeredBuffer && isLayeredBufferSupported()) {
+                    drawStaticLayer(g2.getDeviceConfiguration(), chartArea,
+                            scale);
+                    drawDataLayer(scale);
+                }
+                else if (scale) {
                     AffineTransform saved = bufferG2.getTransform();
                     AffineTransform st = AffineTransform.getScaleInstance(
                             this.scaleX, this.scaleY);
@@ -1628,6 +1719,7 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
                     this.chart.draw(bufferG2, bufferArea, this.anchor,
                             this.info);
                 }
+                bufferG2.dispose();
 
             }
 
@@ -1665,14 +1757,136 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
         this.horizontalTraceLine = null;
     }
 
+    /**
+     * Returns <code>true</code> if the chart has a plot that supports the
+     * layered buffer.
+     *
+     * @return A boolean.
+     */
+    private boolean isLayeredBufferSupported() {
+        Plot plot = this.chart.getPlot();
+        return plot instanceof XYPlot && !(plot instanceof CombinedDomainXYPlot)
+                && !(plot instanceof CombinedRangeXYPlot);
+    }
+
+    /**
+     * Returns the state that the static layer depends on when only the data
+     * has changed - the axis ranges (which change with auto-ranging) and the
+     * series keys (which appear in the legend).
+     *
+     * @return The state.
+     */
+    private List getStaticLayerState() {
+        XYPlot plot = (XYPlot) this.chart.getPlot();
+        List result = new ArrayList();
+        for (int i = 0; i < plot.getDomainAxisCount(); i++) {
+            ValueAxis axis = plot.getDomainAxis(i);
+            result.add(axis != null ? axis.getRange() : null);
+        }
+        for (int i = 0; i < plot.getRangeAxisCount(); i++) {
+            ValueAxis axis = plot.getRangeAxis(i);
+            result.add(axis != null ? axis.getRange() : null);
+        }
+        for (int i = 0; i < plot.getDatasetCount(); i++) {
+            XYDataset dataset = plot.getDataset(i);
+            if (dataset == null) {
+                result.add(null);
+                continue;
+            }
+            List keys = new ArrayList();
+            for (int s = 0; s < dataset.getSeriesCount(); s++) {
+                keys.add(dataset.getSeriesKey(s));
+            }
+            result.add(keys);
+        }
+        return result;
+    }
+
+    /**
+     * Draws the chart without its data layer into the static layer buffer,
+     * and records the entities and the state that the layer depends on.
+     *
+     * @param gc  the graphics configuration.
+     * @param chartArea  the chart area.
+     * @param scale  apply the scaling factors?
+     */
+    private void drawStaticLayer(GraphicsConfiguration gc,
+            Rectangle2D chartArea, boolean scale) {
+        if (this.staticLayer == null
+                || this.staticLayer.getWidth(null) != this.chartBufferWidth
+                || this.staticLayer.getHeight(null) != this.chartBufferHeight) {
+            this.staticLayer = gc.createCompatibleImage(this.chartBufferWidth,
+                    this.chartBufferHeight, Transparency.TRANSLUCENT);
+        }
+        Graphics2D g2 = (Graphics2D) this.staticLayer.getGraphics();
+        g2.setComposite(AlphaComposite.getInstance(AlphaComposite.CLEAR,
+                0.0f));
+        g2.fillRect(0, 0, this.chartBufferWidth, this.chartBufferHeight);
+        g2.setComposite(AlphaComposite.SrcOver);
+        if (scale) {
+            g2.transform(AffineTransform.getScaleInstance(this.scaleX,
+                    this.scaleY));
+        }
+        g2.setRenderingHint(JFreeChart.KEY_SUPPRESS_DATA_LAYER, Boolean.TRUE);
+        this.chart.draw(g2, chartArea, this.anchor, this.info);
+        g2.dispose();
+        this.staticEntities = new StandardEntityCollection();
+        EntityCollection entities = this.info.getEntityCollection();
+        if (entities != null) {
+            this.staticEntities.addAll(entities);
+        }
+        this.staticLayerState = getStaticLayerState();
+    }
+
+    /**
+     * Refreshes the chart buffer by drawing the data layer of the plot over
+     * the static layer.
+     *
+     * @param scale  apply the scaling factors?
+     */
+    private void drawDataLayer(boolean scale) {
+        Graphics2D g2 = (Graphics2D) this.chartBuffer.getGraphics();
+        g2.setComposite(AlphaComposite.getInstance(AlphaComposite.CLEAR,
+                0.0f));
+        g2.fillRect(0, 0, this.chartBufferWidth, this.chartBufferHeight);
+        g2.setComposite(AlphaComposite.SrcOver);
+        g2.drawImage(this.staticLayer, 0, 0, null);
+        if (scale) {
+            g2.transform(AffineTransform.getScaleInstance(this.scaleX,
+                    this.scaleY));
+        }
+        g2.addRenderingHints(this.chart.getRenderingHints());
+        EntityCollection entities = this.info.getEntityCollection();
+        if (entities != null) {
+            entities.clear();
+            entities.addAll(this.staticEntities);
+        }
+        XYPlot plot = (XYPlot) this.chart.getPlot();
+        PlotRenderingInfo plotInfo = this.info.getPlotInfo();
+        Rectangle2D dataArea = plotInfo.getDataArea();
+        if (dataArea != null && !dataArea.isEmpty()) {
+            plot.drawDataLayer(g2, dataArea, this.anchor, plotInfo);
+            plot.drawOutline(g2, dataArea);
+        }
+        g2.dispose();
+    }
+
     /**
      * Receives notification of changes to the chart, and redraws the chart.
+     * If the layered buffer is in use and the change is a dataset update, only
+     * the data layer is redrawn where possible.
      *
      * @param event  details of the chart change event.
      */
     @Override
     public void chartChanged(ChartChangeEvent event) {
-        this.refreshBuffer = true;
+        if (this.layeredBuffer && event.getType()
+                == ChartChangeEventType.DATASET_UPDATED) {
+            this.refreshDataLayer = true;
+        }
+        else {
+            this.refreshBuffer = true;
+        }
         Plot plot = this.chart.getPlot();
         if (plot instanceof Zoomable) {
             Zoomable z = (Zoomable) plot;
@@ -0,0 +1,667 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------
+ * ChartRenderCache.java
+ * ---------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jfree.chart.event.ChartChangeEvent;
+import org.jfree.chart.event.ChartChangeListener;
+import org.jfree.chart.plot.CategoryPlot;
+import org.jfree.chart.plot.CombinedDomainCategoryPlot;
+import org.jfree.chart.plot.CombinedDomainXYPlot;
+import org.jfree.chart.plot.CombinedRangeCategoryPlot;
+import org.jfree.chart.plot.CombinedRangeXYPlot;
+import org.jfree.chart.plot.PiePlot;
+import org.jfree.chart.plot.Plot;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.title.TextTitle;
+import org.jfree.chart.util.ParamChecks;
+import org.jfree.data.general.AbstractDataset;
+import org.jfree.data.general.Dataset;
+
+/**
+ * A cache for rendered charts.  Images are keyed by the content of the chart
+ * and the image size, so a chart that is rebuilt for each request is served
+ * from the cache as long as it has the same settings and shows the same
+ * datasets, unchanged.  The content key is made up of:
+ * <ul>
+ * <li>the datasets in the plot (compared by identity), with their
+ * modification counts (see {@link AbstractDataset#getModificationCount()});
+ * </li>
+ * <li>the chart's settings, compared with {@link JFreeChart#equals(Object)}
+ * (which does not look at the data) against a copy of the chart that was
+ * taken before the cached image was drawn, after a cheap hash of a few
+ * settings has matched.</li>
+ * </ul>
+ * Content keys are used for charts with an {@link XYPlot},
+ * {@link CategoryPlot} (including the combined plots) or {@link PiePlot}
+ * where every dataset extends {@link AbstractDataset}.  Other charts are
+ * keyed by the chart instance.
+ * <P>
+ * A cached image is also invalidated when the chart it was drawn from sends
+ * a {@link ChartChangeEvent} - this includes changes to the chart's plot,
+ * axes, renderers and datasets, which are passed on to the chart by the
+ * usual event flow.
+ * <P>
+ * A chart is only listened to while it has images in the cache.  Changes
+ * made while chart notification is switched off (see
+ * {@link JFreeChart#setNotify(boolean)}) are not seen until notification is
+ * switched back on.  The cache is bounded by the number of images, the least
+ * recently used image being discarded first.
+ * <P>
+ * The images returned are shared between callers and must not be modified.
+ * All methods are thread-safe, but note that a chart should not be changed
+ * while it is being drawn.
+ *
+ * @since 1.0.20
+ */
+public class ChartRenderCache implements ChartChangeListener {
+
+    /** The default maximum number of images. */
+    public static final int DEFAULT_MAX_IMAGES = 64;
+
+    /** The maximum number of images. */
+    private int maxImages;
+
+    /** The cached images (Key to Entry), in access order. */
+    private LinkedHashMap entries;
+
+    /** The state of each chart with images in the cache (by identity). */
+    private Map charts;
+
+    /** The number of requests served from the cache. */
+    private long hitCount;
+
+    /** The number of requests that required the chart to be drawn. */
+    private long missCount;
+
+    /**
+     * Creates a new cache holding up to {@link #DEFAULT_MAX_IMAGES} images.
+     */
+    public ChartRenderCache() {
+        this(DEFAULT_MAX_IMAGES);
+    }
+
+    /**
+     * Creates a new cache.
+     *
+     * @param maxImages  the maximum number of images (must be positive).
+     */
+    public ChartRenderCache(int maxImages) {
+        if (maxImages <= 0) {
+            throw new IllegalArgumentException("Requires 'maxImages' > 0.");
+        }
+        this.maxImages = maxImages;
+        this.entries = new LinkedHashMap(16, 0.75f, true);
+        this.charts = new IdentityHashMap();
+    }
+
+    /**
+     * Returns the maximum number of images held by the cache.
+     *
+     * @return The maximum number of images.
+     */
+    public synchronized int getMaxImages() {
+        return this.maxImages;
+    }
+
+    /**
+     * Returns the number of images held by the cache.
+     *
+     * @return The image count.
+     */
+    public synchronized int getImageCount() {
+        return this.entries.size();
+    }
+
+    /**
+     * Returns the number of requests that were served from the cache.
+     *
+     * @return The hit count.
+     */
+    public synchronized long getHitCount() {
+        return this.hitCount;
+    }
+
+    /**
+     * Returns the number of requests that required a chart to be drawn.
+     *
+     * @return The miss count.
+     */
+    public synchronized long getMissCount() {
+        return this.missCount;
+    }
+
+    /**
+     * Returns the number of charts that the cache is listening to (for
+     * testing).
+     *
+     * @return The chart count.
+     */
+    synchronized int getChartCount() {
+        return this.charts.size();
+    }
+
+    /**
+     * Returns an image of the chart, drawing it only if there is no cached
+     * image for the chart at this size.
+     *
+     * @param chart  the chart (<code>null</code> not permitted).
+     * @param width  the image width.
+     * @param height  the image height.
+     *
+     * @return The image (must not be modified).
+     */
+    public BufferedImage getImage(JFreeChart chart, int width, int height) {
+        return getEntry(chart, width, height).image;
+    }
+
+    /**
+     * Returns a PNG encoding of the chart.  The encoding is cached along
+     * with the image.
+     *
+     * @param chart  the chart (<code>null</code> not permitted).
+     * @param width  the image width.
+     * @param height  the image height.
+     *
+     * @return The PNG data (must not be modified).
+     *
+     * @throws IOException if the image cannot be encoded.
+     */
+    public byte[] getPNG(JFreeChart chart, int width, int height)
+            throws IOException {
+        Entry entry = getEntry(chart, width, height);
+        synchronized (entry) {
+            if (entry.png == null) {
+                entry.png = ChartUtilities.encodeAsPNG(entry.image);
+            }
+            return entry.png;
+        }
+    }
+
+    /**
+     * Removes all the images of a chart from the cache.
+     *
+     * @param chart  the chart (<code>null</code> not permitted).
+     */
+    public synchronized void invalidate(JFreeChart chart) {
+        ParamChecks.nullNotPermitted(chart, "chart");
+        ChartState state = (ChartState) this.charts.remove(chart);
+        if (state == null) {
+            return;
+        }
+        chart.removeChangeListener(this);
+        Iterator iterator = this.entries.keySet().iterator();
+        while (iterator.hasNext()) {
+            Key key = (Key) iterator.next();
+            if (key.chart == chart) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Removes all the images from the cache.
+     */
+    public synchronized void clear() {
+        Iterator iterator = this.charts.keySet().iterator();
+        while (iterator.hasNext()) {
+            ((JFreeChart) iterator.next()).removeChangeListener(this);
+        }
+        this.charts.clear();
+        this.entries.clear();
+    }
+
+    /**
+     * Receives notification that a chart has changed, and removes its
+     * images from the cache.
+     *
+     * @param event  the event.
+     */
+    @Override
+    public void chartChanged(ChartChangeEvent event) {
+        JFreeChart chart = event.getChart();
+        if (chart != null) {
+            invalidate(chart);
+        }
+    }
+
+    /**
+     * Returns the cache entry for a chart, drawing the chart if necessary.
+     * The chart is drawn without holding the lock, and the result is only
+     * cached if the chart did not change in the meantime.
+     *
+     * @param chart  the chart (<code>null</code> not permitted).
+     * @param width  the image width.
+     * @param height  the image height.
+     *
+     * @return The entry.
+     */
+    private Entry getEntry(JFreeChart chart, int width, int height) {
+        ParamChecks.nullNotPermitted(chart, "chart");
+        Key key = createKey(chart, width, height);
+        ChartState state;
+        synchronized (this) {
+            Entry entry = (Entry) this.entries.get(key);
+            if (entry != null) {
+                this.hitCount++;
+                return entry;
+            }
+            this.missCount++;
+            state = (ChartState) this.charts.get(chart);
+            if (state == null) {
+                state = new ChartState();
+                this.charts.put(chart, state);
+                chart.addChangeListener(this);
+            }
+            state.pending++;
+        }
+        Entry entry = null;
+        key = createStoredKey(key);
+        try {
+            entry = new Entry(chart.createBufferedImage(width, height));
+        }
+        finally {
+            synchronized (this) {
+                state.pending--;
+                if (this.charts.get(chart) == state) {
+                    // another thread may have cached an image for an equal
+                    // key in the meantime, in which case that one is kept
+                    if (entry != null && !this.entries.containsKey(key)) {
+                        this.entries.put(key, entry);
+                        state.imageCount++;
+                        evict();
+                    }
+                    if (state.imageCount == 0 && state.pending == 0) {
+                        this.charts.remove(chart);
+                        chart.removeChangeListener(this);
+                    }
+                }
+            }
+        }
+        return entry;
+    }
+
+    /**
+     * Creates the key for looking up a chart: a content key if the datasets
+     * in the chart's plot can be versioned, and otherwise a key for the
+     * chart instance.
+     *
+     * @param chart  the chart.
+     * @param width  the image width.
+     * @param height  the image height.
+     *
+     * @return The key.
+     */
+    private static Key createKey(JFreeChart chart, int width, int height) {
+        List datasets = new ArrayList();
+        if (!addDatasets(chart.getPlot(), datasets)) {
+            return new Key(chart, chart, width, height, null, null);
+        }
+        long[] versions = new long[datasets.size()];
+        for (int i = 0; i < versions.length; i++) {
+            Object dataset = datasets.get(i);
+            if (dataset != null) {
+                versions[i] = ((AbstractDataset) dataset)
+                        .getModificationCount();
+            }
+        }
+        return new Key(chart, chart, width, height, datasets.toArray(),
+                versions);
+    }
+
+    /**
+     * Returns the key for storing an image of a chart that is about to be
+     * drawn.  A content key is given a copy of the chart's settings, because
+     * drawing a chart updates some of its state (auto-range axis bounds, for
+     * example) and it would then no longer be equal to a newly built chart.
+     *
+     * @param key  the lookup key.
+     *
+     * @return The key.
+     */
+    private static Key createStoredKey(Key key) {
+        if (key.datasets == null) {
+            return key;
+        }
+        JFreeChart settings;
+        try {
+            settings = (JFreeChart) key.chart.clone();
+        }
+        catch (CloneNotSupportedException e) {
+            return new Key(key.chart, key.chart, key.width, key.height, null,
+                    null);
+        }
+        detach(settings.getPlot());
+        return new Key(key.chart, settings, key.width, key.height,
+                key.datasets, key.versions);
+    }
+
+    /**
+     * Returns the datasets of a plot, not including its subplots.
+     *
+     * @param plot  the plot (<code>null</code> permitted).
+     *
+     * @return The datasets, or <code>null</code> if the plot type is not
+     *     supported.
+     */
+    private static List getPlotDatasets(Plot plot) {
+        List result = new ArrayList();
+        if (plot instanceof XYPlot) {
+            XYPlot p = (XYPlot) plot;
+            for (int i = 0; i < p.getDatasetCount(); i++) {
+                result.add(p.getDataset(i));
+            }
+        }
+        else if (plot instanceof CategoryPlot) {
+            CategoryPlot p = (CategoryPlot) plot;
+            for (int i = 0; i < p.getDatasetCount(); i++) {
+                result.add(p.getDataset(i));
+            }
+        }
+        else if (plot instanceof PiePlot) {
+            result.add(((PiePlot) plot).getDataset());
+        }
+        else {
+            return null;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the subplots of a combined plot.
+     *
+     * @param plot  the plot (<code>null</code> permitted).
+     *
+     * @return The subplots (possibly empty).
+     */
+    private static List getSubplots(Plot plot) {
+        if (plot instanceof CombinedDomainXYPlot) {
+            return ((CombinedDomainXYPlot) plot).getSubplots();
+        }
+        else if (plot instanceof CombinedRangeXYPlot) {
+            return ((CombinedRangeXYPlot) plot).getSubplots();
+        }
+        else if (plot instanceof CombinedDomainCategoryPlot) {
+            return ((CombinedDomainCategoryPlot) plot).getSubplots();
+        }
+        else if (plot instanceof CombinedRangeCategoryPlot) {
+            return ((CombinedRangeCategoryPlot) plot).getSubplots();
+        }
+        return Collections.EMPTY_LIST;
+    }
+
+    /**
+     * Adds the datasets of a plot (and its subplots) to a list.
+     *
+     * @param plot  the plot (<code>null</code> permitted).
+     * @param datasets  the list of datasets.
+     *
+     * @return <code>false</code> if the plot type is not supported or a
+     *     dataset cannot be versioned.
+     */
+    private static boolean addDatasets(Plot plot, List datasets) {
+        List plotDatasets = getPlotDatasets(plot);
+        if (plotDatasets == null) {
+            return false;
+        }
+        for (int i = 0; i < plotDatasets.size(); i++) {
+            Object dataset = plotDatasets.get(i);
+            if (dataset != null && !(dataset instanceof AbstractDataset)) {
+                return false;
+            }
+            datasets.add(dataset);
+        }
+        List subplots = getSubplots(plot);
+        for (int i = 0; i < subplots.size(); i++) {
+            if (!addDatasets((Plot) subplots.get(i), datasets)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Deregisters a cloned plot (and its subplots) from the datasets it
+     * shares with the original plot, so that the datasets do not keep the
+     * clone alive.
+     *
+     * @param plot  the plot.
+     */
+    private static void detach(Plot plot) {
+        List datasets = getPlotDatasets(plot);
+        for (int i = 0; i < datasets.size(); i++) {
+            Dataset dataset = (Dataset) datasets.get(i);
+            if (dataset != null) {
+                dataset.removeChangeListener(plot);
+            }
+        }
+        List subplots = getSubplots(plot);
+        for (int i = 0; i < subplots.size(); i++) {
+            detach((Plot) subplots.get(i));
+        }
+    }
+
+    /**
+     * Discards the least recently used images until the cache is within its
+     * limit, and stops listening to charts that have no images left.  Call
+     * only while holding the lock.
+     */
+    private void evict() {
+        Iterator iterator = this.entries.keySet().iterator();
+        while (this.entries.size() > this.maxImages && iterator.hasNext()) {
+            Key key = (Key) iterator.next();
+            iterator.remove();
+            ChartState state = (ChartState) this.charts.get(key.chart);
+            state.imageCount--;
+            if (state.imageCount == 0 && state.pending == 0) {
+                this.charts.remove(key.chart);
+                key.chart.removeChangeListener(this);
+            }
+        }
+    }
+
+    /**
+     * The cache key - a size plus either a chart instance (compared by
+     * identity), or the datasets and their modification counts plus the
+     * chart settings (a content key).
+     */
+    private static class Key {
+
+        /** The chart that the image was drawn from, or is looked up for. */
+        JFreeChart chart;
+
+        /**
+         * The chart settings - the chart itself, or for a stored content key,
+         * a copy taken before the chart was drawn.
+         */
+        JFreeChart settings;
+
+        /** The image width. */
+        int width;
+
+        /** The image height. */
+        int height;
+
+        /** The datasets (<code>null</code> for an instance key). */
+        Object[] datasets;
+
+        /** The dataset modification counts. */
+        long[] versions;
+
+        /** The hash code. */
+        int hash;
+
+        /**
+         * Creates a new key.
+         *
+         * @param chart  the chart.
+         * @param settings  the chart settings.
+         * @param width  the width.
+         * @param height  the height.
+         * @param datasets  the datasets (<code>null</code> for an instance
+         *     key).
+         * @param versions  the dataset modification counts.
+         */
+        Key(JFreeChart chart, JFreeChart settings, int width, int height,
+                Object[] datasets, long[] versions) {
+            this.chart = chart;
+            this.settings = settings;
+            this.width = width;
+            this.height = height;
+            this.datasets = datasets;
+            this.versions = versions;
+            int result = this.width;
+            result = 37 * result + this.height;
+            if (datasets == null) {
+                result = 37 * result + System.identityHashCode(chart);
+            }
+            else {
+                for (int i = 0; i < datasets.length; i++) {
+                    result = 37 * result + System.identityHashCode(
+                            datasets[i]);
+                    long v = versions[i];
+                    result = 37 * result + (int) (v ^ (v >>> 32));
+                }
+                result = 37 * result + settingsHash(chart);
+            }
+            this.hash = result;
+        }
+
+        /**
+         * Returns a hash code for a few of the settings that
+         * {@link JFreeChart#equals(Object)} compares, so that equal charts
+         * have equal hash codes.
+         *
+         * @param chart  the chart.
+         *
+         * @return The hash code.
+         */
+        private static int settingsHash(JFreeChart chart) {
+            int result = chart.getPlot().getClass().getName().hashCode();
+            TextTitle title = chart.getTitle();
+            if (title != null && title.getText() != null) {
+                result = 37 * result + title.getText().hashCode();
+            }
+            result = 37 * result + chart.getSubtitleCount();
+            return result;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) obj;
+            if (this.hash != that.hash || this.width != that.width
+                    || this.height != that.height) {
+                return false;
+            }
+            if (this.datasets == null || that.datasets == null) {
+                return this.datasets == that.datasets
+                        && this.chart == that.chart;
+            }
+            if (this.datasets.length != that.datasets.length) {
+                return false;
+            }
+            for (int i = 0; i < this.datasets.length; i++) {
+                if (this.datasets[i] != that.datasets[i]
+                        || this.versions[i] != that.versions[i]) {
+                    return false;
+                }
+            }
+            return this.chart == that.chart
+                    || this.settings.equals(that.settings);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
+    }
+
+    /**
+     * A cached image and its PNG encoding.
+     */
+    private static class Entry {
+
+        /** The image. */
+        BufferedImage image;
+
+        /** The PNG encoding (created on demand). */
+        byte[] png;
+
+        /**
+         * Creates a new entry.
+         *
+         * @param image  the image.
+         */
+        Entry(BufferedImage image) {
+            this.image = image;
+        }
+
+    }
+
+    /**
+     * The state of a chart with images in the cache.  A new instance is
+     * created each time the chart's images are invalidated, so a drawing that
+     * started before the change can detect it.
+     */
+    private static class ChartState {
+
+        /** The number of cached images. */
+        int imageCount;
+
+        /** The number of drawings in progress. */
+        int pending;
+
+    }
+
+}
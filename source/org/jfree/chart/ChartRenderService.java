@@ -0,0 +1,403 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------
+ * ChartRenderService.java
+ * -----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.awt.image.DataBufferInt;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jfree.chart.encoders.ImageEncoder;
+import org.jfree.chart.encoders.ImageEncoderFactory;
+import org.jfree.chart.encoders.ImageFormat;
+import org.jfree.chart.util.ParamChecks;
+
+/**
+ * A thread-safe service that draws charts into pooled images and writes the
+ * encoded images to an output stream.  This is intended for servers that
+ * generate many charts, where creating a new {@link BufferedImage} for every
+ * request (as {@link ChartUtilities} does) puts a lot of pressure on the
+ * garbage collector.
+ * <P>
+ * Images are pooled by width, height and image type, and are cleared before
+ * each use.  The number of charts drawn at the same time is limited, and
+ * callers beyond that limit wait (up to a timeout) in a queue of limited
+ * length.  Rendering happens on the calling thread, so the encoded bytes are
+ * streamed straight to the caller's output stream.
+ * <P>
+ * A {@link JFreeChart} instance is not thread-safe, so the same chart must
+ * not be passed to this service from two threads at once.
+ *
+ * @since 1.0.20
+ */
+public class ChartRenderService {
+
+    /** Controls the number of concurrent renders. */
+    private Semaphore permits;
+
+    /** The maximum number of callers that can wait for a permit. */
+    private int maxQueueLength;
+
+    /** The maximum time (in milliseconds) that a caller waits for a permit. */
+    private long queueTimeout;
+
+    /** The number of callers waiting for a permit. */
+    private AtomicInteger queueLength;
+
+    /** The maximum number of images held in the pool. */
+    private int maxPooledImages;
+
+    /** The pooled images (lists of images keyed by {@link ImageKey}). */
+    private Map pool;
+
+    /** The number of images held in the pool. */
+    private int pooledImageCount;
+
+    /**
+     * Creates a new service that renders up to one chart per processor at
+     * the same time, with no limit on the queue length or waiting time, and
+     * pools up to 32 images.
+     */
+    public ChartRenderService() {
+        this(Runtime.getRuntime().availableProcessors(), Integer.MAX_VALUE,
+                0L, 32);
+    }
+
+    /**
+     * Creates a new service.
+     *
+     * @param maxConcurrentRenders  the maximum number of charts that are
+     *     drawn at the same time (must be at least 1).
+     * @param maxQueueLength  the maximum number of callers that can wait to
+     *     draw a chart (callers beyond this limit are rejected).
+     * @param queueTimeout  the maximum time (in milliseconds) that a caller
+     *     waits to draw a chart (zero or less to wait indefinitely).
+     * @param maxPooledImages  the maximum number of images kept for reuse.
+     */
+    public ChartRenderService(int maxConcurrentRenders, int maxQueueLength,
+            long queueTimeout, int maxPooledImages) {
+        if (maxConcurrentRenders < 1) {
+            throw new IllegalArgumentException(
+                    "Requires 'maxConcurrentRenders' >= 1.");
+        }
+        if (maxQueueLength < 0) {
+            throw new IllegalArgumentException(
+                    "Negative 'maxQueueLength' argument.");
+        }
+        if (maxPooledImages < 0) {
+            throw new IllegalArgumentException(
+                    "Negative 'maxPooledImages' argument.");
+        }
+        this.permits = new Semaphore(maxConcurrentRenders, true);
+        this.maxQueueLength = maxQueueLength;
+        this.queueTimeout = queueTimeout;
+        this.queueLength = new AtomicInteger();
+        this.maxPooledImages = maxPooledImages;
+        this.pool = new HashMap();
+    }
+
+    /**
+     * Returns the number of images currently held in the pool.
+     *
+     * @return The pooled image count.
+     */
+    public synchronized int getPooledImageCount() {
+        return this.pooledImageCount;
+    }
+
+    /**
+     * Discards all the images in the pool.
+     */
+    public synchronized void clearPool() {
+        this.pool.clear();
+        this.pooledImageCount = 0;
+    }
+
+    /**
+     * Draws a chart and writes it to an output stream in PNG format.
+     *
+     * @param out  the output stream (<code>null</code> not permitted).
+     * @param chart  the chart (<code>null</code> not permitted).
+     * @param width  the image width.
+     * @param height  the image height.
+     * @param info  carries back chart rendering info (<code>null</code>
+     *              permitted).
+     *
+     * @throws IOException if there are any I/O errors, or if the caller is
+     *     interrupted while waiting to draw the chart.
+     * @throws RejectedExecutionException if the queue is full or the caller
+     *     waits longer than the queue timeout.
+     */
+    public void writeChartAsPNG(OutputStream out, JFreeChart chart, int width,
+            int height, ChartRenderingInfo info) throws IOException {
+        writeChart(out, chart, width, height, BufferedImage.TYPE_INT_ARGB,
+                ImageEncoderFactory.newInstance(ImageFormat.PNG), info);
+    }
+
+    /**
+     * Draws a chart and writes it to an output stream in JPEG format.
+     *
+     * @param out  the output stream (<code>null</code> not permitted).
+     * @param chart  the chart (<code>null</code> not permitted).
+     * @param width  the image width.
+     * @param height  the image height.
+     * @param info  carries back chart rendering info (<code>null</code>
+     *              permitted).
+     *
+     * @throws IOException if there are any I/O errors, or if the caller is
+     *     interrupted while waiting to draw the chart.
+     * @throws RejectedExecutionException if the queue is full or the caller
+     *     waits longer than the queue timeout.
+     */
+    public void writeChartAsJPEG(OutputStream out, JFreeChart chart,
+            int width, int height, ChartRenderingInfo info)
+            throws IOException {
+        writeChart(out, chart, width, height, BufferedImage.TYPE_INT_RGB,
+                ImageEncoderFactory.newInstance(ImageFormat.JPEG), info);
+    }
+
+    /**
+     * Draws a chart into a pooled image, and writes the image to an output
+     * stream using the specified encoder.
+     *
+     * @param out  the output stream (<code>null</code> not permitted).
+     * @param chart  the chart (<code>null</code> not permitted).
+     * @param width  the image width.
+     * @param height  the image height.
+     * @param imageType  the image type (for example,
+     *     <code>BufferedImage.TYPE_INT_ARGB</code>).
+     * @param encoder  the image encoder (<code>null</code> not permitted).
+     * @param info  carries back chart rendering info (<code>null</code>
+     *              permitted).
+     *
+     * @throws IOException if there are any I/O errors, or if the caller is
+     *     interrupted while waiting to draw the chart.
+     * @throws RejectedExecutionException if the queue is full or the caller
+     *     waits longer than the queue timeout.
+     */
+    public void writeChart(OutputStream out, JFreeChart chart, int width,
+            int height, int imageType, ImageEncoder encoder,
+            ChartRenderingInfo info) throws IOException {
+        ParamChecks.nullNotPermitted(out, "out");
+        ParamChecks.nullNotPermitted(chart, "chart");
+        ParamChecks.nullNotPermitted(encoder, "encoder");
+        acquirePermit();
+        try {
+            BufferedImage image = borrowImage(width, height, imageType);
+            try {
+                Graphics2D g2 = image.createGraphics();
+                try {
+                    chart.draw(g2, new Rectangle2D.Double(0, 0, width,
+                            height), null, info);
+                }
+                finally {
+                    g2.dispose();
+                }
+                encoder.encode(image, out);
+            }
+            finally {
+                returnImage(image);
+            }
+        }
+        finally {
+            this.permits.release();
+        }
+    }
+
+    /**
+     * Waits for a permit to draw a chart.
+     *
+     * @throws IOException if the thread is interrupted while waiting.
+     */
+    private void acquirePermit() throws IOException {
+        if (this.permits.tryAcquire()) {
+            return;
+        }
+        if (this.queueLength.incrementAndGet() > this.maxQueueLength) {
+            this.queueLength.decrementAndGet();
+            throw new RejectedExecutionException("Render queue is full.");
+        }
+        try {
+            if (this.queueTimeout > 0L) {
+                if (!this.permits.tryAcquire(this.queueTimeout,
+                        TimeUnit.MILLISECONDS)) {
+                    throw new RejectedExecutionException(
+                            "Timed out waiting to render chart.");
+                }
+            }
+            else {
+                this.permits.acquire();
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(
+                    "Interrupted while waiting to render chart.");
+        }
+        finally {
+            this.queueLength.decrementAndGet();
+        }
+    }
+
+    /**
+     * Returns a cleared image from the pool, or a new image if there is none
+     * of the required size and type.
+     *
+     * @param width  the width.
+     * @param height  the height.
+     * @param imageType  the image type.
+     *
+     * @return An image.
+     */
+    private BufferedImage borrowImage(int width, int height, int imageType) {
+        BufferedImage image = null;
+        synchronized (this) {
+            List images = (List) this.pool.get(new ImageKey(width, height,
+                    imageType));
+            if (images != null && !images.isEmpty()) {
+                image = (BufferedImage) images.remove(images.size() - 1);
+                this.pooledImageCount--;
+            }
+        }
+        if (image == null) {
+            return new BufferedImage(width, height, imageType);
+        }
+        clear(image);
+        return image;
+    }
+
+    /**
+     * Returns an image to the pool (if the pool is not full).
+     *
+     * @param image  the image.
+     */
+    private synchronized void returnImage(BufferedImage image) {
+        if (this.pooledImageCount >= this.maxPooledImages) {
+            return;
+        }
+        ImageKey key = new ImageKey(image.getWidth(), image.getHeight(),
+                image.getType());
+        List images = (List) this.pool.get(key);
+        if (images == null) {
+            images = new ArrayList();
+            this.pool.put(key, images);
+        }
+        images.add(image);
+        this.pooledImageCount++;
+    }
+
+    /**
+     * Clears an image to transparent (or black, for image types without
+     * alpha), which is the state of a new image.
+     *
+     * @param image  the image.
+     */
+    private static void clear(BufferedImage image) {
+        DataBuffer buffer = image.getRaster().getDataBuffer();
+        if (buffer instanceof DataBufferInt && buffer.getNumBanks() == 1) {
+            Arrays.fill(((DataBufferInt) buffer).getData(), 0);
+            return;
+        }
+        Graphics2D g2 = image.createGraphics();
+        g2.setComposite(AlphaComposite.Clear);
+        g2.fillRect(0, 0, image.getWidth(), image.getHeight());
+        g2.dispose();
+    }
+
+    /**
+     * A key for the image pool.
+     */
+    private static final class ImageKey {
+
+        /** The image width. */
+        private int width;
+
+        /** The image height. */
+        private int height;
+
+        /** The image type. */
+        private int imageType;
+
+        /**
+         * Creates a new key.
+         *
+         * @param width  the width.
+         * @param height  the height.
+         * @param imageType  the image type.
+         */
+        ImageKey(int width, int height, int imageType) {
+            this.width = width;
+            this.height = height;
+            this.imageType = imageType;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof ImageKey)) {
+                return false;
+            }
+            ImageKey that = (ImageKey) obj;
+            return this.width == that.width && this.height == that.height
+                    && this.imageType == that.imageType;
+        }
+
+        @Override
+        public int hashCode() {
+            return (this.width * 31 + this.height) * 31 + this.imageType;
+        }
+
+    }
+
+}
@@ -150,6 +150,8 @@
  * 29-Jun-2009 : Check visibility flag in main title (DG);
  * 02-Jul-2013 : Use ParamChecks class (DG);
  * 21-Jun-2014 : Set default hint value for stroke control (DG);
+ * 16-Oct-2026 : Hold back change events while a ChangeEventBatch is open;
+ * 16-Oct-2026 : Added KEY_SUPPRESS_DATA_LAYER;
  *
  */
 
@@ -194,6 +196,7 @@ import org.jfree.chart.block.RectangleConstraint;
 import org.jfree.chart.entity.EntityCollection;
 import org.jfree.chart.entity.JFreeChartEntity;
 import org.jfree.chart.event.ChartChangeEvent;
+import org.jfree.chart.event.ChartChangeEventType;
 import org.jfree.chart.event.ChartChangeListener;
 import org.jfree.chart.event.ChartProgressEvent;
 import org.jfree.chart.event.ChartProgressListener;
@@ -211,6 +214,7 @@ import org.jfree.chart.title.Title;
 import org.jfree.chart.util.ParamChecks;
 import org.jfree.chart.util.ResourceBundleWrapper;
 import org.jfree.data.Range;
+import org.jfree.data.general.ChangeEventBatch;
 import org.jfree.io.SerialUtilities;
 import org.jfree.ui.Align;
 import org.jfree.ui.Drawable;
@@ -286,6 +290,24 @@ public class JFreeChart implements Drawable, TitleChangeListener,
             return val instanceof Boolean;
         }
     };
+
+    /**
+     * The key for a rendering hint that suppresses the drawing of the data
+     * layer of the plot, so that the rest of the chart can be buffered and
+     * the data layer drawn over it separately.  The hint value must be a
+     * Boolean.  It is currently respected by {@link XYPlot}, see
+     * {@link XYPlot#drawDataLayer(Graphics2D, Rectangle2D, Point2D,
+     * org.jfree.chart.plot.PlotRenderingInfo)}.
+     *
+     * @since 1.0.20
+     */
+    public static final RenderingHints.Key KEY_SUPPRESS_DATA_LAYER
+            = new RenderingHints.Key(1) {
+        @Override
+        public boolean isCompatibleValue(Object val) {
+            return val instanceof Boolean;
+        }
+    };
     
     /**
      * Rendering hints that will be used for chart drawing.  This should never
@@ -1490,12 +1512,63 @@ public class JFreeChart implements Drawable, TitleChangeListener,
     }
 
     /**
-     * Sends a {@link ChartChangeEvent} to all registered listeners.
+     * Sends a {@link ChartChangeEvent} to all registered listeners.  If a
+     * {@link ChangeEventBatch} is open on the current thread, the event is
+     * held back until the batch is committed.  If the events held back in a
+     * batch have different types, one event with the type
+     * {@link ChartChangeEventType#GENERAL} is sent instead.
      *
      * @param event  information about the event that triggered the
      *               notification.
      */
     protected void notifyListeners(ChartChangeEvent event) {
+        if (ChangeEventBatch.isActive() && ChangeEventBatch.defer(this,
+                new EventDelivery(event))) {
+            return;
+        }
+        deliver(event);
+    }
+
+    /**
+     * Delivers a chart change event that was held back by a
+     * {@link ChangeEventBatch}.
+     */
+    private class EventDelivery implements
+            ChangeEventBatch.MergeableDelivery {
+
+        /** The event. */
+        private final ChartChangeEvent event;
+
+        EventDelivery(ChartChangeEvent event) {
+            this.event = event;
+        }
+
+        @Override
+        public void run() {
+            deliver(this.event);
+        }
+
+        @Override
+        public Runnable merge(Runnable later) {
+            if (later instanceof EventDelivery && this.event.getType()
+                    == ((EventDelivery) later).event.getType()) {
+                return later;
+            }
+            // a listener that acts on the type (for example, by redrawing
+            // only the data) must not miss any of the changes
+            return new EventDelivery(new ChartChangeEvent(JFreeChart.this,
+                    JFreeChart.this, ChartChangeEventType.GENERAL));
+        }
+
+    }
+
+    /**
+     * Sends a {@link ChartChangeEvent} to all registered listeners, unless
+     * the notify flag is <code>false</code>.
+     *
+     * @param event  the event.
+     */
+    private void deliver(ChartChangeEvent event) {
         if (this.notify) {
             Object[] listeners = this.changeListeners.getListenerList();
             for (int i = listeners.length - 2; i >= 0; i -= 2) {
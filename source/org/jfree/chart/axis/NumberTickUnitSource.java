@@ -35,6 +35,8 @@
  * Changes
  * -------
  * 18-Mar-2014 : Version 1 (DG);
+ * 16-Oct-2026 : Don't compare the search position in equals(), it changes
+ *               whenever the source is used;
  *
  */
 
@@ -229,12 +231,8 @@ public class NumberTickUnitSource implements TickUnitSource, Serializable {
         if (!ObjectUtilities.equal(this.formatter, that.formatter)) {
             return false;
         }
-        if (this.power != that.power) {
-            return false;
-        }
-        if (this.factor != that.factor) {
-            return false;
-        }
+        // the power and factor are the position of the last search, which
+        // does not affect the tick units returned
         return true;
     }
 }
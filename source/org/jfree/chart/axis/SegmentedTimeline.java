@@ -45,6 +45,8 @@
  * 02-Feb-2007 : Removed author tags all over JFreeChart sources (DG);
  * 11-Jul-2007 : Fixed time zone bugs (DG);
  * 06-Jun-2008 : Performance enhancement posted in forum (DG);
+ * 16-Oct-2026 : Count exception segments with a prefix-sum index and cache
+ *               recent conversions for each thread;
  *
  */
 
@@ -52,6 +54,7 @@ package org.jfree.chart.axis;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collections;
 import java.util.Date;
@@ -257,6 +260,15 @@ public class SegmentedTimeline implements Timeline, Cloneable, Serializable {
      */
     private List exceptionSegments = new ArrayList();
 
+    /**
+     * An index of the exception segments, created when it is first needed
+     * (and again after the exception segments, the start time or the
+     * daylight saving flag are changed).  Changes to a list passed to
+     * {@link #setExceptionSegments(List)} are detected only if they change
+     * the size of the list.
+     */
+    private transient ExceptionIndex exceptionIndex;
+
     /**
      * This base timeline is used to specify exceptions at a higher level. For
      * example, if we are a intraday timeline and want to exclude holidays,
@@ -414,6 +426,7 @@ public class SegmentedTimeline implements Timeline, Cloneable, Serializable {
      */
     public void setAdjustForDaylightSaving(boolean adjust) {
         this.adjustForDaylightSaving = adjust;
+        this.exceptionIndex = null;
     }
 
     ////////////////////////////////////////////////////////////////////////////
@@ -428,6 +441,7 @@ public class SegmentedTimeline implements Timeline, Cloneable, Serializable {
      */
     public void setStartTime(long millisecond) {
         this.startTime = millisecond;
+        this.exceptionIndex = null;
     }
 
     /**
@@ -523,6 +537,7 @@ public class SegmentedTimeline implements Timeline, Cloneable, Serializable {
      */
     public void setExceptionSegments(List exceptionSegments) {
         this.exceptionSegments = exceptionSegments;
+        this.exceptionIndex = null;
     }
 
     /**
@@ -578,6 +593,25 @@ public class SegmentedTimeline implements Timeline, Cloneable, Serializable {
      */
     @Override
     public long toTimelineValue(long millisecond) {
+        ConversionCache cache = getExceptionIndex().getTimelineValueCache();
+        int i = cache.indexOf(millisecond);
+        if (i >= 0) {
+            return cache.getValue(i);
+        }
+        long result = calculateTimelineValue(millisecond);
+        cache.put(millisecond, result);
+        return result;
+    }
+
+    /**
+     * Calculates the timeline value for a millisecond (see
+     * {@link #toTimelineValue(long)}).
+     *
+     * @param millisecond  the millisecond (as encoded by java.util.Date).
+     *
+     * @return The timeline value.
+     */
+    private long calculateTimelineValue(long millisecond) {
 
         long result;
         long rawMilliseconds = millisecond - this.startTime;
@@ -585,8 +619,8 @@ public class SegmentedTimeline implements Timeline, Cloneable, Serializable {
         long groupIndex = rawMilliseconds / this.segmentsGroupSize;
 
         if (groupMilliseconds >= this.segmentsIncludedSize) {
-            result = toTimelineValue(this.startTime + this.segmentsGroupSize
-                    * (groupIndex + 1));
+            result = calculateTimelineValue(this.startTime
+                    + this.segmentsGroupSize * (groupIndex + 1));
         }
         else {
             Segment segment = getSegment(millisecond);
@@ -596,7 +630,7 @@ public class SegmentedTimeline implements Timeline, Cloneable, Serializable {
                     segment = getSegment(millisecond = ((Segment)
                             this.exceptionSegments.get(p)).getSegmentEnd() + 1);
                 }
-                result = toTimelineValue(millisecond);
+                result = calculateTimelineValue(millisecond);
             }
             else {
                 long shiftedSegmentedValue = millisecond - this.startTime;
@@ -655,6 +689,25 @@ public class SegmentedTimeline implements Timeline, Cloneable, Serializable {
      */
     @Override
     public long toMillisecond(long timelineValue) {
+        ConversionCache cache = getExceptionIndex().getMillisecondCache();
+        int i = cache.indexOf(timelineValue);
+        if (i >= 0) {
+            return cache.getValue(i);
+        }
+        long result = calculateMillisecond(timelineValue);
+        cache.put(timelineValue, result);
+        return result;
+    }
+
+    /**
+     * Calculates the millisecond for a timeline value (see
+     * {@link #toMillisecond(long)}).
+     *
+     * @param timelineValue  the timeline value (in milliseconds).
+     *
+     * @return The domain value (in milliseconds).
+     */
+    private long calculateMillisecond(long timelineValue) {
 
         // calculate the result as if no exceptions
         Segment result = new Segment(this.startTime + timelineValue
@@ -882,6 +935,7 @@ public class SegmentedTimeline implements Timeline, Cloneable, Serializable {
          if (segment.inIncludeSegments()) {
              int p = binarySearchExceptionSegments(segment);
              this.exceptionSegments.add(-(p + 1), segment);
+             this.exceptionIndex = null;
          }
     }
 
@@ -1009,7 +1063,9 @@ public class SegmentedTimeline implements Timeline, Cloneable, Serializable {
 
     /**
      * Returns the number of exception segments wholly contained in the
-     * (fromDomainValue, toDomainValue) interval.
+     * (fromDomainValue, toDomainValue) interval.  The count is found with a
+     * binary search of the exception segments, so this method is called
+     * freely by the conversions between domain and timeline values.
      *
      * @param fromMillisecond  the beginning of the interval.
      * @param toMillisecond  the end of the interval.
@@ -1021,19 +1077,23 @@ public class SegmentedTimeline implements Timeline, Cloneable, Serializable {
         if (toMillisecond < fromMillisecond) {
             return (0);
         }
+        return getExceptionIndex().getExceptionSegmentCount(fromMillisecond,
+                toMillisecond);
+    }
 
-        int n = 0;
-        for (Iterator iter = this.exceptionSegments.iterator();
-             iter.hasNext();) {
-            Segment segment = (Segment) iter.next();
-            Segment intersection = segment.intersect(fromMillisecond,
-                    toMillisecond);
-            if (intersection != null) {
-                n += intersection.getSegmentCount();
-            }
+    /**
+     * Returns the index of the exception segments, creating it if
+     * necessary.
+     *
+     * @return The index.
+     */
+    private ExceptionIndex getExceptionIndex() {
+        ExceptionIndex index = this.exceptionIndex;
+        if (index == null || !index.isIndexFor(this.exceptionSegments)) {
+            index = new ExceptionIndex(this.exceptionSegments);
+            this.exceptionIndex = index;
         }
-
-        return (n);
+        return index;
     }
 
     /**
@@ -1750,4 +1810,259 @@ public class SegmentedTimeline implements Timeline, Cloneable, Serializable {
 
     }
 
+    /**
+     * An index of the exception segments.  The start and end of each
+     * segment are held in arrays that can be searched, together with the
+     * running total of the segment counts, so that the number of exception
+     * segments in an interval can be found without visiting every exception
+     * segment.  The index also holds the conversion caches for each thread,
+     * so that a new index starts with empty caches.
+     */
+    private static class ExceptionIndex {
+
+        /** The list that the index was created for. */
+        private final List list;
+
+        /** The exception segments. */
+        private final Segment[] segments;
+
+        /** The start of each exception segment. */
+        private final long[] starts;
+
+        /** The end of each exception segment. */
+        private final long[] ends;
+
+        /**
+         * The total segment count of the exception segments before each
+         * index (so the array has one more item than there are segments).
+         */
+        private final long[] counts;
+
+        /**
+         * A flag that indicates whether the segments are in order without
+         * overlapping (if not, the segments are counted one by one).
+         */
+        private final boolean ordered;
+
+        /** The caches for {@link SegmentedTimeline#toTimelineValue(long)}. */
+        private final ThreadLocal timelineValueCaches;
+
+        /** The caches for {@link SegmentedTimeline#toMillisecond(long)}. */
+        private final ThreadLocal millisecondCaches;
+
+        /**
+         * Creates an index for a list of exception segments.
+         *
+         * @param list  the exception segments.
+         */
+        public ExceptionIndex(List list) {
+            this.list = list;
+            int n = list.size();
+            this.segments = new Segment[n];
+            this.starts = new long[n];
+            this.ends = new long[n];
+            this.counts = new long[n + 1];
+            boolean inOrder = true;
+            for (int i = 0; i < n; i++) {
+                Segment segment = (Segment) list.get(i);
+                this.segments[i] = segment;
+                this.starts[i] = segment.getSegmentStart();
+                this.ends[i] = segment.getSegmentEnd();
+                this.counts[i + 1] = this.counts[i]
+                        + segment.getSegmentCount();
+                if (i > 0 && this.starts[i] <= this.ends[i - 1]) {
+                    inOrder = false;
+                }
+            }
+            this.ordered = inOrder;
+            this.timelineValueCaches = new ThreadLocal();
+            this.millisecondCaches = new ThreadLocal();
+        }
+
+        /**
+         * Returns {@code true} if this index is (still) valid for a list of
+         * exception segments.
+         *
+         * @param list  the list.
+         *
+         * @return A boolean.
+         */
+        public boolean isIndexFor(List list) {
+            return this.list == list && list.size() == this.segments.length;
+        }
+
+        /**
+         * Returns the number of exception segments wholly contained in an
+         * interval.
+         *
+         * @param from  the start of the interval.
+         * @param to  the end of the interval.
+         *
+         * @return The number of exception segments.
+         */
+        public long getExceptionSegmentCount(long from, long to) {
+            if (!this.ordered) {
+                long n = 0;
+                for (int i = 0; i < this.segments.length; i++) {
+                    n += countIntersection(this.segments[i], from, to);
+                }
+                return n;
+            }
+            // the first segment that ends at or after 'from'...
+            int first = Arrays.binarySearch(this.ends, from);
+            if (first < 0) {
+                first = -(first + 1);
+            }
+            // ...and the last segment that starts at or before 'to'
+            int last = Arrays.binarySearch(this.starts, to);
+            if (last < 0) {
+                last = -(last + 1) - 1;
+            }
+            if (first > last) {
+                return 0;
+            }
+            // only the first and last segments can be partly outside the
+            // interval, the others are counted from the running totals
+            long n = countIntersection(this.segments[first], from, to);
+            if (last > first) {
+                n += this.counts[last] - this.counts[first + 1];
+                n += countIntersection(this.segments[last], from, to);
+            }
+            return n;
+        }
+
+        /**
+         * Returns the number of segments in the intersection of an exception
+         * segment and an interval.
+         *
+         * @param segment  the exception segment.
+         * @param from  the start of the interval.
+         * @param to  the end of the interval.
+         *
+         * @return The number of segments.
+         */
+        private long countIntersection(Segment segment, long from, long to) {
+            Segment intersection = segment.intersect(from, to);
+            return (intersection != null) ? intersection.getSegmentCount() : 0;
+        }
+
+        /**
+         * Returns the cache of timeline values for the current thread.
+         *
+         * @return The cache.
+         */
+        public ConversionCache getTimelineValueCache() {
+            return getCache(this.timelineValueCaches);
+        }
+
+        /**
+         * Returns the cache of milliseconds for the current thread.
+         *
+         * @return The cache.
+         */
+        public ConversionCache getMillisecondCache() {
+            return getCache(this.millisecondCaches);
+        }
+
+        /**
+         * Returns the cache for the current thread, creating it if
+         * necessary.
+         *
+         * @param caches  the caches.
+         *
+         * @return The cache.
+         */
+        private ConversionCache getCache(ThreadLocal caches) {
+            ConversionCache cache = (ConversionCache) caches.get();
+            if (cache == null) {
+                cache = new ConversionCache();
+                caches.set(cache);
+            }
+            return cache;
+        }
+
+    }
+
+    /**
+     * A small cache of recent conversions.  A {@link DateAxis} converts the
+     * bounds of its range along with every value, so entries that are used
+     * again are kept in preference to those that are not (using the "clock"
+     * replacement policy).
+     */
+    private static class ConversionCache {
+
+        /** The number of entries in the cache. */
+        private static final int SIZE = 8;
+
+        /** The keys. */
+        private final long[] keys = new long[SIZE];
+
+        /** The values. */
+        private final long[] values = new long[SIZE];
+
+        /** Flags that record whether each entry was used since checked. */
+        private final boolean[] used = new boolean[SIZE];
+
+        /** The number of entries filled. */
+        private int count;
+
+        /** The next entry to check for replacement. */
+        private int hand;
+
+        /**
+         * Returns the index of the entry for a key, or -1 if the key is not
+         * in the cache.
+         *
+         * @param key  the key.
+         *
+         * @return The index.
+         */
+        public int indexOf(long key) {
+            for (int i = 0; i < this.count; i++) {
+                if (this.keys[i] == key) {
+                    this.used[i] = true;
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Returns the value for an entry.
+         *
+         * @param index  the entry index (from {@link #indexOf(long)}).
+         *
+         * @return The value.
+         */
+        public long getValue(int index) {
+            return this.values[index];
+        }
+
+        /**
+         * Adds an entry to the cache, replacing an entry that has not been
+         * used recently if the cache is full.
+         *
+         * @param key  the key.
+         * @param value  the value.
+         */
+        public void put(long key, long value) {
+            int i;
+            if (this.count < SIZE) {
+                i = this.count++;
+            }
+            else {
+                while (this.used[this.hand]) {
+                    this.used[this.hand] = false;
+                    this.hand = (this.hand + 1) % SIZE;
+                }
+                i = this.hand;
+                this.hand = (this.hand + 1) % SIZE;
+            }
+            this.keys[i] = key;
+            this.values[i] = value;
+            this.used[i] = false;
+        }
+
+    }
+
 }
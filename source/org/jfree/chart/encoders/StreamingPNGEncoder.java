@@ -0,0 +1,1030 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------
+ * StreamingPNGEncoder.java
+ * ------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.encoders;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.awt.image.DataBufferInt;
+import java.awt.image.Raster;
+import java.awt.image.SampleModel;
+import java.awt.image.SinglePixelPackedSampleModel;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+import org.jfree.chart.util.ParamChecks;
+
+/**
+ * A PNG encoder that writes the image to the output stream as it is
+ * compressed, rather than building the complete file in memory.  Compared
+ * with the other PNG encoders, this encoder:
+ * <ul>
+ * <li>reads pixels directly from the data buffer of
+ *     <code>TYPE_INT_RGB</code> and <code>TYPE_INT_ARGB</code> images;</li>
+ * <li>writes an indexed (palette) image when the image has no more than 256
+ *     colors, as most charts do, which is smaller and faster to
+ *     compress;</li>
+ * <li>lets the caller choose the scanline filter, the compression level
+ *     (the quality setting, from 0 to 9) and the deflate strategy;</li>
+ * <li>can compress horizontal strips of the image in parallel, using an
+ *     executor supplied by the caller.</li>
+ * </ul>
+ * Instances are not thread-safe, but an instance can be shared once it has
+ * been configured.
+ *
+ * @since 1.0.20
+ */
+public class StreamingPNGEncoder implements ImageEncoder {
+
+    /** Scanlines are not filtered. */
+    public static final int FILTER_NONE = 0;
+
+    /** Each byte is stored as the difference from the byte to its left. */
+    public static final int FILTER_SUB = 1;
+
+    /** Each byte is stored as the difference from the byte above. */
+    public static final int FILTER_UP = 2;
+
+    /**
+     * Each byte is stored as the difference from the average of the bytes
+     * to the left and above.
+     */
+    public static final int FILTER_AVERAGE = 3;
+
+    /** Each byte is stored as the difference from the Paeth predictor. */
+    public static final int FILTER_PAETH = 4;
+
+    /**
+     * The filter is chosen for each scanline, using the "minimum sum of
+     * absolute differences" heuristic.
+     */
+    public static final int FILTER_ADAPTIVE = 5;
+
+    /** The PNG file signature. */
+    private static final byte[] SIGNATURE = {(byte) 137, 80, 78, 71, 13, 10,
+            26, 10};
+
+    /** The approximate number of filtered bytes in each parallel strip. */
+    private static final int STRIP_SIZE = 256 * 1024;
+
+    /** The maximum size of an IDAT chunk. */
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    /** The compression level (0 to 9). */
+    private int compressionLevel;
+
+    /** Encode alpha? */
+    private boolean encodingAlpha;
+
+    /** The filter (one of the FILTER_XXX constants). */
+    private int filter;
+
+    /** The deflate strategy. */
+    private int deflateStrategy;
+
+    /** Write an indexed image when there are few colors? */
+    private boolean paletteEnabled;
+
+    /** The executor for parallel compression (<code>null</code> permitted). */
+    private ExecutorService executor;
+
+    /**
+     * Creates a new encoder with compression level 6, adaptive filtering,
+     * the default deflate strategy and palette output enabled.
+     */
+    public StreamingPNGEncoder() {
+        this.compressionLevel = 6;
+        this.encodingAlpha = false;
+        this.filter = FILTER_ADAPTIVE;
+        this.deflateStrategy = Deflater.DEFAULT_STRATEGY;
+        this.paletteEnabled = true;
+        this.executor = null;
+    }
+
+    /**
+     * Returns the compression level, from 0 (no compression) through 1 (best
+     * speed) to 9 (best compression).
+     *
+     * @return The compression level.
+     */
+    @Override
+    public float getQuality() {
+        return this.compressionLevel;
+    }
+
+    /**
+     * Sets the compression level, from 0 (no compression) through 1 (best
+     * speed) to 9 (best compression).
+     *
+     * @param quality  the compression level (values outside the range 0 to
+     *     9 are clipped).
+     */
+    @Override
+    public void setQuality(float quality) {
+        this.compressionLevel = Math.max(0, Math.min(9, (int) quality));
+    }
+
+    /**
+     * Returns whether the encoder encodes alpha transparency.
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean isEncodingAlpha() {
+        return this.encodingAlpha;
+    }
+
+    /**
+     * Sets whether the encoder encodes alpha transparency.  This has no
+     * effect for images without alpha.
+     *
+     * @param encodingAlpha  encode alpha?
+     */
+    @Override
+    public void setEncodingAlpha(boolean encodingAlpha) {
+        this.encodingAlpha = encodingAlpha;
+    }
+
+    /**
+     * Returns the scanline filter.
+     *
+     * @return The filter (one of the <code>FILTER_XXX</code> constants).
+     */
+    public int getFilter() {
+        return this.filter;
+    }
+
+    /**
+     * Sets the scanline filter for true color images.  Indexed images are
+     * never filtered, as recommended by the PNG specification.
+     *
+     * @param filter  the filter (one of the <code>FILTER_XXX</code>
+     *     constants).
+     */
+    public void setFilter(int filter) {
+        if (filter < FILTER_NONE || filter > FILTER_ADAPTIVE) {
+            throw new IllegalArgumentException("Unknown filter: " + filter);
+        }
+        this.filter = filter;
+    }
+
+    /**
+     * Returns the deflate strategy.
+     *
+     * @return The deflate strategy.
+     */
+    public int getDeflateStrategy() {
+        return this.deflateStrategy;
+    }
+
+    /**
+     * Sets the deflate strategy.
+     *
+     * @param strategy  the strategy (<code>Deflater.DEFAULT_STRATEGY</code>,
+     *     <code>Deflater.FILTERED</code> or
+     *     <code>Deflater.HUFFMAN_ONLY</code>).
+     */
+    public void setDeflateStrategy(int strategy) {
+        if (strategy != Deflater.DEFAULT_STRATEGY
+                && strategy != Deflater.FILTERED
+                && strategy != Deflater.HUFFMAN_ONLY) {
+            throw new IllegalArgumentException("Unknown strategy: "
+                    + strategy);
+        }
+        this.deflateStrategy = strategy;
+    }
+
+    /**
+     * Returns the flag that controls whether an indexed image is written
+     * when the image has no more than 256 colors.
+     *
+     * @return A boolean.
+     */
+    public boolean isPaletteEnabled() {
+        return this.paletteEnabled;
+    }
+
+    /**
+     * Sets the flag that controls whether an indexed image is written when
+     * the image has no more than 256 colors.
+     *
+     * @param enabled  the flag.
+     */
+    public void setPaletteEnabled(boolean enabled) {
+        this.paletteEnabled = enabled;
+    }
+
+    /**
+     * Returns the executor used to compress strips of the image in parallel.
+     *
+     * @return The executor (possibly <code>null</code>).
+     */
+    public ExecutorService getExecutor() {
+        return this.executor;
+    }
+
+    /**
+     * Sets the executor used to compress strips of the image in parallel.
+     * If this is <code>null</code> (the default), or the image is small,
+     * the image is compressed on the calling thread.
+     *
+     * @param executor  the executor (<code>null</code> permitted).
+     */
+    public void setExecutor(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Encodes an image in PNG format.
+     *
+     * @param bufferedImage  the image to be encoded.
+     *
+     * @return The byte[] that is the encoded image.
+     *
+     * @throws IOException if there is an IO problem.
+     */
+    @Override
+    public byte[] encode(BufferedImage bufferedImage) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        encode(bufferedImage, out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Encodes an image in PNG format and writes it to an output stream.
+     *
+     * @param bufferedImage  the image to be encoded.
+     * @param outputStream  the output stream.
+     *
+     * @throws IOException if there is an IO problem.
+     */
+    @Override
+    public void encode(BufferedImage bufferedImage, OutputStream outputStream)
+            throws IOException {
+        ParamChecks.nullNotPermitted(bufferedImage, "bufferedImage");
+        ParamChecks.nullNotPermitted(outputStream, "outputStream");
+        Scanlines scanlines = new Scanlines(bufferedImage, this.encodingAlpha
+                && bufferedImage.getColorModel().hasAlpha(),
+                this.paletteEnabled);
+        int rowFilter = scanlines.palette != null ? FILTER_NONE : this.filter;
+
+        outputStream.write(SIGNATURE);
+        ChunkOutputStream chunk = new ChunkOutputStream(outputStream);
+        chunk.start("IHDR");
+        writeInt(chunk, scanlines.width);
+        writeInt(chunk, scanlines.height);
+        chunk.write(scanlines.bitDepth);
+        chunk.write(scanlines.colorType);
+        chunk.write(0);  // compression method
+        chunk.write(0);  // filter method
+        chunk.write(0);  // no interlace
+        chunk.end();
+        if (scanlines.palette != null) {
+            writePalette(chunk, scanlines.palette);
+        }
+
+        int stripRows = Math.max(1, STRIP_SIZE / (scanlines.rowBytes + 1));
+        chunk.start("IDAT");
+        if (this.executor == null || scanlines.height <= stripRows) {
+            Deflater deflater = new Deflater(this.compressionLevel);
+            deflater.setStrategy(this.deflateStrategy);
+            try {
+                DeflaterOutputStream dos = new DeflaterOutputStream(chunk,
+                        deflater, CHUNK_SIZE);
+                new StripFilter(scanlines, rowFilter).filterRows(0,
+                        scanlines.height, dos);
+                dos.finish();
+            }
+            finally {
+                deflater.end();
+            }
+        }
+        else {
+            writeParallel(chunk, scanlines, rowFilter, stripRows);
+        }
+        chunk.end();
+        chunk.start("IEND");
+        chunk.end();
+        outputStream.flush();
+    }
+
+    /**
+     * Writes the compressed image data as a zlib stream made from strips
+     * that are compressed in parallel.  Each strip (except the last) ends
+     * with a sync flush so that the raw deflate streams can be concatenated.
+     *
+     * @param out  the output stream.
+     * @param scanlines  the scanlines.
+     * @param rowFilter  the filter.
+     * @param stripRows  the number of rows in each strip.
+     *
+     * @throws IOException if there is an IO problem.
+     */
+    private void writeParallel(OutputStream out, final Scanlines scanlines,
+            final int rowFilter, int stripRows) throws IOException {
+        List futures = new ArrayList();
+        for (int y = 0; y < scanlines.height; y += stripRows) {
+            final int y0 = y;
+            final int y1 = Math.min(scanlines.height, y + stripRows);
+            futures.add(this.executor.submit(new Callable() {
+                @Override
+                public Object call() throws IOException {
+                    return compressStrip(scanlines, rowFilter, y0, y1);
+                }
+            }));
+        }
+        out.write(0x78);
+        out.write(zlibFlags(this.compressionLevel));
+        long adler = 1L;
+        try {
+            for (int i = 0; i < futures.size(); i++) {
+                Strip strip = (Strip) ((Future) futures.get(i)).get();
+                out.write(strip.data);
+                adler = combineAdler32(adler, strip.adler, strip.inputLength);
+            }
+        }
+        catch (InterruptedException e) {
+            cancel(futures);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while encoding.");
+        }
+        catch (ExecutionException e) {
+            cancel(futures);
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(String.valueOf(cause));
+        }
+        writeInt(out, (int) adler);
+    }
+
+    private static void cancel(List futures) {
+        for (int i = 0; i < futures.size(); i++) {
+            ((Future) futures.get(i)).cancel(true);
+        }
+    }
+
+    /**
+     * Filters and compresses the rows <code>y0</code> (inclusive) to
+     * <code>y1</code> (exclusive) as a raw deflate stream.
+     *
+     * @param scanlines  the scanlines.
+     * @param rowFilter  the filter.
+     * @param y0  the first row.
+     * @param y1  the end row.
+     *
+     * @return The compressed strip.
+     *
+     * @throws IOException if there is an IO problem.
+     */
+    private Strip compressStrip(Scanlines scanlines, int rowFilter, int y0,
+            int y1) throws IOException {
+        final Deflater deflater = new Deflater(this.compressionLevel, true);
+        deflater.setStrategy(this.deflateStrategy);
+        final Adler32 adler = new Adler32();
+        final Strip strip = new Strip();
+        final byte[] buffer = new byte[CHUNK_SIZE];
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            OutputStream sink = new OutputStream() {
+                @Override
+                public void write(int b) {
+                    write(new byte[] {(byte) b}, 0, 1);
+                }
+                @Override
+                public void write(byte[] b, int off, int len) {
+                    adler.update(b, off, len);
+                    strip.inputLength += len;
+                    deflater.setInput(b, off, len);
+                    while (!deflater.needsInput()) {
+                        int n = deflater.deflate(buffer, 0, buffer.length,
+                                Deflater.NO_FLUSH);
+                        bytes.write(buffer, 0, n);
+                    }
+                }
+            };
+            new StripFilter(scanlines, rowFilter).filterRows(y0, y1, sink);
+            if (y1 == scanlines.height) {
+                deflater.finish();
+                while (!deflater.finished()) {
+                    int n = deflater.deflate(buffer);
+                    bytes.write(buffer, 0, n);
+                }
+            }
+            else {
+                int n;
+                do {
+                    n = deflater.deflate(buffer, 0, buffer.length,
+                            Deflater.SYNC_FLUSH);
+                    bytes.write(buffer, 0, n);
+                } while (n == buffer.length);
+            }
+        }
+        finally {
+            deflater.end();
+        }
+        strip.data = bytes.toByteArray();
+        strip.adler = adler.getValue();
+        return strip;
+    }
+
+    /**
+     * Returns the second byte of a zlib header (with a 32K window) for the
+     * specified compression level.
+     *
+     * @param level  the compression level.
+     *
+     * @return The flag byte.
+     */
+    private static int zlibFlags(int level) {
+        if (level < 2) {
+            return 0x01;
+        }
+        else if (level < 6) {
+            return 0x5E;
+        }
+        else if (level == 6) {
+            return 0x9C;
+        }
+        return 0xDA;
+    }
+
+    /**
+     * Returns the Adler-32 checksum of two concatenated blocks of data,
+     * given the checksum of each block and the length of the second block.
+     *
+     * @param adler1  the checksum of the first block.
+     * @param adler2  the checksum of the second block.
+     * @param length2  the length of the second block.
+     *
+     * @return The combined checksum.
+     */
+    static long combineAdler32(long adler1, long adler2, long length2) {
+        final long base = 65521L;
+        long rem = length2 % base;
+        long sum1 = adler1 & 0xFFFFL;
+        long sum2 = (rem * sum1) % base;
+        sum1 += (adler2 & 0xFFFFL) + base - 1;
+        sum2 += ((adler1 >>> 16) & 0xFFFFL) + ((adler2 >>> 16) & 0xFFFFL)
+                + base - rem;
+        sum1 %= base;
+        sum2 %= base;
+        return (sum2 << 16) | sum1;
+    }
+
+    /**
+     * Writes the PLTE chunk, and the tRNS chunk if any palette entry is not
+     * opaque.
+     *
+     * @param chunk  the chunk stream.
+     * @param palette  the palette (ARGB values).
+     *
+     * @throws IOException if there is an IO problem.
+     */
+    private static void writePalette(ChunkOutputStream chunk, int[] palette)
+            throws IOException {
+        chunk.start("PLTE");
+        int lastTranslucent = -1;
+        for (int i = 0; i < palette.length; i++) {
+            int argb = palette[i];
+            chunk.write(argb >> 16);
+            chunk.write(argb >> 8);
+            chunk.write(argb);
+            if ((argb >>> 24) != 0xFF) {
+                lastTranslucent = i;
+            }
+        }
+        chunk.end();
+        if (lastTranslucent >= 0) {
+            chunk.start("tRNS");
+            for (int i = 0; i <= lastTranslucent; i++) {
+                chunk.write(palette[i] >>> 24);
+            }
+            chunk.end();
+        }
+    }
+
+    private static void writeInt(OutputStream out, int i) throws IOException {
+        out.write(i >>> 24);
+        out.write(i >>> 16);
+        out.write(i >>> 8);
+        out.write(i);
+    }
+
+    /**
+     * The result of compressing a strip.
+     */
+    private static class Strip {
+
+        /** The compressed data. */
+        byte[] data;
+
+        /** The checksum of the uncompressed data. */
+        long adler;
+
+        /** The length of the uncompressed data. */
+        long inputLength;
+
+    }
+
+    /**
+     * Reads the pixels of an image and converts them to the bytes of PNG
+     * scanlines.  Once created, an instance can be used by several threads.
+     */
+    private static class Scanlines {
+
+        /** The image. */
+        BufferedImage image;
+
+        /** The width. */
+        int width;
+
+        /** The height. */
+        int height;
+
+        /** Include alpha? */
+        boolean alpha;
+
+        /**
+         * The data array for images that can be read directly
+         * (<code>null</code> for other images).
+         */
+        int[] data;
+
+        /** The offset of the first pixel in the data array. */
+        int offset;
+
+        /** The scanline stride of the data array. */
+        int stride;
+
+        /** The palette (<code>null</code> for a true color image). */
+        int[] palette;
+
+        /** A hash table from ARGB value to palette index. */
+        int[] paletteKeys;
+
+        /** The palette index plus one, for each entry in the hash table. */
+        int[] paletteValues;
+
+        /** The PNG color type. */
+        int colorType;
+
+        /** The PNG bit depth. */
+        int bitDepth;
+
+        /** The number of bytes per complete pixel (at least one). */
+        int bytesPerPixel;
+
+        /** The number of bytes in a scanline (excluding the filter type). */
+        int rowBytes;
+
+        /**
+         * Creates the scanlines for an image.
+         *
+         * @param image  the image.
+         * @param alpha  include alpha?
+         * @param allowPalette  write an indexed image if possible?
+         */
+        Scanlines(BufferedImage image, boolean alpha, boolean allowPalette) {
+            this.image = image;
+            this.width = image.getWidth();
+            this.height = image.getHeight();
+            this.alpha = alpha;
+            int type = image.getType();
+            Raster raster = image.getRaster();
+            DataBuffer buffer = raster.getDataBuffer();
+            SampleModel sm = raster.getSampleModel();
+            if ((type == BufferedImage.TYPE_INT_RGB
+                    || type == BufferedImage.TYPE_INT_ARGB)
+                    && buffer instanceof DataBufferInt
+                    && buffer.getNumBanks() == 1
+                    && sm instanceof SinglePixelPackedSampleModel) {
+                SinglePixelPackedSampleModel spp
+                        = (SinglePixelPackedSampleModel) sm;
+                this.data = ((DataBufferInt) buffer).getData();
+                this.stride = spp.getScanlineStride();
+                this.offset = buffer.getOffset() + spp.getOffset(
+                        -raster.getSampleModelTranslateX(),
+                        -raster.getSampleModelTranslateY());
+            }
+            if (allowPalette && buildPalette()) {
+                int n = this.palette.length;
+                this.colorType = 3;
+                this.bitDepth = n <= 2 ? 1 : n <= 4 ? 2 : n <= 16 ? 4 : 8;
+                this.bytesPerPixel = 1;
+                this.rowBytes = (this.width * this.bitDepth + 7) / 8;
+            }
+            else {
+                this.colorType = alpha ? 6 : 2;
+                this.bitDepth = 8;
+                this.bytesPerPixel = alpha ? 4 : 3;
+                this.rowBytes = this.width * this.bytesPerPixel;
+            }
+        }
+
+        /**
+         * Reads one row of pixels as ARGB values (with alpha forced to 255
+         * when alpha is not included).
+         *
+         * @param y  the row.
+         * @param pixels  the array for the pixels.
+         */
+        void readRow(int y, int[] pixels) {
+            if (this.data != null) {
+                System.arraycopy(this.data, this.offset + y * this.stride,
+                        pixels, 0, this.width);
+            }
+            else {
+                this.image.getRGB(0, y, this.width, 1, pixels, 0, this.width);
+            }
+            if (!this.alpha) {
+                for (int x = 0; x < this.width; x++) {
+                    pixels[x] |= 0xFF000000;
+                }
+            }
+        }
+
+        /**
+         * Collects the colors in the image into a palette.
+         *
+         * @return <code>true</code> if the image has no more than 256
+         *     colors.
+         */
+        private boolean buildPalette() {
+            this.paletteKeys = new int[1024];
+            this.paletteValues = new int[1024];
+            int[] colors = new int[256];
+            int count = 0;
+            int[] pixels = new int[this.width];
+            int last = 0;
+            boolean haveLast = false;
+            for (int y = 0; y < this.height; y++) {
+                readRow(y, pixels);
+                for (int x = 0; x < this.width; x++) {
+                    int p = pixels[x];
+                    if (haveLast && p == last) {
+                        continue;
+                    }
+                    last = p;
+                    haveLast = true;
+                    int slot = slot(p);
+                    if (this.paletteValues[slot] == 0) {
+                        if (count == 256) {
+                            this.paletteKeys = null;
+                            this.paletteValues = null;
+                            return false;
+                        }
+                        colors[count++] = p;
+                        this.paletteKeys[slot] = p;
+                        this.paletteValues[slot] = count;
+                    }
+                }
+            }
+            this.palette = new int[Math.max(1, count)];
+            System.arraycopy(colors, 0, this.palette, 0, count);
+            return true;
+        }
+
+        /**
+         * Returns the hash table slot for an ARGB value (either the slot
+         * holding the value or the empty slot where it belongs).
+         *
+         * @param argb  the ARGB value.
+         *
+         * @return The slot.
+         */
+        private int slot(int argb) {
+            int mask = this.paletteKeys.length - 1;
+            int i = (argb * 0x9E3779B1) >>> 22;
+            while (this.paletteValues[i] != 0
+                    && this.paletteKeys[i] != argb) {
+                i = (i + 1) & mask;
+            }
+            return i;
+        }
+
+        /**
+         * Converts one row of pixels to the bytes of a PNG scanline.
+         *
+         * @param pixels  the pixels (ARGB values).
+         * @param row  the array for the scanline bytes.
+         */
+        void toBytes(int[] pixels, byte[] row) {
+            if (this.palette != null) {
+                int bits = this.bitDepth;
+                int perByte = 8 / bits;
+                int last = pixels[0];
+                int lastIndex = this.paletteValues[slot(last)] - 1;
+                int b = 0;
+                for (int x = 0; x < this.width; x++) {
+                    int p = pixels[x];
+                    if (p != last) {
+                        last = p;
+                        lastIndex = this.paletteValues[slot(p)] - 1;
+                    }
+                    int shift = 8 - bits * (x % perByte + 1);
+                    b |= lastIndex << shift;
+                    if (shift == 0 || x == this.width - 1) {
+                        row[x / perByte] = (byte) b;
+                        b = 0;
+                    }
+                }
+            }
+            else if (this.alpha) {
+                for (int x = 0, i = 0; x < this.width; x++) {
+                    int p = pixels[x];
+                    row[i++] = (byte) (p >> 16);
+                    row[i++] = (byte) (p >> 8);
+                    row[i++] = (byte) p;
+                    row[i++] = (byte) (p >>> 24);
+                }
+            }
+            else {
+                for (int x = 0, i = 0; x < this.width; x++) {
+                    int p = pixels[x];
+                    row[i++] = (byte) (p >> 16);
+                    row[i++] = (byte) (p >> 8);
+                    row[i++] = (byte) p;
+                }
+            }
+        }
+
+    }
+
+    /**
+     * Filters the scanlines of a strip of the image.  Each thread uses its
+     * own instance.
+     */
+    private static class StripFilter {
+
+        /** The scanlines. */
+        private Scanlines scanlines;
+
+        /** The filter (one of the FILTER_XXX constants). */
+        private int filter;
+
+        /** The pixels of the current row. */
+        private int[] pixels;
+
+        /** The bytes of the previous row. */
+        private byte[] previous;
+
+        /** The bytes of the current row. */
+        private byte[] current;
+
+        /** The filtered rows (one for each filter type). */
+        private byte[][] filtered;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param scanlines  the scanlines.
+         * @param filter  the filter.
+         */
+        StripFilter(Scanlines scanlines, int filter) {
+            this.scanlines = scanlines;
+            this.filter = filter;
+            this.pixels = new int[scanlines.width];
+            this.previous = new byte[scanlines.rowBytes];
+            this.current = new byte[scanlines.rowBytes];
+            this.filtered = new byte[5][];
+        }
+
+        /**
+         * Filters the rows <code>y0</code> (inclusive) to <code>y1</code>
+         * (exclusive), and writes each filtered row (starting with the
+         * filter type byte) to an output stream.
+         *
+         * @param y0  the first row.
+         * @param y1  the end row.
+         * @param out  the output stream.
+         *
+         * @throws IOException if there is an IO problem.
+         */
+        void filterRows(int y0, int y1, OutputStream out) throws IOException {
+            if (y0 > 0 && this.filter != FILTER_NONE
+                    && this.filter != FILTER_SUB) {
+                this.scanlines.readRow(y0 - 1, this.pixels);
+                this.scanlines.toBytes(this.pixels, this.previous);
+            }
+            for (int y = y0; y < y1; y++) {
+                this.scanlines.readRow(y, this.pixels);
+                this.scanlines.toBytes(this.pixels, this.current);
+                byte[] row;
+                if (this.filter == FILTER_ADAPTIVE) {
+                    row = null;
+                    long best = Long.MAX_VALUE;
+                    for (int f = FILTER_NONE; f <= FILTER_PAETH; f++) {
+                        byte[] candidate = filter(f);
+                        long sum = 0;
+                        for (int i = 1; i < candidate.length; i++) {
+                            sum += Math.abs(candidate[i]);
+                        }
+                        if (sum < best) {
+                            best = sum;
+                            row = candidate;
+                        }
+                    }
+                }
+                else {
+                    row = filter(this.filter);
+                }
+                out.write(row, 0, row.length);
+                byte[] temp = this.previous;
+                this.previous = this.current;
+                this.current = temp;
+            }
+        }
+
+        /**
+         * Applies a filter to the current row.
+         *
+         * @param type  the filter type (<code>FILTER_NONE</code> to
+         *     <code>FILTER_PAETH</code>).
+         *
+         * @return The filtered row, starting with the filter type byte.
+         */
+        private byte[] filter(int type) {
+            byte[] out = this.filtered[type];
+            if (out == null) {
+                out = new byte[this.scanlines.rowBytes + 1];
+                this.filtered[type] = out;
+            }
+            out[0] = (byte) type;
+            byte[] cur = this.current;
+            byte[] prev = this.previous;
+            int bpp = this.scanlines.bytesPerPixel;
+            int n = cur.length;
+            switch (type) {
+                case FILTER_NONE:
+                    System.arraycopy(cur, 0, out, 1, n);
+                    break;
+                case FILTER_SUB:
+                    for (int i = 0; i < n; i++) {
+                        int left = i >= bpp ? cur[i - bpp] : 0;
+                        out[i + 1] = (byte) (cur[i] - left);
+                    }
+                    break;
+                case FILTER_UP:
+                    for (int i = 0; i < n; i++) {
+                        out[i + 1] = (byte) (cur[i] - prev[i]);
+                    }
+                    break;
+                case FILTER_AVERAGE:
+                    for (int i = 0; i < n; i++) {
+                        int left = i >= bpp ? cur[i - bpp] & 0xFF : 0;
+                        out[i + 1] = (byte) (cur[i]
+                                - ((left + (prev[i] & 0xFF)) >> 1));
+                    }
+                    break;
+                default:
+                    for (int i = 0; i < n; i++) {
+                        int a = i >= bpp ? cur[i - bpp] & 0xFF : 0;
+                        int b = prev[i] & 0xFF;
+                        int c = i >= bpp ? prev[i - bpp] & 0xFF : 0;
+                        out[i + 1] = (byte) (cur[i] - paeth(a, b, c));
+                    }
+                    break;
+            }
+            return out;
+        }
+
+        private static int paeth(int a, int b, int c) {
+            int p = a + b - c;
+            int pa = Math.abs(p - a);
+            int pb = Math.abs(p - b);
+            int pc = Math.abs(p - c);
+            if (pa <= pb && pa <= pc) {
+                return a;
+            }
+            return pb <= pc ? b : c;
+        }
+
+    }
+
+    /**
+     * An output stream that writes PNG chunks.  Between calls to
+     * {@link #start(String)} and {@link #end()}, the data is buffered and
+     * written as one or more chunks of the same type.
+     */
+    private static class ChunkOutputStream extends OutputStream {
+
+        /** The underlying stream. */
+        private OutputStream out;
+
+        /** The chunk type. */
+        private byte[] type;
+
+        /** The buffered data. */
+        private byte[] buffer;
+
+        /** The number of bytes in the buffer. */
+        private int count;
+
+        /** For calculating checksums. */
+        private CRC32 crc;
+
+        ChunkOutputStream(OutputStream out) {
+            this.out = out;
+            this.buffer = new byte[CHUNK_SIZE];
+            this.crc = new CRC32();
+        }
+
+        void start(String chunkType) {
+            this.type = chunkType.getBytes();
+            this.count = 0;
+        }
+
+        void end() throws IOException {
+            writeChunk();
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (this.count == this.buffer.length) {
+                writeChunk();
+            }
+            this.buffer[this.count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                if (this.count == this.buffer.length) {
+                    writeChunk();
+                }
+                int n = Math.min(len, this.buffer.length - this.count);
+                System.arraycopy(b, off, this.buffer, this.count, n);
+                this.count += n;
+                off += n;
+                len -= n;
+            }
+        }
+
+        private void writeChunk() throws IOException {
+            writeInt(this.out, this.count);
+            this.crc.reset();
+            this.crc.update(this.type);
+            this.crc.update(this.buffer, 0, this.count);
+            this.out.write(this.type);
+            this.out.write(this.buffer, 0, this.count);
+            writeInt(this.out, (int) this.crc.getValue());
+            this.count = 0;
+        }
+
+    }
+
+}
@@ -0,0 +1,319 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------------
+ * BoundedEntityCollection.java
+ * ----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.entity;
+
+import java.util.Arrays;
+
+import org.jfree.chart.HashUtilities;
+
+/**
+ * An entity collection that limits the number of item entities created by
+ * renderers.  Before a renderer creates an item entity, it calls
+ * {@link #claimItemEntity(double, double)}; if that method returns
+ * <code>false</code>, the renderer skips the entity (and the work of
+ * creating its shape, tool tip and URL).  The policy can:
+ * <ul>
+ * <li>limit the total number of item entities;</li>
+ * <li>keep only the first item entity whose anchor point falls in each
+ *     pixel;</li>
+ * <li>ask renderers to create item entities that generate their tool tip
+ *     and URL text on demand.</li>
+ * </ul>
+ * Other entities (for the chart, plot, axes, titles and legend items) are
+ * always accepted.  At present, the policy is applied by renderers that
+ * extend {@link org.jfree.chart.renderer.xy.AbstractXYItemRenderer}.
+ * <P>
+ * The claims recorded by {@link #claimItemEntity(double, double)} are not
+ * serialized, so a deserialized collection starts counting (and checking
+ * pixels) afresh.
+ *
+ * @since 1.0.20
+ */
+public class BoundedEntityCollection extends StandardEntityCollection {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -1786463426453297510L;
+
+    /** A value used to mark empty slots in the pixel set. */
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    /** The maximum number of item entities. */
+    private int maxItemEntityCount;
+
+    /** Keep only one item entity for each pixel? */
+    private boolean onePerPixel;
+
+    /** Create item entities with tool tip and URL text on demand? */
+    private boolean lazyItemEntities;
+
+    /** The number of item entities claimed so far. */
+    private transient int itemEntityCount;
+
+    /**
+     * The pixels claimed so far, as an open-addressing hash set (created on
+     * demand).
+     */
+    private transient long[] pixels;
+
+    /** The number of entries in the pixel set. */
+    private transient int pixelCount;
+
+    /**
+     * Creates a new collection with no limit on the number of item entities.
+     */
+    public BoundedEntityCollection() {
+        this(Integer.MAX_VALUE, false, false);
+    }
+
+    /**
+     * Creates a new collection.
+     *
+     * @param maxItemEntityCount  the maximum number of item entities.
+     * @param onePerPixel  keep only the first item entity for each pixel?
+     * @param lazyItemEntities  create item entities that generate their tool
+     *     tip and URL text on demand?
+     */
+    public BoundedEntityCollection(int maxItemEntityCount,
+            boolean onePerPixel, boolean lazyItemEntities) {
+        super();
+        if (maxItemEntityCount < 0) {
+            throw new IllegalArgumentException(
+                    "Negative 'maxItemEntityCount' argument.");
+        }
+        this.maxItemEntityCount = maxItemEntityCount;
+        this.onePerPixel = onePerPixel;
+        this.lazyItemEntities = lazyItemEntities;
+    }
+
+    /**
+     * Returns the maximum number of item entities.
+     *
+     * @return The maximum number of item entities.
+     */
+    public int getMaxItemEntityCount() {
+        return this.maxItemEntityCount;
+    }
+
+    /**
+     * Returns the flag that controls whether only the first item entity for
+     * each pixel is kept.
+     *
+     * @return A boolean.
+     */
+    public boolean isOnePerPixel() {
+        return this.onePerPixel;
+    }
+
+    /**
+     * Returns the flag that controls whether renderers should create item
+     * entities that generate their tool tip and URL text on demand.  Such
+     * entities refer to the dataset and renderer, so the text reflects the
+     * state of those objects at the time it is first requested.
+     *
+     * @return A boolean.
+     */
+    public boolean getLazyItemEntities() {
+        return this.lazyItemEntities;
+    }
+
+    /**
+     * Returns the number of item entities that have been claimed since the
+     * collection was created or last cleared.
+     *
+     * @return The item entity count.
+     */
+    public int getItemEntityCount() {
+        return this.itemEntityCount;
+    }
+
+    /**
+     * Called by a renderer before it creates an item entity.  Returns
+     * <code>true</code> (and records the claim) if the entity should be
+     * created, or <code>false</code> if the entity should be skipped because
+     * the maximum count has been reached or another item entity already has
+     * its anchor point in the same pixel.
+     *
+     * @param x  the x-coordinate of the entity's anchor point (in Java2D
+     *     space).
+     * @param y  the y-coordinate of the entity's anchor point (in Java2D
+     *     space).
+     *
+     * @return A boolean.
+     */
+    public boolean claimItemEntity(double x, double y) {
+        if (this.itemEntityCount >= this.maxItemEntityCount) {
+            return false;
+        }
+        if (this.onePerPixel && !addPixel((long) Math.floor(x),
+                (long) Math.floor(y))) {
+            return false;
+        }
+        this.itemEntityCount++;
+        return true;
+    }
+
+    /**
+     * Clears all the entities from the collection, and resets the item
+     * entity count.
+     */
+    @Override
+    public void clear() {
+        super.clear();
+        this.itemEntityCount = 0;
+        this.pixels = null;
+        this.pixelCount = 0;
+    }
+
+    /**
+     * Adds a pixel to the pixel set.
+     *
+     * @param px  the pixel x-coordinate.
+     * @param py  the pixel y-coordinate.
+     *
+     * @return <code>true</code> if the pixel was not already in the set.
+     */
+    private boolean addPixel(long px, long py) {
+        if (this.pixels == null) {
+            this.pixels = new long[64];
+            Arrays.fill(this.pixels, EMPTY);
+        }
+        else if (this.pixelCount * 2 >= this.pixels.length) {
+            long[] old = this.pixels;
+            this.pixels = new long[old.length * 2];
+            Arrays.fill(this.pixels, EMPTY);
+            for (int i = 0; i < old.length; i++) {
+                if (old[i] != EMPTY) {
+                    insert(this.pixels, old[i]);
+                }
+            }
+        }
+        long key = (px << 32) ^ (py & 0xFFFFFFFFL);
+        if (insert(this.pixels, key)) {
+            this.pixelCount++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Inserts a key into a hash table using linear probing.
+     *
+     * @param table  the table (at least one slot must be empty).
+     * @param key  the key.
+     *
+     * @return <code>true</code> if the key was added, and <code>false</code>
+     *     if it was already present.
+     */
+    private static boolean insert(long[] table, long key) {
+        int mask = table.length - 1;
+        long h = key * 0x9E3779B97F4A7C15L;
+        int i = (int) (h ^ (h >>> 32)) & mask;
+        while (table[i] != EMPTY) {
+            if (table[i] == key) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+        table[i] = key;
+        return true;
+    }
+
+    /**
+     * Tests this collection for equality with an arbitrary object.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof BoundedEntityCollection)) {
+            return false;
+        }
+        BoundedEntityCollection that = (BoundedEntityCollection) obj;
+        if (this.maxItemEntityCount != that.maxItemEntityCount) {
+            return false;
+        }
+        if (this.onePerPixel != that.onePerPixel) {
+            return false;
+        }
+        if (this.lazyItemEntities != that.lazyItemEntities) {
+            return false;
+        }
+        return super.equals(obj);
+    }
+
+    /**
+     * Returns a hash code for this collection.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        int result = 41;
+        result = HashUtilities.hashCode(result, this.maxItemEntityCount);
+        result = HashUtilities.hashCode(result, this.onePerPixel);
+        result = HashUtilities.hashCode(result, this.lazyItemEntities);
+        result = HashUtilities.hashCode(result, getEntityCount());
+        return result;
+    }
+
+    /**
+     * Returns a clone of this entity collection.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if the object cannot be cloned.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        BoundedEntityCollection clone
+                = (BoundedEntityCollection) super.clone();
+        if (this.pixels != null) {
+            clone.pixels = (long[]) this.pixels.clone();
+        }
+        return clone;
+    }
+
+}
@@ -68,6 +68,8 @@
  *               prevent special characters corrupting the HTML (DG);
  * 05-Dec-2007 : Previous change reverted - let the tool tip and url tag
  *               generators handle filtering / escaping (DG);
+ * 16-Oct-2026 : Use the accessor methods in getImageMapAreaTag() so that
+ *               subclasses can create the text on demand;
  *
  */
 
@@ -311,20 +313,19 @@ public class ChartEntity implements Cloneable, PublicCloneable, Serializable {
             URLTagFragmentGenerator urlTagFragmentGenerator) {
 
         StringBuilder tag = new StringBuilder();
-        boolean hasURL = (this.urlText == null ? false
-                : !this.urlText.equals(""));
-        boolean hasToolTip = (this.toolTipText == null ? false
-                : !this.toolTipText.equals(""));
+        String toolTip = getToolTipText();
+        String url = getURLText();
+        boolean hasURL = (url == null ? false : !url.equals(""));
+        boolean hasToolTip = (toolTip == null ? false : !toolTip.equals(""));
         if (hasURL || hasToolTip) {
             tag.append("<area shape=\"").append(getShapeType()).append("\"")
                     .append(" coords=\"").append(getShapeCoords()).append("\"");
             if (hasToolTip) {
                 tag.append(toolTipTagFragmentGenerator.generateToolTipFragment(
-                        this.toolTipText));
+                        toolTip));
             }
             if (hasURL) {
-                tag.append(urlTagFragmentGenerator.generateURLFragment(
-                        this.urlText));
+                tag.append(urlTagFragmentGenerator.generateURLFragment(url));
             }
             else {
                 tag.append(" nohref=\"nohref\"");
@@ -0,0 +1,276 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------
+ * EntityGrid.java
+ * ---------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.entity;
+
+import java.awt.geom.Rectangle2D;
+import java.util.List;
+
+/**
+ * A uniform grid over the bounds of a list of entities, used by
+ * {@link StandardEntityCollection} to find the entity at a point without
+ * testing every entity.  Each cell holds the indices (in ascending order) of
+ * the entities whose bounds overlap the cell.  Entities that cover many
+ * cells (for example, the chart and plot entities) are kept in a separate
+ * list that is checked for every query.
+ * <P>
+ * The grid is a snapshot: it must be discarded when the list of entities
+ * changes.
+ */
+class EntityGrid {
+
+    /** The maximum number of rows or columns. */
+    private static final int MAX_DIVISIONS = 512;
+
+    /**
+     * Entities that overlap more than this number of cells are kept in the
+     * list of large entities.
+     */
+    private static final int MAX_CELLS_PER_ENTITY = 16;
+
+    /** The smallest x-coordinate covered by the grid. */
+    private double minX;
+
+    /** The smallest y-coordinate covered by the grid. */
+    private double minY;
+
+    /** The largest x-coordinate covered by the grid. */
+    private double maxX;
+
+    /** The largest y-coordinate covered by the grid. */
+    private double maxY;
+
+    /** The cell width. */
+    private double cellWidth;
+
+    /** The cell height. */
+    private double cellHeight;
+
+    /** The number of columns. */
+    private int columns;
+
+    /** The number of rows. */
+    private int rows;
+
+    /**
+     * The position in {@link #cellEntities} of the first entity index for
+     * each cell (with one extra element that marks the end of the last cell).
+     */
+    private int[] cellStart;
+
+    /** The entity indices for all the cells. */
+    private int[] cellEntities;
+
+    /** The indices of the large entities, in ascending order. */
+    private int[] largeEntities;
+
+    /**
+     * Creates a grid for the specified entities.  This runs in time
+     * proportional to the number of entities.
+     *
+     * @param entities  the entities (a list of {@link ChartEntity} objects).
+     */
+    EntityGrid(List entities) {
+        int count = entities.size();
+        double[] bounds = new double[count * 4];
+        this.minX = Double.POSITIVE_INFINITY;
+        this.minY = Double.POSITIVE_INFINITY;
+        this.maxX = Double.NEGATIVE_INFINITY;
+        this.maxY = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < count; i++) {
+            ChartEntity entity = (ChartEntity) entities.get(i);
+            Rectangle2D b = entity.getArea().getBounds2D();
+            bounds[i * 4] = b.getMinX();
+            bounds[i * 4 + 1] = b.getMinY();
+            bounds[i * 4 + 2] = b.getMaxX();
+            bounds[i * 4 + 3] = b.getMaxY();
+            if (isFinite(b)) {
+                this.minX = Math.min(this.minX, b.getMinX());
+                this.minY = Math.min(this.minY, b.getMinY());
+                this.maxX = Math.max(this.maxX, b.getMaxX());
+                this.maxY = Math.max(this.maxY, b.getMaxY());
+            }
+        }
+        double w = this.maxX - this.minX;
+        double h = this.maxY - this.minY;
+        if (w > 0.0 && h > 0.0) {
+            this.columns = (int) Math.round(Math.sqrt(count * w / h));
+            this.columns = Math.max(1, Math.min(MAX_DIVISIONS, this.columns));
+            this.rows = Math.max(1, Math.min(MAX_DIVISIONS,
+                    count / this.columns));
+        }
+        else {
+            this.columns = 1;
+            this.rows = 1;
+        }
+        this.cellWidth = (w > 0.0 ? w : 1.0) / this.columns;
+        this.cellHeight = (h > 0.0 ? h : 1.0) / this.rows;
+
+        // first pass: count the entities in each cell...
+        int cellCount = this.columns * this.rows;
+        this.cellStart = new int[cellCount + 1];
+        int largeCount = 0;
+        for (int i = 0; i < count; i++) {
+            if (isLarge(bounds, i)) {
+                largeCount++;
+                continue;
+            }
+            int c0 = column(bounds[i * 4]);
+            int c1 = column(bounds[i * 4 + 2]);
+            int r0 = row(bounds[i * 4 + 1]);
+            int r1 = row(bounds[i * 4 + 3]);
+            for (int r = r0; r <= r1; r++) {
+                for (int c = c0; c <= c1; c++) {
+                    this.cellStart[r * this.columns + c + 1]++;
+                }
+            }
+        }
+        for (int cell = 0; cell < cellCount; cell++) {
+            this.cellStart[cell + 1] += this.cellStart[cell];
+        }
+
+        // ...then fill in the indices
+        this.cellEntities = new int[this.cellStart[cellCount]];
+        this.largeEntities = new int[largeCount];
+        int[] next = new int[cellCount];
+        System.arraycopy(this.cellStart, 0, next, 0, cellCount);
+        largeCount = 0;
+        for (int i = 0; i < count; i++) {
+            if (isLarge(bounds, i)) {
+                this.largeEntities[largeCount++] = i;
+                continue;
+            }
+            int c0 = column(bounds[i * 4]);
+            int c1 = column(bounds[i * 4 + 2]);
+            int r0 = row(bounds[i * 4 + 1]);
+            int r1 = row(bounds[i * 4 + 3]);
+            for (int r = r0; r <= r1; r++) {
+                for (int c = c0; c <= c1; c++) {
+                    this.cellEntities[next[r * this.columns + c]++] = i;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the index of the last entity in the list with an area that
+     * encloses the specified coordinates, or <code>-1</code> if there is no
+     * such entity.
+     *
+     * @param entities  the entities (the same list used to create the grid).
+     * @param x  the x coordinate.
+     * @param y  the y coordinate.
+     *
+     * @return The entity index.
+     */
+    int findEntity(List entities, double x, double y) {
+        int result = -1;
+        if (x >= this.minX && x <= this.maxX && y >= this.minY
+                && y <= this.maxY) {
+            int cell = row(y) * this.columns + column(x);
+            for (int i = this.cellStart[cell + 1] - 1;
+                    i >= this.cellStart[cell]; i--) {
+                int index = this.cellEntities[i];
+                if (contains(entities, index, x, y)) {
+                    result = index;
+                    break;
+                }
+            }
+        }
+        for (int i = this.largeEntities.length - 1;
+                i >= 0 && this.largeEntities[i] > result; i--) {
+            if (contains(entities, this.largeEntities[i], x, y)) {
+                result = this.largeEntities[i];
+                break;
+            }
+        }
+        return result;
+    }
+
+    private static boolean contains(List entities, int index, double x,
+            double y) {
+        ChartEntity entity = (ChartEntity) entities.get(index);
+        return entity.getArea().contains(x, y);
+    }
+
+    private static boolean isFinite(Rectangle2D b) {
+        return !Double.isNaN(b.getX()) && !Double.isInfinite(b.getX())
+                && !Double.isNaN(b.getY()) && !Double.isInfinite(b.getY())
+                && !Double.isNaN(b.getWidth())
+                && !Double.isInfinite(b.getWidth())
+                && !Double.isNaN(b.getHeight())
+                && !Double.isInfinite(b.getHeight());
+    }
+
+    /**
+     * Returns <code>true</code> if the entity with the specified index
+     * belongs in the list of large entities, either because it overlaps too
+     * many cells or because its bounds are not finite.
+     *
+     * @param bounds  the entity bounds.
+     * @param i  the entity index.
+     *
+     * @return A boolean.
+     */
+    private boolean isLarge(double[] bounds, int i) {
+        double x0 = bounds[i * 4];
+        double y0 = bounds[i * 4 + 1];
+        double x1 = bounds[i * 4 + 2];
+        double y1 = bounds[i * 4 + 3];
+        if (!(x0 >= this.minX && x1 <= this.maxX && y0 >= this.minY
+                && y1 <= this.maxY)) {
+            return true;
+        }
+        long cells = (long) (column(x1) - column(x0) + 1)
+                * (row(y1) - row(y0) + 1);
+        return cells > MAX_CELLS_PER_ENTITY;
+    }
+
+    private int column(double x) {
+        int c = (int) ((x - this.minX) / this.cellWidth);
+        return Math.max(0, Math.min(this.columns - 1, c));
+    }
+
+    private int row(double y) {
+        int r = (int) ((y - this.minY) / this.cellHeight);
+        return Math.max(0, Math.min(this.rows - 1, r));
+    }
+
+}
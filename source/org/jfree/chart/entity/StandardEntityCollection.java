@@ -45,6 +45,8 @@
  * ------------- JFREECHART 1.0.x ---------------------------------------------
  * 01-Dec-2006 : Implemented PublicCloneable and fixed clone() method (DG);
  * 02-Jul-2013 : Use ParamChecks (DG);
+ * 16-Oct-2026 : Use a spatial index in getEntity(double, double) for large
+ *               collections;
  *
  */
 
@@ -62,6 +64,12 @@ import org.jfree.util.PublicCloneable;
 
 /**
  * A standard implementation of the {@link EntityCollection} interface.
+ * <P>
+ * For collections with many entities, the {@link #getEntity(double, double)}
+ * method uses a spatial index (a uniform grid over the entity bounds) that
+ * is built on the first call and discarded when entities are added or
+ * removed.  The index assumes that the areas of the entities are not changed
+ * after they are added to the collection.
  */
 public class StandardEntityCollection implements EntityCollection,
         Cloneable, PublicCloneable, Serializable {
@@ -69,9 +77,18 @@ public class StandardEntityCollection implements EntityCollection,
     /** For serialization. */
     private static final long serialVersionUID = 5384773031184897047L;
 
+    /**
+     * The number of entities above which {@link #getEntity(double, double)}
+     * uses a spatial index.
+     */
+    private static final int INDEX_THRESHOLD = 64;
+
     /** Storage for the entities. */
     private List entities;
 
+    /** The spatial index (created on demand, <code>null</code> if stale). */
+    private transient EntityGrid index;
+
     /**
      * Constructs a new entity collection (initially empty).
      */
@@ -109,6 +126,7 @@ public class StandardEntityCollection implements EntityCollection,
     @Override
     public void clear() {
         this.entities.clear();
+        this.index = null;
     }
 
     /**
@@ -120,6 +138,7 @@ public class StandardEntityCollection implements EntityCollection,
     public void add(ChartEntity entity) {
         ParamChecks.nullNotPermitted(entity, "entity");
         this.entities.add(entity);
+        this.index = null;
     }
 
     /**
@@ -131,6 +150,7 @@ public class StandardEntityCollection implements EntityCollection,
     @Override
     public void addAll(EntityCollection collection) {
         this.entities.addAll(collection.getEntities());
+        this.index = null;
     }
 
     /**
@@ -145,6 +165,13 @@ public class StandardEntityCollection implements EntityCollection,
     @Override
     public ChartEntity getEntity(double x, double y) {
         int entityCount = this.entities.size();
+        if (entityCount > INDEX_THRESHOLD) {
+            if (this.index == null) {
+                this.index = new EntityGrid(this.entities);
+            }
+            int i = this.index.findEntity(this.entities, x, y);
+            return i >= 0 ? (ChartEntity) this.entities.get(i) : null;
+        }
         for (int i = entityCount - 1; i >= 0; i--) {
             ChartEntity entity = (ChartEntity) this.entities.get(i);
             if (entity.getArea().contains(x, y)) {
@@ -205,6 +232,7 @@ public class StandardEntityCollection implements EntityCollection,
         StandardEntityCollection clone
                 = (StandardEntityCollection) super.clone();
         clone.entities = new java.util.ArrayList(this.entities.size());
+        clone.index = null;
         for (int i = 0; i < this.entities.size(); i++) {
             ChartEntity entity = (ChartEntity) this.entities.get(i);
             clone.entities.add(entity.clone());
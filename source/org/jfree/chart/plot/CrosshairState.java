@@ -46,6 +46,7 @@
  *               1565168 (DG);
  * 06-Feb-2007 : Added new fields and methods to fix bug 1086307 (DG);
  * 26-Jun-2008 : Now tracks dataset index (DG);
+ * 16-Oct-2026 : Added copy() and updateFrom() for parallel rendering;
  *
  */
 
@@ -498,4 +499,45 @@ public class CrosshairState {
         return this.rangeAxisIndex;
     }
 
+    /**
+     * Creates a new instance with the same anchor, crosshair values and
+     * distance as this one.  The copy is handed to a rendering task that runs
+     * on another thread, and is folded back in afterwards using
+     * {@link #updateFrom(CrosshairState)}.
+     *
+     * @return A new crosshair state.
+     */
+    CrosshairState copy() {
+        CrosshairState result = new CrosshairState(
+                this.calculateDistanceInDataSpace);
+        result.anchor = this.anchor;
+        result.anchorX = this.anchorX;
+        result.anchorY = this.anchorY;
+        result.crosshairX = this.crosshairX;
+        result.crosshairY = this.crosshairY;
+        result.datasetIndex = this.datasetIndex;
+        result.domainAxisIndex = this.domainAxisIndex;
+        result.rangeAxisIndex = this.rangeAxisIndex;
+        result.distance = this.distance;
+        return result;
+    }
+
+    /**
+     * Takes the crosshair point from <code>other</code> if it is strictly
+     * closer to the anchor than the current point.  Applying this to a
+     * sequence of states in rendering order gives the same result as a
+     * single state that was updated for every item in that order.
+     *
+     * @param other  the other state (<code>null</code> not permitted).
+     */
+    void updateFrom(CrosshairState other) {
+        if (other.distance < this.distance) {
+            this.crosshairX = other.crosshairX;
+            this.crosshairY = other.crosshairY;
+            this.domainAxisIndex = other.domainAxisIndex;
+            this.rangeAxisIndex = other.rangeAxisIndex;
+            this.distance = other.distance;
+        }
+    }
+
 }
@@ -230,6 +230,11 @@
  * 12-Sep-2013 : Check for KEY_SUPPRESS_SHADOW_GENERATION rendering hint (DG);
  * 10-Mar-2014 : Updated Javadocs for issue #1123 (DG);
  * 29-Jul-2014 : Add hints to normalise stroke for crosshairs (DG);
+ * 16-Oct-2026 : Added optional parallel rendering of series into tiles;
+ * 16-Oct-2026 : Stop passing items to the renderer once the renderer state
+ *               reports that the series pass is complete;
+ * 16-Oct-2026 : Added drawDataLayer() and the KEY_SUPPRESS_DATA_LAYER
+ *               hint so the data can be drawn separately;
  *
  */
 
@@ -245,6 +250,7 @@ import java.awt.Rectangle;
 import java.awt.RenderingHints;
 import java.awt.Shape;
 import java.awt.Stroke;
+import java.awt.geom.AffineTransform;
 import java.awt.geom.Line2D;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
@@ -258,6 +264,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -265,6 +272,10 @@ import java.util.Map.Entry;
 import java.util.ResourceBundle;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import org.jfree.chart.JFreeChart;
 
 import org.jfree.chart.LegendItem;
@@ -287,6 +298,7 @@ import org.jfree.chart.event.RendererChangeEvent;
 import org.jfree.chart.event.RendererChangeListener;
 import org.jfree.chart.renderer.RendererUtilities;
 import org.jfree.chart.renderer.xy.AbstractXYItemRenderer;
+import org.jfree.chart.renderer.xy.SeriesIndependentRenderer;
 import org.jfree.chart.renderer.xy.XYItemRenderer;
 import org.jfree.chart.renderer.xy.XYItemRendererState;
 import org.jfree.chart.util.CloneUtils;
@@ -606,6 +618,23 @@ public class XYPlot extends CommonPlot implements ValueAxisPlot, Pannable, Zooma
      */
     private ShadowGenerator shadowGenerator;
 
+    /**
+     * A flag that controls whether or not the datasets (and, where the
+     * renderer allows it, the series in each dataset) are rendered in
+     * parallel, each into its own image tile.
+     *
+     * @since 1.0.20
+     */
+    private boolean parallelRendering;
+
+    /**
+     * The pool used for parallel rendering (if <code>null</code>, the common
+     * pool is used).
+     *
+     * @since 1.0.20
+     */
+    private transient ForkJoinPool renderingPool;
+
     /**
      * Creates a new <code>XYPlot</code> instance with no dataset, no axes and
      * no renderer.  You should specify these items before using the plot.
@@ -2974,6 +3003,83 @@ public class XYPlot extends CommonPlot implements ValueAxisPlot, Pannable, Zooma
         fireChangeEvent();
     }
 
+    /**
+     * Returns the flag that controls whether or not the datasets and series
+     * are rendered in parallel.  The default value is <code>false</code>.
+     *
+     * @return A boolean.
+     *
+     * @see #setParallelRendering(boolean)
+     *
+     * @since 1.0.20
+     */
+    public boolean isParallelRendering() {
+        return this.parallelRendering;
+    }
+
+    /**
+     * Sets the flag that controls whether or not the datasets and series are
+     * rendered in parallel, and sends a {@link PlotChangeEvent} to all
+     * registered listeners.
+     * <P>
+     * When this flag is set, each dataset is drawn by a separate task into
+     * its own transparent image tile, and the tiles are then drawn onto the
+     * target in the same order that the datasets would otherwise have been
+     * rendered.  If the dataset's renderer is a
+     * {@link SeriesIndependentRenderer} (for example,
+     * {@link org.jfree.chart.renderer.xy.XYLineAndShapeRenderer}), each pass
+     * of each series gets its own tile instead.  Renderers that carry state
+     * from one series to the next, such as the stacked renderers, always
+     * draw a whole dataset in one tile, and the plot falls back to
+     * sequential rendering if such a renderer is used for more than one
+     * dataset.
+     * <P>
+     * With opaque paints and antialiasing switched off, the output is
+     * identical to sequential rendering; otherwise pixels can differ by
+     * rounding.  Tiles are only used when no entities are being collected
+     * (that is, when there is no {@link PlotRenderingInfo} or its owner has
+     * no entity collection) and the target transform is a plain
+     * translation; otherwise the plot falls back to sequential rendering.
+     *
+     * @param parallel  the new flag value.
+     *
+     * @see #isParallelRendering()
+     *
+     * @since 1.0.20
+     */
+    public void setParallelRendering(boolean parallel) {
+        this.parallelRendering = parallel;
+        fireChangeEvent();
+    }
+
+    /**
+     * Returns the pool used for parallel rendering.
+     *
+     * @return The pool (possibly <code>null</code>).
+     *
+     * @see #setRenderingPool(ForkJoinPool)
+     *
+     * @since 1.0.20
+     */
+    public ForkJoinPool getRenderingPool() {
+        return this.renderingPool;
+    }
+
+    /**
+     * Sets the pool used for parallel rendering.  If this is
+     * <code>null</code> (the default), the common pool is used.  The pool is
+     * not serialized.
+     *
+     * @param pool  the pool (<code>null</code> permitted).
+     *
+     * @see #getRenderingPool()
+     *
+     * @since 1.0.20
+     */
+    public void setRenderingPool(ForkJoinPool pool) {
+        this.renderingPool = pool;
+    }
+
     /**
      * Calculates the space required for all the axes in the plot.
      *
@@ -3146,6 +3252,81 @@ public class XYPlot extends CommonPlot implements ValueAxisPlot, Pannable, Zooma
         drawBackground(g2, dataArea);
         Map axisStateMap = drawAxes(g2, area, dataArea, info);
 
+        Shape originalClip = g2.getClip();
+        Composite originalComposite = g2.getComposite();
+
+        g2.clip(dataArea);
+        g2.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER,
+                getForegroundAlpha()));
+
+        AxisState domainAxisState = (AxisState) axisStateMap.get(
+                getDomainAxis());
+        if (domainAxisState == null) {
+            if (parentState != null) {
+                domainAxisState = (AxisState) parentState.getSharedAxisStates()
+                        .get(getDomainAxis());
+            }
+        }
+
+        AxisState rangeAxisState = (AxisState) axisStateMap.get(getRangeAxis());
+        if (rangeAxisState == null) {
+            if (parentState != null) {
+                rangeAxisState = (AxisState) parentState.getSharedAxisStates()
+                        .get(getRangeAxis());
+            }
+        }
+        if (domainAxisState != null) {
+            drawDomainTickBands(g2, dataArea, domainAxisState.getTicks());
+        }
+        if (rangeAxisState != null) {
+            drawRangeTickBands(g2, dataArea, rangeAxisState.getTicks());
+        }
+        if (domainAxisState != null) {
+            drawDomainGridlines(g2, dataArea, domainAxisState.getTicks());
+            drawZeroDomainBaseline(g2, dataArea);
+        }
+        if (rangeAxisState != null) {
+            drawRangeGridlines(g2, dataArea, rangeAxisState.getTicks());
+            drawZeroRangeBaseline(g2, dataArea);
+        }
+
+        g2.setClip(originalClip);
+        g2.setComposite(originalComposite);
+
+        // the data layer can be suppressed so that it can be drawn and
+        // buffered separately (see ChartPanel)
+        if (!Boolean.TRUE.equals(g2.getRenderingHint(
+                JFreeChart.KEY_SUPPRESS_DATA_LAYER))) {
+            drawDataLayer(g2, dataArea, anchor, info);
+        }
+
+        drawOutline(g2, dataArea);
+
+    }
+
+    /**
+     * Draws the data layer of the plot within the data area:  the markers
+     * and annotations that are associated with the renderers, the data
+     * items, the crosshairs and the plot annotations.  This is called by
+     * the {@link #draw(Graphics2D, Rectangle2D, Point2D, PlotState,
+     * PlotRenderingInfo)} method unless the
+     * {@link JFreeChart#KEY_SUPPRESS_DATA_LAYER} rendering hint is set, in
+     * which case the caller can draw the data layer over a buffered image of
+     * the rest of the chart, provided that the axis ranges and the data area
+     * have not changed.
+     *
+     * @param g2  the graphics device.
+     * @param dataArea  the data area (in Java2D space).
+     * @param anchor  an anchor point in Java2D space (<code>null</code>
+     *                permitted).
+     * @param info  collects chart drawing information (<code>null</code>
+     *              permitted).
+     *
+     * @since 1.0.20
+     */
+    public void drawDataLayer(Graphics2D g2, Rectangle2D dataArea,
+            Point2D anchor, PlotRenderingInfo info) {
+
         PlotOrientation orient = getOrientation();
 
         // the anchor point is typically the point where the mouse last
@@ -3196,37 +3377,6 @@ public class XYPlot extends CommonPlot implements ValueAxisPlot, Pannable, Zooma
         g2.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER,
                 getForegroundAlpha()));
 
-        AxisState domainAxisState = (AxisState) axisStateMap.get(
-                getDomainAxis());
-        if (domainAxisState == null) {
-            if (parentState != null) {
-                domainAxisState = (AxisState) parentState.getSharedAxisStates()
-                        .get(getDomainAxis());
-            }
-        }
-
-        AxisState rangeAxisState = (AxisState) axisStateMap.get(getRangeAxis());
-        if (rangeAxisState == null) {
-            if (parentState != null) {
-                rangeAxisState = (AxisState) parentState.getSharedAxisStates()
-                        .get(getRangeAxis());
-            }
-        }
-        if (domainAxisState != null) {
-            drawDomainTickBands(g2, dataArea, domainAxisState.getTicks());
-        }
-        if (rangeAxisState != null) {
-            drawRangeTickBands(g2, dataArea, rangeAxisState.getTicks());
-        }
-        if (domainAxisState != null) {
-            drawDomainGridlines(g2, dataArea, domainAxisState.getTicks());
-            drawZeroDomainBaseline(g2, dataArea);
-        }
-        if (rangeAxisState != null) {
-            drawRangeGridlines(g2, dataArea, rangeAxisState.getTicks());
-            drawZeroRangeBaseline(g2, dataArea);
-        }
-
         Graphics2D savedG2 = g2;
         BufferedImage dataImage = null;
         boolean suppressShadow = Boolean.TRUE.equals(g2.getRenderingHint(
@@ -3266,11 +3416,19 @@ public class XYPlot extends CommonPlot implements ValueAxisPlot, Pannable, Zooma
             }
 
             // render data items...
-        for (int datasetIndex : datasetIndices) {
-            XYDataset dataset = this.getDataset(datasetIndex);
-            foundData = render(g2, dataArea, datasetIndex, info, 
-                    crosshairState) || foundData;
+        if (canRenderTiles(g2, info) && renderTiles(g2, dataArea,
+                datasetIndices, crosshairState)) {
+            for (int datasetIndex : datasetIndices) {
+                foundData = !DatasetUtilities.isEmptyOrNull(
+                        getDataset(datasetIndex)) || foundData;
+            }
+        }
+        else {
+            for (int datasetIndex : datasetIndices) {
+                foundData = render(g2, dataArea, datasetIndex, info,
+                        crosshairState) || foundData;
             }
+        }
 
             // draw foreground annotations
         for (int i : rendererIndices) {
@@ -3351,8 +3509,6 @@ public class XYPlot extends CommonPlot implements ValueAxisPlot, Pannable, Zooma
         g2.setClip(originalClip);
         g2.setComposite(originalComposite);
 
-        drawOutline(g2, dataArea);
-
     }
 
     /**
@@ -3710,68 +3866,355 @@ public class XYPlot extends CommonPlot implements ValueAxisPlot, Pannable, Zooma
                 }
             }
 
+            if (canRenderTiles(g2, info) && renderTiles(g2, dataArea,
+                    Collections.singletonList(index), crosshairState)) {
+                return foundData;
+            }
+
             XYItemRendererState state = renderer.initialise(g2, dataArea, this,
                     dataset, info);
             int passCount = renderer.getPassCount();
+            boolean reverse = getSeriesRenderingOrder()
+                    == SeriesRenderingOrder.REVERSE;
+            for (int pass = 0; pass < passCount; pass++) {
+                int seriesCount = dataset.getSeriesCount();
+                for (int i = 0; i < seriesCount; i++) {
+                    int series = reverse ? seriesCount - 1 - i : i;
+                    renderSeriesPass(g2, state, dataArea, info, dataset,
+                            renderer, xAxis, yAxis, series, pass, passCount,
+                            reverse, crosshairState);
+                }
+            }
+        }
+        return foundData;
+    }
+
+    /**
+     * Draws one pass of one series of a dataset.
+     *
+     * @param g2  the graphics device.
+     * @param state  the renderer state.
+     * @param dataArea  the region in which the data is to be drawn.
+     * @param info  an optional object for collection dimension information.
+     * @param dataset  the dataset.
+     * @param renderer  the renderer.
+     * @param xAxis  the domain axis.
+     * @param yAxis  the range axis.
+     * @param series  the series index.
+     * @param pass  the pass index.
+     * @param passCount  the number of passes.
+     * @param reverse  are the series rendered in reverse order (in which case
+     *     an empty series is skipped)?
+     * @param crosshairState  collects crosshair information
+     *                        (<code>null</code> permitted).
+     */
+    private void renderSeriesPass(Graphics2D g2, XYItemRendererState state,
+            Rectangle2D dataArea, PlotRenderingInfo info, XYDataset dataset,
+            XYItemRenderer renderer, ValueAxis xAxis, ValueAxis yAxis,
+            int series, int pass, int passCount, boolean reverse,
+            CrosshairState crosshairState) {
+        int firstItem = 0;
+        int lastItem = dataset.getItemCount(series) - 1;
+        if (reverse && lastItem == -1) {
+            return;
+        }
+        if (state.getProcessVisibleItemsOnly()) {
+            int[] itemBounds = RendererUtilities.findLiveItems(dataset,
+                    series, xAxis.getLowerBound(), xAxis.getUpperBound());
+            firstItem = Math.max(itemBounds[0] - 1, 0);
+            lastItem = Math.min(itemBounds[1] + 1, lastItem);
+        }
+        state.startSeriesPass(dataset, series, firstItem, lastItem, pass,
+                passCount);
+        for (int item = firstItem; item <= lastItem
+                && !state.isSeriesPassComplete(); item++) {
+            renderer.drawItem(g2, state, dataArea, info, this, xAxis, yAxis,
+                    dataset, series, item, crosshairState, pass);
+        }
+        state.endSeriesPass(dataset, series, firstItem, lastItem, pass,
+                passCount);
+    }
+
+    /**
+     * Returns <code>true</code> if parallel rendering is switched on and can
+     * be used for the target: no entities are being collected, and the
+     * transform is a plain translation.
+     *
+     * @param g2  the graphics device.
+     * @param info  an optional object for collection dimension information.
+     *
+     * @return A boolean.
+     */
+    private boolean canRenderTiles(Graphics2D g2, PlotRenderingInfo info) {
+        if (!this.parallelRendering) {
+            return false;
+        }
+        if (info != null && info.getOwner() != null
+                && info.getOwner().getEntityCollection() != null) {
+            return false;
+        }
+        return isTranslateOnly(g2.getTransform());
+    }
+
+    /**
+     * Returns <code>true</code> if the transform is the identity or a pure
+     * translation, in which case an image tile drawn at integer coordinates
+     * lines up exactly with the device pixels.
+     *
+     * @param t  the transform.
+     *
+     * @return A boolean.
+     */
+    private static boolean isTranslateOnly(AffineTransform t) {
+        if ((t.getType() & ~AffineTransform.TYPE_TRANSLATION) != 0) {
+            return false;
+        }
+        return t.getTranslateX() == Math.rint(t.getTranslateX())
+                && t.getTranslateY() == Math.rint(t.getTranslateY());
+    }
+
+    /**
+     * Returns <code>true</code> if a renderer draws each series independently
+     * of the others.
+     *
+     * @param renderer  the renderer.
+     *
+     * @return A boolean.
+     */
+    private static boolean isSeriesIndependent(XYItemRenderer renderer) {
+        return renderer instanceof SeriesIndependentRenderer
+                && ((SeriesIndependentRenderer) renderer).isSeriesIndependent();
+    }
 
-            SeriesRenderingOrder seriesOrder = getSeriesRenderingOrder();
-            if (seriesOrder == SeriesRenderingOrder.REVERSE) {
-                //render series in reverse order
+    /**
+     * Renders the items in some datasets by drawing them into image tiles on
+     * the rendering pool, then drawing the tiles onto <code>g2</code> in the
+     * same order used by {@link #render(Graphics2D, Rectangle2D, int,
+     * PlotRenderingInfo, CrosshairState)}.  Each dataset gets its own tile,
+     * unless its renderer is a {@link SeriesIndependentRenderer}, in which
+     * case each pass of each series gets its own tile.  At most one tile per
+     * pool worker is in flight at any time.
+     * <P>
+     * Nothing is drawn (and the method returns <code>false</code>) if this
+     * gives fewer than two tiles, or if a renderer that is not series
+     * independent is used for more than one of the datasets (since its
+     * tiles would then be drawn at the same time).
+     *
+     * @param g2  the graphics device.
+     * @param dataArea  the data area.
+     * @param datasetIndices  the dataset indices, in rendering order.
+     * @param crosshairState  collects crosshair information
+     *                        (<code>null</code> permitted).
+     *
+     * @return A boolean that indicates whether the datasets were rendered.
+     */
+    private boolean renderTiles(Graphics2D g2, final Rectangle2D dataArea,
+            List<Integer> datasetIndices, CrosshairState crosshairState) {
+
+        final boolean reverse
+                = getSeriesRenderingOrder() == SeriesRenderingOrder.REVERSE;
+        List<Callable<BufferedImage>> tasks
+                = new ArrayList<Callable<BufferedImage>>();
+        final List<CrosshairState> crosshairs
+                = new ArrayList<CrosshairState>();
+        Map<XYItemRenderer, Boolean> renderers
+                = new IdentityHashMap<XYItemRenderer, Boolean>();
+        final int x0 = (int) dataArea.getX();
+        final int y0 = (int) dataArea.getY();
+        final int w = (int) Math.ceil(dataArea.getMaxX()) - x0;
+        final int h = (int) Math.ceil(dataArea.getMaxY()) - y0;
+        final RenderingHints hints = g2.getRenderingHints();
+        final Composite composite = g2.getComposite();
+        for (int index : datasetIndices) {
+            final XYDataset dataset = getDataset(index);
+            if (DatasetUtilities.isEmptyOrNull(dataset)) {
+                continue;
+            }
+            final ValueAxis xAxis = getDomainAxisForDataset(index);
+            final ValueAxis yAxis = getRangeAxisForDataset(index);
+            XYItemRenderer r = getRenderer(index);
+            if (r == null) {
+                r = getRenderer();
+            }
+            if (xAxis == null || yAxis == null || r == null) {
+                continue;
+            }
+            final XYItemRenderer renderer = r;
+            final int passCount = renderer.getPassCount();
+            final int seriesCount = dataset.getSeriesCount();
+            boolean independent = isSeriesIndependent(renderer);
+            if (renderers.put(renderer, Boolean.TRUE) != null
+                    && !independent) {
+                return false;
+            }
+            if (independent) {
                 for (int pass = 0; pass < passCount; pass++) {
-                    int seriesCount = dataset.getSeriesCount();
-                    for (int series = seriesCount - 1; series >= 0; series--) {
-                        int firstItem = 0;
-                        int lastItem = dataset.getItemCount(series) - 1;
-                        if (lastItem == -1) {
-                            continue;
-                        }
-                        if (state.getProcessVisibleItemsOnly()) {
-                            int[] itemBounds = RendererUtilities.findLiveItems(
-                                    dataset, series, xAxis.getLowerBound(),
-                                    xAxis.getUpperBound());
-                            firstItem = Math.max(itemBounds[0] - 1, 0);
-                            lastItem = Math.min(itemBounds[1] + 1, lastItem);
-                        }
-                        state.startSeriesPass(dataset, series, firstItem,
-                                lastItem, pass, passCount);
-                        for (int item = firstItem; item <= lastItem; item++) {
-                            renderer.drawItem(g2, state, dataArea, info,
-                                    this, xAxis, yAxis, dataset, series, item,
-                                    crosshairState, pass);
-                        }
-                        state.endSeriesPass(dataset, series, firstItem,
-                                lastItem, pass, passCount);
+                    for (int i = 0; i < seriesCount; i++) {
+                        final int p = pass;
+                        final int series = reverse ? seriesCount - 1 - i : i;
+                        final CrosshairState cs = crosshairState != null
+                                ? crosshairState.copy() : null;
+                        crosshairs.add(cs);
+                        tasks.add(new Callable<BufferedImage>() {
+                            @Override
+                            public BufferedImage call() {
+                                return renderTile(w, h, x0, y0, hints,
+                                        composite, dataArea, dataset,
+                                        renderer, xAxis, yAxis, series, p,
+                                        passCount, reverse, cs);
+                            }
+                        });
                     }
                 }
             }
             else {
-                //render series in forward order
-                for (int pass = 0; pass < passCount; pass++) {
-                    int seriesCount = dataset.getSeriesCount();
-                    for (int series = 0; series < seriesCount; series++) {
-                        int firstItem = 0;
-                        int lastItem = dataset.getItemCount(series) - 1;
-                        if (state.getProcessVisibleItemsOnly()) {
-                            int[] itemBounds = RendererUtilities.findLiveItems(
-                                    dataset, series, xAxis.getLowerBound(),
-                                    xAxis.getUpperBound());
-                            firstItem = Math.max(itemBounds[0] - 1, 0);
-                            lastItem = Math.min(itemBounds[1] + 1, lastItem);
-                        }
-                        state.startSeriesPass(dataset, series, firstItem,
-                                lastItem, pass, passCount);
-                        for (int item = firstItem; item <= lastItem; item++) {
-                            renderer.drawItem(g2, state, dataArea, info,
-                                    this, xAxis, yAxis, dataset, series, item,
-                                    crosshairState, pass);
-                        }
-                        state.endSeriesPass(dataset, series, firstItem,
-                                lastItem, pass, passCount);
+                final CrosshairState cs = crosshairState != null
+                        ? crosshairState.copy() : null;
+                crosshairs.add(cs);
+                tasks.add(new Callable<BufferedImage>() {
+                    @Override
+                    public BufferedImage call() {
+                        return renderTile(w, h, x0, y0, hints, composite,
+                                dataArea, dataset, renderer, xAxis, yAxis,
+                                -1, 0, passCount, reverse, cs);
                     }
+                });
+            }
+        }
+        if (tasks.size() < 2) {
+            return false;
+        }
+
+        // the series lookups auto-populate paints, strokes and shapes from
+        // the drawing supplier, so resolve them here on the calling thread
+        // (in rendering order) rather than racing on them in the tasks
+        for (int index : datasetIndices) {
+            XYDataset dataset = getDataset(index);
+            XYItemRenderer renderer = getRendererForDataset(dataset);
+            if (dataset == null
+                    || !(renderer instanceof AbstractXYItemRenderer)) {
+                continue;
+            }
+            AbstractXYItemRenderer r = (AbstractXYItemRenderer) renderer;
+            for (int series = 0; series < dataset.getSeriesCount();
+                    series++) {
+                r.lookupSeriesPaint(series);
+                r.lookupSeriesFillPaint(series);
+                r.lookupSeriesOutlinePaint(series);
+                r.lookupSeriesStroke(series);
+                r.lookupSeriesOutlineStroke(series);
+                r.lookupSeriesShape(series);
+            }
+        }
+
+        ForkJoinPool pool = this.renderingPool != null ? this.renderingPool
+                : ForkJoinPool.commonPool();
+
+        // each tile is a full data-area image, so keep no more tiles in
+        // flight than there are workers, and draw each one as soon as it
+        // is the next in order
+        int window = Math.max(1, pool.getParallelism());
+        List<Future<BufferedImage>> tiles
+                = new ArrayList<Future<BufferedImage>>(tasks.size());
+        for (int i = 0; i < Math.min(window, tasks.size()); i++) {
+            tiles.add(pool.submit(tasks.get(i)));
+        }
+
+        // the tiles are already blended with the plot's foreground alpha...
+        AffineTransform transform = g2.getTransform();
+        g2.setComposite(AlphaComposite.SrcOver);
+        g2.setTransform(new AffineTransform());
+        int next = 0;
+        try {
+            for (; next < tasks.size(); next++) {
+                BufferedImage tile = tiles.get(next).get();
+                tiles.set(next, null);
+                int pending = next + window;
+                if (pending < tasks.size()) {
+                    tiles.add(pool.submit(tasks.get(pending)));
+                }
+                if (tile != null) {
+                    g2.drawImage(tile, (int) transform.getTranslateX() + x0,
+                            (int) transform.getTranslateY() + y0, null);
+                }
+                if (crosshairState != null) {
+                    crosshairState.updateFrom(crosshairs.get(next));
                 }
             }
         }
-        return foundData;
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new RuntimeException(cause);
+        }
+        finally {
+            for (int i = next; i < tiles.size(); i++) {
+                Future<BufferedImage> f = tiles.get(i);
+                if (f != null) {
+                    f.cancel(false);
+                }
+            }
+            g2.setTransform(transform);
+            g2.setComposite(composite);
+        }
+        return true;
+    }
+
+    /**
+     * Draws one pass of one series (or, if <code>series</code> is -1, all of
+     * the passes and series) of a dataset into a new transparent image tile
+     * that covers the data area.  This is called from the rendering pool.
+     *
+     * @return The tile, or <code>null</code> if the series is empty and was
+     *     skipped.
+     */
+    private BufferedImage renderTile(int w, int h, int x0, int y0,
+            RenderingHints hints, Composite composite, Rectangle2D dataArea,
+            XYDataset dataset, XYItemRenderer renderer, ValueAxis xAxis,
+            ValueAxis yAxis, int series, int pass, int passCount,
+            boolean reverse, CrosshairState crosshairState) {
+
+        if (series >= 0 && reverse && dataset.getItemCount(series) == 0) {
+            return null;
+        }
+        BufferedImage tile = new BufferedImage(w, h,
+                BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D tg = tile.createGraphics();
+        try {
+            tg.setRenderingHints(hints);
+            tg.translate(-x0, -y0);
+            tg.clip(dataArea);
+            tg.setComposite(composite);
+            XYItemRendererState state = renderer.initialise(tg, dataArea,
+                    this, dataset, null);
+            if (series >= 0) {
+                renderSeriesPass(tg, state, dataArea, null, dataset, renderer,
+                        xAxis, yAxis, series, pass, passCount, reverse,
+                        crosshairState);
+                return tile;
+            }
+            for (int p = 0; p < passCount; p++) {
+                int seriesCount = dataset.getSeriesCount();
+                for (int i = 0; i < seriesCount; i++) {
+                    renderSeriesPass(tg, state, dataArea, null, dataset,
+                            renderer, xAxis, yAxis,
+                            reverse ? seriesCount - 1 - i : i, p, passCount,
+                            reverse, crosshairState);
+                }
+            }
+        }
+        finally {
+            tg.dispose();
+        }
+        return tile;
     }
 
     /**
@@ -5521,6 +5964,9 @@ public class XYPlot extends CommonPlot implements ValueAxisPlot, Pannable, Zooma
                 that.shadowGenerator)) {
             return false;
         }
+        if (this.parallelRendering != that.parallelRendering) {
+            return false;
+        }
         return super.equals(obj);
     }
 
@@ -122,6 +122,7 @@
  * 11-Jan-2014 : Fix error in fillDomainGridBand method (DG);
  * 07-Apr-2014 : Don't use ObjectList anymore (DG);
  * 29-Jul-2014 : Add rendering hint to normalise domain and range lines (DG);
+ * 16-Oct-2026 : Apply the BoundedEntityCollection policy in addEntity();
  * 
  */
 
@@ -154,6 +155,7 @@ import org.jfree.chart.LegendItemCollection;
 import org.jfree.chart.annotations.Annotation;
 import org.jfree.chart.annotations.XYAnnotation;
 import org.jfree.chart.axis.ValueAxis;
+import org.jfree.chart.entity.BoundedEntityCollection;
 import org.jfree.chart.entity.EntityCollection;
 import org.jfree.chart.entity.XYItemEntity;
 import org.jfree.chart.event.AnnotationChangeEvent;
@@ -1368,7 +1370,10 @@ public abstract class AbstractXYItemRenderer extends AbstractRenderer
 	}
 
 	/**
-	 * Adds an entity to the collection.
+	 * Adds an entity to the collection.  If the collection is a
+	 * {@link BoundedEntityCollection}, the entity is only created if the
+	 * collection accepts it (and may be created with its tool tip and URL
+	 * text generated on demand).
 	 *
 	 * @param entities the entity collection being populated.
 	 * @param area     the entity area (if <code>null</code> a default will be
@@ -1386,6 +1391,27 @@ public abstract class AbstractXYItemRenderer extends AbstractRenderer
 		if (!getItemCreateEntity(series, item)) {
 			return;
 		}
+		boolean lazy = false;
+		if (entities instanceof BoundedEntityCollection) {
+			BoundedEntityCollection bounded = (BoundedEntityCollection) entities;
+			double anchorX;
+			double anchorY;
+			if (area != null) {
+				Rectangle2D bounds = area.getBounds2D();
+				anchorX = bounds.getCenterX();
+				anchorY = bounds.getCenterY();
+			} else if (getPlot().getOrientation() == PlotOrientation.VERTICAL) {
+				anchorX = entityX;
+				anchorY = entityY;
+			} else {
+				anchorX = entityY;
+				anchorY = entityX;
+			}
+			if (!bounded.claimItemEntity(anchorX, anchorY)) {
+				return;
+			}
+			lazy = bounded.getLazyItemEntities();
+		}
 		Shape hotspot = area;
 		if (hotspot == null) {
 			double r = getDefaultEntityRadius();
@@ -1396,6 +1422,10 @@ public abstract class AbstractXYItemRenderer extends AbstractRenderer
 				hotspot = new Ellipse2D.Double(entityY - r, entityX - r, w, w);
 			}
 		}
+		if (lazy) {
+			entities.add(new LazyXYItemEntity(hotspot, dataset, series, item, this));
+			return;
+		}
 		String tip = null;
 		XYToolTipGenerator generator = getToolTipGenerator(series, item);
 		if (generator != null) {
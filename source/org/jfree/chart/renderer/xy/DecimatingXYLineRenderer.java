@@ -0,0 +1,469 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------------
+ * DecimatingXYLineRenderer.java
+ * -----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes:
+ * --------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.renderer.xy;
+
+import java.awt.Graphics2D;
+import java.awt.geom.GeneralPath;
+import java.awt.geom.Line2D;
+import java.awt.geom.Rectangle2D;
+import java.io.Serializable;
+import java.util.Collections;
+
+import org.jfree.chart.axis.ValueAxis;
+import org.jfree.chart.plot.CrosshairState;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.PlotRenderingInfo;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.Range;
+import org.jfree.data.xy.XYDataset;
+import org.jfree.data.xy.XYRangeInfo;
+import org.jfree.ui.RectangleEdge;
+import org.jfree.util.PublicCloneable;
+
+/**
+ * A renderer that draws line charts for very large datasets, using the M4
+ * algorithm:  the items are grouped by the pixel column they fall into, and
+ * only the first, last, minimum and maximum item in each column is drawn.
+ * The resulting line covers the same pixels as a line through every item.
+ * <P>
+ * Each series is drawn in one step (the renderer tells the plot that the
+ * series pass is complete after the first item).  When the dataset reports
+ * that its x-values are in ascending order, the column boundaries are found
+ * with a binary search, and if the dataset implements {@link XYRangeInfo}
+ * (for example, an {@link org.jfree.data.xy.XYSeriesCollection}) the minimum
+ * and maximum y-values for each column are looked up rather than found by
+ * iteration, so the time taken depends on the width of the plot rather than
+ * the number of items.  For unordered datasets, every item is examined.
+ * <P>
+ * Missing (<code>null</code>) values break the line only where they are the
+ * first or last item in a column.  This renderer does not create entities or
+ * update the crosshair state.  This renderer is designed for use with the
+ * {@link XYPlot} class.
+ *
+ * @since 1.0.20
+ */
+public class DecimatingXYLineRenderer extends AbstractXYItemRenderer
+        implements XYItemRenderer, Cloneable, PublicCloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 4318286651340513829L;
+
+    /**
+     * The smallest number of items in a column for which the minimum and
+     * maximum are looked up (smaller columns are drawn item by item).
+     */
+    private static final int MIN_DECIMATED_ITEMS = 5;
+
+    /**
+     * Creates a new renderer.
+     */
+    public DecimatingXYLineRenderer() {
+        setBaseLegendShape(new Line2D.Double(-7.0, 0.0, 7.0, 0.0));
+        setTreatLegendShapeAsLine(true);
+    }
+
+    /**
+     * Returns the number of passes through the data that the renderer requires
+     * in order to draw the chart.
+     *
+     * @return The pass count (always 1).
+     */
+    @Override
+    public int getPassCount() {
+        return 1;
+    }
+
+    /**
+     * Draws the line for the visible items in a series.  The whole line is
+     * drawn when this method is called for the first item in the series pass
+     * (calls for the other items do nothing).
+     *
+     * @param g2  the graphics device.
+     * @param state  the renderer state.
+     * @param dataArea  the area within which the data is being drawn.
+     * @param info  collects information about the drawing (ignored).
+     * @param plot  the plot (can be used to obtain standard color
+     *              information etc).
+     * @param domainAxis  the domain axis.
+     * @param rangeAxis  the range axis.
+     * @param dataset  the dataset.
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     * @param crosshairState  crosshair information for the plot (ignored).
+     * @param pass  the pass index.
+     */
+    @Override
+    public void drawItem(Graphics2D g2, XYItemRendererState state,
+            Rectangle2D dataArea, PlotRenderingInfo info, XYPlot plot,
+            ValueAxis domainAxis, ValueAxis rangeAxis, XYDataset dataset,
+            int series, int item, CrosshairState crosshairState, int pass) {
+
+        if (item != state.getFirstItemIndex()) {
+            return;
+        }
+        state.setSeriesPassComplete(true);
+        if (!getItemVisible(series, item)) {
+            return;
+        }
+        int first = item;
+        int last = state.getLastItemIndex();
+        Polyline line = new Polyline(plot.getOrientation(), dataArea,
+                domainAxis, plot.getDomainAxisEdge(), rangeAxis,
+                plot.getRangeAxisEdge());
+        if (dataset.getDomainOrder() == DomainOrder.ASCENDING) {
+            addOrderedItems(line, dataset, series, first, last);
+        }
+        else {
+            addUnorderedItems(line, dataset, series, first, last);
+        }
+        g2.setStroke(getItemStroke(series, item));
+        g2.setPaint(getItemPaint(series, item));
+        g2.draw(line.path);
+    }
+
+    /**
+     * Adds the items for a series with ascending x-values to the line.
+     *
+     * @param line  the line.
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     * @param first  the index of the first item.
+     * @param last  the index of the last item.
+     */
+    private void addOrderedItems(Polyline line, XYDataset dataset,
+            int series, int first, int last) {
+        double[] bounds = findColumnBounds(line.domainAxis, line.dataArea,
+                line.domainEdge);
+        boolean lookup = dataset instanceof XYRangeInfo;
+        int start = first;
+        for (int i = 0; i <= bounds.length; i++) {
+            int end = last + 1;
+            if (i < bounds.length) {
+                end = findFirstIndexAtOrAfter(dataset, series, bounds[i],
+                        start, last + 1);
+            }
+            if (end > start) {
+                addColumn(line, dataset, series, start, end - 1, lookup);
+            }
+            start = end;
+        }
+    }
+
+    /**
+     * Adds the items for a series with unordered x-values to the line,
+     * grouping runs of consecutive items that fall in the same pixel column.
+     *
+     * @param line  the line.
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     * @param first  the index of the first item.
+     * @param last  the index of the last item.
+     */
+    private void addUnorderedItems(Polyline line, XYDataset dataset,
+            int series, int first, int last) {
+        int start = first;
+        double column = Double.NaN;
+        for (int i = first; i <= last; i++) {
+            double c = Math.floor(line.domainAxis.valueToJava2D(
+                    dataset.getXValue(series, i), line.dataArea,
+                    line.domainEdge));
+            if (i > start && c != column) {
+                addColumn(line, dataset, series, start, i - 1, false);
+                start = i;
+            }
+            column = c;
+        }
+        addColumn(line, dataset, series, start, last, false);
+    }
+
+    /**
+     * Adds the first, minimum, maximum and last items from a range of items
+     * to the line.
+     *
+     * @param line  the line.
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     * @param start  the index of the first item in the column.
+     * @param end  the index of the last item in the column.
+     * @param lookup  look up the y-range via {@link XYRangeInfo}?
+     */
+    private void addColumn(Polyline line, XYDataset dataset, int series,
+            int start, int end, boolean lookup) {
+        if (end - start + 1 < MIN_DECIMATED_ITEMS) {
+            for (int i = start; i <= end; i++) {
+                line.add(dataset.getXValue(series, i),
+                        dataset.getYValue(series, i));
+            }
+            return;
+        }
+        double x0 = dataset.getXValue(series, start);
+        double y0 = dataset.getYValue(series, start);
+        double x1 = dataset.getXValue(series, end);
+        double y1 = dataset.getYValue(series, end);
+        line.add(x0, y0);
+        if (lookup) {
+            // the items are ordered, so the x-range covers the column
+            Range r = ((XYRangeInfo) dataset).getRangeBounds(
+                    Collections.singletonList(dataset.getSeriesKey(series)),
+                    new Range(x0, x1), false);
+            if (r != null && !r.isNaNRange()) {
+                // the order of the minimum and maximum is not known, so
+                // follow the overall direction of the column
+                if (y1 >= y0) {
+                    line.add(x0, r.getLowerBound());
+                    line.add(x1, r.getUpperBound());
+                }
+                else {
+                    line.add(x0, r.getUpperBound());
+                    line.add(x1, r.getLowerBound());
+                }
+            }
+        }
+        else {
+            int minIndex = -1;
+            int maxIndex = -1;
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            for (int i = start + 1; i < end; i++) {
+                double y = dataset.getYValue(series, i);
+                if (y < min) {
+                    min = y;
+                    minIndex = i;
+                }
+                if (y > max) {
+                    max = y;
+                    maxIndex = i;
+                }
+            }
+            if (minIndex >= 0) {
+                int a = Math.min(minIndex, maxIndex);
+                int b = Math.max(minIndex, maxIndex);
+                line.add(dataset.getXValue(series, a),
+                        dataset.getYValue(series, a));
+                if (b != a) {
+                    line.add(dataset.getXValue(series, b),
+                            dataset.getYValue(series, b));
+                }
+            }
+        }
+        line.add(x1, y1);
+    }
+
+    /**
+     * Returns the x-values at the boundaries of the pixel columns in the
+     * data area, in ascending order.
+     *
+     * @param axis  the domain axis.
+     * @param dataArea  the data area.
+     * @param edge  the domain axis edge.
+     *
+     * @return The boundary values.
+     */
+    private static double[] findColumnBounds(ValueAxis axis,
+            Rectangle2D dataArea, RectangleEdge edge) {
+        double start;
+        double length;
+        if (RectangleEdge.isTopOrBottom(edge)) {
+            start = dataArea.getMinX();
+            length = dataArea.getWidth();
+        }
+        else {
+            start = dataArea.getMinY();
+            length = dataArea.getHeight();
+        }
+        int columns = (int) Math.ceil(length);
+        double[] result = new double[columns + 1];
+        for (int i = 0; i <= columns; i++) {
+            result[i] = axis.java2DToValue(start + i, dataArea, edge);
+        }
+        if (result[0] > result[columns]) {
+            for (int i = 0, j = columns; i < j; i++, j--) {
+                double temp = result[i];
+                result[i] = result[j];
+                result[j] = temp;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the index of the first item with an x-value at or after
+     * <code>x</code>, searching between <code>low</code> (inclusive) and
+     * <code>high</code> (exclusive) in a series with ascending x-values.
+     *
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     * @param x  the x-value.
+     * @param low  the lowest index to consider.
+     * @param high  the index after the highest index to consider.
+     *
+     * @return The item index (<code>high</code> if there is no such item).
+     */
+    private static int findFirstIndexAtOrAfter(XYDataset dataset, int series,
+            double x, int low, int high) {
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (dataset.getXValue(series, mid) < x) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns a clone of the renderer.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if the clone cannot be created.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        return super.clone();
+    }
+
+    /**
+     * Tests this renderer for equality with an arbitrary object.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return <code>true</code> or <code>false</code>.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof DecimatingXYLineRenderer)) {
+            return false;
+        }
+        return super.equals(obj);
+    }
+
+    /**
+     * Builds the path for a series, converting data values to Java2D
+     * coordinates and starting a new segment after any missing value.
+     */
+    private static class Polyline {
+
+        /** The path. */
+        GeneralPath path;
+
+        /** The plot orientation. */
+        PlotOrientation orientation;
+
+        /** The data area. */
+        Rectangle2D dataArea;
+
+        /** The domain axis. */
+        ValueAxis domainAxis;
+
+        /** The domain axis edge. */
+        RectangleEdge domainEdge;
+
+        /** The range axis. */
+        ValueAxis rangeAxis;
+
+        /** The range axis edge. */
+        RectangleEdge rangeEdge;
+
+        /** A flag that indicates whether the last point was good. */
+        boolean lastPointGood;
+
+        /**
+         * Creates a new empty line.
+         *
+         * @param orientation  the plot orientation.
+         * @param dataArea  the data area.
+         * @param domainAxis  the domain axis.
+         * @param domainEdge  the domain axis edge.
+         * @param rangeAxis  the range axis.
+         * @param rangeEdge  the range axis edge.
+         */
+        Polyline(PlotOrientation orientation, Rectangle2D dataArea,
+                ValueAxis domainAxis, RectangleEdge domainEdge,
+                ValueAxis rangeAxis, RectangleEdge rangeEdge) {
+            this.path = new GeneralPath();
+            this.orientation = orientation;
+            this.dataArea = dataArea;
+            this.domainAxis = domainAxis;
+            this.domainEdge = domainEdge;
+            this.rangeAxis = rangeAxis;
+            this.rangeEdge = rangeEdge;
+        }
+
+        /**
+         * Adds a data point to the line.
+         *
+         * @param x  the x-value.
+         * @param y  the y-value (<code>Double.NaN</code> breaks the line).
+         */
+        void add(double x, double y) {
+            double transX = this.domainAxis.valueToJava2D(x, this.dataArea,
+                    this.domainEdge);
+            double transY = this.rangeAxis.valueToJava2D(y, this.dataArea,
+                    this.rangeEdge);
+            if (Double.isNaN(transX) || Double.isNaN(transY)) {
+                this.lastPointGood = false;
+                return;
+            }
+            float px = (float) transX;
+            float py = (float) transY;
+            if (this.orientation == PlotOrientation.HORIZONTAL) {
+                px = (float) transY;
+                py = (float) transX;
+            }
+            if (this.lastPointGood) {
+                this.path.lineTo(px, py);
+            }
+            else {
+                this.path.moveTo(px, py);
+            }
+            this.lastPointGood = true;
+        }
+
+    }
+
+}
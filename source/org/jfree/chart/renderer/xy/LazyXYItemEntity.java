@@ -0,0 +1,159 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------
+ * LazyXYItemEntity.java
+ * ---------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.renderer.xy;
+
+import java.awt.Shape;
+
+import org.jfree.chart.entity.BoundedEntityCollection;
+import org.jfree.chart.entity.XYItemEntity;
+import org.jfree.chart.labels.XYToolTipGenerator;
+import org.jfree.chart.urls.XYURLGenerator;
+import org.jfree.data.xy.XYDataset;
+
+/**
+ * An {@link XYItemEntity} that generates its tool tip and URL text the first
+ * time either is requested, using the renderer's generators.  These entities
+ * are created by {@link AbstractXYItemRenderer} when the entity collection is
+ * a {@link BoundedEntityCollection} with lazy item entities.  When
+ * serialized, an entity is replaced by a plain {@link XYItemEntity}.
+ */
+class LazyXYItemEntity extends XYItemEntity {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 6206414787454463781L;
+
+    /** The renderer (<code>null</code> once the text has been generated). */
+    private transient AbstractXYItemRenderer renderer;
+
+    /**
+     * Creates a new entity.
+     *
+     * @param area  the area.
+     * @param dataset  the dataset.
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     * @param renderer  the renderer that supplies the generators.
+     */
+    LazyXYItemEntity(Shape area, XYDataset dataset, int series, int item,
+            AbstractXYItemRenderer renderer) {
+        super(area, dataset, series, item, null, null);
+        this.renderer = renderer;
+    }
+
+    /**
+     * Generates the tool tip and URL text, if that has not been done yet.
+     */
+    private void resolve() {
+        AbstractXYItemRenderer r = this.renderer;
+        if (r == null) {
+            return;
+        }
+        this.renderer = null;
+        int series = getSeriesIndex();
+        int item = getItem();
+        XYToolTipGenerator generator = r.getToolTipGenerator(series, item);
+        if (generator != null) {
+            super.setToolTipText(generator.generateToolTip(getDataset(),
+                    series, item));
+        }
+        XYURLGenerator urlGenerator = r.getURLGenerator();
+        if (urlGenerator != null) {
+            super.setURLText(urlGenerator.generateURL(getDataset(), series,
+                    item));
+        }
+    }
+
+    /**
+     * Returns the tool tip text for the entity, generating it if necessary.
+     *
+     * @return The tool tip text (possibly <code>null</code>).
+     */
+    @Override
+    public String getToolTipText() {
+        resolve();
+        return super.getToolTipText();
+    }
+
+    /**
+     * Sets the tool tip text.
+     *
+     * @param text  the text (<code>null</code> permitted).
+     */
+    @Override
+    public void setToolTipText(String text) {
+        resolve();
+        super.setToolTipText(text);
+    }
+
+    /**
+     * Returns the URL text for the entity, generating it if necessary.
+     *
+     * @return The URL text (possibly <code>null</code>).
+     */
+    @Override
+    public String getURLText() {
+        resolve();
+        return super.getURLText();
+    }
+
+    /**
+     * Sets the URL text.
+     *
+     * @param text the text (<code>null</code> permitted).
+     */
+    @Override
+    public void setURLText(String text) {
+        resolve();
+        super.setURLText(text);
+    }
+
+    /**
+     * Returns a plain {@link XYItemEntity} with the same values, to be
+     * serialized in place of this entity.
+     *
+     * @return The replacement entity.
+     */
+    private Object writeReplace() {
+        return new XYItemEntity(getArea(), getDataset(), getSeriesIndex(),
+                getItem(), getToolTipText(), getURLText());
+    }
+
+}
@@ -0,0 +1,73 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2013, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------------
+ * SeriesIndependentRenderer.java
+ * ------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.renderer.xy;
+
+import org.jfree.chart.plot.XYPlot;
+
+/**
+ * An optional interface for an {@link XYItemRenderer} that can draw the
+ * series of a dataset independently of each other.  When parallel rendering
+ * is switched on for an {@link XYPlot}, the series are only drawn
+ * concurrently (each with its own {@link XYItemRendererState}) if the
+ * renderer implements this interface and {@link #isSeriesIndependent()}
+ * returns <code>true</code>.  To qualify, a renderer must:
+ * <ul>
+ * <li>not carry drawing state from one series to the next (as the stacked
+ *     renderers do);</li>
+ * <li>not keep drawing state in its own fields, since several series are
+ *     drawn by the same renderer at the same time.</li>
+ * </ul>
+ *
+ * @see XYPlot#setParallelRendering(boolean)
+ *
+ * @since 1.0.20
+ */
+public interface SeriesIndependentRenderer {
+
+    /**
+     * Returns <code>true</code> if the renderer draws each series
+     * independently of the others, and <code>false</code> otherwise.
+     *
+     * @return A boolean.
+     */
+    public boolean isSeriesIndependent();
+
+}
@@ -99,6 +99,7 @@
  * 10-May-2012 : Fix findDomainBounds() and findRangeBounds() to account for
  *               non-visible series (DG);
  * 03-Jul-2013 : Use ParamChecks (DG);
+ * 16-Oct-2026 : Implement SeriesIndependentRenderer;
  *
  */
 
@@ -151,7 +152,8 @@ import org.jfree.util.ShapeUtilities;
  * alt="XYBarRendererSample.png">
  */
 public class XYBarRenderer extends AbstractXYItemRenderer
-        implements XYItemRenderer, Cloneable, PublicCloneable, Serializable {
+        implements XYItemRenderer, SeriesIndependentRenderer, Cloneable,
+        PublicCloneable, Serializable {
 
     /** For serialization. */
     private static final long serialVersionUID = 770559577251370036L;
@@ -779,6 +781,21 @@ public class XYBarRenderer extends AbstractXYItemRenderer
         return result;
     }
 
+    /**
+     * Returns <code>true</code>, since this renderer draws each series
+     * independently of the others.  Subclasses can carry state from one
+     * series to the next, so for a subclass this method returns
+     * <code>false</code> unless the subclass overrides it.
+     *
+     * @return A boolean.
+     *
+     * @since 1.0.20
+     */
+    @Override
+    public boolean isSeriesIndependent() {
+        return getClass() == XYBarRenderer.class;
+    }
+
     /**
      * Draws the visual representation of a single data item.
      *
@@ -49,6 +49,7 @@
  *               getLegendItem() (DG);
  * 17-Jun-2008 : Apply legend shape, font and paint attributes (DG);
  * 03-Jul-2013 : Use ParamChecks (DG);
+ * 16-Oct-2026 : Implement SeriesIndependentRenderer;
  *
  */
 
@@ -86,7 +87,7 @@ import org.jfree.util.ShapeUtilities;
  * alt="XYDotRendererSample.png">
  */
 public class XYDotRenderer extends AbstractXYItemRenderer
-        implements XYItemRenderer, PublicCloneable {
+        implements XYItemRenderer, SeriesIndependentRenderer, PublicCloneable {
 
     /** For serialization. */
     private static final long serialVersionUID = -2764344339073566425L;
@@ -205,6 +206,21 @@ public class XYDotRenderer extends AbstractXYItemRenderer
         fireChangeEvent();
     }
 
+    /**
+     * Returns <code>true</code>, since this renderer draws each series
+     * independently of the others.  Subclasses can carry state from one
+     * series to the next, so for a subclass this method returns
+     * <code>false</code> unless the subclass overrides it.
+     *
+     * @return A boolean.
+     *
+     * @since 1.0.20
+     */
+    @Override
+    public boolean isSeriesIndependent() {
+        return getClass() == XYDotRenderer.class;
+    }
+
     /**
      * Draws the visual representation of a single data item.
      *
@@ -43,6 +43,7 @@
  *               Ulrich Voigt (DG);
  * 19-Sep-2008 : Added first and last item indices, based on patch by Greg
  *               Darke (DG);
+ * 16-Oct-2026 : Added seriesPassComplete flag;
  *
  */
 
@@ -88,6 +89,14 @@ public class XYItemRendererState extends RendererState {
      */
     private boolean processVisibleItemsOnly;
 
+    /**
+     * A flag that a renderer can set to tell the plot that it has drawn all
+     * the items for the current series pass.
+     *
+     * @since 1.0.20
+     */
+    private boolean seriesPassComplete;
+
     /**
      * Creates a new state.
      *
@@ -126,6 +135,36 @@ public class XYItemRendererState extends RendererState {
         this.processVisibleItemsOnly = flag;
     }
 
+    /**
+     * Returns the flag that indicates that the renderer has finished drawing
+     * the items for the current series pass, in which case the plot will not
+     * pass the remaining items in the series to the renderer.  The flag is
+     * reset at the start of each series pass.
+     *
+     * @return A boolean.
+     *
+     * @since 1.0.20
+     *
+     * @see #setSeriesPassComplete(boolean)
+     */
+    public boolean isSeriesPassComplete() {
+        return this.seriesPassComplete;
+    }
+
+    /**
+     * Sets the flag that indicates that the renderer has finished drawing the
+     * items for the current series pass.  A renderer that draws a whole
+     * series in one step can set this flag so that the plot does not call
+     * its <code>drawItem()</code> method for every item.
+     *
+     * @param complete  the new flag value.
+     *
+     * @since 1.0.20
+     */
+    public void setSeriesPassComplete(boolean complete) {
+        this.seriesPassComplete = complete;
+    }
+
     /**
      * Returns the first item index (this is updated with each call to
      * {@link #startSeriesPass(XYDataset, int, int, int, int, int)}.
@@ -153,7 +192,8 @@ public class XYItemRendererState extends RendererState {
     /**
      * This method is called by the {@link XYPlot} when it starts a pass
      * through the (visible) items in a series.  The default implementation
-     * records the first and last item indices - override this method to
+     * records the first and last item indices (and clears the
+     * <code>seriesPassComplete</code> flag) - override this method to
      * implement additional specialised behaviour.
      *
      * @param dataset  the dataset.
@@ -171,6 +211,7 @@ public class XYItemRendererState extends RendererState {
             int lastItem, int pass, int passCount) {
         this.firstItemIndex = firstItem;
         this.lastItemIndex = lastItem;
+        this.seriesPassComplete = false;
     }
 
     /**
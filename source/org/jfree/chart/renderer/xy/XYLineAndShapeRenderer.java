@@ -67,6 +67,7 @@
  * 18-May-2009 : Clip lines in drawPrimaryLine() (DG);
  * 05-Jul-2012 : Removed JDK 1.3.1 code (DG);
  * 02-Jul-2013 : Use ParamChecks (DG);
+ * 16-Oct-2026 : Implement SeriesIndependentRenderer;
  *
  */
 
@@ -114,7 +115,8 @@ import org.jfree.util.ShapeUtilities;
  *
  */
 public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
-        implements XYItemRenderer, Cloneable, PublicCloneable, Serializable {
+        implements XYItemRenderer, SeriesIndependentRenderer, Cloneable,
+        PublicCloneable, Serializable {
 
     /** For serialization. */
     private static final long serialVersionUID = -7435246895986425885L;
@@ -862,6 +864,21 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
         return new State(info);
     }
 
+    /**
+     * Returns <code>true</code>, since this renderer draws each series
+     * independently of the others.  Subclasses can carry state from one
+     * series to the next, so for a subclass this method returns
+     * <code>false</code> unless the subclass overrides it.
+     *
+     * @return A boolean.
+     *
+     * @since 1.0.20
+     */
+    @Override
+    public boolean isSeriesIndependent() {
+        return getClass() == XYLineAndShapeRenderer.class;
+    }
+
     /**
      * Draws the visual representation of a single data item.
      *
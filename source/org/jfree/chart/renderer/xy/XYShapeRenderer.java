@@ -40,6 +40,7 @@
  * 16-Feb-2010 : Added findZBounds() (patch 2952086) (MH);
  * 19-Oct-2011 : Fixed NPE in findRangeBounds() (bug 3026341) (DG);
  * 03-Jul-2013 : Use ParamChecks (DG);
+ * 16-Oct-2026 : Implement SeriesIndependentRenderer;
  *
  */
 
@@ -97,7 +98,8 @@ import org.jfree.util.ShapeUtilities;
  * @since 1.0.11
  */
 public class XYShapeRenderer extends AbstractXYItemRenderer
-        implements XYItemRenderer, Cloneable, Serializable {
+        implements XYItemRenderer, SeriesIndependentRenderer, Cloneable,
+        Serializable {
 
     /** Auto generated serial version id. */
     private static final long serialVersionUID = 8320552104211173221L;
@@ -406,6 +408,21 @@ public class XYShapeRenderer extends AbstractXYItemRenderer
         return 2;
     }
 
+    /**
+     * Returns <code>true</code>, since this renderer draws each series
+     * independently of the others.  Subclasses can carry state from one
+     * series to the next, so for a subclass this method returns
+     * <code>false</code> unless the subclass overrides it.
+     *
+     * @return A boolean.
+     *
+     * @since 1.0.20
+     */
+    @Override
+    public boolean isSeriesIndependent() {
+        return getClass() == XYShapeRenderer.class;
+    }
+
     /**
      * Draws the block representing the specified item.
      *
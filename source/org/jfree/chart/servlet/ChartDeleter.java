@@ -38,6 +38,7 @@
  * 17-Oct-2002 : Fixed errors reported by Checkstyle (DG);
  * ------------- JFREECHART 1.0.x ---------------------------------------------
  * 02-Feb-2007 : Removed author tags all over JFreeChart sources (DG);
+ * 16-Oct-2026 : Also remove charts from the ChartImageCache;
  *
  */
 
@@ -52,8 +53,8 @@ import javax.servlet.http.HttpSessionBindingEvent;
 import javax.servlet.http.HttpSessionBindingListener;
 
 /**
- * Used for deleting charts from the temporary directory when the users session
- * expires.
+ * Used for deleting charts from the temporary directory and the
+ * {@link ChartImageCache} when the users session expires.
  */
 public class ChartDeleter implements HttpSessionBindingListener, Serializable {
 
@@ -102,15 +103,21 @@ public class ChartDeleter implements HttpSessionBindingListener, Serializable {
     /**
      * When this object is unbound from the session (including upon session
      * expiry) the files that have been added to the ArrayList are iterated
-     * and deleted.
+     * and deleted, and released from the image cache (an image that is
+     * shared with other sessions stays in the cache until they release it
+     * too).
      *
      * @param event  the session unbind event.
      */
     @Override
     public void valueUnbound(HttpSessionBindingEvent event) {
+        ChartImageCache cache = ServletUtilities.getImageCache();
         Iterator iter = this.chartNames.listIterator();
         while (iter.hasNext()) {
             String filename = (String) iter.next();
+            if (cache != null) {
+                cache.release(filename);
+            }
             File file = new File(
                 System.getProperty("java.io.tmpdir"), filename
             );
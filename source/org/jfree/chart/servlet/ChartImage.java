@@ -0,0 +1,141 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------
+ * ChartImage.java
+ * ---------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.servlet;
+
+import java.util.zip.CRC32;
+
+import org.jfree.chart.util.ParamChecks;
+
+/**
+ * An encoded chart image held by a {@link ChartImageCache}.  Instances are
+ * immutable, the entity tag is derived from the image content.
+ *
+ * @since 1.0.20
+ */
+public class ChartImage {
+
+    /** The name under which the image is stored. */
+    private String name;
+
+    /** The encoded image. */
+    private byte[] data;
+
+    /** The MIME type of the image. */
+    private String mimeType;
+
+    /** The entity tag (for HTTP caching). */
+    private String etag;
+
+    /** The time the image was created. */
+    private long lastModified;
+
+    /**
+     * Creates a new image.  The byte array is not copied, so the caller
+     * should not modify it afterwards.
+     *
+     * @param name  the name (<code>null</code> not permitted).
+     * @param data  the encoded image (<code>null</code> not permitted).
+     * @param mimeType  the MIME type (<code>null</code> not permitted).
+     * @param lastModified  the creation time (in milliseconds).
+     */
+    public ChartImage(String name, byte[] data, String mimeType,
+            long lastModified) {
+        ParamChecks.nullNotPermitted(name, "name");
+        ParamChecks.nullNotPermitted(data, "data");
+        ParamChecks.nullNotPermitted(mimeType, "mimeType");
+        this.name = name;
+        this.data = data;
+        this.mimeType = mimeType;
+        this.lastModified = lastModified;
+        CRC32 crc = new CRC32();
+        crc.update(data, 0, data.length);
+        this.etag = "\"" + Long.toHexString(crc.getValue()) + "-"
+                + Integer.toHexString(data.length) + "\"";
+    }
+
+    /**
+     * Returns the name under which the image is stored.
+     *
+     * @return The name (never <code>null</code>).
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Returns the encoded image.  The array is not copied, so callers must
+     * not modify it.
+     *
+     * @return The image data (never <code>null</code>).
+     */
+    public byte[] getData() {
+        return this.data;
+    }
+
+    /**
+     * Returns the MIME type of the image.
+     *
+     * @return The MIME type (never <code>null</code>).
+     */
+    public String getMimeType() {
+        return this.mimeType;
+    }
+
+    /**
+     * Returns the entity tag for the image, including the surrounding
+     * quotes, ready to be sent in an <code>ETag</code> header.
+     *
+     * @return The entity tag (never <code>null</code>).
+     */
+    public String getETag() {
+        return this.etag;
+    }
+
+    /**
+     * Returns the time the image was created.
+     *
+     * @return The time (in milliseconds).
+     */
+    public long getLastModified() {
+        return this.lastModified;
+    }
+
+}
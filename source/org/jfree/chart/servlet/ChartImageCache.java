@@ -0,0 +1,626 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------
+ * ChartImageCache.java
+ * --------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.servlet;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+import org.jfree.chart.util.ParamChecks;
+
+/**
+ * A size-bounded in-memory store for chart images generated by
+ * {@link ServletUtilities} and served by {@link DisplayChart}.  Images that
+ * have not been requested for longer than the time-to-live are discarded.
+ * When the total size exceeds the limit, the least recently used images are
+ * discarded, or written to the spill directory if one has been set.
+ * <P>
+ * The {@link #render(Object, Callable)} method can be used to share the
+ * result between identical requests that are rendering at the same time.
+ * An image that is shared by several sessions can be reference counted with
+ * {@link #acquire(String)} and {@link #release(String)}, so that it is only
+ * removed when the last session releases it.
+ * <P>
+ * All methods are thread-safe.
+ *
+ * @since 1.0.20
+ */
+public class ChartImageCache {
+
+    /** The default size limit (32MB). */
+    public static final long DEFAULT_MAX_BYTES = 32L * 1024 * 1024;
+
+    /** The default time-to-live (30 minutes). */
+    public static final long DEFAULT_TIME_TO_LIVE = 30L * 60 * 1000;
+
+    /** The maximum number of bytes held in memory. */
+    private long maxBytes;
+
+    /** The time (in milliseconds) an unused image is kept. */
+    private long timeToLive;
+
+    /** The directory for images evicted from memory (may be null). */
+    private File spillDirectory;
+
+    /** The entries (name to Entry), in access order. */
+    private LinkedHashMap entries;
+
+    /** The number of bytes held in memory. */
+    private long byteCount;
+
+    /** The renderings in progress (request key to FutureTask). */
+    private Map pending;
+
+    /**
+     * Creates a new cache with the default size limit and time-to-live and
+     * no spill directory.
+     */
+    public ChartImageCache() {
+        this(DEFAULT_MAX_BYTES, DEFAULT_TIME_TO_LIVE, null);
+    }
+
+    /**
+     * Creates a new cache.
+     *
+     * @param maxBytes  the maximum number of bytes held in memory.
+     * @param timeToLive  the time (in milliseconds) an unused image is kept.
+     * @param spillDirectory  the directory for images evicted from memory
+     *                        (<code>null</code> permitted, in which case
+     *                        evicted images are discarded).
+     */
+    public ChartImageCache(long maxBytes, long timeToLive,
+            File spillDirectory) {
+        if (maxBytes < 0) {
+            throw new IllegalArgumentException("Negative 'maxBytes'.");
+        }
+        if (timeToLive <= 0) {
+            throw new IllegalArgumentException("Requires 'timeToLive' > 0.");
+        }
+        this.maxBytes = maxBytes;
+        this.timeToLive = timeToLive;
+        this.spillDirectory = spillDirectory;
+        this.entries = new LinkedHashMap(16, 0.75f, true);
+        this.byteCount = 0L;
+        this.pending = new HashMap();
+    }
+
+    /**
+     * Returns the maximum number of bytes held in memory.
+     *
+     * @return The maximum number of bytes.
+     */
+    public synchronized long getMaxBytes() {
+        return this.maxBytes;
+    }
+
+    /**
+     * Sets the maximum number of bytes held in memory, evicting images if
+     * necessary.
+     *
+     * @param maxBytes  the maximum number of bytes.
+     */
+    public void setMaxBytes(long maxBytes) {
+        if (maxBytes < 0) {
+            throw new IllegalArgumentException("Negative 'maxBytes'.");
+        }
+        List spilled;
+        synchronized (this) {
+            this.maxBytes = maxBytes;
+            spilled = evict();
+        }
+        spill(spilled);
+    }
+
+    /**
+     * Returns the time (in milliseconds) an unused image is kept.
+     *
+     * @return The time-to-live.
+     */
+    public synchronized long getTimeToLive() {
+        return this.timeToLive;
+    }
+
+    /**
+     * Sets the time (in milliseconds) an unused image is kept.
+     *
+     * @param timeToLive  the time-to-live (must be positive).
+     */
+    public synchronized void setTimeToLive(long timeToLive) {
+        if (timeToLive <= 0) {
+            throw new IllegalArgumentException("Requires 'timeToLive' > 0.");
+        }
+        this.timeToLive = timeToLive;
+    }
+
+    /**
+     * Returns the directory for images evicted from memory.
+     *
+     * @return The directory (possibly <code>null</code>).
+     */
+    public synchronized File getSpillDirectory() {
+        return this.spillDirectory;
+    }
+
+    /**
+     * Sets the directory for images evicted from memory.  Images already
+     * written to the previous directory are still found there.
+     *
+     * @param directory  the directory (<code>null</code> permitted).
+     */
+    public synchronized void setSpillDirectory(File directory) {
+        this.spillDirectory = directory;
+    }
+
+    /**
+     * Returns the number of bytes currently held in memory.
+     *
+     * @return The number of bytes.
+     */
+    public synchronized long getByteCount() {
+        return this.byteCount;
+    }
+
+    /**
+     * Returns the number of images in the cache, including those written to
+     * the spill directory.
+     *
+     * @return The image count.
+     */
+    public synchronized int getImageCount() {
+        purge(System.currentTimeMillis());
+        return this.entries.size();
+    }
+
+    /**
+     * Adds an image to the cache, replacing any image with the same name.
+     *
+     * @param name  the name (<code>null</code> not permitted).
+     * @param data  the encoded image (<code>null</code> not permitted).
+     * @param mimeType  the MIME type (<code>null</code> not permitted).
+     *
+     * @return The image.
+     */
+    public ChartImage put(String name, byte[] data, String mimeType) {
+        long now = System.currentTimeMillis();
+        ChartImage image = new ChartImage(name, data, mimeType, now);
+        List spilled;
+        synchronized (this) {
+            purge(now);
+            Entry old = (Entry) this.entries.remove(name);
+            if (old != null) {
+                discard(old);
+            }
+            Entry entry = new Entry(name, mimeType, now);
+            entry.image = image;
+            entry.lastAccess = now;
+            this.entries.put(name, entry);
+            this.byteCount += data.length;
+            spilled = evict();
+        }
+        spill(spilled);
+        return image;
+    }
+
+    /**
+     * Returns the image with the specified name, reading it back from the
+     * spill directory if necessary.
+     *
+     * @param name  the name (<code>null</code> permitted).
+     *
+     * @return The image, or <code>null</code> if there is no image with the
+     *     specified name.
+     *
+     * @throws IOException if a spilled image cannot be read.
+     */
+    public ChartImage get(String name) throws IOException {
+        File file;
+        Entry entry;
+        synchronized (this) {
+            long now = System.currentTimeMillis();
+            purge(now);
+            entry = (Entry) this.entries.get(name);
+            if (entry == null) {
+                return null;
+            }
+            entry.lastAccess = now;
+            if (entry.image != null) {
+                return entry.image;
+            }
+            file = entry.file;
+        }
+        // the file is read without holding the lock, so it may have been
+        // removed in the meantime
+        byte[] data = new byte[(int) file.length()];
+        DataInputStream in;
+        try {
+            in = new DataInputStream(new BufferedInputStream(
+                    new FileInputStream(file)));
+        }
+        catch (FileNotFoundException e) {
+            return null;
+        }
+        try {
+            in.readFully(data);
+        }
+        finally {
+            in.close();
+        }
+        return new ChartImage(name, data, entry.mimeType, entry.created);
+    }
+
+    /**
+     * Removes an image from the cache.
+     *
+     * @param name  the name (<code>null</code> permitted).
+     *
+     * @return A boolean indicating whether the image was in the cache.
+     */
+    public synchronized boolean remove(String name) {
+        Entry entry = (Entry) this.entries.remove(name);
+        if (entry == null) {
+            return false;
+        }
+        discard(entry);
+        return true;
+    }
+
+    /**
+     * Records that one more session uses an image, so that
+     * {@link #release(String)} only removes the image when every session
+     * that acquired it has released it.
+     *
+     * @param name  the name (<code>null</code> permitted).
+     *
+     * @return A boolean indicating whether the image was in the cache.
+     */
+    public synchronized boolean acquire(String name) {
+        Entry entry = (Entry) this.entries.get(name);
+        if (entry == null) {
+            return false;
+        }
+        entry.references++;
+        return true;
+    }
+
+    /**
+     * Releases an image that is no longer used by a session.  The image is
+     * removed unless other sessions have acquired it and not yet released
+     * it.  For an image that was never acquired, this is the same as
+     * {@link #remove(String)}.
+     *
+     * @param name  the name (<code>null</code> permitted).
+     *
+     * @return A boolean indicating whether the image was removed.
+     */
+    public synchronized boolean release(String name) {
+        Entry entry = (Entry) this.entries.get(name);
+        if (entry == null) {
+            return false;
+        }
+        if (entry.references > 1) {
+            entry.references--;
+            return false;
+        }
+        this.entries.remove(name);
+        discard(entry);
+        return true;
+    }
+
+    /**
+     * Removes all the images from the cache.
+     */
+    public synchronized void clear() {
+        Iterator iterator = this.entries.values().iterator();
+        while (iterator.hasNext()) {
+            discard((Entry) iterator.next());
+        }
+        this.entries.clear();
+    }
+
+    /**
+     * Runs a rendering task, unless a task for an equal request key is
+     * already running, in which case this method waits for that task and
+     * returns its result.  The task should add its image to this cache with
+     * {@link #put(String, byte[], String)}.
+     *
+     * @param key  the request key (<code>null</code> not permitted).
+     * @param task  the task, which must return a {@link ChartImage}
+     *              (<code>null</code> not permitted).
+     *
+     * @return The image returned by the task.
+     *
+     * @throws IOException if the task throws an <code>IOException</code>.
+     */
+    public ChartImage render(Object key, Callable task) throws IOException {
+        ParamChecks.nullNotPermitted(key, "key");
+        ParamChecks.nullNotPermitted(task, "task");
+        FutureTask future;
+        boolean owner = false;
+        synchronized (this.pending) {
+            future = (FutureTask) this.pending.get(key);
+            if (future == null) {
+                future = new FutureTask(task);
+                this.pending.put(key, future);
+                owner = true;
+            }
+        }
+        if (owner) {
+            try {
+                future.run();
+            }
+            finally {
+                synchronized (this.pending) {
+                    this.pending.remove(key);
+                }
+            }
+        }
+        try {
+            return (ChartImage) future.get();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            IOException result = new IOException("Interrupted.");
+            result.initCause(e);
+            throw result;
+        }
+        catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            IOException result = new IOException(String.valueOf(cause));
+            result.initCause(cause);
+            throw result;
+        }
+    }
+
+    /**
+     * Removes the entries that have not been used within the time-to-live.
+     * Since the map is kept in access order, this stops at the first entry
+     * that is still live.  Call only while holding the lock.
+     *
+     * @param now  the current time.
+     */
+    private void purge(long now) {
+        Iterator iterator = this.entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = (Entry) iterator.next();
+            if (now - entry.lastAccess <= this.timeToLive) {
+                break;
+            }
+            iterator.remove();
+            discard(entry);
+        }
+    }
+
+    /**
+     * Evicts the least recently used images from memory until the size limit
+     * is met.  If there is a spill directory, the evicted entries keep their
+     * images until {@link #spill(List)} has written them (without holding
+     * the lock), but they no longer count towards the size limit.  Call only
+     * while holding the lock.
+     *
+     * @return The entries to write to the spill directory (possibly
+     *     <code>null</code>).
+     */
+    private List evict() {
+        List spilled = null;
+        Iterator iterator = this.entries.values().iterator();
+        while (this.byteCount > this.maxBytes && iterator.hasNext()) {
+            Entry entry = (Entry) iterator.next();
+            if (entry.image == null || entry.spillDirectory != null) {
+                continue;
+            }
+            this.byteCount -= entry.image.getData().length;
+            if (this.spillDirectory != null) {
+                entry.spillDirectory = this.spillDirectory;
+                if (spilled == null) {
+                    spilled = new ArrayList();
+                }
+                spilled.add(entry);
+            }
+            else {
+                iterator.remove();
+                entry.image = null;
+            }
+        }
+        return spilled;
+    }
+
+    /**
+     * Writes the images for entries returned by {@link #evict()} to the
+     * spill directory.  Call without holding the lock.  An entry that was
+     * removed while its image was being written has its file deleted, and
+     * an entry whose image could not be written is removed.
+     *
+     * @param spilled  the entries (<code>null</code> permitted).
+     */
+    private void spill(List spilled) {
+        if (spilled == null) {
+            return;
+        }
+        for (int i = 0; i < spilled.size(); i++) {
+            Entry entry = (Entry) spilled.get(i);
+            File file = write(entry.spillDirectory, entry.image.getData());
+            synchronized (this) {
+                entry.spillDirectory = null;
+                boolean live = this.entries.get(entry.name) == entry;
+                if (file != null && live) {
+                    entry.file = file;
+                    entry.image = null;
+                }
+                else {
+                    if (file != null) {
+                        file.delete();
+                    }
+                    if (live) {
+                        this.entries.remove(entry.name);
+                    }
+                    entry.image = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes data to a new file in a directory.
+     *
+     * @param directory  the directory.
+     * @param data  the data.
+     *
+     * @return The file, or <code>null</code> if the data could not be
+     *     written.
+     */
+    private static File write(File directory, byte[] data) {
+        File file = null;
+        try {
+            directory.mkdirs();
+            file = File.createTempFile("jfreechart-cache-", ".tmp",
+                    directory);
+            OutputStream out = new FileOutputStream(file);
+            try {
+                out.write(data);
+            }
+            finally {
+                out.close();
+            }
+            return file;
+        }
+        catch (IOException e) {
+            if (file != null) {
+                file.delete();
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Releases the resources held by an entry that has been removed from the
+     * map.  Call only while holding the lock.
+     *
+     * @param entry  the entry.
+     */
+    private void discard(Entry entry) {
+        if (entry.spillDirectory != null) {
+            // the image no longer counts towards the size limit, and spill()
+            // deletes the file once it has been written
+            return;
+        }
+        if (entry.image != null) {
+            this.byteCount -= entry.image.getData().length;
+            entry.image = null;
+        }
+        if (entry.file != null) {
+            entry.file.delete();
+            entry.file = null;
+        }
+    }
+
+    /**
+     * A cache entry.  Exactly one of the image and the file is set while the
+     * entry is in the map, except while the image is being written to the
+     * spill directory.
+     */
+    private static class Entry {
+
+        /** The name. */
+        String name;
+
+        /** The MIME type. */
+        String mimeType;
+
+        /** The time the image was created. */
+        long created;
+
+        /** The time the image was last requested. */
+        long lastAccess;
+
+        /** The image, if held in memory. */
+        ChartImage image;
+
+        /** The spill file, if the image is not held in memory. */
+        File file;
+
+        /**
+         * The directory the image is being written to (<code>null</code>
+         * unless the image is being spilled).
+         */
+        File spillDirectory;
+
+        /** The number of sessions that have acquired the image. */
+        int references;
+
+        /**
+         * Creates a new entry.
+         *
+         * @param name  the name.
+         * @param mimeType  the MIME type.
+         * @param created  the creation time.
+         */
+        Entry(String name, String mimeType, long created) {
+            this.name = name;
+            this.mimeType = mimeType;
+            this.created = created;
+        }
+
+    }
+
+}
@@ -40,6 +40,7 @@
  * ------------- JFREECHART 1.0.x ---------------------------------------------
  * 02-Feb-2007 : Removed author tags all over JFreeChart sources (DG);
  * 03-Dec-2011 : Fixed path disclosure vulnerability - see bug 2879650 (DG);
+ * 16-Oct-2026 : Serve images from the ChartImageCache, with ETag support;
  * 
  */
 
@@ -55,9 +56,10 @@ import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.HttpSession;
 
 /**
- * Servlet used for streaming charts to the client browser from the temporary
- * directory.  You need to add this servlet and mapping to your deployment
- * descriptor (web.xml) in order to get it to work.  The syntax is as follows:
+ * Servlet used for streaming charts to the client browser from the
+ * {@link ChartImageCache} or the temporary directory.  You need to add this
+ * servlet and mapping to your deployment descriptor (web.xml) in order to
+ * get it to work.  The syntax is as follows:
  * 
  * &lt;xmp&gt;
  * &lt;servlet&gt;
@@ -114,9 +116,14 @@ public class DisplayChart extends HttpServlet {
         //  This is to prevent access to the rest of the file system
         filename = ServletUtilities.searchReplace(filename, "..", "");
 
-        //  Check the file exists
+        //  Check the image is cached or the file exists
+        ChartImageCache cache = ServletUtilities.getImageCache();
+        ChartImage image = null;
+        if (cache != null) {
+            image = cache.get(filename);
+        }
         File file = new File(System.getProperty("java.io.tmpdir"), filename);
-        if (!file.exists()) {
+        if (image == null && !file.exists()) {
             throw new ServletException(
                     "Unable to display the chart with the filename '" 
                     + filename + "'.");
@@ -145,9 +152,17 @@ public class DisplayChart extends HttpServlet {
 
         if (isChartInUserList || isChartPublic || isOneTimeChart) {
             //  Serve it up
-            ServletUtilities.sendTempFile(file, response);
-            if (isOneTimeChart) {
-                file.delete();
+            if (image != null) {
+                ServletUtilities.sendChartImage(image, request, response);
+                if (isOneTimeChart) {
+                    cache.remove(filename);
+                }
+            }
+            else {
+                ServletUtilities.sendTempFile(file, response);
+                if (isOneTimeChart) {
+                    file.delete();
+                }
             }
         }
         else {
@@ -52,6 +52,8 @@
  * 13-Sep-2006 : Format date in response header in English, not locale default
  *               (see bug 1557141) (DG);
  * 03-Jul-2013 : Use ParamChecks (DG);
+ * 16-Oct-2026 : Store charts in a ChartImageCache rather than temporary
+ *               files, added ETag support and shared renderings;
  *
  */
 
@@ -59,15 +61,19 @@ package org.jfree.chart.servlet;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.security.SecureRandom;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.Locale;
 import java.util.TimeZone;
+import java.util.concurrent.Callable;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.HttpSession;
 
@@ -77,10 +83,19 @@ import org.jfree.chart.JFreeChart;
 import org.jfree.chart.util.ParamChecks;
 
 /**
- * Utility class used for servlet related JFreeChart operations.
+ * Utility class used for servlet related JFreeChart operations.  By default,
+ * charts are stored in memory in a {@link ChartImageCache}; set the cache to
+ * <code>null</code> to store them as files in the temporary directory
+ * instead.
  */
 public class ServletUtilities {
 
+    /** The image cache (if null, charts are saved as temporary files). */
+    private static ChartImageCache imageCache = new ChartImageCache();
+
+    /** Used to generate the names of cached images. */
+    private static final SecureRandom RANDOM = new SecureRandom();
+
     /** The filename prefix. */
     private static String tempFilePrefix = "jfreechart-";
 
@@ -127,6 +142,29 @@ public class ServletUtilities {
         ServletUtilities.tempOneTimeFilePrefix = prefix;
     }
 
+    /**
+     * Returns the cache in which charts are stored.
+     *
+     * @return The cache (possibly <code>null</code>).
+     *
+     * @since 1.0.20
+     */
+    public static ChartImageCache getImageCache() {
+        return ServletUtilities.imageCache;
+    }
+
+    /**
+     * Sets the cache in which charts are stored.  If <code>null</code>,
+     * charts are saved as files in the temporary directory.
+     *
+     * @param cache  the cache (<code>null</code> permitted).
+     *
+     * @since 1.0.20
+     */
+    public static void setImageCache(ChartImageCache cache) {
+        ServletUtilities.imageCache = cache;
+    }
+
     /**
      * Saves the chart as a PNG format file in the temporary directory.
      *
@@ -173,11 +211,22 @@ public class ServletUtilities {
             ChartRenderingInfo info, HttpSession session) throws IOException {
 
         ParamChecks.nullNotPermitted(chart, "chart");
-        ServletUtilities.createTempDir();
         String prefix = ServletUtilities.tempFilePrefix;
         if (session == null) {
             prefix = ServletUtilities.tempOneTimeFilePrefix;
         }
+        ChartImageCache cache = ServletUtilities.imageCache;
+        if (cache != null) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ChartUtilities.writeChartAsPNG(out, chart, width, height, info);
+            String name = createImageName(prefix, ".png");
+            cache.put(name, out.toByteArray(), "image/png");
+            if (session != null) {
+                ServletUtilities.registerChartForDeletion(name, session);
+            }
+            return name;
+        }
+        ServletUtilities.createTempDir();
         File tempFile = File.createTempFile(prefix, ".png",
                 new File(System.getProperty("java.io.tmpdir")));
         ChartUtilities.saveChartAsPNG(tempFile, chart, width, height, info);
@@ -245,11 +294,22 @@ public class ServletUtilities {
             throws IOException {
 
         ParamChecks.nullNotPermitted(chart, "chart");
-        ServletUtilities.createTempDir();
         String prefix = ServletUtilities.tempFilePrefix;
         if (session == null) {
             prefix = ServletUtilities.tempOneTimeFilePrefix;
         }
+        ChartImageCache cache = ServletUtilities.imageCache;
+        if (cache != null) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ChartUtilities.writeChartAsJPEG(out, chart, width, height, info);
+            String name = createImageName(prefix, ".jpeg");
+            cache.put(name, out.toByteArray(), "image/jpeg");
+            if (session != null) {
+                ServletUtilities.registerChartForDeletion(name, session);
+            }
+            return name;
+        }
+        ServletUtilities.createTempDir();
         File tempFile = File.createTempFile(prefix, ".jpeg",
                 new File(System.getProperty("java.io.tmpdir")));
         ChartUtilities.saveChartAsJPEG(tempFile, chart, width, height, info);
@@ -260,6 +320,73 @@ public class ServletUtilities {
 
     }
 
+    /**
+     * Saves the chart as a PNG image, sharing the result between identical
+     * requests.  If another thread is already rendering a chart for an equal
+     * request key, this method waits for that rendering and returns the same
+     * name instead of rendering the chart again.  The image is registered
+     * with each session that requests it and is not a "one time" chart.  It
+     * is reference counted in the cache, so it is only removed when the last
+     * of those sessions expires.
+     *
+     * @param requestKey  a key that identifies the chart request, for example
+     *                    a string built from the request parameters
+     *                    (<code>null</code> not permitted).
+     * @param chart  the chart (<code>null</code> not permitted).
+     * @param width  the width of the chart.
+     * @param height  the height of the chart.
+     * @param session  the HttpSession of the client (<code>null</code> not
+     *                 permitted).
+     *
+     * @return The name of the chart image.
+     *
+     * @throws IOException if there is a problem saving the image.
+     *
+     * @since 1.0.20
+     */
+    public static String saveSharedChartAsPNG(Object requestKey,
+            final JFreeChart chart, final int width, final int height,
+            HttpSession session) throws IOException {
+
+        ParamChecks.nullNotPermitted(requestKey, "requestKey");
+        ParamChecks.nullNotPermitted(chart, "chart");
+        ParamChecks.nullNotPermitted(session, "session");
+        final ChartImageCache cache = ServletUtilities.imageCache;
+        if (cache == null) {
+            return saveChartAsPNG(chart, width, height, null, session);
+        }
+        ChartImage image = cache.render(requestKey, new Callable() {
+            @Override
+            public Object call() throws IOException {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                ChartUtilities.writeChartAsPNG(out, chart, width, height);
+                String name = createImageName(
+                        ServletUtilities.tempFilePrefix, ".png");
+                return cache.put(name, out.toByteArray(), "image/png");
+            }
+        });
+        // the first session to expire must not remove the image for the
+        // other sessions that share it
+        cache.acquire(image.getName());
+        ServletUtilities.registerChartForDeletion(image.getName(), session);
+        return image.getName();
+
+    }
+
+    /**
+     * Creates an unguessable name for a cached image.
+     *
+     * @param prefix  the prefix.
+     * @param suffix  the suffix.
+     *
+     * @return The name.
+     */
+    private static String createImageName(String prefix, String suffix) {
+        return prefix + Long.toHexString(RANDOM.nextLong() & Long.MAX_VALUE)
+                + Long.toHexString(RANDOM.nextLong() & Long.MAX_VALUE)
+                + suffix;
+    }
+
     /**
      * Creates the temporary directory if it does not exist.  Throws a
      * <code>RuntimeException</code> if the temporary directory is
@@ -293,6 +420,21 @@ public class ServletUtilities {
      */
     protected static void registerChartForDeletion(File tempFile,
             HttpSession session) {
+        registerChartForDeletion(tempFile.getName(), session);
+    }
+
+    /**
+     * Adds a {@link ChartDeleter} object to the session object with the name
+     * <code>JFreeChart_Deleter</code> if there is not already one bound to the
+     * session and adds the chart name to the list of charts to be deleted.
+     *
+     * @param name  the name of the chart file or cached image.
+     * @param session  the HTTP session of the client.
+     *
+     * @since 1.0.20
+     */
+    protected static void registerChartForDeletion(String name,
+            HttpSession session) {
 
         //  Add chart to deletion list in session
         if (session != null) {
@@ -302,7 +444,7 @@ public class ServletUtilities {
                 chartDeleter = new ChartDeleter();
                 session.setAttribute("JFreeChart_Deleter", chartDeleter);
             }
-            chartDeleter.addChart(tempFile.getName());
+            chartDeleter.addChart(name);
         }
         else {
             System.out.println("Session is null - chart will not be deleted");
@@ -372,11 +514,8 @@ public class ServletUtilities {
                 response.setHeader("Content-Type", mimeType);
             }
             response.setHeader("Content-Length", String.valueOf(file.length()));
-            SimpleDateFormat sdf = new SimpleDateFormat(
-                    "EEE, dd MMM yyyy HH:mm:ss z", Locale.ENGLISH);
-            sdf.setTimeZone(TimeZone.getTimeZone("GMT"));
             response.setHeader("Last-Modified",
-                    sdf.format(new Date(file.lastModified())));
+                    formatDate(file.lastModified()));
 
             BufferedOutputStream bos = new BufferedOutputStream(
                     response.getOutputStream());
@@ -400,6 +539,89 @@ public class ServletUtilities {
         }
     }
 
+    /**
+     * Sends a cached chart image to the HTTP response.  The response carries
+     * an <code>ETag</code> header, and if the request has an
+     * <code>If-None-Match</code> header that matches it, only the status
+     * <code>304 (Not Modified)</code> is sent.
+     *
+     * @param image  the image (<code>null</code> not permitted).
+     * @param request  the HTTP request (<code>null</code> not permitted).
+     * @param response  the HTTP response (<code>null</code> not permitted).
+     *
+     * @throws IOException if there is an I/O problem.
+     *
+     * @since 1.0.20
+     */
+    public static void sendChartImage(ChartImage image,
+            HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+
+        ParamChecks.nullNotPermitted(image, "image");
+        ParamChecks.nullNotPermitted(request, "request");
+        ParamChecks.nullNotPermitted(response, "response");
+        response.setHeader("ETag", image.getETag());
+        response.setHeader("Last-Modified",
+                formatDate(image.getLastModified()));
+        if (isETagMatched(request.getHeader("If-None-Match"),
+                image.getETag())) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        byte[] data = image.getData();
+        response.setHeader("Content-Type", image.getMimeType());
+        response.setHeader("Content-Length", String.valueOf(data.length));
+        BufferedOutputStream bos = new BufferedOutputStream(
+                response.getOutputStream());
+        bos.write(data);
+        bos.flush();
+        bos.close();
+    }
+
+    /**
+     * Returns <code>true</code> if the value of an <code>If-None-Match</code>
+     * header matches an entity tag.  Weak tags are compared using the weak
+     * comparison, as required for <code>If-None-Match</code>.
+     *
+     * @param header  the header value (<code>null</code> permitted).
+     * @param etag  the entity tag, including quotes.
+     *
+     * @return A boolean.
+     */
+    static boolean isETagMatched(String header, String etag) {
+        if (header == null) {
+            return false;
+        }
+        String[] tags = header.split(",");
+        for (int i = 0; i < tags.length; i++) {
+            String tag = tags[i].trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Formats a time as an HTTP date.
+     *
+     * @param time  the time (in milliseconds).
+     *
+     * @return The formatted date.
+     */
+    private static String formatDate(long time) {
+        SimpleDateFormat sdf = new SimpleDateFormat(
+                "EEE, dd MMM yyyy HH:mm:ss z", Locale.ENGLISH);
+        sdf.setTimeZone(TimeZone.getTimeZone("GMT"));
+        return sdf.format(new Date(time));
+    }
+
     /**
      * Perform a search/replace operation on a String
      * There are String methods to do this since (JDK 1.4)
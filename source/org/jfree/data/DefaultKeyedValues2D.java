@@ -53,13 +53,18 @@
  * 23-Nov-2007 : Added argument checks to removeRow(Comparable) to make it
  *               consistent with the removeRow(Comparable) method (DG);
  * 03-Jul-2013 : Use ParamChecks (DG);
+ * 16-Oct-2026 : Added hash indices for the row and column keys, and
+ *               setValues() method for bulk loading;
  * 
  */
 
 package org.jfree.data;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import org.jfree.chart.util.ParamChecks;
@@ -90,6 +95,15 @@ public class DefaultKeyedValues2D implements KeyedValues2D, PublicCloneable,
     /** If the row keys should be sorted by their comparable order. */
     private boolean sortRowKeys;
 
+    /**
+     * Maps row keys to row indices (<code>null</code> when the row keys are
+     * sorted, since a binary search is used in that case).
+     */
+    private transient HashMap rowIndexMap;
+
+    /** Maps column keys to column indices. */
+    private transient HashMap columnIndexMap;
+
     /**
      * Creates a new instance (initially empty).
      */
@@ -107,6 +121,8 @@ public class DefaultKeyedValues2D implements KeyedValues2D, PublicCloneable,
         this.columnKeys = new java.util.ArrayList();
         this.rows = new java.util.ArrayList();
         this.sortRowKeys = sortRowKeys;
+        rebuildRowIndex();
+        rebuildColumnIndex();
     }
 
     /**
@@ -191,7 +207,8 @@ public class DefaultKeyedValues2D implements KeyedValues2D, PublicCloneable,
             return Collections.binarySearch(this.rowKeys, key);
         }
         else {
-            return this.rowKeys.indexOf(key);
+            Integer i = (Integer) this.rowIndexMap.get(key);
+            return (i != null ? i.intValue() : -1);
         }
     }
 
@@ -236,7 +253,8 @@ public class DefaultKeyedValues2D implements KeyedValues2D, PublicCloneable,
     @Override
     public int getColumnIndex(Comparable key) {
         ParamChecks.nullNotPermitted(key, "key");
-        return this.columnKeys.indexOf(key);
+        Integer i = (Integer) this.columnIndexMap.get(key);
+        return (i != null ? i.intValue() : -1);
     }
 
     /**
@@ -270,7 +288,7 @@ public class DefaultKeyedValues2D implements KeyedValues2D, PublicCloneable,
         ParamChecks.nullNotPermitted(columnKey, "columnKey");
 
         // check that the column key is defined in the 2D structure
-        if (!(this.columnKeys.contains(columnKey))) {
+        if (!this.columnIndexMap.containsKey(columnKey)) {
             throw new UnknownKeyException("Unrecognised columnKey: "
                     + columnKey);
         }
@@ -319,33 +337,124 @@ public class DefaultKeyedValues2D implements KeyedValues2D, PublicCloneable,
      */
     public void setValue(Number value, Comparable rowKey,
                          Comparable columnKey) {
+        DefaultKeyedValues row = getOrAddRow(rowKey);
+        row.setValue(columnKey, value);
+        addColumnKey(columnKey);
+    }
 
-        DefaultKeyedValues row;
-        int rowIndex = getRowIndex(rowKey);
+    /**
+     * Adds or updates a block of values.  This gives the same result as
+     * calling {@link #setValue(Number, Comparable, Comparable)} for each
+     * value (by row, then by column), but each row and column key is looked
+     * up once only, so a large table can be loaded in time proportional to
+     * the number of values.
+     *
+     * @param rowKeys  the row keys (<code>null</code> not permitted, and
+     *     must not contain <code>null</code>).
+     * @param columnKeys  the column keys (<code>null</code> not permitted,
+     *     and must not contain <code>null</code>).
+     * @param values  the values, indexed by row then column
+     *     (<code>null</code> not permitted).
+     *
+     * @since 1.0.20
+     */
+    public void setValues(List rowKeys, List columnKeys, double[][] values) {
+        ParamChecks.nullNotPermitted(rowKeys, "rowKeys");
+        ParamChecks.nullNotPermitted(columnKeys, "columnKeys");
+        ParamChecks.nullNotPermitted(values, "values");
+        int rowCount = rowKeys.size();
+        int columnCount = columnKeys.size();
+        if (values.length != rowCount) {
+            throw new IllegalArgumentException(
+                    "The 'values' array must have one entry per row key.");
+        }
+        Comparable[] columns = new Comparable[columnCount];
+        for (int c = 0; c < columnCount; c++) {
+            columns[c] = (Comparable) columnKeys.get(c);
+            ParamChecks.nullNotPermitted(columns[c], "columnKey");
+        }
+        for (int r = 0; r < rowCount; r++) {
+            if (values[r].length != columnCount) {
+                throw new IllegalArgumentException("The 'values' array must "
+                        + "have one entry per column key in each row.");
+            }
+        }
+        for (int r = 0; r < rowCount; r++) {
+            DefaultKeyedValues row = getOrAddRow((Comparable) rowKeys.get(r));
+            double[] rowValues = values[r];
+            for (int c = 0; c < columnCount; c++) {
+                row.setValue(columns[c], rowValues[c]);
+            }
+        }
+        for (int c = 0; c < columnCount; c++) {
+            addColumnKey(columns[c]);
+        }
+    }
 
+    /**
+     * Returns the data for a row, adding an empty row if there is no row with
+     * the specified key.
+     *
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     *
+     * @return The row data.
+     */
+    private DefaultKeyedValues getOrAddRow(Comparable rowKey) {
+        int rowIndex = getRowIndex(rowKey);
         if (rowIndex >= 0) {
-            row = (DefaultKeyedValues) this.rows.get(rowIndex);
+            return (DefaultKeyedValues) this.rows.get(rowIndex);
+        }
+        DefaultKeyedValues row = new DefaultKeyedValues();
+        if (this.sortRowKeys) {
+            rowIndex = -rowIndex - 1;
+            this.rowKeys.add(rowIndex, rowKey);
+            this.rows.add(rowIndex, row);
         }
         else {
-            row = new DefaultKeyedValues();
-            if (this.sortRowKeys) {
-                rowIndex = -rowIndex - 1;
-                this.rowKeys.add(rowIndex, rowKey);
-                this.rows.add(rowIndex, row);
-            }
-            else {
-                this.rowKeys.add(rowKey);
-                this.rows.add(row);
-            }
+            this.rowIndexMap.put(rowKey, new Integer(this.rowKeys.size()));
+            this.rowKeys.add(rowKey);
+            this.rows.add(row);
         }
-        row.setValue(columnKey, value);
+        return row;
+    }
 
-        int columnIndex = this.columnKeys.indexOf(columnKey);
-        if (columnIndex < 0) {
+    /**
+     * Adds a column key, if it is not already present.
+     *
+     * @param columnKey  the column key.
+     */
+    private void addColumnKey(Comparable columnKey) {
+        if (!this.columnIndexMap.containsKey(columnKey)) {
+            this.columnIndexMap.put(columnKey,
+                    new Integer(this.columnKeys.size()));
             this.columnKeys.add(columnKey);
         }
     }
 
+    /**
+     * Rebuilds the map from row keys to row indices.
+     */
+    private void rebuildRowIndex() {
+        if (this.sortRowKeys) {
+            this.rowIndexMap = null;
+            return;
+        }
+        this.rowIndexMap = new HashMap();
+        for (int i = 0; i < this.rowKeys.size(); i++) {
+            this.rowIndexMap.put(this.rowKeys.get(i), new Integer(i));
+        }
+    }
+
+    /**
+     * Rebuilds the map from column keys to column indices.
+     */
+    private void rebuildColumnIndex() {
+        this.columnIndexMap = new HashMap();
+        for (int i = 0; i < this.columnKeys.size(); i++) {
+            this.columnIndexMap.put(this.columnKeys.get(i), new Integer(i));
+        }
+    }
+
     /**
      * Removes a value from the table by setting it to <code>null</code>.  If
      * all the values in the specified row and/or column are now
@@ -373,8 +482,7 @@ public class DefaultKeyedValues2D implements KeyedValues2D, PublicCloneable,
         }
 
         if (allNull) {
-            this.rowKeys.remove(rowIndex);
-            this.rows.remove(rowIndex);
+            removeRow(rowIndex);
         }
 
         // 2. check whether the column is now empty.
@@ -401,6 +509,7 @@ public class DefaultKeyedValues2D implements KeyedValues2D, PublicCloneable,
                 }
             }
             this.columnKeys.remove(columnKey);
+            rebuildColumnIndex();
         }
     }
 
@@ -415,6 +524,7 @@ public class DefaultKeyedValues2D implements KeyedValues2D, PublicCloneable,
     public void removeRow(int rowIndex) {
         this.rowKeys.remove(rowIndex);
         this.rows.remove(rowIndex);
+        rebuildRowIndex();
     }
 
     /**
@@ -467,7 +577,7 @@ public class DefaultKeyedValues2D implements KeyedValues2D, PublicCloneable,
      */
     public void removeColumn(Comparable columnKey) {
         ParamChecks.nullNotPermitted(columnKey, "columnKey");
-        if (!this.columnKeys.contains(columnKey)) {
+        if (!this.columnIndexMap.containsKey(columnKey)) {
             throw new UnknownKeyException("Unknown key: " + columnKey);
         }
         Iterator iterator = this.rows.iterator();
@@ -479,6 +589,7 @@ public class DefaultKeyedValues2D implements KeyedValues2D, PublicCloneable,
             }
         }
         this.columnKeys.remove(columnKey);
+        rebuildColumnIndex();
     }
 
     /**
@@ -488,6 +599,8 @@ public class DefaultKeyedValues2D implements KeyedValues2D, PublicCloneable,
         this.rowKeys.clear();
         this.columnKeys.clear();
         this.rows.clear();
+        rebuildRowIndex();
+        rebuildColumnIndex();
     }
 
     /**
@@ -578,7 +691,24 @@ public class DefaultKeyedValues2D implements KeyedValues2D, PublicCloneable,
 
         // but the row data requires a deep copy
         clone.rows = (List) ObjectUtilities.deepClone(this.rows);
+        clone.rebuildRowIndex();
+        clone.rebuildColumnIndex();
         return clone;
     }
 
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        rebuildRowIndex();
+        rebuildColumnIndex();
+    }
+
 }
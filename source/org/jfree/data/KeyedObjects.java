@@ -39,12 +39,16 @@
  * 28-Sep-2007 : Clean up equals() method (DG);
  * 03-Oct-2007 : Make method behaviour consistent with DefaultKeyedValues (DG);
  * 03-Jul-2013 : Use ParamChecks (DG);
+ * 16-Oct-2026 : Added a hash index for the keys;
  *
  */
 
 package org.jfree.data;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import org.jfree.chart.util.ParamChecks;
@@ -62,11 +66,15 @@ public class KeyedObjects implements Cloneable, PublicCloneable, Serializable {
     /** Storage for the data. */
     private List data;
 
+    /** Maps keys to indices in the data list. */
+    private transient HashMap indexMap;
+
     /**
      * Creates a new collection (initially empty).
      */
     public KeyedObjects() {
         this.data = new java.util.ArrayList();
+        this.indexMap = new HashMap();
     }
 
     /**
@@ -127,16 +135,8 @@ public class KeyedObjects implements Cloneable, PublicCloneable, Serializable {
      */
     public int getIndex(Comparable key) {
         ParamChecks.nullNotPermitted(key, "key");
-        int i = 0;
-        Iterator iterator = this.data.iterator();
-        while (iterator.hasNext()) {
-            KeyedObject ko = (KeyedObject) iterator.next();
-            if (ko.getKey().equals(key)) {
-                return i;
-            }
-            i++;
-        }
-        return -1;
+        Integer i = (Integer) this.indexMap.get(key);
+        return (i != null ? i.intValue() : -1);
     }
 
     /**
@@ -204,6 +204,7 @@ public class KeyedObjects implements Cloneable, PublicCloneable, Serializable {
         }
         else {
             KeyedObject ko = new KeyedObject(key, object);
+            this.indexMap.put(key, new Integer(this.data.size()));
             this.data.add(ko);
         }
     }
@@ -236,6 +237,18 @@ public class KeyedObjects implements Cloneable, PublicCloneable, Serializable {
         else {
             this.data.add(item);
         }
+        rebuildIndex();
+    }
+
+    /**
+     * Rebuilds the map from keys to indices.
+     */
+    private void rebuildIndex() {
+        this.indexMap = new HashMap();
+        for (int i = 0; i < this.data.size(); i++) {
+            KeyedObject ko = (KeyedObject) this.data.get(i);
+            this.indexMap.put(ko.getKey(), new Integer(i));
+        }
     }
 
     /**
@@ -247,6 +260,7 @@ public class KeyedObjects implements Cloneable, PublicCloneable, Serializable {
      */
     public void removeValue(int index) {
         this.data.remove(index);
+        rebuildIndex();
     }
 
     /**
@@ -275,6 +289,7 @@ public class KeyedObjects implements Cloneable, PublicCloneable, Serializable {
      */
     public void clear() {
         this.data.clear();
+        this.indexMap.clear();
     }
 
     /**
@@ -295,6 +310,7 @@ public class KeyedObjects implements Cloneable, PublicCloneable, Serializable {
             KeyedObject ko = (KeyedObject) iterator.next();
             clone.data.add(ko.clone());
         }
+        clone.indexMap = (HashMap) this.indexMap.clone();
         return clone;
     }
 
@@ -353,4 +369,18 @@ public class KeyedObjects implements Cloneable, PublicCloneable, Serializable {
         return (this.data != null ? this.data.hashCode() : 0);
     }
 
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        rebuildIndex();
+    }
+
 }
@@ -40,13 +40,17 @@
  * 03-Oct-2007 : Updated getObject() to handle modified behaviour in
  *               KeyedObjects class, added clear() method (DG);
  * 03-Jul-2013 : Use ParamChecks (DG);
+ * 16-Oct-2026 : Added hash indices for the row and column keys;
  *
  */
 
 package org.jfree.data;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import org.jfree.chart.util.ParamChecks;
@@ -69,6 +73,12 @@ public class KeyedObjects2D implements Cloneable, Serializable {
     /** The row data. */
     private List rows;
 
+    /** Maps row keys to row indices. */
+    private transient HashMap rowIndexMap;
+
+    /** Maps column keys to column indices. */
+    private transient HashMap columnIndexMap;
+
     /**
      * Creates a new instance (initially empty).
      */
@@ -76,6 +86,8 @@ public class KeyedObjects2D implements Cloneable, Serializable {
         this.rowKeys = new java.util.ArrayList();
         this.columnKeys = new java.util.ArrayList();
         this.rows = new java.util.ArrayList();
+        this.rowIndexMap = new HashMap();
+        this.columnIndexMap = new HashMap();
     }
 
     /**
@@ -118,7 +130,7 @@ public class KeyedObjects2D implements Cloneable, Serializable {
             if (columnKey != null) {
                 int index = rowData.getIndex(columnKey);
                 if (index >= 0) {
-                    result = rowData.getObject(columnKey);
+                    result = rowData.getObject(index);
                 }
             }
         }
@@ -150,7 +162,7 @@ public class KeyedObjects2D implements Cloneable, Serializable {
      */
     public int getRowIndex(Comparable key) {
         ParamChecks.nullNotPermitted(key, "key");
-        return this.rowKeys.indexOf(key);
+        return indexOf(this.rowIndexMap, key);
     }
 
     /**
@@ -189,7 +201,7 @@ public class KeyedObjects2D implements Cloneable, Serializable {
      */
     public int getColumnIndex(Comparable key) {
         ParamChecks.nullNotPermitted(key, "key");
-        return this.columnKeys.indexOf(key);
+        return indexOf(this.columnIndexMap, key);
     }
 
     /**
@@ -219,12 +231,12 @@ public class KeyedObjects2D implements Cloneable, Serializable {
     public Object getObject(Comparable rowKey, Comparable columnKey) {
         ParamChecks.nullNotPermitted(rowKey, "rowKey");
         ParamChecks.nullNotPermitted(columnKey, "columnKey");
-        int row = this.rowKeys.indexOf(rowKey);
+        int row = indexOf(this.rowIndexMap, rowKey);
         if (row < 0) {
             throw new UnknownKeyException("Row key (" + rowKey
                     + ") not recognised.");
         }
-        int column = this.columnKeys.indexOf(columnKey);
+        int column = indexOf(this.columnIndexMap, columnKey);
         if (column < 0) {
             throw new UnknownKeyException("Column key (" + columnKey
                     + ") not recognised.");
@@ -263,22 +275,53 @@ public class KeyedObjects2D implements Cloneable, Serializable {
         ParamChecks.nullNotPermitted(rowKey, "rowKey");
         ParamChecks.nullNotPermitted(columnKey, "columnKey");
         KeyedObjects row;
-        int rowIndex = this.rowKeys.indexOf(rowKey);
+        int rowIndex = indexOf(this.rowIndexMap, rowKey);
         if (rowIndex >= 0) {
             row = (KeyedObjects) this.rows.get(rowIndex);
         }
         else {
+            this.rowIndexMap.put(rowKey, new Integer(this.rowKeys.size()));
             this.rowKeys.add(rowKey);
             row = new KeyedObjects();
             this.rows.add(row);
         }
         row.setObject(columnKey, object);
-        int columnIndex = this.columnKeys.indexOf(columnKey);
-        if (columnIndex < 0) {
+        if (!this.columnIndexMap.containsKey(columnKey)) {
+            this.columnIndexMap.put(columnKey,
+                    new Integer(this.columnKeys.size()));
             this.columnKeys.add(columnKey);
         }
     }
 
+    /**
+     * Returns the index for a key, or <code>-1</code> if the key is not in
+     * the map.
+     *
+     * @param indexMap  the map from keys to indices.
+     * @param key  the key.
+     *
+     * @return The index.
+     */
+    private static int indexOf(HashMap indexMap, Comparable key) {
+        Integer i = (Integer) indexMap.get(key);
+        return (i != null ? i.intValue() : -1);
+    }
+
+    /**
+     * Rebuilds a map from keys to indices.
+     *
+     * @param keys  the keys.
+     *
+     * @return The map.
+     */
+    private static HashMap createIndexMap(List keys) {
+        HashMap result = new HashMap();
+        for (int i = 0; i < keys.size(); i++) {
+            result.put(keys.get(i), new Integer(i));
+        }
+        return result;
+    }
+
     /**
      * Removes an object from the table by setting it to <code>null</code>.  If
      * all the objects in the specified row and/or column are now
@@ -315,8 +358,7 @@ public class KeyedObjects2D implements Cloneable, Serializable {
         }
 
         if (allNull) {
-            this.rowKeys.remove(rowIndex);
-            this.rows.remove(rowIndex);
+            removeRow(rowIndex);
         }
 
         // 2. check whether the column is now empty.
@@ -342,6 +384,7 @@ public class KeyedObjects2D implements Cloneable, Serializable {
                 }
             }
             this.columnKeys.remove(columnKey);
+            this.columnIndexMap = createIndexMap(this.columnKeys);
         }
     }
 
@@ -355,6 +398,7 @@ public class KeyedObjects2D implements Cloneable, Serializable {
     public void removeRow(int rowIndex) {
         this.rowKeys.remove(rowIndex);
         this.rows.remove(rowIndex);
+        this.rowIndexMap = createIndexMap(this.rowKeys);
     }
 
     /**
@@ -411,6 +455,7 @@ public class KeyedObjects2D implements Cloneable, Serializable {
             }
         }
         this.columnKeys.remove(columnKey);
+        this.columnIndexMap = createIndexMap(this.columnKeys);
     }
 
     /**
@@ -422,6 +467,8 @@ public class KeyedObjects2D implements Cloneable, Serializable {
         this.rowKeys.clear();
         this.columnKeys.clear();
         this.rows.clear();
+        this.rowIndexMap.clear();
+        this.columnIndexMap.clear();
     }
 
     /**
@@ -507,7 +554,24 @@ public class KeyedObjects2D implements Cloneable, Serializable {
             KeyedObjects row = (KeyedObjects) iterator.next();
             clone.rows.add(row.clone());
         }
+        clone.rowIndexMap = (HashMap) this.rowIndexMap.clone();
+        clone.columnIndexMap = (HashMap) this.columnIndexMap.clone();
         return clone;
     }
 
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        this.rowIndexMap = createIndexMap(this.rowKeys);
+        this.columnIndexMap = createIndexMap(this.columnKeys);
+    }
+
 }
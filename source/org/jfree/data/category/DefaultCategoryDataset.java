@@ -43,6 +43,7 @@
  * 26-Feb-2007 : Updated API docs (DG);
  * 08-Mar-2007 : Implemented clone() (DG);
  * 09-May-2008 : Implemented PublicCloneable (DG);
+ * 16-Oct-2026 : Added setValues() method for bulk loading;
  *
  */
 
@@ -278,6 +279,24 @@ public class DefaultCategoryDataset extends AbstractDataset
         setValue(new Double(value), rowKey, columnKey);
     }
 
+    /**
+     * Adds or updates a block of values in the table and sends a single
+     * {@link DatasetChangeEvent} to all registered listeners.  This is much
+     * faster than adding the values one at a time, both because the keys
+     * are looked up once only and because listeners are notified once only.
+     *
+     * @param rowKeys  the row keys (<code>null</code> not permitted).
+     * @param columnKeys  the column keys (<code>null</code> not permitted).
+     * @param values  the values, indexed by row then column
+     *     (<code>null</code> not permitted).
+     *
+     * @since 1.0.20
+     */
+    public void setValues(List rowKeys, List columnKeys, double[][] values) {
+        this.data.setValues(rowKeys, columnKeys, values);
+        fireDatasetChanged();
+    }
+
     /**
      * Adds the specified value to an existing value in the dataset (if the
      * existing value is <code>null</code>, it is treated as if it were 0.0).
@@ -0,0 +1,1076 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------
+ * DenseCategoryDataset.java
+ * -------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.category;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+
+import org.jfree.chart.util.ParamChecks;
+import org.jfree.data.Range;
+import org.jfree.data.RangeInfo;
+import org.jfree.data.UnknownKeyException;
+import org.jfree.data.general.AbstractDataset;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.util.PublicCloneable;
+
+/**
+ * A {@link CategoryDataset} that stores its values in a single array of
+ * primitive doubles, one element per cell (<code>Double.NaN</code> is used
+ * for <code>null</code>).  This uses much less memory than a
+ * {@link DefaultCategoryDataset} when most of the cells have a value, for
+ * example in a large matrix of values shown as a heat map.
+ * <P>
+ * The dataset keeps the minimum and maximum value for each row and column,
+ * so the range of the values (for all rows or only the visible rows) can
+ * be found without looking at every cell.
+ *
+ * @since 1.0.20
+ */
+public class DenseCategoryDataset extends AbstractDataset
+        implements CategoryDataset, CategoryRangeInfo, RangeInfo,
+        PublicCloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 4520380254317406475L;
+
+    /** The row keys. */
+    private List rowKeys;
+
+    /** The column keys. */
+    private List columnKeys;
+
+    /**
+     * The values, by row then column.  Each row occupies
+     * <code>columnCapacity</code> elements.
+     */
+    private double[] values;
+
+    /** The number of rows that the values array can hold. */
+    private int rowCapacity;
+
+    /** The number of columns that the values array can hold. */
+    private int columnCapacity;
+
+    /** Maps row keys to row indices. */
+    private transient HashMap rowIndexMap;
+
+    /** Maps column keys to column indices. */
+    private transient HashMap columnIndexMap;
+
+    /** The minimum value in each row (NaN if the row has no values). */
+    private transient double[] rowMin;
+
+    /** The maximum value in each row (NaN if the row has no values). */
+    private transient double[] rowMax;
+
+    /** Flags that indicate which entries in rowMin and rowMax are valid. */
+    private transient boolean[] rowBoundsValid;
+
+    /** The minimum value in each column. */
+    private transient double[] columnMin;
+
+    /** The maximum value in each column. */
+    private transient double[] columnMax;
+
+    /** Flags for the valid entries in columnMin and columnMax. */
+    private transient boolean[] columnBoundsValid;
+
+    /** The minimum value in the dataset (NaN if there are no values). */
+    private transient double minValue;
+
+    /** The maximum value in the dataset (NaN if there are no values). */
+    private transient double maxValue;
+
+    /** A flag that indicates whether minValue and maxValue are valid. */
+    private transient boolean boundsValid;
+
+    /**
+     * Creates a new (empty) dataset.
+     */
+    public DenseCategoryDataset() {
+        this.rowKeys = new java.util.ArrayList();
+        this.columnKeys = new java.util.ArrayList();
+        this.values = new double[0];
+        this.rowCapacity = 0;
+        this.columnCapacity = 0;
+        initTransients();
+    }
+
+    /**
+     * Creates a new dataset with the specified keys, and no values.
+     *
+     * @param rowKeys  the row keys (<code>null</code> not permitted).
+     * @param columnKeys  the column keys (<code>null</code> not permitted).
+     */
+    public DenseCategoryDataset(List rowKeys, List columnKeys) {
+        this();
+        ParamChecks.nullNotPermitted(rowKeys, "rowKeys");
+        ParamChecks.nullNotPermitted(columnKeys, "columnKeys");
+        ensureCapacity(rowKeys.size(), columnKeys.size());
+        for (int i = 0; i < columnKeys.size(); i++) {
+            getOrAddColumn((Comparable) columnKeys.get(i));
+        }
+        for (int i = 0; i < rowKeys.size(); i++) {
+            getOrAddRow((Comparable) rowKeys.get(i));
+        }
+    }
+
+    /**
+     * Returns the number of rows in the table.
+     *
+     * @return The row count.
+     *
+     * @see #getColumnCount()
+     */
+    @Override
+    public int getRowCount() {
+        return this.rowKeys.size();
+    }
+
+    /**
+     * Returns the number of columns in the table.
+     *
+     * @return The column count.
+     *
+     * @see #getRowCount()
+     */
+    @Override
+    public int getColumnCount() {
+        return this.columnKeys.size();
+    }
+
+    /**
+     * Returns a value from the table.
+     *
+     * @param row  the row index (zero-based).
+     * @param column  the column index (zero-based).
+     *
+     * @return The value (possibly <code>null</code>).
+     *
+     * @see #getDoubleValue(int, int)
+     */
+    @Override
+    public Number getValue(int row, int column) {
+        double v = getDoubleValue(row, column);
+        return (Double.isNaN(v) ? null : new Double(v));
+    }
+
+    /**
+     * Returns a value from the table as a primitive double, without creating
+     * a <code>Number</code> object.
+     *
+     * @param row  the row index (zero-based).
+     * @param column  the column index (zero-based).
+     *
+     * @return The value (<code>Double.NaN</code> for <code>null</code>).
+     */
+    public double getDoubleValue(int row, int column) {
+        checkRowIndex(row);
+        checkColumnIndex(column);
+        return this.values[row * this.columnCapacity + column];
+    }
+
+    /**
+     * Returns the key for the specified row.
+     *
+     * @param row  the row index (zero-based).
+     *
+     * @return The row key.
+     *
+     * @see #getRowIndex(Comparable)
+     */
+    @Override
+    public Comparable getRowKey(int row) {
+        return (Comparable) this.rowKeys.get(row);
+    }
+
+    /**
+     * Returns the row index for a given key.
+     *
+     * @param key  the row key (<code>null</code> not permitted).
+     *
+     * @return The row index, or <code>-1</code> if the key is not
+     *     recognised.
+     *
+     * @see #getRowKey(int)
+     */
+    @Override
+    public int getRowIndex(Comparable key) {
+        ParamChecks.nullNotPermitted(key, "key");
+        Integer i = (Integer) this.rowIndexMap.get(key);
+        return (i != null ? i.intValue() : -1);
+    }
+
+    /**
+     * Returns the row keys.
+     *
+     * @return The keys (in an unmodifiable list).
+     *
+     * @see #getRowKey(int)
+     */
+    @Override
+    public List getRowKeys() {
+        return Collections.unmodifiableList(this.rowKeys);
+    }
+
+    /**
+     * Returns a column key.
+     *
+     * @param column  the column index (zero-based).
+     *
+     * @return The column key.
+     *
+     * @see #getColumnIndex(Comparable)
+     */
+    @Override
+    public Comparable getColumnKey(int column) {
+        return (Comparable) this.columnKeys.get(column);
+    }
+
+    /**
+     * Returns the column index for a given key.
+     *
+     * @param key  the column key (<code>null</code> not permitted).
+     *
+     * @return The column index, or <code>-1</code> if the key is not
+     *     recognised.
+     *
+     * @see #getColumnKey(int)
+     */
+    @Override
+    public int getColumnIndex(Comparable key) {
+        ParamChecks.nullNotPermitted(key, "key");
+        Integer i = (Integer) this.columnIndexMap.get(key);
+        return (i != null ? i.intValue() : -1);
+    }
+
+    /**
+     * Returns the column keys.
+     *
+     * @return The keys (in an unmodifiable list).
+     *
+     * @see #getColumnKey(int)
+     */
+    @Override
+    public List getColumnKeys() {
+        return Collections.unmodifiableList(this.columnKeys);
+    }
+
+    /**
+     * Returns the value for a pair of keys.
+     *
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     *
+     * @return The value (possibly <code>null</code>).
+     *
+     * @throws UnknownKeyException if either key is not defined in the
+     *     dataset.
+     */
+    @Override
+    public Number getValue(Comparable rowKey, Comparable columnKey) {
+        ParamChecks.nullNotPermitted(rowKey, "rowKey");
+        ParamChecks.nullNotPermitted(columnKey, "columnKey");
+        int column = getColumnIndex(columnKey);
+        if (column < 0) {
+            throw new UnknownKeyException("Unrecognised columnKey: "
+                    + columnKey);
+        }
+        int row = getRowIndex(rowKey);
+        if (row < 0) {
+            throw new UnknownKeyException("Unrecognised rowKey: " + rowKey);
+        }
+        return getValue(row, column);
+    }
+
+    /**
+     * Adds or updates a value in the table and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param value  the value (<code>null</code> permitted).
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     */
+    public void setValue(Number value, Comparable rowKey,
+            Comparable columnKey) {
+        setValue(value != null ? value.doubleValue() : Double.NaN, rowKey,
+                columnKey);
+    }
+
+    /**
+     * Adds or updates a value in the table and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.  The rows and
+     * columns are created if necessary.
+     *
+     * @param value  the value (<code>Double.NaN</code> for
+     *     <code>null</code>).
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     */
+    public void setValue(double value, Comparable rowKey,
+            Comparable columnKey) {
+        ParamChecks.nullNotPermitted(rowKey, "rowKey");
+        ParamChecks.nullNotPermitted(columnKey, "columnKey");
+        int column = getOrAddColumn(columnKey);
+        int row = getOrAddRow(rowKey);
+        setCell(row, column, value);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Adds or updates a value in the table.  This is the same as
+     * {@link #setValue(double, Comparable, Comparable)}.
+     *
+     * @param value  the value (<code>Double.NaN</code> for
+     *     <code>null</code>).
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     */
+    public void addValue(double value, Comparable rowKey,
+            Comparable columnKey) {
+        setValue(value, rowKey, columnKey);
+    }
+
+    /**
+     * Sets all the values in a row (creating the row if necessary) and sends
+     * a {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param rowValues  the values, one for each column in column order
+     *     (<code>null</code> not permitted).
+     */
+    public void setRow(Comparable rowKey, double[] rowValues) {
+        ParamChecks.nullNotPermitted(rowKey, "rowKey");
+        ParamChecks.nullNotPermitted(rowValues, "rowValues");
+        if (rowValues.length != getColumnCount()) {
+            throw new IllegalArgumentException(
+                    "Requires one value for each column.");
+        }
+        int row = getOrAddRow(rowKey);
+        System.arraycopy(rowValues, 0, this.values,
+                row * this.columnCapacity, rowValues.length);
+        this.rowBoundsValid[row] = false;
+        Arrays.fill(this.columnBoundsValid, false);
+        this.boundsValid = false;
+        fireDatasetChanged();
+    }
+
+    /**
+     * Sets all the values in a column (creating the column if necessary) and
+     * sends a {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     * @param columnValues  the values, one for each row in row order
+     *     (<code>null</code> not permitted).
+     */
+    public void setColumn(Comparable columnKey, double[] columnValues) {
+        ParamChecks.nullNotPermitted(columnKey, "columnKey");
+        ParamChecks.nullNotPermitted(columnValues, "columnValues");
+        if (columnValues.length != getRowCount()) {
+            throw new IllegalArgumentException(
+                    "Requires one value for each row.");
+        }
+        int column = getOrAddColumn(columnKey);
+        for (int row = 0; row < columnValues.length; row++) {
+            this.values[row * this.columnCapacity + column]
+                    = columnValues[row];
+        }
+        Arrays.fill(this.rowBoundsValid, false);
+        this.columnBoundsValid[column] = false;
+        this.boundsValid = false;
+        fireDatasetChanged();
+    }
+
+    /**
+     * Adds or updates a block of values (creating rows and columns as
+     * necessary) and sends a single {@link DatasetChangeEvent} to all
+     * registered listeners.
+     *
+     * @param rowKeys  the row keys (<code>null</code> not permitted).
+     * @param columnKeys  the column keys (<code>null</code> not permitted).
+     * @param values  the values, indexed by row then column
+     *     (<code>null</code> not permitted).
+     */
+    public void setValues(List rowKeys, List columnKeys, double[][] values) {
+        ParamChecks.nullNotPermitted(rowKeys, "rowKeys");
+        ParamChecks.nullNotPermitted(columnKeys, "columnKeys");
+        ParamChecks.nullNotPermitted(values, "values");
+        int rowCount = rowKeys.size();
+        int columnCount = columnKeys.size();
+        if (values.length != rowCount) {
+            throw new IllegalArgumentException(
+                    "The 'values' array must have one entry per row key.");
+        }
+        for (int r = 0; r < rowCount; r++) {
+            if (values[r].length != columnCount) {
+                throw new IllegalArgumentException("The 'values' array must "
+                        + "have one entry per column key in each row.");
+            }
+        }
+        // reserve space for the new keys only, so that refreshing the same
+        // block of values doesn't grow the array
+        ensureCapacity(getRowCount() + countNewKeys(rowKeys,
+                this.rowIndexMap), getColumnCount() + countNewKeys(
+                columnKeys, this.columnIndexMap));
+        int[] columns = new int[columnCount];
+        for (int c = 0; c < columnCount; c++) {
+            columns[c] = getOrAddColumn((Comparable) columnKeys.get(c));
+        }
+        for (int r = 0; r < rowCount; r++) {
+            int offset = getOrAddRow((Comparable) rowKeys.get(r))
+                    * this.columnCapacity;
+            double[] rowValues = values[r];
+            for (int c = 0; c < columnCount; c++) {
+                this.values[offset + columns[c]] = rowValues[c];
+            }
+        }
+        Arrays.fill(this.rowBoundsValid, false);
+        Arrays.fill(this.columnBoundsValid, false);
+        this.boundsValid = false;
+        fireDatasetChanged();
+    }
+
+    /**
+     * Removes a row from the dataset and sends a {@link DatasetChangeEvent}
+     * to all registered listeners.
+     *
+     * @param row  the row index.
+     */
+    public void removeRow(int row) {
+        checkRowIndex(row);
+        int rowCount = getRowCount();
+        int cc = this.columnCapacity;
+        System.arraycopy(this.values, (row + 1) * cc, this.values, row * cc,
+                (rowCount - row - 1) * cc);
+        Arrays.fill(this.values, (rowCount - 1) * cc, rowCount * cc,
+                Double.NaN);
+        int n = rowCount - row - 1;
+        System.arraycopy(this.rowMin, row + 1, this.rowMin, row, n);
+        System.arraycopy(this.rowMax, row + 1, this.rowMax, row, n);
+        System.arraycopy(this.rowBoundsValid, row + 1, this.rowBoundsValid,
+                row, n);
+        this.rowKeys.remove(row);
+        this.rowIndexMap = createIndexMap(this.rowKeys);
+        Arrays.fill(this.columnBoundsValid, false);
+        this.boundsValid = false;
+        fireDatasetChanged();
+    }
+
+    /**
+     * Removes a row from the dataset and sends a {@link DatasetChangeEvent}
+     * to all registered listeners.
+     *
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     *
+     * @throws UnknownKeyException if <code>rowKey</code> is not defined in
+     *     the dataset.
+     */
+    public void removeRow(Comparable rowKey) {
+        int row = getRowIndex(rowKey);
+        if (row < 0) {
+            throw new UnknownKeyException("Unknown key: " + rowKey);
+        }
+        removeRow(row);
+    }
+
+    /**
+     * Removes a column from the dataset and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param column  the column index.
+     */
+    public void removeColumn(int column) {
+        checkColumnIndex(column);
+        int columnCount = getColumnCount();
+        int n = columnCount - column - 1;
+        for (int row = 0; row < getRowCount(); row++) {
+            int offset = row * this.columnCapacity;
+            System.arraycopy(this.values, offset + column + 1, this.values,
+                    offset + column, n);
+            this.values[offset + columnCount - 1] = Double.NaN;
+        }
+        System.arraycopy(this.columnMin, column + 1, this.columnMin, column,
+                n);
+        System.arraycopy(this.columnMax, column + 1, this.columnMax, column,
+                n);
+        System.arraycopy(this.columnBoundsValid, column + 1,
+                this.columnBoundsValid, column, n);
+        this.columnKeys.remove(column);
+        this.columnIndexMap = createIndexMap(this.columnKeys);
+        Arrays.fill(this.rowBoundsValid, false);
+        this.boundsValid = false;
+        fireDatasetChanged();
+    }
+
+    /**
+     * Removes a column from the dataset and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     *
+     * @throws UnknownKeyException if <code>columnKey</code> is not defined
+     *     in the dataset.
+     */
+    public void removeColumn(Comparable columnKey) {
+        int column = getColumnIndex(columnKey);
+        if (column < 0) {
+            throw new UnknownKeyException("Unknown key: " + columnKey);
+        }
+        removeColumn(column);
+    }
+
+    /**
+     * Clears all data from the dataset and sends a {@link DatasetChangeEvent}
+     * to all registered listeners.
+     */
+    public void clear() {
+        this.rowKeys.clear();
+        this.columnKeys.clear();
+        this.values = new double[0];
+        this.rowCapacity = 0;
+        this.columnCapacity = 0;
+        initTransients();
+        fireDatasetChanged();
+    }
+
+    /**
+     * Returns the range of the values in a row.
+     *
+     * @param row  the row index.
+     *
+     * @return The range (<code>null</code> if the row has no values).
+     */
+    public Range getRowBounds(int row) {
+        checkRowIndex(row);
+        validateRowBounds(row);
+        if (Double.isNaN(this.rowMin[row])) {
+            return null;
+        }
+        return new Range(this.rowMin[row], this.rowMax[row]);
+    }
+
+    /**
+     * Returns the range of the values in a column.
+     *
+     * @param column  the column index.
+     *
+     * @return The range (<code>null</code> if the column has no values).
+     */
+    public Range getColumnBounds(int column) {
+        checkColumnIndex(column);
+        validateColumnBounds(column);
+        if (Double.isNaN(this.columnMin[column])) {
+            return null;
+        }
+        return new Range(this.columnMin[column], this.columnMax[column]);
+    }
+
+    /**
+     * Returns the minimum value in the dataset.
+     *
+     * @param includeInterval  ignored (the dataset has no intervals).
+     *
+     * @return The minimum value (<code>Double.NaN</code> if there are no
+     *     values).
+     */
+    @Override
+    public double getRangeLowerBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return (r != null ? r.getLowerBound() : Double.NaN);
+    }
+
+    /**
+     * Returns the maximum value in the dataset.
+     *
+     * @param includeInterval  ignored (the dataset has no intervals).
+     *
+     * @return The maximum value (<code>Double.NaN</code> if there are no
+     *     values).
+     */
+    @Override
+    public double getRangeUpperBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return (r != null ? r.getUpperBound() : Double.NaN);
+    }
+
+    /**
+     * Returns the range of the values in the dataset.  The range is cached,
+     * so this method is fast unless the dataset has changed in a way that
+     * may have reduced the range.
+     *
+     * @param includeInterval  ignored (the dataset has no intervals).
+     *
+     * @return The range (<code>null</code> if there are no values).
+     */
+    @Override
+    public Range getRangeBounds(boolean includeInterval) {
+        if (!this.boundsValid) {
+            double min = Double.NaN;
+            double max = Double.NaN;
+            for (int row = 0; row < getRowCount(); row++) {
+                validateRowBounds(row);
+                if (!Double.isNaN(this.rowMin[row])) {
+                    min = Double.isNaN(min) ? this.rowMin[row]
+                            : Math.min(min, this.rowMin[row]);
+                    max = Double.isNaN(max) ? this.rowMax[row]
+                            : Math.max(max, this.rowMax[row]);
+                }
+            }
+            this.minValue = min;
+            this.maxValue = max;
+            this.boundsValid = true;
+        }
+        if (Double.isNaN(this.minValue)) {
+            return null;
+        }
+        return new Range(this.minValue, this.maxValue);
+    }
+
+    /**
+     * Returns the range of the values in the specified rows (series).
+     *
+     * @param visibleSeriesKeys  the keys of the visible series
+     *     (<code>null</code> not permitted).
+     * @param includeInterval  ignored (the dataset has no intervals).
+     *
+     * @return The range (<code>null</code> if there are no values).
+     */
+    @Override
+    public Range getRangeBounds(List visibleSeriesKeys,
+            boolean includeInterval) {
+        ParamChecks.nullNotPermitted(visibleSeriesKeys, "visibleSeriesKeys");
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < visibleSeriesKeys.size(); i++) {
+            int row = getRowIndex((Comparable) visibleSeriesKeys.get(i));
+            if (row < 0) {
+                continue;
+            }
+            validateRowBounds(row);
+            if (!Double.isNaN(this.rowMin[row])) {
+                min = Math.min(min, this.rowMin[row]);
+                max = Math.max(max, this.rowMax[row]);
+            }
+        }
+        return (min <= max ? new Range(min, max) : null);
+    }
+
+    /**
+     * Stores a value in a cell, and updates the cached bounds.
+     *
+     * @param row  the row index.
+     * @param column  the column index.
+     * @param value  the value.
+     */
+    private void setCell(int row, int column, double value) {
+        int index = row * this.columnCapacity + column;
+        double old = this.values[index];
+        this.values[index] = value;
+        this.rowBoundsValid[row] = updateBounds(this.rowMin, this.rowMax,
+                this.rowBoundsValid[row], row, old, value);
+        this.columnBoundsValid[column] = updateBounds(this.columnMin,
+                this.columnMax, this.columnBoundsValid[column], column, old,
+                value);
+        if (this.boundsValid) {
+            if (!Double.isNaN(old) && (old == this.minValue
+                    || old == this.maxValue) && old != value) {
+                this.boundsValid = false;
+            }
+            else if (!Double.isNaN(value)) {
+                if (Double.isNaN(this.minValue)) {
+                    this.minValue = value;
+                    this.maxValue = value;
+                }
+                else {
+                    this.minValue = Math.min(this.minValue, value);
+                    this.maxValue = Math.max(this.maxValue, value);
+                }
+            }
+        }
+    }
+
+    /**
+     * Updates the cached bounds for a row or column when a value changes.
+     *
+     * @param min  the minimum values.
+     * @param max  the maximum values.
+     * @param valid  whether the cached bounds are valid.
+     * @param i  the row or column index.
+     * @param oldValue  the old value.
+     * @param newValue  the new value.
+     *
+     * @return Whether the cached bounds are still valid.
+     */
+    private static boolean updateBounds(double[] min, double[] max,
+            boolean valid, int i, double oldValue, double newValue) {
+        if (!valid) {
+            return false;
+        }
+        if (!Double.isNaN(oldValue) && (oldValue == min[i]
+                || oldValue == max[i]) && oldValue != newValue) {
+            // the old value may have been the only minimum or maximum
+            return false;
+        }
+        if (!Double.isNaN(newValue)) {
+            if (Double.isNaN(min[i])) {
+                min[i] = newValue;
+                max[i] = newValue;
+            }
+            else {
+                min[i] = Math.min(min[i], newValue);
+                max[i] = Math.max(max[i], newValue);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Recalculates the bounds for a row, if necessary.
+     *
+     * @param row  the row index.
+     */
+    private void validateRowBounds(int row) {
+        if (this.rowBoundsValid[row]) {
+            return;
+        }
+        double min = Double.NaN;
+        double max = Double.NaN;
+        int offset = row * this.columnCapacity;
+        for (int c = 0; c < getColumnCount(); c++) {
+            double v = this.values[offset + c];
+            if (!Double.isNaN(v)) {
+                min = Double.isNaN(min) ? v : Math.min(min, v);
+                max = Double.isNaN(max) ? v : Math.max(max, v);
+            }
+        }
+        this.rowMin[row] = min;
+        this.rowMax[row] = max;
+        this.rowBoundsValid[row] = true;
+    }
+
+    /**
+     * Recalculates the bounds for a column, if necessary.
+     *
+     * @param column  the column index.
+     */
+    private void validateColumnBounds(int column) {
+        if (this.columnBoundsValid[column]) {
+            return;
+        }
+        double min = Double.NaN;
+        double max = Double.NaN;
+        for (int r = 0; r < getRowCount(); r++) {
+            double v = this.values[r * this.columnCapacity + column];
+            if (!Double.isNaN(v)) {
+                min = Double.isNaN(min) ? v : Math.min(min, v);
+                max = Double.isNaN(max) ? v : Math.max(max, v);
+            }
+        }
+        this.columnMin[column] = min;
+        this.columnMax[column] = max;
+        this.columnBoundsValid[column] = true;
+    }
+
+    /**
+     * Returns the index of a row, adding an empty row if necessary.
+     *
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     *
+     * @return The row index.
+     */
+    private int getOrAddRow(Comparable rowKey) {
+        int row = getRowIndex(rowKey);
+        if (row < 0) {
+            row = getRowCount();
+            ensureCapacity(row + 1, getColumnCount());
+            this.rowKeys.add(rowKey);
+            this.rowIndexMap.put(rowKey, new Integer(row));
+            this.rowMin[row] = Double.NaN;
+            this.rowMax[row] = Double.NaN;
+            this.rowBoundsValid[row] = true;
+        }
+        return row;
+    }
+
+    /**
+     * Returns the index of a column, adding an empty column if necessary.
+     *
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     *
+     * @return The column index.
+     */
+    private int getOrAddColumn(Comparable columnKey) {
+        int column = getColumnIndex(columnKey);
+        if (column < 0) {
+            column = getColumnCount();
+            ensureCapacity(getRowCount(), column + 1);
+            this.columnKeys.add(columnKey);
+            this.columnIndexMap.put(columnKey, new Integer(column));
+            this.columnMin[column] = Double.NaN;
+            this.columnMax[column] = Double.NaN;
+            this.columnBoundsValid[column] = true;
+        }
+        return column;
+    }
+
+    /**
+     * Returns the number of distinct keys in a list that are not in an index
+     * map.
+     *
+     * @param keys  the keys.
+     * @param indexMap  the index map for the existing keys.
+     *
+     * @return The number of new keys.
+     */
+    private static int countNewKeys(List keys, HashMap indexMap) {
+        HashSet added = null;
+        for (int i = 0; i < keys.size(); i++) {
+            Object key = keys.get(i);
+            if (!indexMap.containsKey(key)) {
+                if (added == null) {
+                    added = new HashSet();
+                }
+                added.add(key);
+            }
+        }
+        return (added != null ? added.size() : 0);
+    }
+
+    /**
+     * Returns the number of cells that the values array can hold (this is
+     * used for testing).
+     *
+     * @return The capacity.
+     */
+    int getCellCapacity() {
+        return this.values.length;
+    }
+
+    /**
+     * Makes sure that the values array can hold the specified number of rows
+     * and columns, growing it if necessary.
+     *
+     * @param rows  the number of rows.
+     * @param columns  the number of columns.
+     */
+    private void ensureCapacity(int rows, int columns) {
+        if (rows <= this.rowCapacity && columns <= this.columnCapacity) {
+            return;
+        }
+        int newRowCapacity = this.rowCapacity;
+        if (rows > newRowCapacity) {
+            newRowCapacity = Math.max(rows, Math.max(4, newRowCapacity * 2));
+        }
+        int newColumnCapacity = this.columnCapacity;
+        if (columns > newColumnCapacity) {
+            newColumnCapacity = Math.max(columns, Math.max(4,
+                    newColumnCapacity * 2));
+        }
+        double[] newValues = new double[newRowCapacity * newColumnCapacity];
+        Arrays.fill(newValues, Double.NaN);
+        int columnCount = getColumnCount();
+        for (int row = 0; row < getRowCount(); row++) {
+            System.arraycopy(this.values, row * this.columnCapacity,
+                    newValues, row * newColumnCapacity, columnCount);
+        }
+        this.values = newValues;
+        this.rowCapacity = newRowCapacity;
+        this.columnCapacity = newColumnCapacity;
+        this.rowMin = copyOf(this.rowMin, newRowCapacity);
+        this.rowMax = copyOf(this.rowMax, newRowCapacity);
+        this.rowBoundsValid = Arrays.copyOf(this.rowBoundsValid,
+                newRowCapacity);
+        this.columnMin = copyOf(this.columnMin, newColumnCapacity);
+        this.columnMax = copyOf(this.columnMax, newColumnCapacity);
+        this.columnBoundsValid = Arrays.copyOf(this.columnBoundsValid,
+                newColumnCapacity);
+    }
+
+    private static double[] copyOf(double[] array, int length) {
+        return (array.length == length ? array
+                : Arrays.copyOf(array, length));
+    }
+
+    private void checkRowIndex(int row) {
+        if (row < 0 || row >= getRowCount()) {
+            throw new IndexOutOfBoundsException("Row index out of bounds: "
+                    + row);
+        }
+    }
+
+    private void checkColumnIndex(int column) {
+        if (column < 0 || column >= getColumnCount()) {
+            throw new IndexOutOfBoundsException(
+                    "Column index out of bounds: " + column);
+        }
+    }
+
+    /**
+     * Creates a map from keys to indices.
+     *
+     * @param keys  the keys.
+     *
+     * @return The map.
+     */
+    private static HashMap createIndexMap(List keys) {
+        HashMap result = new HashMap();
+        for (int i = 0; i < keys.size(); i++) {
+            result.put(keys.get(i), new Integer(i));
+        }
+        return result;
+    }
+
+    /**
+     * Creates the key maps and the (invalid) cached bounds.
+     */
+    private void initTransients() {
+        this.rowIndexMap = createIndexMap(this.rowKeys);
+        this.columnIndexMap = createIndexMap(this.columnKeys);
+        this.rowMin = new double[this.rowCapacity];
+        this.rowMax = new double[this.rowCapacity];
+        this.rowBoundsValid = new boolean[this.rowCapacity];
+        this.columnMin = new double[this.columnCapacity];
+        this.columnMax = new double[this.columnCapacity];
+        this.columnBoundsValid = new boolean[this.columnCapacity];
+        this.boundsValid = false;
+    }
+
+    /**
+     * Tests this dataset for equality with an arbitrary object.  As for
+     * {@link DefaultCategoryDataset}, the object can be any
+     * {@link CategoryDataset} with the same keys and values.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof CategoryDataset)) {
+            return false;
+        }
+        CategoryDataset that = (CategoryDataset) obj;
+        if (!getRowKeys().equals(that.getRowKeys())) {
+            return false;
+        }
+        if (!getColumnKeys().equals(that.getColumnKeys())) {
+            return false;
+        }
+        int rowCount = getRowCount();
+        int colCount = getColumnCount();
+        for (int r = 0; r < rowCount; r++) {
+            for (int c = 0; c < colCount; c++) {
+                Number v1 = getValue(r, c);
+                Number v2 = that.getValue(r, c);
+                if (v1 == null) {
+                    if (v2 != null) {
+                        return false;
+                    }
+                }
+                else if (!v1.equals(v2)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code for the dataset.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        int result = this.rowKeys.hashCode();
+        result = 29 * result + this.columnKeys.hashCode();
+        return result;
+    }
+
+    /**
+     * Returns a clone of the dataset.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning the
+     *         dataset.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        DenseCategoryDataset clone = (DenseCategoryDataset) super.clone();
+        clone.rowKeys = new java.util.ArrayList(this.rowKeys);
+        clone.columnKeys = new java.util.ArrayList(this.columnKeys);
+        clone.values = (double[]) this.values.clone();
+        clone.rowIndexMap = (HashMap) this.rowIndexMap.clone();
+        clone.columnIndexMap = (HashMap) this.columnIndexMap.clone();
+        clone.rowMin = (double[]) this.rowMin.clone();
+        clone.rowMax = (double[]) this.rowMax.clone();
+        clone.rowBoundsValid = (boolean[]) this.rowBoundsValid.clone();
+        clone.columnMin = (double[]) this.columnMin.clone();
+        clone.columnMax = (double[]) this.columnMax.clone();
+        clone.columnBoundsValid = (boolean[]) this.columnBoundsValid.clone();
+        return clone;
+    }
+
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        initTransients();
+    }
+
+}
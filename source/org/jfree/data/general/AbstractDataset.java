@@ -55,6 +55,8 @@
  * 03-Jul-2013 : Use ParamChecks (DG);
  * 21-Nov-2013 : Added notify flag to allow suppressing change events 
  *               temporarily (DG);
+ * 16-Oct-2026 : Hold back change events while a ChangeEventBatch is open;
+ * 16-Oct-2026 : Added modification count;
  *
  */
 
@@ -95,6 +97,9 @@ public abstract class AbstractDataset implements Dataset, Cloneable,
      */
     private boolean notify;
 
+    /** A counter that is incremented each time the dataset is changed. */
+    private long modificationCount;
+
     /**
      * Constructs a dataset. By default, the dataset is assigned to its own
      * group.
@@ -214,10 +219,44 @@ public abstract class AbstractDataset implements Dataset, Cloneable,
         if (this.notify) {
             notifyListeners(new DatasetChangeEvent(this, this));
         }
+        else {
+            incrementModificationCount();
+        }
+    }
+
+    /**
+     * Returns the modification count for the dataset.  The count increases
+     * (but is not guaranteed to increase by exactly one) each time the
+     * dataset is changed, including changes made while the notify flag is
+     * set to <code>false</code>, so comparing it with a count saved earlier
+     * tells cheaply whether the dataset may have changed in the meantime.
+     * For datasets made up of series, changes to a series are counted when
+     * the series sends its change event to the dataset.
+     *
+     * @return The modification count.
+     *
+     * @since 1.0.20
+     */
+    public long getModificationCount() {
+        return this.modificationCount;
     }
 
     /**
-     * Notifies all registered listeners that the dataset has changed.
+     * Increments the modification count.  Subclasses that change their data
+     * without calling {@link #fireDatasetChanged()} or
+     * {@link #notifyListeners(DatasetChangeEvent)} should call this method.
+     *
+     * @since 1.0.20
+     */
+    protected void incrementModificationCount() {
+        this.modificationCount++;
+    }
+
+    /**
+     * Notifies all registered listeners that the dataset has changed.  If a
+     * {@link ChangeEventBatch} is open on the current thread, the event is
+     * held back until the batch is committed.  The modification count is
+     * incremented immediately.
      *
      * @param event  contains information about the event that triggered the
      *               notification.
@@ -225,7 +264,26 @@ public abstract class AbstractDataset implements Dataset, Cloneable,
      * @see #addChangeListener(DatasetChangeListener)
      * @see #removeChangeListener(DatasetChangeListener)
      */
-    protected void notifyListeners(DatasetChangeEvent event) {
+    protected void notifyListeners(final DatasetChangeEvent event) {
+        incrementModificationCount();
+        if (ChangeEventBatch.isActive() && ChangeEventBatch.defer(this,
+                new Runnable() {
+                    @Override
+                    public void run() {
+                        deliver(event);
+                    }
+                })) {
+            return;
+        }
+        deliver(event);
+    }
+
+    /**
+     * Sends an event to all registered listeners.
+     *
+     * @param event  the event.
+     */
+    private void deliver(DatasetChangeEvent event) {
         Object[] listeners = this.listenerList.getListenerList();
         for (int i = listeners.length - 2; i >= 0; i -= 2) {
             if (listeners[i] == DatasetChangeListener.class) {
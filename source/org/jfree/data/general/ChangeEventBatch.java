@@ -0,0 +1,236 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------
+ * ChangeEventBatch.java
+ * ---------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.general;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Groups the change events from several updates into one event per source.
+ * Between calls to {@link #begin()} and {@link #commit()} on the same
+ * thread, the change events sent by series ({@link Series}), datasets
+ * ({@link AbstractDataset}) and charts are held back.  When the outermost
+ * batch is committed, each source that changed sends a single change event
+ * (the last one it tried to send, unless the source combines its events by
+ * supplying a {@link MergeableDelivery}).  Events that this triggers (for
+ * example, a collection that receives a series event and sends a dataset
+ * event) are delivered as part of the same commit, again once per source.
+ * <P>
+ * For example, adding 10,000 items to the series in a collection inside a
+ * batch results in one dataset change event, so the plot recalculates its
+ * axis ranges once and the chart is redrawn once:
+ * <pre>
+ * ChangeEventBatch.begin();
+ * try {
+ *     // ... update series and datasets ...
+ * }
+ * finally {
+ *     ChangeEventBatch.commit();
+ * }
+ * </pre>
+ * Batches can be nested; events are delivered when the outermost batch is
+ * committed.  A batch only holds back events sent from the thread that
+ * began it.  If a listener throws an exception during the commit, the
+ * remaining events are still delivered and the first exception is then
+ * rethrown.
+ *
+ * @since 1.0.20
+ */
+public final class ChangeEventBatch {
+
+    /**
+     * An event delivery that can be combined with a later delivery from the
+     * same source, so that the single event sent on commit describes both
+     * changes.
+     */
+    public interface MergeableDelivery extends Runnable {
+
+        /**
+         * Returns a delivery that covers both this delivery and a later one
+         * from the same source.
+         *
+         * @param later  the later delivery (never <code>null</code>).
+         *
+         * @return The combined delivery.
+         */
+        Runnable merge(Runnable later);
+
+    }
+
+    /** The open batch for each thread. */
+    private static final ThreadLocal CURRENT = new ThreadLocal();
+
+    /** The nesting depth. */
+    private int depth;
+
+    /** Set while the events are being delivered. */
+    private boolean flushing;
+
+    /** The sources with pending events, in the order of the first event. */
+    private List sources;
+
+    /** The pending event delivery for each source. */
+    private Map pending;
+
+    /** The sources that have had their events delivered during the flush. */
+    private Map delivered;
+
+    /**
+     * Creates a new batch.
+     */
+    private ChangeEventBatch() {
+        this.sources = new ArrayList();
+        this.pending = new IdentityHashMap();
+        this.delivered = new IdentityHashMap();
+    }
+
+    /**
+     * Begins a batch on the current thread (or a nested batch, if one is
+     * already open).
+     */
+    public static void begin() {
+        ChangeEventBatch batch = (ChangeEventBatch) CURRENT.get();
+        if (batch == null) {
+            batch = new ChangeEventBatch();
+            CURRENT.set(batch);
+        }
+        batch.depth++;
+    }
+
+    /**
+     * Ends the current batch.  If this is the outermost batch, the pending
+     * change events are delivered before this method returns.
+     *
+     * @throws IllegalStateException if there is no open batch on the current
+     *     thread.
+     */
+    public static void commit() {
+        ChangeEventBatch batch = (ChangeEventBatch) CURRENT.get();
+        if (batch == null || batch.depth == 0) {
+            throw new IllegalStateException("No batch has been started.");
+        }
+        batch.depth--;
+        if (batch.depth > 0 || batch.flushing) {
+            return;
+        }
+        batch.flushing = true;
+        RuntimeException runtimeFailure = null;
+        Error errorFailure = null;
+        try {
+            for (int i = 0; i < batch.sources.size(); i++) {
+                Object source = batch.sources.get(i);
+                Runnable delivery = (Runnable) batch.pending.remove(source);
+                batch.delivered.put(source, Boolean.TRUE);
+                // one failing listener mustn't stop the other events
+                try {
+                    delivery.run();
+                }
+                catch (RuntimeException e) {
+                    if (runtimeFailure == null && errorFailure == null) {
+                        runtimeFailure = e;
+                    }
+                }
+                catch (Error e) {
+                    if (runtimeFailure == null && errorFailure == null) {
+                        errorFailure = e;
+                    }
+                }
+            }
+        }
+        finally {
+            CURRENT.remove();
+        }
+        if (runtimeFailure != null) {
+            throw runtimeFailure;
+        }
+        if (errorFailure != null) {
+            throw errorFailure;
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if a batch is open on the current thread.
+     *
+     * @return A boolean.
+     */
+    public static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * Holds back a change event if a batch is open on the current thread.
+     * This is called by the classes that send change events; it is not
+     * normally called by applications.
+     *
+     * @param source  the object sending the event.
+     * @param delivery  delivers the event to the listeners.  If an event
+     *     from the same source is already pending and its delivery is a
+     *     {@link MergeableDelivery}, the two are merged; otherwise this
+     *     delivery replaces the pending one.
+     *
+     * @return <code>true</code> if the event will be delivered when the
+     *     batch is committed (or has been dropped because an event from
+     *     the same source has already been delivered during the commit),
+     *     and <code>false</code> if the caller should deliver the event
+     *     itself.
+     */
+    public static boolean defer(Object source, Runnable delivery) {
+        ChangeEventBatch batch = (ChangeEventBatch) CURRENT.get();
+        if (batch == null) {
+            return false;
+        }
+        if (batch.delivered.containsKey(source)) {
+            return true;
+        }
+        Runnable previous = (Runnable) batch.pending.get(source);
+        if (previous == null) {
+            batch.sources.add(source);
+        }
+        else if (previous instanceof MergeableDelivery) {
+            delivery = ((MergeableDelivery) previous).merge(delivery);
+        }
+        batch.pending.put(source, delivery);
+        return true;
+    }
+
+}
@@ -0,0 +1,194 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------------------
+ * CoalescingDatasetChangeListener.java
+ * -------------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.general;
+
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.swing.Timer;
+
+import org.jfree.chart.util.ParamChecks;
+
+/**
+ * A dataset change listener that collects the events it receives over a
+ * short period and passes them on to another listener, at most one event per
+ * dataset per period.  This is useful when a dataset is updated frequently
+ * from a data feed: the chart recalculates and repaints once per period
+ * rather than once per update.
+ * <P>
+ * The period starts with the first event received after the previous
+ * delivery, so no event is delayed by more than the period.  Events are
+ * delivered on the Swing event dispatch thread.  For example:
+ * <pre>
+ * CoalescingDatasetChangeListener.install(dataset, plot, 100);
+ * </pre>
+ * Note that setting the dataset on a plot registers the plot as a listener
+ * again, so the listener should be installed after the dataset is set.
+ *
+ * @see ChangeEventBatch
+ *
+ * @since 1.0.20
+ */
+public class CoalescingDatasetChangeListener implements DatasetChangeListener {
+
+    /** The listener that receives the coalesced events. */
+    private DatasetChangeListener target;
+
+    /** The timer that triggers the delivery. */
+    private Timer timer;
+
+    /** The latest pending event for each dataset (guarded by this). */
+    private List pendingEvents;
+
+    /**
+     * Creates a new listener.
+     *
+     * @param target  the listener that receives the coalesced events
+     *     (<code>null</code> not permitted).
+     * @param delay  the coalescing period (in milliseconds).
+     */
+    public CoalescingDatasetChangeListener(DatasetChangeListener target,
+            int delay) {
+        ParamChecks.nullNotPermitted(target, "target");
+        if (delay < 0) {
+            throw new IllegalArgumentException("Negative 'delay' argument.");
+        }
+        this.target = target;
+        this.pendingEvents = new ArrayList();
+        this.timer = new Timer(delay, new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                flush();
+            }
+        });
+        this.timer.setRepeats(false);
+    }
+
+    /**
+     * Returns the listener that receives the coalesced events.
+     *
+     * @return The target listener (never <code>null</code>).
+     */
+    public DatasetChangeListener getTarget() {
+        return this.target;
+    }
+
+    /**
+     * Returns the coalescing period.
+     *
+     * @return The period (in milliseconds).
+     */
+    public int getDelay() {
+        return this.timer.getInitialDelay();
+    }
+
+    /**
+     * Receives a dataset change event and holds it until the end of the
+     * current period.
+     *
+     * @param event  the event.
+     */
+    @Override
+    public void datasetChanged(DatasetChangeEvent event) {
+        synchronized (this) {
+            if (this.pendingEvents.isEmpty()) {
+                this.timer.restart();
+            }
+            Object source = event.getSource();
+            boolean replaced = false;
+            for (int i = 0; i < this.pendingEvents.size(); i++) {
+                DatasetChangeEvent pending
+                        = (DatasetChangeEvent) this.pendingEvents.get(i);
+                if (pending.getSource() == source) {
+                    this.pendingEvents.set(i, event);
+                    replaced = true;
+                    break;
+                }
+            }
+            if (!replaced) {
+                this.pendingEvents.add(event);
+            }
+        }
+    }
+
+    /**
+     * Passes the pending events (if any) to the target listener now, on the
+     * calling thread.
+     */
+    public void flush() {
+        List events;
+        synchronized (this) {
+            if (this.pendingEvents.isEmpty()) {
+                return;
+            }
+            events = this.pendingEvents;
+            this.pendingEvents = new ArrayList();
+            this.timer.stop();
+        }
+        for (int i = 0; i < events.size(); i++) {
+            this.target.datasetChanged((DatasetChangeEvent) events.get(i));
+        }
+    }
+
+    /**
+     * Replaces a listener on a dataset with a coalescing listener that
+     * passes events on to it.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param target  the listener (<code>null</code> not permitted).
+     * @param delay  the coalescing period (in milliseconds).
+     *
+     * @return The coalescing listener that has been registered with the
+     *     dataset.
+     */
+    public static CoalescingDatasetChangeListener install(Dataset dataset,
+            DatasetChangeListener target, int delay) {
+        ParamChecks.nullNotPermitted(dataset, "dataset");
+        CoalescingDatasetChangeListener listener
+                = new CoalescingDatasetChangeListener(target, delay);
+        dataset.removeChangeListener(target);
+        dataset.addChangeListener(listener);
+        return listener;
+    }
+
+}
@@ -35,6 +35,7 @@
  * Changes:
  * --------
  * 28-Jan-2009 : Version 1 (DG);
+ * 16-Oct-2026 : Count changes made without notification;
  *
  */
 
@@ -274,6 +275,9 @@ public class DefaultHeatMapDataset extends AbstractDataset
         if (notify) {
             fireDatasetChanged();
         }
+        else {
+            incrementModificationCount();
+        }
     }
 
     /**
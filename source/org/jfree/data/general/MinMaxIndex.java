@@ -0,0 +1,318 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------
+ * MinMaxIndex.java
+ * ----------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.general;
+
+import java.util.Arrays;
+
+/**
+ * An index over a sequence of values that finds the minimum and maximum
+ * value for any range of item indices in O(log n) time.  The index is a
+ * segment tree: a pyramid in which each level holds the minimum and maximum
+ * of pairs of entries from the level below.
+ * <P>
+ * Values can be appended, replaced, or removed from the front of the
+ * sequence, each in O(log n) time (amortized).  <code>Double.NaN</code>
+ * values are ignored in the results, so they can be used for missing
+ * (<code>null</code>) values.  Any other change to the underlying data
+ * means the index must be rebuilt (or discarded).
+ * <P>
+ * This class is not thread-safe.
+ *
+ * @since 1.0.20
+ */
+public class MinMaxIndex {
+
+    /** The smallest capacity. */
+    private static final int MIN_CAPACITY = 16;
+
+    /**
+     * The number of leaves in the tree (a power of two).  The leaves are held
+     * at positions <code>capacity</code> to <code>2 * capacity - 1</code>
+     * of the arrays, and the root at position 1.
+     */
+    private int capacity;
+
+    /** The minimum values (NaN is stored as positive infinity). */
+    private double[] min;
+
+    /** The maximum values (NaN is stored as negative infinity). */
+    private double[] max;
+
+    /** The leaf position of the first item. */
+    private int offset;
+
+    /** The number of items. */
+    private int count;
+
+    /**
+     * Creates a new empty index.
+     */
+    public MinMaxIndex() {
+        this(MIN_CAPACITY);
+    }
+
+    /**
+     * Creates a new empty index with room for at least the specified number
+     * of items before it needs to grow.
+     *
+     * @param initialCapacity  the initial capacity.
+     */
+    public MinMaxIndex(int initialCapacity) {
+        this.capacity = MIN_CAPACITY;
+        while (this.capacity < initialCapacity) {
+            this.capacity = this.capacity * 2;
+        }
+        this.min = new double[2 * this.capacity];
+        this.max = new double[2 * this.capacity];
+        Arrays.fill(this.min, Double.POSITIVE_INFINITY);
+        Arrays.fill(this.max, Double.NEGATIVE_INFINITY);
+    }
+
+    /**
+     * Creates a new index for the specified values.  This runs in O(n) time.
+     *
+     * @param values  the values (<code>null</code> not permitted).
+     * @param start  the index of the first value to include.
+     * @param end  the index after the last value to include.
+     */
+    public MinMaxIndex(double[] values, int start, int end) {
+        this(end - start);
+        for (int i = start; i < end; i++) {
+            this.min[this.capacity + i - start] = toMin(values[i]);
+            this.max[this.capacity + i - start] = toMax(values[i]);
+        }
+        this.count = end - start;
+        rebuildParents();
+    }
+
+    /**
+     * Returns the number of items in the index.
+     *
+     * @return The item count.
+     */
+    public int getItemCount() {
+        return this.count;
+    }
+
+    /**
+     * Adds a value at the end of the sequence.
+     *
+     * @param value  the value (<code>Double.NaN</code> for a missing value).
+     */
+    public void add(double value) {
+        if (this.offset + this.count == this.capacity) {
+            compact(Math.max(this.count + 1, this.count * 2));
+        }
+        setLeaf(this.offset + this.count, value);
+        this.count++;
+    }
+
+    /**
+     * Replaces the value at the specified index.
+     *
+     * @param index  the item index.
+     * @param value  the new value (<code>Double.NaN</code> for a missing
+     *     value).
+     */
+    public void set(int index, double value) {
+        checkIndex(index);
+        setLeaf(this.offset + index, value);
+    }
+
+    /**
+     * Removes the first value from the sequence (the indices of the other
+     * values all go down by one).
+     */
+    public void removeFirst() {
+        checkIndex(0);
+        setLeaf(this.offset, Double.NaN);
+        this.offset++;
+        this.count--;
+    }
+
+    /**
+     * Removes all values from the index.
+     */
+    public void clear() {
+        Arrays.fill(this.min, Double.POSITIVE_INFINITY);
+        Arrays.fill(this.max, Double.NEGATIVE_INFINITY);
+        this.offset = 0;
+        this.count = 0;
+    }
+
+    /**
+     * Returns the minimum value for the items from <code>start</code> to
+     * <code>end</code> inclusive, ignoring <code>Double.NaN</code> values.
+     *
+     * @param start  the index of the first item.
+     * @param end  the index of the last item.
+     *
+     * @return The minimum value, or <code>Double.NaN</code> if there are no
+     *     values in the range.
+     */
+    public double getMinimum(int start, int end) {
+        checkRange(start, end);
+        double result = Double.POSITIVE_INFINITY;
+        boolean found = false;
+        int lo = this.capacity + this.offset + start;
+        int hi = this.capacity + this.offset + end + 1;
+        while (lo < hi) {
+            if ((lo & 1) == 1) {
+                found = found || this.max[lo] >= this.min[lo];
+                result = Math.min(result, this.min[lo++]);
+            }
+            if ((hi & 1) == 1) {
+                --hi;
+                found = found || this.max[hi] >= this.min[hi];
+                result = Math.min(result, this.min[hi]);
+            }
+            lo >>= 1;
+            hi >>= 1;
+        }
+        return found ? result : Double.NaN;
+    }
+
+    /**
+     * Returns the maximum value for the items from <code>start</code> to
+     * <code>end</code> inclusive, ignoring <code>Double.NaN</code> values.
+     *
+     * @param start  the index of the first item.
+     * @param end  the index of the last item.
+     *
+     * @return The maximum value, or <code>Double.NaN</code> if there are no
+     *     values in the range.
+     */
+    public double getMaximum(int start, int end) {
+        checkRange(start, end);
+        double result = Double.NEGATIVE_INFINITY;
+        boolean found = false;
+        int lo = this.capacity + this.offset + start;
+        int hi = this.capacity + this.offset + end + 1;
+        while (lo < hi) {
+            if ((lo & 1) == 1) {
+                found = found || this.max[lo] >= this.min[lo];
+                result = Math.max(result, this.max[lo++]);
+            }
+            if ((hi & 1) == 1) {
+                --hi;
+                found = found || this.max[hi] >= this.min[hi];
+                result = Math.max(result, this.max[hi]);
+            }
+            lo >>= 1;
+            hi >>= 1;
+        }
+        return found ? result : Double.NaN;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.count) {
+            throw new IndexOutOfBoundsException("Index: " + index
+                    + ", Size: " + this.count);
+        }
+    }
+
+    private void checkRange(int start, int end) {
+        if (start < 0 || end >= this.count || start > end) {
+            throw new IndexOutOfBoundsException("Range: " + start + " to "
+                    + end + ", Size: " + this.count);
+        }
+    }
+
+    private static double toMin(double value) {
+        return Double.isNaN(value) ? Double.POSITIVE_INFINITY : value;
+    }
+
+    private static double toMax(double value) {
+        return Double.isNaN(value) ? Double.NEGATIVE_INFINITY : value;
+    }
+
+    /**
+     * Sets a leaf value and updates its ancestors.
+     *
+     * @param position  the leaf position (relative to the first leaf).
+     * @param value  the value.
+     */
+    private void setLeaf(int position, double value) {
+        int i = this.capacity + position;
+        this.min[i] = toMin(value);
+        this.max[i] = toMax(value);
+        i >>= 1;
+        while (i >= 1) {
+            this.min[i] = Math.min(this.min[2 * i], this.min[2 * i + 1]);
+            this.max[i] = Math.max(this.max[2 * i], this.max[2 * i + 1]);
+            i >>= 1;
+        }
+    }
+
+    /**
+     * Moves the items to the start of the leaves, growing the tree if
+     * necessary, and rebuilds the upper levels.  This runs in O(n) time.
+     *
+     * @param required  the number of leaves required.
+     */
+    private void compact(int required) {
+        int newCapacity = MIN_CAPACITY;
+        while (newCapacity < required) {
+            newCapacity = newCapacity * 2;
+        }
+        double[] newMin = new double[2 * newCapacity];
+        double[] newMax = new double[2 * newCapacity];
+        Arrays.fill(newMin, Double.POSITIVE_INFINITY);
+        Arrays.fill(newMax, Double.NEGATIVE_INFINITY);
+        System.arraycopy(this.min, this.capacity + this.offset, newMin,
+                newCapacity, this.count);
+        System.arraycopy(this.max, this.capacity + this.offset, newMax,
+                newCapacity, this.count);
+        this.min = newMin;
+        this.max = newMax;
+        this.capacity = newCapacity;
+        this.offset = 0;
+        rebuildParents();
+    }
+
+    private void rebuildParents() {
+        for (int i = this.capacity - 1; i >= 1; i--) {
+            this.min[i] = Math.min(this.min[2 * i], this.min[2 * i + 1]);
+            this.max[i] = Math.max(this.max[2 * i], this.max[2 * i + 1]);
+        }
+    }
+
+}
@@ -51,6 +51,8 @@
  * 26-Sep-2007 : Added isEmpty() and getItemCount() methods (DG);
  * 16-Oct-2011 : Added vetoable property change support for series name (DG);
  * 03-Jul-2013 : Use ParamChecks (DG);
+ * 16-Oct-2026 : Hold back change events while a ChangeEventBatch is open;
+ * 16-Oct-2026 : Added modification count;
  * 
  */
 
@@ -101,6 +103,9 @@ public abstract class Series implements Cloneable, Serializable {
     /** A flag that controls whether or not changes are notified. */
     private boolean notify;
 
+    /** A counter that is incremented each time the series is changed. */
+    private long modificationCount;
+
     /**
      * Creates a new series with the specified key.
      *
@@ -333,16 +338,66 @@ public abstract class Series implements Cloneable, Serializable {
         if (this.notify) {
             notifyListeners(new SeriesChangeEvent(this));
         }
+        else {
+            incrementModificationCount();
+        }
+    }
+
+    /**
+     * Returns the modification count for the series.  The count increases
+     * (but is not guaranteed to increase by exactly one) each time the data
+     * in the series is changed, including changes made without sending a
+     * change event, so comparing it with a count saved earlier tells cheaply
+     * whether the series may have changed in the meantime.  Changes made
+     * directly to data items returned by the series are not counted.
+     *
+     * @return The modification count.
+     *
+     * @since 1.0.20
+     */
+    public long getModificationCount() {
+        return this.modificationCount;
+    }
+
+    /**
+     * Increments the modification count.  Subclasses that change their data
+     * without calling {@link #fireSeriesChanged()} should call this method.
+     *
+     * @since 1.0.20
+     */
+    protected void incrementModificationCount() {
+        this.modificationCount++;
     }
 
     /**
-     * Sends a change event to all registered listeners.
+     * Sends a change event to all registered listeners.  If a
+     * {@link ChangeEventBatch} is open on the current thread, the event is
+     * held back until the batch is committed.  The modification count is
+     * incremented immediately.
      *
      * @param event  contains information about the event that triggered the
      *               notification.
      */
-    protected void notifyListeners(SeriesChangeEvent event) {
+    protected void notifyListeners(final SeriesChangeEvent event) {
+        incrementModificationCount();
+        if (ChangeEventBatch.isActive() && ChangeEventBatch.defer(this,
+                new Runnable() {
+                    @Override
+                    public void run() {
+                        deliver(event);
+                    }
+                })) {
+            return;
+        }
+        deliver(event);
+    }
 
+    /**
+     * Sends an event to all registered listeners.
+     *
+     * @param event  the event.
+     */
+    private void deliver(SeriesChangeEvent event) {
         Object[] listenerList = this.listeners.getListenerList();
         for (int i = listenerList.length - 2; i >= 0; i -= 2) {
             if (listenerList[i] == SeriesChangeListener.class) {
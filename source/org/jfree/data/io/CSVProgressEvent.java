@@ -0,0 +1,106 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------
+ * CSVProgressEvent.java
+ * ---------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.io;
+
+import java.util.EventObject;
+
+/**
+ * An event that reports the progress of a {@link ChunkedCSVReader}.
+ *
+ * @since 1.0.20
+ */
+public class CSVProgressEvent extends EventObject {
+
+    /** The number of bytes read so far. */
+    private long bytesRead;
+
+    /** The total number of bytes, or -1 if this is not known. */
+    private long totalBytes;
+
+    /** The number of data rows read so far. */
+    private long rowsRead;
+
+    /**
+     * Creates a new event.
+     *
+     * @param source  the source of the event (the reader).
+     * @param bytesRead  the number of bytes read so far.
+     * @param totalBytes  the total number of bytes, or -1 if this is not
+     *     known.
+     * @param rowsRead  the number of data rows read so far.
+     */
+    public CSVProgressEvent(Object source, long bytesRead, long totalBytes,
+            long rowsRead) {
+        super(source);
+        this.bytesRead = bytesRead;
+        this.totalBytes = totalBytes;
+        this.rowsRead = rowsRead;
+    }
+
+    /**
+     * Returns the number of bytes read so far.
+     *
+     * @return The number of bytes read.
+     */
+    public long getBytesRead() {
+        return this.bytesRead;
+    }
+
+    /**
+     * Returns the total number of bytes in the input.
+     *
+     * @return The total number of bytes, or -1 if this is not known (for
+     *     example, when reading from a stream).
+     */
+    public long getTotalBytes() {
+        return this.totalBytes;
+    }
+
+    /**
+     * Returns the number of data rows read so far.
+     *
+     * @return The number of rows read.
+     */
+    public long getRowsRead() {
+        return this.rowsRead;
+    }
+
+}
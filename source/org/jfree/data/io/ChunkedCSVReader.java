@@ -0,0 +1,1359 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------
+ * ChunkedCSVReader.java
+ * ---------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.io;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import javax.swing.event.EventListenerList;
+
+import org.jfree.chart.util.ParamChecks;
+import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.data.general.ChangeEventBatch;
+import org.jfree.data.time.FixedMillisecond;
+import org.jfree.data.time.RegularTimePeriod;
+import org.jfree.data.time.TimeSeries;
+import org.jfree.data.time.TimeSeriesCollection;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+
+/**
+ * A reader for large CSV files that builds datasets directly.  Compared to
+ * {@link CSV}, this reader works on blocks of bytes read through NIO rather
+ * than on lines of text, and parses numbers and timestamps without creating
+ * intermediate strings.  Blocks can optionally be parsed in parallel by an
+ * {@link ExecutorService}; they are always added to the dataset in file
+ * order.
+ * <P>
+ * The first line of the input contains the column names.  Each following
+ * line contains a key in the first field and a value for each of the other
+ * columns:
+ * <ul>
+ * <li>{@link #readXYSeriesCollection(File)} reads a number in the first
+ * field and creates one series per column;</li>
+ * <li>{@link #readTimeSeriesCollection(File, Class)} reads a timestamp in
+ * the first field (either ISO 8601, such as
+ * <code>2014-06-30T12:00:00.000Z</code> or <code>2014-06-30 12:00</code>,
+ * or a number of milliseconds since 1-Jan-1970) and creates one series per
+ * column;</li>
+ * <li>{@link #readCategoryDataset(File)} reads a row key in the first field
+ * (this is the same format that {@link CSV} reads).</li>
+ * </ul>
+ * Empty fields are read as missing (<code>null</code>) values.  Fields can
+ * be enclosed in text delimiters, but a field must not contain a line
+ * break.  The input must use an ASCII-compatible encoding such as UTF-8.
+ *
+ * @since 1.0.20
+ */
+public class ChunkedCSVReader {
+
+    /** The default block size (4MB). */
+    public static final int DEFAULT_BLOCK_SIZE = 1 << 22;
+
+    /** Read the data into an {@link XYSeriesCollection}. */
+    private static final int XY = 0;
+
+    /** Read the data into a {@link TimeSeriesCollection}. */
+    private static final int TIME = 1;
+
+    /** Read the data into a {@link DefaultCategoryDataset}. */
+    private static final int CATEGORY = 2;
+
+    /** The charset used for keys. */
+    private static final Charset UTF8 = Charset.forName("UTF-8");
+
+    /** The powers of ten that can be represented exactly as doubles. */
+    private static final double[] POWERS_OF_TEN = {1e0, 1e1, 1e2, 1e3, 1e4,
+            1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16,
+            1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
+    /** The number of milliseconds in one day. */
+    private static final long MILLIS_PER_DAY = 24L * 60L * 60L * 1000L;
+
+    /** The field delimiter. */
+    private byte fieldDelimiter;
+
+    /** The text delimiter. */
+    private byte textDelimiter;
+
+    /** The number of bytes read and parsed at a time. */
+    private int blockSize;
+
+    /** The time zone for timestamps without an offset. */
+    private TimeZone timeZone;
+
+    /** The executor used to parse blocks (<code>null</code> permitted). */
+    private ExecutorService executor;
+
+    /** Storage for registered progress listeners. */
+    private EventListenerList listenerList;
+
+    /**
+     * Creates a new reader where the field delimiter is a comma, and the
+     * text delimiter is a double-quote.
+     */
+    public ChunkedCSVReader() {
+        this(',', '"');
+    }
+
+    /**
+     * Creates a new reader with the specified field and text delimiters.
+     *
+     * @param fieldDelimiter  the field delimiter (usually a comma, semi-colon,
+     *                        colon, tab or space).
+     * @param textDelimiter  the text delimiter (usually a single or double
+     *                       quote).
+     */
+    public ChunkedCSVReader(char fieldDelimiter, char textDelimiter) {
+        if (fieldDelimiter > 127 || textDelimiter > 127) {
+            throw new IllegalArgumentException(
+                    "The delimiters must be ASCII characters.");
+        }
+        this.fieldDelimiter = (byte) fieldDelimiter;
+        this.textDelimiter = (byte) textDelimiter;
+        this.blockSize = DEFAULT_BLOCK_SIZE;
+        this.timeZone = TimeZone.getDefault();
+        this.listenerList = new EventListenerList();
+    }
+
+    /**
+     * Returns the number of bytes that are read and parsed at a time.
+     *
+     * @return The block size.
+     */
+    public int getBlockSize() {
+        return this.blockSize;
+    }
+
+    /**
+     * Sets the number of bytes that are read and parsed at a time.  Blocks
+     * are extended as necessary to hold at least one complete line.
+     *
+     * @param blockSize  the block size (at least 16).
+     */
+    public void setBlockSize(int blockSize) {
+        if (blockSize < 16) {
+            throw new IllegalArgumentException("Requires 'blockSize' >= 16.");
+        }
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * Returns the time zone used for timestamps that do not specify an
+     * offset.
+     *
+     * @return The time zone (never <code>null</code>).
+     */
+    public TimeZone getTimeZone() {
+        return this.timeZone;
+    }
+
+    /**
+     * Sets the time zone used for timestamps that do not specify an offset.
+     * The default is the JVM's default time zone.
+     *
+     * @param zone  the time zone (<code>null</code> not permitted).
+     */
+    public void setTimeZone(TimeZone zone) {
+        ParamChecks.nullNotPermitted(zone, "zone");
+        this.timeZone = zone;
+    }
+
+    /**
+     * Returns the executor used to parse blocks in parallel.
+     *
+     * @return The executor (possibly <code>null</code>).
+     */
+    public ExecutorService getExecutor() {
+        return this.executor;
+    }
+
+    /**
+     * Sets the executor used to parse blocks in parallel.  If this is
+     * <code>null</code> (the default), blocks are parsed on the calling
+     * thread.  The executor is not shut down by this reader.
+     *
+     * @param executor  the executor (<code>null</code> permitted).
+     */
+    public void setExecutor(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Registers a listener to receive progress events.  Events are sent on
+     * the calling thread after each block has been added to the dataset.
+     *
+     * @param listener  the listener (<code>null</code> not permitted).
+     */
+    public void addProgressListener(CSVProgressListener listener) {
+        ParamChecks.nullNotPermitted(listener, "listener");
+        this.listenerList.add(CSVProgressListener.class, listener);
+    }
+
+    /**
+     * Deregisters a progress listener.
+     *
+     * @param listener  the listener.
+     */
+    public void removeProgressListener(CSVProgressListener listener) {
+        this.listenerList.remove(CSVProgressListener.class, listener);
+    }
+
+    /**
+     * Reads an {@link XYSeriesCollection} from a file.  The series use
+     * compact storage and keep the items in file order.
+     *
+     * @param file  the file (<code>null</code> not permitted).
+     *
+     * @return The dataset.
+     *
+     * @throws IOException if there is an I/O problem or the data cannot be
+     *     parsed.
+     */
+    public XYSeriesCollection readXYSeriesCollection(File file)
+            throws IOException {
+        ParamChecks.nullNotPermitted(file, "file");
+        XYSink sink = new XYSink();
+        read(file, XY, sink);
+        return sink.dataset;
+    }
+
+    /**
+     * Reads an {@link XYSeriesCollection} from a stream.  The stream is not
+     * closed.
+     *
+     * @param in  the input stream (<code>null</code> not permitted).
+     *
+     * @return The dataset.
+     *
+     * @throws IOException if there is an I/O problem or the data cannot be
+     *     parsed.
+     */
+    public XYSeriesCollection readXYSeriesCollection(InputStream in)
+            throws IOException {
+        ParamChecks.nullNotPermitted(in, "in");
+        XYSink sink = new XYSink();
+        read(Channels.newChannel(in), -1L, XY, sink);
+        return sink.dataset;
+    }
+
+    /**
+     * Reads a {@link TimeSeriesCollection} from a file.
+     *
+     * @param file  the file (<code>null</code> not permitted).
+     * @param timePeriodClass  the type of time period for the series, for
+     *     example {@link FixedMillisecond} (<code>null</code> not permitted).
+     *
+     * @return The dataset.
+     *
+     * @throws IOException if there is an I/O problem or the data cannot be
+     *     parsed.
+     */
+    public TimeSeriesCollection readTimeSeriesCollection(File file,
+            Class timePeriodClass) throws IOException {
+        ParamChecks.nullNotPermitted(file, "file");
+        ParamChecks.nullNotPermitted(timePeriodClass, "timePeriodClass");
+        TimeSink sink = new TimeSink(timePeriodClass);
+        read(file, TIME, sink);
+        return sink.dataset;
+    }
+
+    /**
+     * Reads a {@link TimeSeriesCollection} from a stream.  The stream is not
+     * closed.  Each row must be in a later time period than the row before
+     * it (or a {@link org.jfree.data.general.SeriesException} is thrown).
+     *
+     * @param in  the input stream (<code>null</code> not permitted).
+     * @param timePeriodClass  the type of time period for the series, for
+     *     example {@link FixedMillisecond} (<code>null</code> not permitted).
+     *
+     * @return The dataset.
+     *
+     * @throws IOException if there is an I/O problem or the data cannot be
+     *     parsed.
+     */
+    public TimeSeriesCollection readTimeSeriesCollection(InputStream in,
+            Class timePeriodClass) throws IOException {
+        ParamChecks.nullNotPermitted(in, "in");
+        ParamChecks.nullNotPermitted(timePeriodClass, "timePeriodClass");
+        TimeSink sink = new TimeSink(timePeriodClass);
+        read(Channels.newChannel(in), -1L, TIME, sink);
+        return sink.dataset;
+    }
+
+    /**
+     * Reads a {@link DefaultCategoryDataset} from a file.
+     *
+     * @param file  the file (<code>null</code> not permitted).
+     *
+     * @return The dataset.
+     *
+     * @throws IOException if there is an I/O problem or the data cannot be
+     *     parsed.
+     */
+    public DefaultCategoryDataset readCategoryDataset(File file)
+            throws IOException {
+        ParamChecks.nullNotPermitted(file, "file");
+        CategorySink sink = new CategorySink();
+        read(file, CATEGORY, sink);
+        return sink.finish();
+    }
+
+    /**
+     * Reads a {@link DefaultCategoryDataset} from a stream.  The stream is
+     * not closed.
+     *
+     * @param in  the input stream (<code>null</code> not permitted).
+     *
+     * @return The dataset.
+     *
+     * @throws IOException if there is an I/O problem or the data cannot be
+     *     parsed.
+     */
+    public DefaultCategoryDataset readCategoryDataset(InputStream in)
+            throws IOException {
+        ParamChecks.nullNotPermitted(in, "in");
+        CategorySink sink = new CategorySink();
+        read(Channels.newChannel(in), -1L, CATEGORY, sink);
+        return sink.finish();
+    }
+
+    /**
+     * Reads a file.
+     *
+     * @param file  the file.
+     * @param mode  the mode.
+     * @param sink  receives the data.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void read(File file, int mode, Sink sink) throws IOException {
+        FileInputStream in = new FileInputStream(file);
+        try {
+            FileChannel channel = in.getChannel();
+            read(channel, channel.size(), mode, sink);
+        }
+        finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Reads the input in blocks, parses the blocks (in parallel if there is
+     * an executor) and passes them to the sink in order.
+     *
+     * @param channel  the input.
+     * @param totalBytes  the input size, or -1 if this is not known.
+     * @param mode  the mode.
+     * @param sink  receives the data.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void read(ReadableByteChannel channel, long totalBytes, int mode,
+            Sink sink) throws IOException {
+        int maxPending = Runtime.getRuntime().availableProcessors() + 1;
+        LinkedList pending = new LinkedList();
+        byte[] buffer = new byte[this.blockSize];
+        int length = 0;
+        long bytesRead = 0L;
+        long rowsRead = 0L;
+        int lineNumber = 1;
+        int columnCount = -1;
+        boolean eof = false;
+        try {
+            while (!eof) {
+                ByteBuffer bb = ByteBuffer.wrap(buffer, length,
+                        buffer.length - length);
+                while (bb.hasRemaining()) {
+                    if (channel.read(bb) < 0) {
+                        eof = true;
+                        break;
+                    }
+                }
+                length = bb.position();
+                int end = eof ? length : lastLineEnd(buffer, length);
+                if (end == 0 && !eof) {
+                    // the block does not contain a complete line
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                    continue;
+                }
+                int start = 0;
+                if (columnCount < 0) {
+                    List keys = readHeader(buffer, end);
+                    if (keys == null) {
+                        break;
+                    }
+                    columnCount = keys.size();
+                    sink.start(keys);
+                    start = indexOf(buffer, (byte) '\n', 0, end) + 1;
+                    if (start == 0) {
+                        start = end;
+                    }
+                    lineNumber++;
+                }
+                Block block = new Block(buffer, start, end, mode,
+                        columnCount, end);
+                byte[] next;
+                if (this.executor != null) {
+                    pending.add(this.executor.submit(block));
+                    next = new byte[Math.max(this.blockSize, length - end)];
+                }
+                else {
+                    block.call();
+                    pending.add(block);
+                    next = buffer;
+                }
+                System.arraycopy(buffer, end, next, 0, length - end);
+                length = length - end;
+                buffer = next;
+                while (!pending.isEmpty() && (pending.size() >= maxPending
+                        || this.executor == null)) {
+                    Block done = take(pending.removeFirst());
+                    lineNumber = append(done, sink, lineNumber);
+                    bytesRead += done.byteCount;
+                    rowsRead += done.rowCount;
+                    fireProgressChanged(bytesRead, totalBytes, rowsRead);
+                }
+            }
+            while (!pending.isEmpty()) {
+                Block done = take(pending.removeFirst());
+                lineNumber = append(done, sink, lineNumber);
+                bytesRead += done.byteCount;
+                rowsRead += done.rowCount;
+                fireProgressChanged(bytesRead, totalBytes, rowsRead);
+            }
+        }
+        finally {
+            for (int i = 0; i < pending.size(); i++) {
+                Object task = pending.get(i);
+                if (task instanceof Future) {
+                    ((Future) task).cancel(true);
+                }
+            }
+        }
+        if (columnCount < 0) {
+            throw new IOException("The input does not contain a header line.");
+        }
+    }
+
+    /**
+     * Returns a parsed block, waiting for it if necessary.
+     *
+     * @param task  the block or a future for the block.
+     *
+     * @return The block.
+     *
+     * @throws IOException if the block could not be parsed.
+     */
+    private static Block take(Object task) throws IOException {
+        if (task instanceof Block) {
+            return (Block) task;
+        }
+        try {
+            return (Block) ((Future) task).get();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(
+                    "Interrupted while parsing CSV data.");
+        }
+        catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause.getMessage());
+        }
+    }
+
+    /**
+     * Passes a parsed block to the sink.
+     *
+     * @param block  the block.
+     * @param sink  the sink.
+     * @param lineNumber  the line number of the first line in the block.
+     *
+     * @return The line number of the first line after the block.
+     *
+     * @throws IOException if the block contains an error.
+     */
+    private static int append(Block block, Sink sink, int lineNumber)
+            throws IOException {
+        if (block.errorMessage != null) {
+            throw new IOException("Line " + (lineNumber + block.errorLine)
+                    + ": " + block.errorMessage);
+        }
+        sink.append(block);
+        return lineNumber + block.lineCount;
+    }
+
+    /**
+     * Sends a progress event to all registered listeners.
+     *
+     * @param bytesRead  the number of bytes read.
+     * @param totalBytes  the total number of bytes (or -1).
+     * @param rowsRead  the number of rows read.
+     */
+    private void fireProgressChanged(long bytesRead, long totalBytes,
+            long rowsRead) {
+        Object[] listeners = this.listenerList.getListenerList();
+        if (listeners.length == 0) {
+            return;
+        }
+        CSVProgressEvent event = new CSVProgressEvent(this, bytesRead,
+                totalBytes, rowsRead);
+        for (int i = listeners.length - 2; i >= 0; i -= 2) {
+            if (listeners[i] == CSVProgressListener.class) {
+                ((CSVProgressListener) listeners[i + 1]).progressChanged(
+                        event);
+            }
+        }
+    }
+
+    /**
+     * Reads the column keys from the first line of the input.
+     *
+     * @param b  the buffer.
+     * @param end  the end of the data in the buffer.
+     *
+     * @return The column keys (excluding the first field), or
+     *     <code>null</code> if the input is empty.
+     */
+    private List readHeader(byte[] b, int end) {
+        int lineEnd = indexOf(b, (byte) '\n', 0, end);
+        if (lineEnd < 0) {
+            lineEnd = end;
+        }
+        if (lineEnd > 0 && b[lineEnd - 1] == '\r') {
+            lineEnd--;
+        }
+        // skip a UTF-8 byte order mark
+        int start = 0;
+        if (lineEnd >= 3 && b[0] == (byte) 0xEF && b[1] == (byte) 0xBB
+                && b[2] == (byte) 0xBF) {
+            start = 3;
+        }
+        if (lineEnd == start && end == 0) {
+            return null;
+        }
+        List keys = new ArrayList();
+        int fieldIndex = 0;
+        int fieldStart = start;
+        boolean quoted = false;
+        for (int i = start; i <= lineEnd; i++) {
+            if (i < lineEnd && b[i] == this.textDelimiter) {
+                quoted = !quoted;
+            }
+            else if (i == lineEnd || (b[i] == this.fieldDelimiter
+                    && !quoted)) {
+                if (fieldIndex > 0) {  // the first field is the key column
+                    keys.add(readString(b, fieldStart, i));
+                }
+                fieldStart = i + 1;
+                fieldIndex++;
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Returns a string for a field, without the text delimiters and the
+     * white space outside them.
+     *
+     * @param b  the buffer.
+     * @param start  the start of the field.
+     * @param end  the end of the field.
+     *
+     * @return The string.
+     */
+    private String readString(byte[] b, int start, int end) {
+        while (start < end && b[start] <= ' ') {
+            start++;
+        }
+        while (end > start && b[end - 1] <= ' ') {
+            end--;
+        }
+        if (start < end && b[start] == this.textDelimiter) {
+            start++;
+        }
+        if (end > start && b[end - 1] == this.textDelimiter) {
+            end--;
+        }
+        return new String(b, start, end - start, UTF8);
+    }
+
+    /**
+     * Returns the index after the last line feed in a buffer, or zero if
+     * there is none.
+     *
+     * @param b  the buffer.
+     * @param length  the length of the data in the buffer.
+     *
+     * @return The index.
+     */
+    private static int lastLineEnd(byte[] b, int length) {
+        for (int i = length - 1; i >= 0; i--) {
+            if (b[i] == '\n') {
+                return i + 1;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the index of a byte in part of a buffer, or -1.
+     *
+     * @param b  the buffer.
+     * @param value  the byte to find.
+     * @param start  the start index.
+     * @param end  the end index.
+     *
+     * @return The index, or -1.
+     */
+    private static int indexOf(byte[] b, byte value, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (b[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Parses a decimal number.  Numbers with up to 15 significant digits and
+     * a decimal exponent of at most 22 are converted directly (the result is
+     * exact, as for {@link Double#parseDouble(String)}); other numbers are
+     * passed to {@link Double#parseDouble(String)}.
+     *
+     * @param b  the buffer.
+     * @param start  the start of the number.
+     * @param end  the end of the number.
+     *
+     * @return The number.
+     *
+     * @throws NumberFormatException if the text is not a number.
+     */
+    static double parseDouble(byte[] b, int start, int end) {
+        int i = start;
+        boolean negative = false;
+        if (i < end && (b[i] == '-' || b[i] == '+')) {
+            negative = b[i] == '-';
+            i++;
+        }
+        long mantissa = 0L;
+        int digits = 0;
+        int exponent = 0;
+        boolean any = false;
+        while (i < end && b[i] >= '0' && b[i] <= '9') {
+            any = true;
+            if (digits < 18) {
+                mantissa = mantissa * 10 + (b[i] - '0');
+                if (mantissa != 0) {
+                    digits++;
+                }
+            }
+            else {
+                exponent++;
+                digits++;
+            }
+            i++;
+        }
+        if (i < end && b[i] == '.') {
+            i++;
+            while (i < end && b[i] >= '0' && b[i] <= '9') {
+                any = true;
+                if (digits < 18) {
+                    mantissa = mantissa * 10 + (b[i] - '0');
+                    if (mantissa != 0) {
+                        digits++;
+                    }
+                    exponent--;
+                }
+                else {
+                    digits++;
+                }
+                i++;
+            }
+        }
+        if (any && i < end && (b[i] == 'e' || b[i] == 'E')) {
+            i++;
+            boolean negativeExponent = false;
+            if (i < end && (b[i] == '-' || b[i] == '+')) {
+                negativeExponent = b[i] == '-';
+                i++;
+            }
+            int e = 0;
+            boolean anyExponent = false;
+            while (i < end && b[i] >= '0' && b[i] <= '9') {
+                anyExponent = true;
+                if (e < 10000) {
+                    e = e * 10 + (b[i] - '0');
+                }
+                i++;
+            }
+            if (!anyExponent) {
+                any = false;
+            }
+            exponent += negativeExponent ? -e : e;
+        }
+        if (any && i == end && digits <= 15) {
+            double value;
+            if (mantissa == 0L) {
+                value = 0.0;
+            }
+            else if (exponent >= 0 && exponent <= 22) {
+                value = mantissa * POWERS_OF_TEN[exponent];
+            }
+            else if (exponent < 0 && exponent >= -22) {
+                value = mantissa / POWERS_OF_TEN[-exponent];
+            }
+            else {
+                return Double.parseDouble(new String(b, start, end - start,
+                        UTF8));
+            }
+            return negative ? -value : value;
+        }
+        return Double.parseDouble(new String(b, start, end - start, UTF8));
+    }
+
+    /**
+     * Parses a timestamp in ISO 8601 format (<code>yyyy-MM-dd</code>,
+     * optionally followed by <code>T</code> or a space, <code>HH:mm</code>,
+     * optional seconds and fractional seconds, and an optional
+     * <code>Z</code> or offset), or a number of milliseconds since
+     * 1-Jan-1970.
+     *
+     * @param b  the buffer.
+     * @param start  the start of the timestamp.
+     * @param end  the end of the timestamp.
+     * @param zone  the time zone for timestamps without an offset.
+     *
+     * @return The number of milliseconds since 1-Jan-1970 UTC.
+     *
+     * @throws NumberFormatException if the timestamp cannot be parsed.
+     */
+    static long parseTimestamp(byte[] b, int start, int end, TimeZone zone) {
+        if (end - start < 10 || b[start + 4] != '-') {
+            return (long) parseDouble(b, start, end);
+        }
+        int year = digits(b, start, 4);
+        int month = digits(b, start + 5, 2);
+        int day = digits(b, start + 8, 2);
+        if (b[start + 7] != '-' || month < 1 || month > 12 || day < 1
+                || day > 31) {
+            throw invalidTimestamp(b, start, end);
+        }
+        long millis = daysFromCivil(year, month, day) * MILLIS_PER_DAY;
+        int i = start + 10;
+        if (i < end && (b[i] == 'T' || b[i] == ' ')) {
+            if (end - i < 6 || b[i + 3] != ':') {
+                throw invalidTimestamp(b, start, end);
+            }
+            int hour = digits(b, i + 1, 2);
+            int minute = digits(b, i + 4, 2);
+            int second = 0;
+            int fraction = 0;
+            i += 6;
+            if (i < end && b[i] == ':') {
+                if (end - i < 3) {
+                    throw invalidTimestamp(b, start, end);
+                }
+                second = digits(b, i + 1, 2);
+                i += 3;
+                if (i < end && (b[i] == '.' || b[i] == ',')) {
+                    i++;
+                    int scale = 100;
+                    boolean any = false;
+                    while (i < end && b[i] >= '0' && b[i] <= '9') {
+                        fraction += (b[i] - '0') * scale;
+                        scale /= 10;
+                        any = true;
+                        i++;
+                    }
+                    if (!any) {
+                        throw invalidTimestamp(b, start, end);
+                    }
+                }
+            }
+            if (hour > 23 || minute > 59 || second > 60) {
+                throw invalidTimestamp(b, start, end);
+            }
+            millis += ((hour * 60L + minute) * 60L + second) * 1000L
+                    + fraction;
+        }
+        if (i == end) {
+            int offset = zone.getOffset(millis - zone.getRawOffset());
+            return millis - offset;
+        }
+        if (b[i] == 'Z' && i + 1 == end) {
+            return millis;
+        }
+        if ((b[i] == '+' || b[i] == '-') && (end - i == 3 || end - i == 5
+                || end - i == 6)) {
+            int hours = digits(b, i + 1, 2);
+            int minutes = 0;
+            if (end - i == 5) {
+                minutes = digits(b, i + 3, 2);
+            }
+            else if (end - i == 6) {
+                if (b[i + 3] != ':') {
+                    throw invalidTimestamp(b, start, end);
+                }
+                minutes = digits(b, i + 4, 2);
+            }
+            long offset = (hours * 60L + minutes) * 60000L;
+            return b[i] == '+' ? millis - offset : millis + offset;
+        }
+        throw invalidTimestamp(b, start, end);
+    }
+
+    /**
+     * Reads a fixed number of decimal digits.
+     *
+     * @param b  the buffer.
+     * @param start  the index of the first digit.
+     * @param count  the number of digits.
+     *
+     * @return The value.
+     *
+     * @throws NumberFormatException if a character is not a digit.
+     */
+    private static int digits(byte[] b, int start, int count) {
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            int d = b[i] - '0';
+            if (d < 0 || d > 9) {
+                throw new NumberFormatException("Expected a digit at: "
+                        + new String(b, start, count, UTF8));
+            }
+            value = value * 10 + d;
+        }
+        return value;
+    }
+
+    /**
+     * Returns the number of days from 1-Jan-1970 to a date in the proleptic
+     * Gregorian calendar.
+     *
+     * @param year  the year.
+     * @param month  the month (1 to 12).
+     * @param day  the day of the month.
+     *
+     * @return The number of days.
+     */
+    private static long daysFromCivil(int year, int month, int day) {
+        int y = month <= 2 ? year - 1 : year;
+        int era = (y >= 0 ? y : y - 399) / 400;
+        int yearOfEra = y - era * 400;
+        int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5
+                + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100
+                + dayOfYear;
+        return era * 146097L + dayOfEra - 719468L;
+    }
+
+    /**
+     * Creates an exception for a timestamp that cannot be parsed.
+     *
+     * @param b  the buffer.
+     * @param start  the start of the timestamp.
+     * @param end  the end of the timestamp.
+     *
+     * @return The exception.
+     */
+    private static NumberFormatException invalidTimestamp(byte[] b,
+            int start, int end) {
+        return new NumberFormatException("Invalid timestamp: "
+                + new String(b, start, end - start, UTF8));
+    }
+
+    /**
+     * A block of complete lines that is parsed into arrays of values.
+     */
+    private class Block implements Callable {
+
+        /** The buffer. */
+        private byte[] buffer;
+
+        /** The start of the block in the buffer. */
+        private int start;
+
+        /** The end of the block in the buffer. */
+        private int end;
+
+        /** The mode. */
+        private int mode;
+
+        /** The number of bytes of input that this block accounts for. */
+        private int byteCount;
+
+        /** The number of lines in the block. */
+        private int lineCount;
+
+        /** The number of data rows in the block. */
+        private int rowCount;
+
+        /** The keys (x-values or timestamps) for the XY and time modes. */
+        private double[] keys;
+
+        /** The row keys for the category mode. */
+        private String[] rowKeys;
+
+        /** The values for each column (NaN for missing values). */
+        private double[][] values;
+
+        /** The line (within the block) with an error. */
+        private int errorLine;
+
+        /** The error message (<code>null</code> if there is no error). */
+        private String errorMessage;
+
+        /**
+         * Creates a new block.
+         *
+         * @param buffer  the buffer.
+         * @param start  the start of the block.
+         * @param end  the end of the block.
+         * @param mode  the mode.
+         * @param columnCount  the number of value columns.
+         * @param byteCount  the number of bytes of input.
+         */
+        Block(byte[] buffer, int start, int end, int mode, int columnCount,
+                int byteCount) {
+            this.buffer = buffer;
+            this.start = start;
+            this.end = end;
+            this.mode = mode;
+            this.byteCount = byteCount;
+            int capacity = 64;
+            if (mode == CATEGORY) {
+                this.rowKeys = new String[capacity];
+            }
+            else {
+                this.keys = new double[capacity];
+            }
+            this.values = new double[columnCount][capacity];
+        }
+
+        /**
+         * Parses the block.
+         *
+         * @return This block.
+         */
+        @Override
+        public Object call() {
+            byte[] b = this.buffer;
+            byte delimiter = ChunkedCSVReader.this.fieldDelimiter;
+            byte quote = ChunkedCSVReader.this.textDelimiter;
+            int columnCount = this.values.length;
+            int p = this.start;
+            while (p < this.end) {
+                int lineEnd = indexOf(b, (byte) '\n', p, this.end);
+                if (lineEnd < 0) {
+                    lineEnd = this.end;
+                }
+                int next = lineEnd + 1;
+                if (lineEnd > p && b[lineEnd - 1] == '\r') {
+                    lineEnd--;
+                }
+                if (lineEnd == p) {  // skip blank lines
+                    this.lineCount++;
+                    p = next;
+                    continue;
+                }
+                int row = this.rowCount;
+                if (row == capacity()) {
+                    grow();
+                }
+                int field = 0;
+                int fieldStart = p;
+                boolean quoted = false;
+                try {
+                    for (int i = p; i <= lineEnd; i++) {
+                        if (i < lineEnd && b[i] == quote) {
+                            quoted = !quoted;
+                        }
+                        else if (i == lineEnd || (b[i] == delimiter
+                                && !quoted)) {
+                            readField(field, row, fieldStart, i);
+                            fieldStart = i + 1;
+                            field++;
+                        }
+                    }
+                }
+                catch (RuntimeException e) {
+                    this.errorLine = this.lineCount;
+                    this.errorMessage = e.getMessage();
+                    this.buffer = null;
+                    return this;
+                }
+                // missing fields at the end of the line are missing values
+                for (int c = field - 1; c < columnCount; c++) {
+                    this.values[c][row] = Double.NaN;
+                }
+                this.rowCount++;
+                this.lineCount++;
+                p = next;
+            }
+            this.buffer = null;
+            return this;
+        }
+
+        /**
+         * Returns the number of rows that the arrays can hold.
+         *
+         * @return The capacity.
+         */
+        private int capacity() {
+            return this.keys != null ? this.keys.length : this.rowKeys.length;
+        }
+
+        /**
+         * Increases the capacity of the arrays.
+         */
+        private void grow() {
+            int capacity = capacity() * 2;
+            if (this.keys != null) {
+                this.keys = Arrays.copyOf(this.keys, capacity);
+            }
+            else {
+                this.rowKeys = (String[]) Arrays.copyOf(this.rowKeys,
+                        capacity);
+            }
+            for (int c = 0; c < this.values.length; c++) {
+                this.values[c] = Arrays.copyOf(this.values[c], capacity);
+            }
+        }
+
+        /**
+         * Reads a field.
+         *
+         * @param field  the field index.
+         * @param row  the row index.
+         * @param start  the start of the field.
+         * @param end  the end of the field.
+         */
+        private void readField(int field, int row, int start, int end) {
+            if (field > this.values.length) {
+                return;  // extra fields are ignored
+            }
+            if (field == 0 && this.mode == CATEGORY) {
+                this.rowKeys[row] = readString(this.buffer, start, end);
+                return;
+            }
+            byte[] b = this.buffer;
+            byte quote = ChunkedCSVReader.this.textDelimiter;
+            while (start < end && b[start] <= ' ') {
+                start++;
+            }
+            while (end > start && b[end - 1] <= ' ') {
+                end--;
+            }
+            if (end - start >= 2 && b[start] == quote && b[end - 1] == quote) {
+                start++;
+                end--;
+            }
+            if (field == 0) {
+                if (start == end) {
+                    throw new NumberFormatException("The key is empty.");
+                }
+                this.keys[row] = this.mode == TIME ? parseTimestamp(b, start,
+                        end, ChunkedCSVReader.this.timeZone)
+                        : parseDouble(b, start, end);
+            }
+            else {
+                this.values[field - 1][row] = start == end ? Double.NaN
+                        : parseDouble(b, start, end);
+            }
+        }
+
+    }
+
+    /**
+     * Receives the parsed data.
+     */
+    private interface Sink {
+
+        /**
+         * Starts the data.
+         *
+         * @param columnKeys  the column keys.
+         */
+        void start(List columnKeys);
+
+        /**
+         * Adds the data from a block.
+         *
+         * @param block  the block.
+         */
+        void append(Block block);
+
+    }
+
+    /**
+     * Builds an {@link XYSeriesCollection}.
+     */
+    private static class XYSink implements Sink {
+
+        /** The dataset. */
+        private XYSeriesCollection dataset;
+
+        /** The series. */
+        private XYSeries[] series;
+
+        /**
+         * Creates the series.
+         *
+         * @param columnKeys  the column keys.
+         */
+        @Override
+        public void start(List columnKeys) {
+            this.dataset = new XYSeriesCollection();
+            this.series = new XYSeries[columnKeys.size()];
+            for (int c = 0; c < this.series.length; c++) {
+                this.series[c] = new XYSeries((Comparable) columnKeys.get(c),
+                        false, true, true);
+                this.dataset.addSeries(this.series[c]);
+            }
+        }
+
+        /**
+         * Adds the data from a block.
+         *
+         * @param block  the block.
+         */
+        @Override
+        public void append(Block block) {
+            ChangeEventBatch.begin();
+            try {
+                for (int c = 0; c < this.series.length; c++) {
+                    XYSeries s = this.series[c];
+                    double[] y = block.values[c];
+                    for (int r = 0; r < block.rowCount; r++) {
+                        if (Double.isNaN(y[r])) {
+                            s.add(block.keys[r], null, false);
+                        }
+                        else {
+                            s.add(block.keys[r], y[r], false);
+                        }
+                    }
+                    s.fireSeriesChanged();
+                }
+            }
+            finally {
+                ChangeEventBatch.commit();
+            }
+        }
+
+    }
+
+    /**
+     * Builds a {@link TimeSeriesCollection}.
+     */
+    private class TimeSink implements Sink {
+
+        /** The time period class. */
+        private Class timePeriodClass;
+
+        /** The dataset. */
+        private TimeSeriesCollection dataset;
+
+        /** The series. */
+        private TimeSeries[] series;
+
+        /**
+         * Creates a new sink.
+         *
+         * @param timePeriodClass  the time period class.
+         */
+        TimeSink(Class timePeriodClass) {
+            this.timePeriodClass = timePeriodClass;
+        }
+
+        /**
+         * Creates the series.
+         *
+         * @param columnKeys  the column keys.
+         */
+        @Override
+        public void start(List columnKeys) {
+            this.dataset = new TimeSeriesCollection(
+                    ChunkedCSVReader.this.timeZone);
+            this.series = new TimeSeries[columnKeys.size()];
+            for (int c = 0; c < this.series.length; c++) {
+                this.series[c] = new TimeSeries(
+                        (Comparable) columnKeys.get(c));
+                this.dataset.addSeries(this.series[c]);
+            }
+        }
+
+        /**
+         * Adds the data from a block.
+         *
+         * @param block  the block.
+         */
+        @Override
+        public void append(Block block) {
+            boolean fixed = this.timePeriodClass == FixedMillisecond.class;
+            TimeZone zone = ChunkedCSVReader.this.timeZone;
+            ChangeEventBatch.begin();
+            try {
+                for (int r = 0; r < block.rowCount; r++) {
+                    long millis = (long) block.keys[r];
+                    RegularTimePeriod period = fixed
+                            ? new FixedMillisecond(millis)
+                            : RegularTimePeriod.createInstance(
+                                    this.timePeriodClass, new Date(millis),
+                                    zone);
+                    for (int c = 0; c < this.series.length; c++) {
+                        double y = block.values[c][r];
+                        if (Double.isNaN(y)) {
+                            this.series[c].add(period, null, false);
+                        }
+                        else {
+                            this.series[c].add(period, y, false);
+                        }
+                    }
+                }
+                for (int c = 0; c < this.series.length; c++) {
+                    this.series[c].fireSeriesChanged();
+                }
+            }
+            finally {
+                ChangeEventBatch.commit();
+            }
+        }
+
+    }
+
+    /**
+     * Builds a {@link DefaultCategoryDataset}.
+     */
+    private static class CategorySink implements Sink {
+
+        /** The column keys. */
+        private List columnKeys;
+
+        /** The row keys. */
+        private List rowKeys;
+
+        /** The values for each row. */
+        private List rows;
+
+        /**
+         * Stores the column keys.
+         *
+         * @param columnKeys  the column keys.
+         */
+        @Override
+        public void start(List columnKeys) {
+            this.columnKeys = columnKeys;
+            this.rowKeys = new ArrayList();
+            this.rows = new ArrayList();
+        }
+
+        /**
+         * Adds the data from a block.
+         *
+         * @param block  the block.
+         */
+        @Override
+        public void append(Block block) {
+            int columnCount = block.values.length;
+            for (int r = 0; r < block.rowCount; r++) {
+                double[] row = new double[columnCount];
+                for (int c = 0; c < columnCount; c++) {
+                    row[c] = block.values[c][r];
+                }
+                this.rowKeys.add(block.rowKeys[r]);
+                this.rows.add(row);
+            }
+        }
+
+        /**
+         * Creates the dataset.
+         *
+         * @return The dataset.
+         */
+        public DefaultCategoryDataset finish() {
+            DefaultCategoryDataset dataset = new DefaultCategoryDataset();
+            if (this.columnKeys == null) {
+                return dataset;
+            }
+            double[][] values = (double[][]) this.rows.toArray(
+                    new double[this.rows.size()][]);
+            dataset.setValues(this.rowKeys, this.columnKeys, values);
+            for (int r = 0; r < values.length; r++) {
+                for (int c = 0; c < values[r].length; c++) {
+                    if (Double.isNaN(values[r][c])) {
+                        dataset.setValue(null,
+                                (Comparable) this.rowKeys.get(r),
+                                (Comparable) this.columnKeys.get(c));
+                    }
+                }
+            }
+            return dataset;
+        }
+
+    }
+
+}
@@ -58,6 +58,8 @@
  * ------------- JFREECHART 1.0.0 ---------------------------------------------
  * 08-Mar-2006 : Fixed bug 1445748 where an exception is thrown if
  *               executeQuery() is called more than once (DG);
+ * 16-Oct-2026 : Read the column meta data once per query and send a single
+ *               change event from executeQuery();
  *
  */
 
@@ -74,6 +76,7 @@ import java.sql.Types;
 
 import org.jfree.data.category.CategoryDataset;
 import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.data.general.ChangeEventBatch;
 
 /**
  * A {@link CategoryDataset} implementation over a database JDBC result set.
@@ -221,79 +224,95 @@ public class JDBCCategoryDataset extends DefaultCategoryDataset {
                     + "returned from the database.");
             }
 
-            // Remove any previous old data
-            int i = getRowCount();
-            while (--i >= 0) {
-                removeRow(i);
+            // read the column names and types once, not for every row
+            Comparable[] columnKeys = new Comparable[columnCount + 1];
+            int[] columnTypes = new int[columnCount + 1];
+            for (int column = 2; column <= columnCount; column++) {
+                columnKeys[column] = metaData.getColumnName(column);
+                columnTypes[column] = metaData.getColumnType(column);
             }
 
-            while (resultSet.next()) {
-                // first column contains the row key...
-                Comparable rowKey = resultSet.getString(1);
-                for (int column = 2; column <= columnCount; column++) {
+            // send a single change event for the whole update
+            ChangeEventBatch.begin();
+            try {
+                // Remove any previous old data
+                int i = getRowCount();
+                while (--i >= 0) {
+                    removeRow(i);
+                }
 
-                    Comparable columnKey = metaData.getColumnName(column);
-                    int columnType = metaData.getColumnType(column);
+                while (resultSet.next()) {
+                    // first column contains the row key...
+                    Comparable rowKey = resultSet.getString(1);
+                    for (int column = 2; column <= columnCount; column++) {
 
-                    switch (columnType) {
-                        case Types.TINYINT:
-                        case Types.SMALLINT:
-                        case Types.INTEGER:
-                        case Types.BIGINT:
-                        case Types.FLOAT:
-                        case Types.DOUBLE:
-                        case Types.DECIMAL:
-                        case Types.NUMERIC:
-                        case Types.REAL: {
-                            Number value = (Number) resultSet.getObject(column);
-                            if (this.transpose) {
-                                setValue(value, columnKey, rowKey);
-                            }
-                            else {
-                                setValue(value, rowKey, columnKey);
-                            }
-                            break;
-                        }
-                        case Types.DATE:
-                        case Types.TIME:
-                        case Types.TIMESTAMP: {
-                            Date date = (Date) resultSet.getObject(column);
-                            Number value = new Long(date.getTime());
-                            if (this.transpose) {
-                                setValue(value, columnKey, rowKey);
-                            }
-                            else {
-                                setValue(value, rowKey, columnKey);
+                        Comparable columnKey = columnKeys[column];
+                        int columnType = columnTypes[column];
+
+                        switch (columnType) {
+                            case Types.TINYINT:
+                            case Types.SMALLINT:
+                            case Types.INTEGER:
+                            case Types.BIGINT:
+                            case Types.FLOAT:
+                            case Types.DOUBLE:
+                            case Types.DECIMAL:
+                            case Types.NUMERIC:
+                            case Types.REAL: {
+                                Number value
+                                        = (Number) resultSet.getObject(column);
+                                if (this.transpose) {
+                                    setValue(value, columnKey, rowKey);
+                                }
+                                else {
+                                    setValue(value, rowKey, columnKey);
+                                }
+                                break;
                             }
-                            break;
-                        }
-                        case Types.CHAR:
-                        case Types.VARCHAR:
-                        case Types.LONGVARCHAR: {
-                            String string
-                                = (String) resultSet.getObject(column);
-                            try {
-                                Number value = Double.valueOf(string);
+                            case Types.DATE:
+                            case Types.TIME:
+                            case Types.TIMESTAMP: {
+                                Date date = (Date) resultSet.getObject(column);
+                                Number value = new Long(date.getTime());
                                 if (this.transpose) {
                                     setValue(value, columnKey, rowKey);
                                 }
                                 else {
                                     setValue(value, rowKey, columnKey);
                                 }
+                                break;
                             }
-                            catch (NumberFormatException e) {
-                                // suppress (value defaults to null)
+                            case Types.CHAR:
+                            case Types.VARCHAR:
+                            case Types.LONGVARCHAR: {
+                                String string
+                                    = (String) resultSet.getObject(column);
+                                try {
+                                    Number value = Double.valueOf(string);
+                                    if (this.transpose) {
+                                        setValue(value, columnKey, rowKey);
+                                    }
+                                    else {
+                                        setValue(value, rowKey, columnKey);
+                                    }
+                                }
+                                catch (NumberFormatException e) {
+                                    // suppress (value defaults to null)
+                                }
+                                break;
                             }
-                            break;
+                            default:
+                                // not a value, can't use it (defaults to null)
+                                break;
                         }
-                        default:
-                            // not a value, can't use it (defaults to null)
-                            break;
                     }
                 }
-            }
 
-            fireDatasetChanged();
+                fireDatasetChanged();
+            }
+            finally {
+                ChangeEventBatch.commit();
+            }
         }
         finally {
             if (resultSet != null) {
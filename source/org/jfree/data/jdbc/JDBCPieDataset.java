@@ -53,6 +53,7 @@
  * ------------- JFREECHART 1.0.x ---------------------------------------------
  * 02-Feb-2007 : Removed author tags all over JFreeChart sources (DG);
  * 19-May-2009 : Fixed FindBugs warnings, patch by Michal Wozniak (DG);
+ * 16-Oct-2026 : Send a single change event from executeQuery();
  *
  */
 
@@ -67,6 +68,7 @@ import java.sql.Statement;
 import java.sql.Timestamp;
 import java.sql.Types;
 
+import org.jfree.data.general.ChangeEventBatch;
 import org.jfree.data.general.DefaultPieDataset;
 import org.jfree.data.general.PieDataset;
 
@@ -183,36 +185,43 @@ public class JDBCPieDataset extends DefaultPieDataset {
 
             int columnType = metaData.getColumnType(2);
             double value;
-            while (resultSet.next()) {
-                Comparable key = resultSet.getString(1);
-                switch (columnType) {
-                    case Types.NUMERIC:
-                    case Types.REAL:
-                    case Types.INTEGER:
-                    case Types.DOUBLE:
-                    case Types.FLOAT:
-                    case Types.DECIMAL:
-                    case Types.BIGINT:
-                        value = resultSet.getDouble(2);
-                        setValue(key, value);
-                        break;
-
-                    case Types.DATE:
-                    case Types.TIME:
-                    case Types.TIMESTAMP:
-                        Timestamp date = resultSet.getTimestamp(2);
-                        value = date.getTime();
-                        setValue(key, value);
-                        break;
-
-                    default:
-                        System.err.println(
-                                "JDBCPieDataset - unknown data type");
-                        break;
+            // send a single change event for the whole update
+            ChangeEventBatch.begin();
+            try {
+                while (resultSet.next()) {
+                    Comparable key = resultSet.getString(1);
+                    switch (columnType) {
+                        case Types.NUMERIC:
+                        case Types.REAL:
+                        case Types.INTEGER:
+                        case Types.DOUBLE:
+                        case Types.FLOAT:
+                        case Types.DECIMAL:
+                        case Types.BIGINT:
+                            value = resultSet.getDouble(2);
+                            setValue(key, value);
+                            break;
+
+                        case Types.DATE:
+                        case Types.TIME:
+                        case Types.TIMESTAMP:
+                            Timestamp date = resultSet.getTimestamp(2);
+                            value = date.getTime();
+                            setValue(key, value);
+                            break;
+
+                        default:
+                            System.err.println(
+                                    "JDBCPieDataset - unknown data type");
+                            break;
+                    }
                 }
-            }
 
-            fireDatasetChanged();
+                fireDatasetChanged();
+            }
+            finally {
+                ChangeEventBatch.commit();
+            }
 
         }
         finally {
@@ -0,0 +1,775 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------------
+ * JDBCStreamingXYDataset.java
+ * ---------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Date;
+
+import org.jfree.chart.util.ParamChecks;
+import org.jfree.data.DomainInfo;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.Range;
+import org.jfree.data.RangeInfo;
+import org.jfree.data.xy.AbstractXYDataset;
+import org.jfree.data.xy.TableXYDataset;
+
+/**
+ * An {@link org.jfree.data.xy.XYDataset} that streams the rows of a JDBC
+ * result set into primitive arrays.  Like {@link JDBCXYDataset}, the query
+ * must return at least two columns: the first column holds the x-values and
+ * each remaining column with a numerical or date/time type becomes a series
+ * (columns of other types are ignored).  Unlike {@link JDBCXYDataset}, the
+ * values are not held as objects, so a large result set needs about 8 bytes
+ * per value.
+ * <P>
+ * The rows are fetched in blocks of {@link #getFetchSize()} rows.  Note
+ * that some drivers only honour the fetch size in certain conditions (for
+ * example, PostgreSQL requires that auto-commit is switched off).
+ * <P>
+ * For data that is only ever appended (for example, readings from a data
+ * logger), an incremental query can be supplied.  This query must have a
+ * single parameter that is set to the last x-value loaded, and must return
+ * the same columns as the main query, in ascending order of x.  For example:
+ * <pre>
+ * JDBCStreamingXYDataset dataset = new JDBCStreamingXYDataset(connection,
+ *         "SELECT time, temp FROM readings ORDER BY time",
+ *         "SELECT time, temp FROM readings WHERE time &gt; ? ORDER BY time");
+ * dataset.refresh();  // loads all rows
+ * ...
+ * dataset.refresh();  // loads only the new rows
+ * </pre>
+ *
+ * @since 1.0.20
+ */
+public class JDBCStreamingXYDataset extends AbstractXYDataset
+        implements TableXYDataset, DomainInfo, RangeInfo {
+
+    /** The default fetch size. */
+    public static final int DEFAULT_FETCH_SIZE = 10000;
+
+    /** A column with numerical values. */
+    private static final int NUMBER = 0;
+
+    /** A column with date values. */
+    private static final int DATE = 1;
+
+    /** A column with time values. */
+    private static final int TIME = 2;
+
+    /** A column with timestamp values. */
+    private static final int TIMESTAMP = 3;
+
+    /** A column that is ignored. */
+    private static final int IGNORED = -1;
+
+    /** The database connection. */
+    private transient Connection connection;
+
+    /** The query that loads all the rows. */
+    private String query;
+
+    /** The query that loads the new rows (<code>null</code> permitted). */
+    private String incrementalQuery;
+
+    /** The number of rows to fetch from the database at a time. */
+    private int fetchSize;
+
+    /** The series keys (the names of the y-columns). */
+    private String[] columnNames;
+
+    /** The column kinds, for the columns in the result set. */
+    private int[] columnKinds;
+
+    /** Is this dataset a time series? */
+    private boolean timeSeries;
+
+    /** The number of items. */
+    private int itemCount;
+
+    /** The x-values. */
+    private double[] xValues;
+
+    /** The y-values for each series (<code>NaN</code> for null values). */
+    private double[][] yValues;
+
+    /** The smallest x-value. */
+    private double minX;
+
+    /** The largest x-value. */
+    private double maxX;
+
+    /** The smallest y-value. */
+    private double minY;
+
+    /** The largest y-value. */
+    private double maxY;
+
+    /**
+     * Creates a new dataset (initially empty) that loads all rows on each
+     * refresh.
+     *
+     * @param connection  the database connection (<code>null</code> not
+     *     permitted).
+     * @param query  the query (<code>null</code> not permitted).
+     */
+    public JDBCStreamingXYDataset(Connection connection, String query) {
+        this(connection, query, null);
+    }
+
+    /**
+     * Creates a new dataset (initially empty).
+     *
+     * @param connection  the database connection (<code>null</code> not
+     *     permitted).
+     * @param query  the query that loads all the rows (<code>null</code> not
+     *     permitted).
+     * @param incrementalQuery  the query that loads the rows after a given
+     *     x-value (<code>null</code> permitted).
+     */
+    public JDBCStreamingXYDataset(Connection connection, String query,
+            String incrementalQuery) {
+        ParamChecks.nullNotPermitted(connection, "connection");
+        ParamChecks.nullNotPermitted(query, "query");
+        this.connection = connection;
+        this.query = query;
+        this.incrementalQuery = incrementalQuery;
+        this.fetchSize = DEFAULT_FETCH_SIZE;
+        this.columnNames = new String[0];
+        this.xValues = new double[0];
+        this.yValues = new double[0][];
+        resetBounds();
+    }
+
+    /**
+     * Returns the number of rows fetched from the database at a time.
+     *
+     * @return The fetch size.
+     *
+     * @see #setFetchSize(int)
+     */
+    public int getFetchSize() {
+        return this.fetchSize;
+    }
+
+    /**
+     * Sets the number of rows fetched from the database at a time.  This
+     * takes effect on the next refresh.
+     *
+     * @param fetchSize  the fetch size (zero to use the driver's default).
+     *
+     * @see #getFetchSize()
+     */
+    public void setFetchSize(int fetchSize) {
+        if (fetchSize < 0) {
+            throw new IllegalArgumentException(
+                    "Negative 'fetchSize' argument.");
+        }
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Returns the query that loads the rows after a given x-value.
+     *
+     * @return The query (possibly <code>null</code>).
+     */
+    public String getIncrementalQuery() {
+        return this.incrementalQuery;
+    }
+
+    /**
+     * Returns <code>true</code> if the x-values are dates or times
+     * (in milliseconds since 1-Jan-1970), and <code>false</code> otherwise.
+     *
+     * @return A boolean.
+     */
+    public boolean isTimeSeries() {
+        return this.timeSeries;
+    }
+
+    /**
+     * Loads the rows from the database and sends a {@link
+     * org.jfree.data.general.DatasetChangeEvent} to all registered
+     * listeners if any rows were loaded.  If the dataset has an incremental
+     * query and already contains data, only the rows after the last x-value
+     * are loaded and appended to the dataset.  Otherwise all the rows are
+     * loaded and replace the current data.  If the query fails, the current
+     * data is left unchanged.
+     *
+     * @return The number of rows loaded.
+     *
+     * @throws SQLException if there is a problem executing the query.
+     */
+    public int refresh() throws SQLException {
+        if (this.incrementalQuery == null || this.itemCount == 0) {
+            return executeQuery();
+        }
+        PreparedStatement statement = this.connection.prepareStatement(
+                this.incrementalQuery, ResultSet.TYPE_FORWARD_ONLY,
+                ResultSet.CONCUR_READ_ONLY);
+        ResultSet resultSet = null;
+        int start = this.itemCount;
+        int count;
+        double[][] data;
+        try {
+            statement.setFetchSize(this.fetchSize);
+            double lastX = this.xValues[start - 1];
+            if (this.timeSeries) {
+                statement.setTimestamp(1, new Timestamp((long) lastX));
+            }
+            else {
+                statement.setDouble(1, lastX);
+            }
+            resultSet = statement.executeQuery();
+            int[] kinds = readColumnKinds(resultSet.getMetaData());
+            if (!Arrays.equals(kinds, this.columnKinds)) {
+                throw new SQLException("The incremental query does not "
+                        + "return the same columns as the main query.");
+            }
+            data = new double[this.yValues.length + 1][];
+            data[0] = this.xValues;
+            System.arraycopy(this.yValues, 0, data, 1, this.yValues.length);
+            count = readRows(resultSet, kinds, data, start);
+        }
+        finally {
+            close(resultSet, statement);
+        }
+        if (count == start) {
+            return 0;
+        }
+        setData(data, count);
+        updateBounds(start, count);
+        fireDatasetChanged();
+        return count - start;
+    }
+
+    /**
+     * Loads all the rows from the database, replacing the current data, and
+     * sends a {@link org.jfree.data.general.DatasetChangeEvent} to all
+     * registered listeners.  If the query fails, the current data is left
+     * unchanged.
+     *
+     * @return The number of rows loaded.
+     *
+     * @throws SQLException if there is a problem executing the query.
+     */
+    public int executeQuery() throws SQLException {
+        Statement statement = this.connection.createStatement(
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        ResultSet resultSet = null;
+        int[] kinds;
+        String[] names;
+        int count;
+        double[][] data;
+        try {
+            statement.setFetchSize(this.fetchSize);
+            resultSet = statement.executeQuery(this.query);
+            ResultSetMetaData metaData = resultSet.getMetaData();
+            kinds = readColumnKinds(metaData);
+            if (kinds[0] == IGNORED) {
+                throw new SQLException(
+                        "The first column does not contain x-values.");
+            }
+            int seriesCount = 0;
+            for (int column = 1; column < kinds.length; column++) {
+                if (kinds[column] != IGNORED) {
+                    seriesCount++;
+                }
+            }
+            if (seriesCount == 0) {
+                throw new SQLException(
+                        "Not enough valid columns where generated by query.");
+            }
+            names = new String[seriesCount];
+            int series = 0;
+            for (int column = 1; column < kinds.length; column++) {
+                if (kinds[column] != IGNORED) {
+                    names[series++] = metaData.getColumnLabel(column + 1);
+                }
+            }
+            data = new double[seriesCount + 1][0];
+            count = readRows(resultSet, kinds, data, 0);
+        }
+        finally {
+            close(resultSet, statement);
+        }
+        // all the rows have been read, so replace the current data
+        this.columnKinds = kinds;
+        this.columnNames = names;
+        this.timeSeries = kinds[0] != NUMBER;
+        setData(data, count);
+        resetBounds();
+        updateBounds(0, count);
+        fireDatasetChanged();
+        return count;
+    }
+
+    /**
+     * Returns the kind of each column in a result set.
+     *
+     * @param metaData  the result set meta data.
+     *
+     * @return The column kinds.
+     *
+     * @throws SQLException if there is a problem reading the meta data.
+     */
+    private static int[] readColumnKinds(ResultSetMetaData metaData)
+            throws SQLException {
+        int[] kinds = new int[metaData.getColumnCount()];
+        for (int column = 0; column < kinds.length; column++) {
+            switch (metaData.getColumnType(column + 1)) {
+                case Types.NUMERIC:
+                case Types.REAL:
+                case Types.INTEGER:
+                case Types.DOUBLE:
+                case Types.FLOAT:
+                case Types.DECIMAL:
+                case Types.BIT:
+                case Types.BIGINT:
+                case Types.SMALLINT:
+                case Types.TINYINT:
+                    kinds[column] = NUMBER;
+                    break;
+                case Types.DATE:
+                    kinds[column] = DATE;
+                    break;
+                case Types.TIME:
+                    kinds[column] = TIME;
+                    break;
+                case Types.TIMESTAMP:
+                    kinds[column] = TIMESTAMP;
+                    break;
+                default:
+                    kinds[column] = IGNORED;
+                    break;
+            }
+        }
+        return kinds;
+    }
+
+    /**
+     * Reads the remaining rows of a result set into a set of arrays, after
+     * the first <code>start</code> items.  Rows with a <code>null</code>
+     * x-value are skipped.  The arrays are replaced with larger copies as
+     * necessary, so the dataset's own arrays are not resized, and no field
+     * is changed if reading fails part-way.
+     *
+     * @param resultSet  the result set.
+     * @param kinds  the column kinds.
+     * @param data  the x-values followed by the y-values for each series
+     *     (the elements are updated if the arrays grow).
+     * @param start  the number of items already in the arrays.
+     *
+     * @return The number of items in the arrays.
+     *
+     * @throws SQLException if there is a problem reading the rows.
+     */
+    private static int readRows(ResultSet resultSet, int[] kinds,
+            double[][] data, int start) throws SQLException {
+        int n = start;
+        while (resultSet.next()) {
+            double xx = readValue(resultSet, 1, kinds[0]);
+            if (Double.isNaN(xx)) {
+                continue;
+            }
+            if (n == data[0].length) {
+                int capacity = Math.max(16, n + (n >> 1));
+                for (int i = 0; i < data.length; i++) {
+                    data[i] = grow(data[i], n, capacity);
+                }
+            }
+            data[0][n] = xx;
+            int series = 1;
+            for (int column = 1; column < kinds.length; column++) {
+                if (kinds[column] != IGNORED) {
+                    data[series++][n] = readValue(resultSet, column + 1,
+                            kinds[column]);
+                }
+            }
+            n++;
+        }
+        return n;
+    }
+
+    /**
+     * Replaces the data with arrays filled by
+     * {@link #readRows(ResultSet, int[], double[][], int)}.
+     *
+     * @param data  the x-values followed by the y-values for each series.
+     * @param count  the number of items.
+     */
+    private void setData(double[][] data, int count) {
+        this.xValues = data[0];
+        this.yValues = Arrays.copyOfRange(data, 1, data.length);
+        this.itemCount = count;
+    }
+
+    /**
+     * Reads a value from the current row of a result set.
+     *
+     * @param resultSet  the result set.
+     * @param column  the column (one-based index).
+     * @param kind  the column kind.
+     *
+     * @return The value (<code>NaN</code> for a <code>null</code> value).
+     *
+     * @throws SQLException if there is a problem reading the value.
+     */
+    private static double readValue(ResultSet resultSet, int column,
+            int kind) throws SQLException {
+        Date date;
+        switch (kind) {
+            case NUMBER:
+                double value = resultSet.getDouble(column);
+                return resultSet.wasNull() ? Double.NaN : value;
+            case DATE:
+                date = resultSet.getDate(column);
+                break;
+            case TIME:
+                date = resultSet.getTime(column);
+                break;
+            default:
+                date = resultSet.getTimestamp(column);
+                break;
+        }
+        return date == null ? Double.NaN : date.getTime();
+    }
+
+    /**
+     * Returns a larger copy of an array.
+     *
+     * @param array  the array.
+     * @param length  the number of elements to copy.
+     * @param capacity  the new capacity.
+     *
+     * @return The new array.
+     */
+    private static double[] grow(double[] array, int length, int capacity) {
+        double[] result = new double[capacity];
+        System.arraycopy(array, 0, result, 0, length);
+        return result;
+    }
+
+    /**
+     * Resets the cached bounds.
+     */
+    private void resetBounds() {
+        this.minX = Double.NaN;
+        this.maxX = Double.NaN;
+        this.minY = Double.NaN;
+        this.maxY = Double.NaN;
+    }
+
+    /**
+     * Updates the cached bounds to include a range of items.
+     *
+     * @param start  the index of the first item.
+     * @param end  the index after the last item.
+     */
+    private void updateBounds(int start, int end) {
+        double xMin = this.minX;
+        double xMax = this.maxX;
+        for (int i = start; i < end; i++) {
+            double x = this.xValues[i];
+            if (!(x >= xMin)) {
+                xMin = x;
+            }
+            if (!(x <= xMax)) {
+                xMax = x;
+            }
+        }
+        double yMin = this.minY;
+        double yMax = this.maxY;
+        for (int s = 0; s < this.yValues.length; s++) {
+            double[] y = this.yValues[s];
+            for (int i = start; i < end; i++) {
+                double v = y[i];
+                if (Double.isNaN(v)) {
+                    continue;
+                }
+                if (!(v >= yMin)) {
+                    yMin = v;
+                }
+                if (!(v <= yMax)) {
+                    yMax = v;
+                }
+            }
+        }
+        this.minX = xMin;
+        this.maxX = xMax;
+        this.minY = yMin;
+        this.maxY = yMax;
+    }
+
+    /**
+     * Closes a result set and a statement, ignoring any errors.
+     *
+     * @param resultSet  the result set (<code>null</code> permitted).
+     * @param statement  the statement.
+     */
+    private static void close(ResultSet resultSet, Statement statement) {
+        if (resultSet != null) {
+            try {
+                resultSet.close();
+            }
+            catch (SQLException e) {
+                // ignore, the data has been read
+            }
+        }
+        try {
+            statement.close();
+        }
+        catch (SQLException e) {
+            // ignore, the data has been read
+        }
+    }
+
+    /**
+     * Returns the order of the x-values.  The dataset does not sort the rows,
+     * so this method returns {@link DomainOrder#NONE}.
+     *
+     * @return The domain order.
+     */
+    @Override
+    public DomainOrder getDomainOrder() {
+        return DomainOrder.NONE;
+    }
+
+    /**
+     * Returns the number of series in the dataset.
+     *
+     * @return The series count.
+     */
+    @Override
+    public int getSeriesCount() {
+        return this.columnNames.length;
+    }
+
+    /**
+     * Returns the key for a series (the name of the column).
+     *
+     * @param series  the series (zero-based index).
+     *
+     * @return The series key.
+     */
+    @Override
+    public Comparable getSeriesKey(int series) {
+        return this.columnNames[series];
+    }
+
+    /**
+     * Returns the number of items in each series.
+     *
+     * @return The item count.
+     */
+    @Override
+    public int getItemCount() {
+        return this.itemCount;
+    }
+
+    /**
+     * Returns the number of items in a series.
+     *
+     * @param series  the series (zero-based index, ignored).
+     *
+     * @return The item count.
+     */
+    @Override
+    public int getItemCount(int series) {
+        return this.itemCount;
+    }
+
+    /**
+     * Returns the x-value for an item.
+     *
+     * @param series  the series (zero-based index, ignored).
+     * @param item  the item (zero-based index).
+     *
+     * @return The x-value.
+     */
+    @Override
+    public double getXValue(int series, int item) {
+        if (item >= this.itemCount) {
+            throw new IndexOutOfBoundsException("Invalid item index: "
+                    + item);
+        }
+        return this.xValues[item];
+    }
+
+    /**
+     * Returns the x-value for an item.
+     *
+     * @param series  the series (zero-based index, ignored).
+     * @param item  the item (zero-based index).
+     *
+     * @return The x-value.
+     */
+    @Override
+    public Number getX(int series, int item) {
+        return new Double(getXValue(series, item));
+    }
+
+    /**
+     * Returns the y-value for an item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The y-value (<code>NaN</code> for a <code>null</code> value).
+     */
+    @Override
+    public double getYValue(int series, int item) {
+        if (item >= this.itemCount) {
+            throw new IndexOutOfBoundsException("Invalid item index: "
+                    + item);
+        }
+        return this.yValues[series][item];
+    }
+
+    /**
+     * Returns the y-value for an item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The y-value (possibly <code>null</code>).
+     */
+    @Override
+    public Number getY(int series, int item) {
+        double y = getYValue(series, item);
+        return Double.isNaN(y) ? null : new Double(y);
+    }
+
+    /**
+     * Returns the smallest x-value in the dataset.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The smallest x-value (<code>NaN</code> if there is no data).
+     */
+    @Override
+    public double getDomainLowerBound(boolean includeInterval) {
+        return this.minX;
+    }
+
+    /**
+     * Returns the largest x-value in the dataset.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The largest x-value (<code>NaN</code> if there is no data).
+     */
+    @Override
+    public double getDomainUpperBound(boolean includeInterval) {
+        return this.maxX;
+    }
+
+    /**
+     * Returns the range of the x-values in the dataset.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The range (<code>null</code> if there is no data).
+     */
+    @Override
+    public Range getDomainBounds(boolean includeInterval) {
+        if (Double.isNaN(this.minX)) {
+            return null;
+        }
+        return new Range(this.minX, this.maxX);
+    }
+
+    /**
+     * Returns the smallest y-value in the dataset.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The smallest y-value (<code>NaN</code> if there is no data).
+     */
+    @Override
+    public double getRangeLowerBound(boolean includeInterval) {
+        return this.minY;
+    }
+
+    /**
+     * Returns the largest y-value in the dataset.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The largest y-value (<code>NaN</code> if there is no data).
+     */
+    @Override
+    public double getRangeUpperBound(boolean includeInterval) {
+        return this.maxY;
+    }
+
+    /**
+     * Returns the range of the y-values in the dataset.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The range (<code>null</code> if there is no data).
+     */
+    @Override
+    public Range getRangeBounds(boolean includeInterval) {
+        if (Double.isNaN(this.minY)) {
+            return null;
+        }
+        return new Range(this.minY, this.maxY);
+    }
+
+    /**
+     * Closes the database connection.
+     *
+     * @throws SQLException if there is a problem closing the connection.
+     */
+    public void close() throws SQLException {
+        this.connection.close();
+    }
+
+}
@@ -42,12 +42,16 @@
  * 15-Nov-2006 : Cleaned up handling of null arguments, and null or NaN items
  *               in the list (DG);
  * 02-Jul-2013 : Use ParamChecks (DG);
+ * 16-Oct-2026 : Added calculateSketchStatistics(QuantileSketch);
+ * 16-Oct-2026 : Added calculateBoxAndWhiskerStatistics() for double[]
+ *               arrays, using selection rather than sorting;
  *
  */
 
 package org.jfree.data.statistics;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -120,6 +124,190 @@ public abstract class BoxAndWhiskerCalculator {
         double median = Statistics.calculateMedian(vlist, false);
         double q1 = calculateQ1(vlist);
         double q3 = calculateQ3(vlist);
+        return createItem(mean, median, q1, q3, vlist);
+
+    }
+
+    /**
+     * Calculates the statistics required for a {@link BoxAndWhiskerItem}
+     * from a range of values in an array.  <code>NaN</code> values are
+     * ignored.  The results are the same as for a list of the values, except
+     * that the outliers are <code>Double</code> objects, but the median and
+     * quartiles are found by selection (in linear time) instead of by
+     * sorting, and no object is created for any value that is not an
+     * outlier.  The array is not changed.
+     *
+     * @param values  the values (<code>null</code> not permitted).
+     * @param start  the index of the first value.
+     * @param end  the index of the last value.
+     *
+     * @return A box-and-whisker item.
+     *
+     * @since 1.0.20
+     */
+    public static BoxAndWhiskerItem calculateBoxAndWhiskerStatistics(
+            double[] values, int start, int end) {
+
+        Statistics.checkRange(values, start, end);
+        double[] working = new double[end - start + 1];
+        int n = 0;
+        double sum = 0.0;
+        for (int i = start; i <= end; i++) {
+            double v = values[i];
+            if (!Double.isNaN(v)) {
+                working[n++] = v;
+                sum += v;
+            }
+        }
+        double mean = sum / n;
+
+        // the median selection puts the smaller half of the values before
+        // index 'middle' and the larger half after it, so each quartile is
+        // the median of one part (both parts include the middle value when
+        // the count is odd)
+        int middle = n / 2;
+        double median = Statistics.selectMedian(working, 0, n - 1);
+        double q3 = Statistics.selectMedian(working, middle, n - 1);
+        double q1;
+        if (n % 2 == 1) {
+            double middleValue = working[middle];
+            q1 = Statistics.selectMedian(working, 0, middle);
+            working[middle] = middleValue;
+        }
+        else {
+            q1 = Statistics.selectMedian(working, 0, middle - 1);
+        }
+        return createItem(mean, median, q1, q3, working, n);
+
+    }
+
+    /**
+     * Calculates the statistics required for a {@link BoxAndWhiskerItem}
+     * from a sketch of a stream of values, in a bounded amount of memory.
+     * If the sketch still holds every value (see
+     * {@link QuantileSketch#isExact()}), the result is the same as for a
+     * list of the values.  Otherwise the median and quartiles are estimates
+     * from the sketch, and the outliers and regular value range are found
+     * from the values held by the sketch plus the exact minimum and maximum,
+     * so the outlier list is a sample of the outliers.  The mean is always
+     * exact.
+     *
+     * @param sketch  the sketch (<code>null</code> not permitted).
+     *
+     * @return A box-and-whisker item.
+     *
+     * @since 1.0.20
+     */
+    public static BoxAndWhiskerItem calculateSketchStatistics(
+            QuantileSketch sketch) {
+        ParamChecks.nullNotPermitted(sketch, "sketch");
+        double[] values = sketch.getRetainedValues();
+        Arrays.sort(values);
+        if (sketch.isExact()) {
+            List vlist = new ArrayList(values.length);
+            for (int i = 0; i < values.length; i++) {
+                vlist.add(new Double(values[i]));
+            }
+            return calculateBoxAndWhiskerStatistics(vlist, false);
+        }
+        // the minimum and maximum may not be held by the sketch
+        double[] extended = Arrays.copyOf(values, values.length + 2);
+        int n = values.length;
+        if (sketch.getMinimum() < values[0]) {
+            extended[n++] = sketch.getMinimum();
+        }
+        if (sketch.getMaximum() > values[values.length - 1]) {
+            extended[n++] = sketch.getMaximum();
+        }
+        return createItem(sketch.getMean(), sketch.getQuantile(0.5),
+                sketch.getQuantile(0.25), sketch.getQuantile(0.75), extended,
+                n);
+    }
+
+    /**
+     * Creates a {@link BoxAndWhiskerItem}, finding the outliers and the range
+     * of the regular values in an array of values.
+     *
+     * @param mean  the mean.
+     * @param median  the median.
+     * @param q1  the first quartile.
+     * @param q3  the third quartile.
+     * @param values  the values, in any order (no <code>NaN</code> values).
+     * @param count  the number of values in the array to use.
+     *
+     * @return A box-and-whisker item, with the outliers in ascending order.
+     */
+    private static BoxAndWhiskerItem createItem(double mean, double median,
+            double q1, double q3, double[] values, int count) {
+
+        double interQuartileRange = q3 - q1;
+
+        double upperOutlierThreshold = q3 + (interQuartileRange * 1.5);
+        double lowerOutlierThreshold = q1 - (interQuartileRange * 1.5);
+
+        double upperFaroutThreshold = q3 + (interQuartileRange * 2.0);
+        double lowerFaroutThreshold = q1 - (interQuartileRange * 2.0);
+
+        double minRegularValue = Double.POSITIVE_INFINITY;
+        double maxRegularValue = Double.NEGATIVE_INFINITY;
+        double minOutlier = Double.POSITIVE_INFINITY;
+        double maxOutlier = Double.NEGATIVE_INFINITY;
+        double[] outliers = new double[16];
+        int outlierCount = 0;
+
+        for (int i = 0; i < count; i++) {
+            double value = values[i];
+            if (value > upperOutlierThreshold
+                    || value < lowerOutlierThreshold) {
+                if (outlierCount == outliers.length) {
+                    outliers = Arrays.copyOf(outliers, outlierCount * 2);
+                }
+                outliers[outlierCount++] = value;
+                if (value > upperOutlierThreshold) {
+                    if (value > maxOutlier && value <= upperFaroutThreshold) {
+                        maxOutlier = value;
+                    }
+                }
+                else if (value < minOutlier
+                        && value >= lowerFaroutThreshold) {
+                    minOutlier = value;
+                }
+            }
+            else {
+                minRegularValue = Math.min(minRegularValue, value);
+                maxRegularValue = Math.max(maxRegularValue, value);
+            }
+        }
+        minOutlier = Math.min(minOutlier, minRegularValue);
+        maxOutlier = Math.max(maxOutlier, maxRegularValue);
+
+        Arrays.sort(outliers, 0, outlierCount);
+        List outlierList = new ArrayList(outlierCount);
+        for (int i = 0; i < outlierCount; i++) {
+            outlierList.add(new Double(outliers[i]));
+        }
+        return new BoxAndWhiskerItem(new Double(mean), new Double(median),
+                new Double(q1), new Double(q3), new Double(minRegularValue),
+                new Double(maxRegularValue), new Double(minOutlier),
+                new Double(maxOutlier), outlierList);
+
+    }
+
+    /**
+     * Creates a {@link BoxAndWhiskerItem}, finding the outliers and the range
+     * of the regular values in a list of values.
+     *
+     * @param mean  the mean.
+     * @param median  the median.
+     * @param q1  the first quartile.
+     * @param q3  the third quartile.
+     * @param vlist  the values (<code>Number</code> objects, with no
+     *     <code>null</code> or <code>NaN</code> items).
+     *
+     * @return A box-and-whisker item.
+     */
+    private static BoxAndWhiskerItem createItem(double mean, double median,
+            double q1, double q3, List vlist) {
 
         double interQuartileRange = q3 - q1;
 
@@ -0,0 +1,280 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------
+ * FixedBinHistogram.java
+ * ----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import org.jfree.chart.util.ParamChecks;
+import org.jfree.util.PublicCloneable;
+
+/**
+ * Counts a stream of values into a fixed number of bins of equal width,
+ * without keeping the values.  Values are assigned to bins in the same way
+ * as in {@link HistogramDataset#addSeries(Comparable, double[], int, double,
+ * double)}: values less than the minimum are counted in the first bin,
+ * values greater than or equal to the maximum are counted in the last bin,
+ * and values falling on the boundary of adjacent bins are counted in the
+ * higher bin.  Histograms with the same bins can be merged, and a histogram
+ * can be added to a dataset with
+ * {@link HistogramDataset#addSeries(Comparable, FixedBinHistogram)}.
+ *
+ * @see QuantileSketch
+ *
+ * @since 1.0.20
+ */
+public class FixedBinHistogram implements Cloneable, PublicCloneable,
+        Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -2893146372217011455L;
+
+    /** The lower bound of the first bin. */
+    private double minimum;
+
+    /** The upper bound of the last bin. */
+    private double maximum;
+
+    /** The count for each bin. */
+    private long[] counts;
+
+    /** The total count. */
+    private long totalCount;
+
+    /**
+     * Creates a new histogram with all counts set to zero.
+     *
+     * @param bins  the number of bins (must be at least 1).
+     * @param minimum  the lower bound of the bin range.
+     * @param maximum  the upper bound of the bin range (not less than
+     *     <code>minimum</code>).
+     */
+    public FixedBinHistogram(int bins, double minimum, double maximum) {
+        if (bins < 1) {
+            throw new IllegalArgumentException(
+                    "The 'bins' value must be at least 1.");
+        }
+        if (!(minimum <= maximum)) {
+            throw new IllegalArgumentException(
+                    "Requires 'minimum' <= 'maximum'.");
+        }
+        this.minimum = minimum;
+        this.maximum = maximum;
+        this.counts = new long[bins];
+    }
+
+    /**
+     * Returns the number of bins.
+     *
+     * @return The bin count.
+     */
+    public int getBinCount() {
+        return this.counts.length;
+    }
+
+    /**
+     * Returns the lower bound of the bin range.
+     *
+     * @return The minimum.
+     */
+    public double getMinimum() {
+        return this.minimum;
+    }
+
+    /**
+     * Returns the upper bound of the bin range.
+     *
+     * @return The maximum.
+     */
+    public double getMaximum() {
+        return this.maximum;
+    }
+
+    /**
+     * Returns the number of values counted in a bin.
+     *
+     * @param bin  the bin index (zero-based).
+     *
+     * @return The count.
+     */
+    public long getCount(int bin) {
+        return this.counts[bin];
+    }
+
+    /**
+     * Returns the total number of values counted.
+     *
+     * @return The total count.
+     */
+    public long getTotalCount() {
+        return this.totalCount;
+    }
+
+    /**
+     * Counts a value.
+     *
+     * @param value  the value.
+     */
+    public void add(double value) {
+        int bins = this.counts.length;
+        int binIndex = bins - 1;
+        if (value < this.maximum) {
+            double fraction = (value - this.minimum)
+                    / (this.maximum - this.minimum);
+            if (fraction < 0.0) {
+                fraction = 0.0;
+            }
+            binIndex = (int) (fraction * bins);
+            // rounding could result in binIndex being equal to bins - see
+            // bug report 1553088
+            if (binIndex >= bins) {
+                binIndex = bins - 1;
+            }
+        }
+        this.counts[binIndex]++;
+        this.totalCount++;
+    }
+
+    /**
+     * Counts some values from an array.
+     *
+     * @param values  the values (<code>null</code> not permitted).
+     * @param offset  the index of the first value.
+     * @param length  the number of values.
+     */
+    public void add(double[] values, int offset, int length) {
+        ParamChecks.nullNotPermitted(values, "values");
+        if (offset < 0 || length < 0 || offset + length > values.length) {
+            throw new IndexOutOfBoundsException("Invalid range: offset = "
+                    + offset + ", length = " + length);
+        }
+        for (int i = offset; i < offset + length; i++) {
+            add(values[i]);
+        }
+    }
+
+    /**
+     * Adds the counts from another histogram to this histogram.
+     *
+     * @param other  the other histogram (<code>null</code> not permitted),
+     *     which must have the same bins as this histogram.
+     */
+    public void merge(FixedBinHistogram other) {
+        ParamChecks.nullNotPermitted(other, "other");
+        if (other.counts.length != this.counts.length
+                || other.minimum != this.minimum
+                || other.maximum != this.maximum) {
+            throw new IllegalArgumentException(
+                    "The histograms have different bins.");
+        }
+        for (int i = 0; i < this.counts.length; i++) {
+            this.counts[i] += other.counts[i];
+        }
+        this.totalCount += other.totalCount;
+    }
+
+    /**
+     * Resets all the counts to zero.
+     */
+    public void clear() {
+        Arrays.fill(this.counts, 0L);
+        this.totalCount = 0L;
+    }
+
+    /**
+     * Tests this histogram for equality with an arbitrary object.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof FixedBinHistogram)) {
+            return false;
+        }
+        FixedBinHistogram that = (FixedBinHistogram) obj;
+        if (this.minimum != that.minimum) {
+            return false;
+        }
+        if (this.maximum != that.maximum) {
+            return false;
+        }
+        if (!Arrays.equals(this.counts, that.counts)) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code for this instance.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        int result = 193;
+        long temp = Double.doubleToLongBits(this.minimum);
+        result = 37 * result + (int) (temp ^ (temp >>> 32));
+        temp = Double.doubleToLongBits(this.maximum);
+        result = 37 * result + (int) (temp ^ (temp >>> 32));
+        result = 37 * result + Arrays.hashCode(this.counts);
+        return result;
+    }
+
+    /**
+     * Returns a clone of the histogram.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException not thrown by this class.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        FixedBinHistogram clone = (FixedBinHistogram) super.clone();
+        clone.counts = (long[]) this.counts.clone();
+        return clone;
+    }
+
+}
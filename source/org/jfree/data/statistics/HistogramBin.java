@@ -39,6 +39,10 @@
  * 01-Mar-2004 : Moved from org.jfree.data --> org.jfree.data.statistics (DG);
  * ------------- JFREECHART 1.0.x ---------------------------------------------
  * 02-Feb-2007 : Removed author tags from all over JFreeChart sources (DG);
+ * 16-Oct-2026 : Allow counts beyond the range of an int, and added
+ *               getLongCount().  The part of a count that does not fit in
+ *               the int field is kept in a separate field, so the
+ *               serialized form stays compatible;
  *
  */
 
@@ -54,9 +58,18 @@ public class HistogramBin implements Cloneable, Serializable {
     /** For serialization. */
     private static final long serialVersionUID = 7614685080015589931L;
 
-    /** The number of items in the bin. */
+    /**
+     * The number of items in the bin (or <code>Integer.MAX_VALUE</code>, if
+     * the count is greater than that).
+     */
     private int count;
 
+    /**
+     * The part of the count that does not fit in <code>count</code> (zero in
+     * data serialized by earlier versions).
+     */
+    private long overflowCount;
+
     /** The start boundary. */
     private double startBoundary;
 
@@ -80,19 +93,50 @@ public class HistogramBin implements Cloneable, Serializable {
     }
 
     /**
-     * Returns the number of items in the bin.
+     * Returns the number of items in the bin.  If the count is greater than
+     * <code>Integer.MAX_VALUE</code>, this method returns
+     * <code>Integer.MAX_VALUE</code>.
      *
      * @return The item count.
+     *
+     * @see #getLongCount()
      */
     public int getCount() {
         return this.count;
     }
 
+    /**
+     * Returns the number of items in the bin as a <code>long</code>.
+     *
+     * @return The item count.
+     *
+     * @since 1.0.20
+     */
+    public long getLongCount() {
+        return this.count + this.overflowCount;
+    }
+
     /**
      * Increments the item count.
      */
     public void incrementCount() {
-        this.count++;
+        if (this.count < Integer.MAX_VALUE) {
+            this.count++;
+        }
+        else {
+            this.overflowCount++;
+        }
+    }
+
+    /**
+     * Adds to the item count.
+     *
+     * @param n  the number of items to add.
+     */
+    void addCount(long n) {
+        long total = getLongCount() + n;
+        this.count = (int) Math.min(total, Integer.MAX_VALUE);
+        this.overflowCount = total - this.count;
     }
 
     /**
@@ -141,7 +185,7 @@ public class HistogramBin implements Cloneable, Serializable {
             HistogramBin bin = (HistogramBin) obj;
             boolean b0 = bin.startBoundary == this.startBoundary;
             boolean b1 = bin.endBoundary == this.endBoundary;
-            boolean b2 = bin.count == this.count;
+            boolean b2 = bin.getLongCount() == getLongCount();
             return b0 && b1 && b2;
         }
         return false;
@@ -57,6 +57,8 @@
  * 08-Dec-2009 : Fire change event in addSeries() - see patch 2902842
  *               contributed by Thomas A Caswell (DG);
  * 03-Jul-2013 : Use ParamChecks (DG);
+ * 16-Oct-2026 : Added addSeries(Comparable, FixedBinHistogram) and allow
+ *               counts greater than Integer.MAX_VALUE;
  *
  */
 
@@ -76,7 +78,10 @@ import org.jfree.util.ObjectUtilities;
 import org.jfree.util.PublicCloneable;
 
 /**
- * A dataset that can be used for creating histograms.
+ * A dataset that can be used for creating histograms.  A series can be
+ * created from an array of values, or from a {@link FixedBinHistogram} that
+ * has counted a stream of values that would be too large to hold in an
+ * array.
  *
  * @see SimpleHistogramDataset
  */
@@ -155,10 +160,28 @@ public class HistogramDataset extends AbstractIntervalXYDataset
 
         ParamChecks.nullNotPermitted(key, "key");
         ParamChecks.nullNotPermitted(values, "values");
-        if (bins < 1) {
-            throw new IllegalArgumentException(
-                    "The 'bins' value must be at least 1.");
-        }
+        FixedBinHistogram histogram = new FixedBinHistogram(bins, minimum,
+                maximum);
+        histogram.add(values, 0, values.length);
+        addSeries(key, histogram);
+    }
+
+    /**
+     * Adds a series to the dataset, with the bins and counts from a
+     * histogram, and sends a {@link DatasetChangeEvent} to all registered
+     * listeners.  The dataset does not keep a reference to the histogram.
+     *
+     * @param key  the series key (<code>null</code> not permitted).
+     * @param histogram  the histogram (<code>null</code> not permitted).
+     *
+     * @since 1.0.20
+     */
+    public void addSeries(Comparable key, FixedBinHistogram histogram) {
+        ParamChecks.nullNotPermitted(key, "key");
+        ParamChecks.nullNotPermitted(histogram, "histogram");
+        int bins = histogram.getBinCount();
+        double minimum = histogram.getMinimum();
+        double maximum = histogram.getMaximum();
         double binWidth = (maximum - minimum) / bins;
 
         double lower = minimum;
@@ -177,32 +200,14 @@ public class HistogramDataset extends AbstractIntervalXYDataset
                 bin = new HistogramBin(lower, upper);
                 lower = upper;
             }
+            bin.addCount(histogram.getCount(i));
             binList.add(bin);
         }
-        // fill the bins
-        for (int i = 0; i < values.length; i++) {
-            int binIndex = bins - 1;
-            if (values[i] < maximum) {
-                double fraction = (values[i] - minimum) / (maximum - minimum);
-                if (fraction < 0.0) {
-                    fraction = 0.0;
-                }
-                binIndex = (int) (fraction * bins);
-                // rounding could result in binIndex being equal to bins
-                // which will cause an IndexOutOfBoundsException - see bug
-                // report 1553088
-                if (binIndex >= bins) {
-                    binIndex = bins - 1;
-                }
-            }
-            HistogramBin bin = (HistogramBin) binList.get(binIndex);
-            bin.incrementCount();
-        }
         // generic map for each series
         Map map = new HashMap();
         map.put("key", key);
         map.put("bins", binList);
-        map.put("values.length", new Integer(values.length));
+        map.put("values.length", new Long(histogram.getTotalCount()));
         map.put("bin width", new Double(binWidth));
         this.list.add(map);
         fireDatasetChanged();
@@ -275,9 +280,9 @@ public class HistogramDataset extends AbstractIntervalXYDataset
      *
      * @return The total.
      */
-    private int getTotal(int series) {
+    private long getTotal(int series) {
         Map map = (Map) this.list.get(series);
-        return ((Integer) map.get("values.length")).intValue();
+        return ((Number) map.get("values.length")).longValue();
     }
 
     /**
@@ -379,13 +384,13 @@ public class HistogramDataset extends AbstractIntervalXYDataset
         double binWidth = getBinWidth(series);
 
         if (this.type == HistogramType.FREQUENCY) {
-            return new Double(bin.getCount());
+            return new Double(bin.getLongCount());
         }
         else if (this.type == HistogramType.RELATIVE_FREQUENCY) {
-            return new Double(bin.getCount() / total);
+            return new Double(bin.getLongCount() / total);
         }
         else if (this.type == HistogramType.SCALE_AREA_TO_1) {
-            return new Double(bin.getCount() / (binWidth * total));
+            return new Double(bin.getLongCount() / (binWidth * total));
         }
         else { // pretty sure this shouldn't ever happen
             throw new IllegalStateException();
@@ -0,0 +1,474 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------
+ * QuantileSketch.java
+ * -------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import org.jfree.chart.util.ParamChecks;
+import org.jfree.util.PublicCloneable;
+
+/**
+ * A summary of a stream of values that can estimate quantiles (such as the
+ * median and quartiles) in a bounded amount of memory.  The summary is a KLL
+ * sketch: values are held in a stack of levels, and when a level is full it
+ * is sorted and every second value is promoted to the level above, where
+ * each value stands for twice as many observations.  With the default
+ * accuracy parameter (<code>k = 200</code>) the sketch holds fewer than 800
+ * values however many observations are added, and the rank of an estimated
+ * quantile is usually within 1% of the requested rank.
+ * <P>
+ * The count, mean, minimum and maximum are always exact, and until the first
+ * level is full the sketch holds every value (see {@link #isExact()}).
+ * Sketches are mergeable, so separate sketches can be built for different
+ * parts of the data (for example on different threads or servers) and
+ * combined when a chart is drawn:
+ * <pre>
+ * QuantileSketch total = new QuantileSketch();
+ * for (QuantileSketch shard : shards) {
+ *     total.merge(shard);
+ * }
+ * BoxAndWhiskerItem item
+ *         = BoxAndWhiskerCalculator.calculateSketchStatistics(total);
+ * </pre>
+ * <code>NaN</code> values are ignored.  This class is not thread-safe.
+ *
+ * @see BoxAndWhiskerCalculator#calculateSketchStatistics(QuantileSketch)
+ * @see FixedBinHistogram
+ *
+ * @since 1.0.20
+ */
+public class QuantileSketch implements Cloneable, PublicCloneable,
+        Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 4419850393214418717L;
+
+    /** The default accuracy parameter. */
+    public static final int DEFAULT_K = 200;
+
+    /** The smallest capacity for a level. */
+    private static final int MIN_CAPACITY = 8;
+
+    /** The capacity of a level relative to the capacity of the level above. */
+    private static final double CAPACITY_RATIO = 2.0 / 3.0;
+
+    /** The accuracy parameter (the capacity of the top level). */
+    private int k;
+
+    /**
+     * The values at each level.  A value at level <code>h</code> stands for
+     * <code>2<sup>h</sup></code> observations.
+     */
+    private double[][] levels;
+
+    /** The number of values at each level. */
+    private int[] sizes;
+
+    /** The number of levels in use. */
+    private int levelCount;
+
+    /** The number of values held at all levels. */
+    private int retainedCount;
+
+    /** The capacity of each level in use. */
+    private int[] capacities;
+
+    /** The total capacity of the levels in use. */
+    private int totalCapacity;
+
+    /** The number of observations. */
+    private long count;
+
+    /** The sum of the observations. */
+    private double sum;
+
+    /** The smallest observation. */
+    private double minimum;
+
+    /** The largest observation. */
+    private double maximum;
+
+    /**
+     * A flag that alternates between compactions, to choose whether the
+     * values at odd or even positions are promoted.
+     */
+    private boolean promoteOdd;
+
+    /**
+     * Creates a new sketch with the default accuracy parameter.
+     */
+    public QuantileSketch() {
+        this(DEFAULT_K);
+    }
+
+    /**
+     * Creates a new sketch.  The sketch holds fewer than <code>4k</code>
+     * values, and larger values of <code>k</code> give more accurate
+     * estimates.
+     *
+     * @param k  the accuracy parameter (at least 8).
+     */
+    public QuantileSketch(int k) {
+        if (k < MIN_CAPACITY) {
+            throw new IllegalArgumentException("Requires 'k' >= "
+                    + MIN_CAPACITY + ".");
+        }
+        this.k = k;
+        this.levels = new double[1][k];
+        this.sizes = new int[1];
+        this.capacities = new int[] {k};
+        this.levelCount = 1;
+        this.totalCapacity = k;
+        this.minimum = Double.POSITIVE_INFINITY;
+        this.maximum = Double.NEGATIVE_INFINITY;
+    }
+
+    /**
+     * Returns the accuracy parameter.
+     *
+     * @return The accuracy parameter.
+     */
+    public int getK() {
+        return this.k;
+    }
+
+    /**
+     * Returns the number of observations added to the sketch (excluding
+     * <code>NaN</code> values).
+     *
+     * @return The count.
+     */
+    public long getCount() {
+        return this.count;
+    }
+
+    /**
+     * Returns the mean of the observations.
+     *
+     * @return The mean (<code>NaN</code> if the sketch is empty).
+     */
+    public double getMean() {
+        return this.count > 0 ? this.sum / this.count : Double.NaN;
+    }
+
+    /**
+     * Returns the smallest observation.
+     *
+     * @return The minimum (<code>NaN</code> if the sketch is empty).
+     */
+    public double getMinimum() {
+        return this.count > 0 ? this.minimum : Double.NaN;
+    }
+
+    /**
+     * Returns the largest observation.
+     *
+     * @return The maximum (<code>NaN</code> if the sketch is empty).
+     */
+    public double getMaximum() {
+        return this.count > 0 ? this.maximum : Double.NaN;
+    }
+
+    /**
+     * Returns <code>true</code> if the sketch still holds every observation,
+     * in which case the quantiles are exact.
+     *
+     * @return A boolean.
+     */
+    public boolean isExact() {
+        return this.retainedCount == this.count;
+    }
+
+    /**
+     * Adds an observation to the sketch.  <code>NaN</code> values are
+     * ignored.
+     *
+     * @param value  the value.
+     */
+    public void add(double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        this.count++;
+        this.sum += value;
+        if (value < this.minimum) {
+            this.minimum = value;
+        }
+        if (value > this.maximum) {
+            this.maximum = value;
+        }
+        append(0, value);
+        if (this.retainedCount >= this.totalCapacity) {
+            compress();
+        }
+    }
+
+    /**
+     * Adds some observations from an array to the sketch.
+     *
+     * @param values  the values (<code>null</code> not permitted).
+     * @param offset  the index of the first value.
+     * @param length  the number of values.
+     */
+    public void add(double[] values, int offset, int length) {
+        ParamChecks.nullNotPermitted(values, "values");
+        if (offset < 0 || length < 0 || offset + length > values.length) {
+            throw new IndexOutOfBoundsException("Invalid range: offset = "
+                    + offset + ", length = " + length);
+        }
+        for (int i = offset; i < offset + length; i++) {
+            add(values[i]);
+        }
+    }
+
+    /**
+     * Adds all the observations summarised by another sketch to this sketch.
+     * The other sketch is not changed.
+     *
+     * @param other  the other sketch (<code>null</code> not permitted).
+     */
+    public void merge(QuantileSketch other) {
+        ParamChecks.nullNotPermitted(other, "other");
+        if (other.count == 0) {
+            return;
+        }
+        while (this.levelCount < other.levelCount) {
+            addLevel();
+        }
+        for (int h = 0; h < other.levelCount; h++) {
+            int size = other.sizes[h];  // in case other == this
+            for (int i = 0; i < size; i++) {
+                append(h, other.levels[h][i]);
+            }
+        }
+        this.count += other.count;
+        this.sum += other.sum;
+        this.minimum = Math.min(this.minimum, other.minimum);
+        this.maximum = Math.max(this.maximum, other.maximum);
+        compress();
+    }
+
+    /**
+     * Returns an estimate of a quantile of the observations, that is, the
+     * smallest value held by the sketch that is greater than or equal to a
+     * fraction <code>q</code> of the observations.
+     *
+     * @param q  the fraction (in the range <code>0.0</code> to
+     *     <code>1.0</code>).
+     *
+     * @return The estimate (<code>NaN</code> if the sketch is empty).
+     */
+    public double getQuantile(double q) {
+        if (!(q >= 0.0 && q <= 1.0)) {
+            throw new IllegalArgumentException("Requires 'q' in the range "
+                    + "0.0 to 1.0.");
+        }
+        if (this.count == 0) {
+            return Double.NaN;
+        }
+        if (q == 0.0) {
+            return this.minimum;
+        }
+        if (q == 1.0) {
+            return this.maximum;
+        }
+
+        // walk through the levels in value order, as in a merge sort...
+        double[][] sorted = new double[this.levelCount][];
+        int[] positions = new int[this.levelCount];
+        for (int h = 0; h < this.levelCount; h++) {
+            sorted[h] = Arrays.copyOf(this.levels[h], this.sizes[h]);
+            Arrays.sort(sorted[h]);
+        }
+        double target = q * this.count;
+        long rank = 0;
+        while (true) {
+            int next = -1;
+            for (int h = 0; h < this.levelCount; h++) {
+                if (positions[h] < sorted[h].length && (next < 0
+                        || sorted[h][positions[h]]
+                        < sorted[next][positions[next]])) {
+                    next = h;
+                }
+            }
+            if (next < 0) {
+                return this.maximum;
+            }
+            double value = sorted[next][positions[next]++];
+            rank += 1L << next;
+            if (rank >= target) {
+                return value;
+            }
+        }
+    }
+
+    /**
+     * Returns a copy of the values held by the sketch, in no particular
+     * order.  If the sketch is exact, these are the observations.
+     *
+     * @return The values.
+     */
+    double[] getRetainedValues() {
+        double[] result = new double[this.retainedCount];
+        int n = 0;
+        for (int h = 0; h < this.levelCount; h++) {
+            System.arraycopy(this.levels[h], 0, result, n, this.sizes[h]);
+            n += this.sizes[h];
+        }
+        return result;
+    }
+
+    /**
+     * Clears the sketch.
+     */
+    public void clear() {
+        this.levels = new double[1][this.k];
+        this.sizes = new int[1];
+        this.capacities = new int[] {this.k};
+        this.levelCount = 1;
+        this.retainedCount = 0;
+        this.totalCapacity = this.k;
+        this.count = 0;
+        this.sum = 0.0;
+        this.minimum = Double.POSITIVE_INFINITY;
+        this.maximum = Double.NEGATIVE_INFINITY;
+    }
+
+    /**
+     * Appends a value to a level, growing the level's array if necessary.
+     *
+     * @param level  the level.
+     * @param value  the value.
+     */
+    private void append(int level, double value) {
+        double[] items = this.levels[level];
+        int size = this.sizes[level];
+        if (size == items.length) {
+            items = Arrays.copyOf(items, Math.max(MIN_CAPACITY, size * 2));
+            this.levels[level] = items;
+        }
+        items[size] = value;
+        this.sizes[level] = size + 1;
+        this.retainedCount++;
+    }
+
+    /**
+     * Adds a level to the top of the stack (which reduces the capacity of
+     * the lower levels).
+     */
+    private void addLevel() {
+        if (this.levelCount == this.levels.length) {
+            this.levels = Arrays.copyOf(this.levels, this.levelCount * 2);
+            this.sizes = Arrays.copyOf(this.sizes, this.levelCount * 2);
+        }
+        this.levels[this.levelCount] = new double[MIN_CAPACITY];
+        this.sizes[this.levelCount] = 0;
+        this.levelCount++;
+        this.capacities = new int[this.levelCount];
+        int total = 0;
+        for (int h = 0; h < this.levelCount; h++) {
+            double c = this.k * Math.pow(CAPACITY_RATIO,
+                    this.levelCount - 1 - h);
+            this.capacities[h] = Math.max(MIN_CAPACITY, (int) Math.ceil(c));
+            total += this.capacities[h];
+        }
+        this.totalCapacity = total;
+    }
+
+    /**
+     * Compacts full levels, starting from the bottom, until the number of
+     * values held is below the total capacity.
+     */
+    private void compress() {
+        while (this.retainedCount >= this.totalCapacity) {
+            int h = 0;
+            while (this.sizes[h] < this.capacities[h]) {
+                h++;
+            }
+            if (h + 1 == this.levelCount) {
+                addLevel();
+            }
+            compact(h);
+        }
+    }
+
+    /**
+     * Sorts a level and promotes every second value to the next level.  If
+     * the level has an odd number of values, the smallest stays behind.
+     *
+     * @param level  the level.
+     */
+    private void compact(int level) {
+        double[] items = this.levels[level];
+        int size = this.sizes[level];
+        Arrays.sort(items, 0, size);
+        int start = size % 2;
+        int first = start + (this.promoteOdd ? 1 : 0);
+        this.promoteOdd = !this.promoteOdd;
+        int pairs = (size - start) / 2;
+        this.retainedCount -= size - start;
+        this.sizes[level] = start;
+        for (int i = 0; i < pairs; i++) {
+            append(level + 1, items[first + 2 * i]);
+        }
+    }
+
+    /**
+     * Returns a clone of the sketch.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException not thrown by this class.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        QuantileSketch clone = (QuantileSketch) super.clone();
+        clone.levels = new double[this.levels.length][];
+        for (int h = 0; h < this.levelCount; h++) {
+            clone.levels[h] = (double[]) this.levels[h].clone();
+        }
+        clone.sizes = (int[]) this.sizes.clone();
+        clone.capacities = (int[]) this.capacities.clone();
+        return clone;
+    }
+
+}
@@ -41,6 +41,9 @@
  * 29-May-2009 : Added support for polynomial regression, see patch 2795746
  *               by Peter Kolb (DG);
  * 03-Jul-2013 : Use ParamChecks (DG);
+ * 16-Oct-2026 : Fit lines in a single pass with Welford updates, use power
+ *               sums for polynomial regression and added methods for
+ *               double[] arrays;
  *
  */
 
@@ -70,31 +73,45 @@ public abstract class Regression {
             throw new IllegalArgumentException("Not enough data.");
         }
 
-        double sumX = 0;
-        double sumY = 0;
-        double sumXX = 0;
-        double sumXY = 0;
+        LineFit fit = new LineFit();
         for (int i = 0; i < n; i++) {
-            double x = data[i][0];
-            double y = data[i][1];
-            sumX += x;
-            sumY += y;
-            double xx = x * x;
-            sumXX += xx;
-            double xy = x * y;
-            sumXY += xy;
+            fit.add(data[i][0], data[i][1]);
         }
-        double sxx = sumXX - (sumX * sumX) / n;
-        double sxy = sumXY - (sumX * sumY) / n;
-        double xbar = sumX / n;
-        double ybar = sumY / n;
-
-        double[] result = new double[2];
-        result[1] = sxy / sxx;
-        result[0] = ybar - result[1] * xbar;
+        return fit.getParameters();
 
-        return result;
+    }
 
+    /**
+     * Returns the parameters 'a' and 'b' for an equation y = a + bx, fitted to
+     * the data using ordinary least squares regression.  Pairs that contain a
+     * <code>NaN</code> value are ignored.  The result is returned as a
+     * double[], where result[0] --&gt; a, and result[1] --&gt; b.  The data
+     * is read in a single pass, so the values for an
+     * {@link org.jfree.data.xy.XYSeries} can be passed directly from the
+     * arrays returned by its <code>toArray()</code> method.
+     *
+     * @param xData  the x-values (<code>null</code> not permitted).
+     * @param yData  the y-values (<code>null</code> not permitted, and the
+     *     same length as <code>xData</code>).
+     *
+     * @return The parameters.
+     *
+     * @since 1.0.20
+     */
+    public static double[] getOLSRegression(double[] xData, double[] yData) {
+        checkArrays(xData, yData);
+        LineFit fit = new LineFit();
+        for (int i = 0; i < xData.length; i++) {
+            double x = xData[i];
+            double y = yData[i];
+            if (!Double.isNaN(x) && !Double.isNaN(y)) {
+                fit.add(x, y);
+            }
+        }
+        if (fit.getCount() < 2) {
+            throw new IllegalArgumentException("Not enough data.");
+        }
+        return fit.getParameters();
     }
 
     /**
@@ -114,30 +131,11 @@ public abstract class Regression {
             throw new IllegalArgumentException("Not enough data.");
         }
 
-        double sumX = 0;
-        double sumY = 0;
-        double sumXX = 0;
-        double sumXY = 0;
+        LineFit fit = new LineFit();
         for (int i = 0; i < n; i++) {
-            double x = data.getXValue(series, i);
-            double y = data.getYValue(series, i);
-            sumX += x;
-            sumY += y;
-            double xx = x * x;
-            sumXX += xx;
-            double xy = x * y;
-            sumXY += xy;
+            fit.add(data.getXValue(series, i), data.getYValue(series, i));
         }
-        double sxx = sumXX - (sumX * sumX) / n;
-        double sxy = sumXY - (sumX * sumY) / n;
-        double xbar = sumX / n;
-        double ybar = sumY / n;
-
-        double[] result = new double[2];
-        result[1] = sxy / sxx;
-        result[0] = ybar - result[1] * xbar;
-
-        return result;
+        return fit.getParameters();
 
     }
 
@@ -157,29 +155,12 @@ public abstract class Regression {
             throw new IllegalArgumentException("Not enough data.");
         }
 
-        double sumX = 0;
-        double sumY = 0;
-        double sumXX = 0;
-        double sumXY = 0;
+        LineFit fit = new LineFit();
         for (int i = 0; i < n; i++) {
-            double x = Math.log(data[i][0]);
-            double y = Math.log(data[i][1]);
-            sumX += x;
-            sumY += y;
-            double xx = x * x;
-            sumXX += xx;
-            double xy = x * y;
-            sumXY += xy;
+            fit.add(Math.log(data[i][0]), Math.log(data[i][1]));
         }
-        double sxx = sumXX - (sumX * sumX) / n;
-        double sxy = sumXY - (sumX * sumY) / n;
-        double xbar = sumX / n;
-        double ybar = sumY / n;
-
-        double[] result = new double[2];
-        result[1] = sxy / sxx;
-        result[0] = Math.pow(Math.exp(1.0), ybar - result[1] * xbar);
-
+        double[] result = fit.getParameters();
+        result[0] = Math.exp(result[0]);
         return result;
 
     }
@@ -201,29 +182,13 @@ public abstract class Regression {
             throw new IllegalArgumentException("Not enough data.");
         }
 
-        double sumX = 0;
-        double sumY = 0;
-        double sumXX = 0;
-        double sumXY = 0;
+        LineFit fit = new LineFit();
         for (int i = 0; i < n; i++) {
-            double x = Math.log(data.getXValue(series, i));
-            double y = Math.log(data.getYValue(series, i));
-            sumX += x;
-            sumY += y;
-            double xx = x * x;
-            sumXX += xx;
-            double xy = x * y;
-            sumXY += xy;
+            fit.add(Math.log(data.getXValue(series, i)), 
+                    Math.log(data.getYValue(series, i)));
         }
-        double sxx = sumXX - (sumX * sumX) / n;
-        double sxy = sumXY - (sumX * sumY) / n;
-        double xbar = sumX / n;
-        double ybar = sumY / n;
-
-        double[] result = new double[2];
-        result[1] = sxy / sxx;
-        result[0] = Math.pow(Math.exp(1.0), ybar - result[1] * xbar);
-
+        double[] result = fit.getParameters();
+        result[0] = Math.exp(result[0]);
         return result;
 
     }
@@ -251,40 +216,75 @@ public abstract class Regression {
             int series, int order) {
         ParamChecks.nullNotPermitted(dataset, "dataset");
         int itemCount = dataset.getItemCount(series);
-        if (itemCount < order + 1) {
+        double[] xData = new double[itemCount];
+        double[] yData = new double[itemCount];
+        for (int item = 0; item < itemCount; item++) {
+            xData[item] = dataset.getXValue(series, item);
+            yData[item] = dataset.getYValue(series, item);
+        }
+        return getPolynomialRegression(xData, yData, order);
+    }
+
+    /**
+     * Returns the parameters 'a0', 'a1', 'a2', ..., 'an' for a polynomial
+     * function of order n, y = a0 + a1 * x + a2 * x^2 + ... + an * x^n,
+     * fitted to the data using a polynomial regression equation.  The
+     * result is returned in the same form as for
+     * {@link #getPolynomialRegression(XYDataset, int, int)}.  Pairs that
+     * contain a <code>NaN</code> value are ignored.
+     *
+     * @param xData  the x-values (<code>null</code> not permitted).
+     * @param yData  the y-values (<code>null</code> not permitted, and the
+     *     same length as <code>xData</code>).
+     * @param order  the order of the function (&gt; 0).
+     *
+     * @return The parameters.
+     *
+     * @since 1.0.20
+     */
+    public static double[] getPolynomialRegression(double[] xData,
+            double[] yData, int order) {
+        checkArrays(xData, yData);
+        if (xData.length < order + 1) {
             throw new IllegalArgumentException("Not enough data.");
         }
+        int equations = order + 1;
+        int coefficients = order + 2;
+
+        // the normal equations only need the sums of the powers of x (up to
+        // twice the order) and of y times the powers of x, so these are
+        // accumulated in a single pass with one multiplication per power
+        double[] sumPowX = new double[2 * order + 1];
+        double[] sumYPowX = new double[equations];
         int validItems = 0;
-        double[][] data = new double[2][itemCount];
-        for(int item = 0; item < itemCount; item++){
-            double x = dataset.getXValue(series, item);
-            double y = dataset.getYValue(series, item);
-            if (!Double.isNaN(x) && !Double.isNaN(y)){
-                data[0][validItems] = x;
-                data[1][validItems] = y;
-                validItems++;
+        double sumY = 0.0;
+        for (int item = 0; item < xData.length; item++) {
+            double x = xData[item];
+            double y = yData[item];
+            if (Double.isNaN(x) || Double.isNaN(y)) {
+                continue;
+            }
+            validItems++;
+            sumY += y;
+            double powX = 1.0;
+            for (int k = 0; k < sumPowX.length; k++) {
+                sumPowX[k] += powX;
+                if (k < equations) {
+                    sumYPowX[k] += y * powX;
+                }
+                powX *= x;
             }
         }
         if (validItems < order + 1) {
             throw new IllegalArgumentException("Not enough data.");
         }
-        int equations = order + 1;
-        int coefficients = order + 2;
         double[] result = new double[equations + 1];
         double[][] matrix = new double[equations][coefficients];
-        double sumX = 0.0;
-        double sumY = 0.0;
-
-        for(int item = 0; item < validItems; item++){
-            sumX += data[0][item];
-            sumY += data[1][item];
-            for(int eq = 0; eq < equations; eq++){
-                for(int coe = 0; coe < coefficients - 1; coe++){
-                    matrix[eq][coe] += Math.pow(data[0][item],eq + coe);
-                }
-                matrix[eq][coefficients - 1] += data[1][item]
-                        * Math.pow(data[0][item],eq);
+        for (int eq = 0; eq < equations; eq++) {
+            for (int coe = 0; coe < coefficients - 1; coe++) {
+                matrix[eq][coe] = sumPowX[eq + coe];
             }
+            matrix[eq][coefficients - 1] = sumYPowX[eq];
         }
         double[][] subMatrix = calculateSubMatrix(matrix);
         for (int eq = 1; eq < equations; eq++) {
@@ -303,19 +303,40 @@ public abstract class Regression {
         double meanY = sumY / validItems;
         double yObsSquare = 0.0;
         double yRegSquare = 0.0;
-        for (int item = 0; item < validItems; item++) {
-            double yCalc = 0;
-            for (int eq = 0; eq < equations; eq++) {
-                yCalc += result[eq] * Math.pow(data[0][item],eq);
+        for (int item = 0; item < xData.length; item++) {
+            double x = xData[item];
+            double y = yData[item];
+            if (Double.isNaN(x) || Double.isNaN(y)) {
+                continue;
             }
-            yRegSquare += Math.pow(yCalc - meanY, 2);
-            yObsSquare += Math.pow(data[1][item] - meanY, 2);
+            double yCalc = result[order];
+            for (int eq = order - 1; eq >= 0; eq--) {
+                yCalc = yCalc * x + result[eq];
+            }
+            yRegSquare += (yCalc - meanY) * (yCalc - meanY);
+            yObsSquare += (y - meanY) * (y - meanY);
         }
         double rSquare = yRegSquare / yObsSquare;
         result[equations] = rSquare;
         return result;
     }
 
+    /**
+     * Checks that two arrays are not <code>null</code> and have the same
+     * length.
+     *
+     * @param xData  the x-values.
+     * @param yData  the y-values.
+     */
+    private static void checkArrays(double[] xData, double[] yData) {
+        ParamChecks.nullNotPermitted(xData, "xData");
+        ParamChecks.nullNotPermitted(yData, "yData");
+        if (xData.length != yData.length) {
+            throw new IllegalArgumentException(
+                    "The arrays must have the same length.");
+        }
+    }
+
     /**
      * Returns a matrix with the following features: (1) the number of rows
      * and columns is 1 less than that of the original matrix; (2)the matrix
@@ -368,4 +389,67 @@ public abstract class Regression {
         return result;
     }
 
+    /**
+     * Accumulates the means and the sums of squares and products of
+     * deviations for a set of (x, y) pairs in a single pass.  The sums are
+     * updated with Welford's method, which avoids the cancellation that
+     * occurs when the raw sums of squares are large compared to the spread
+     * of the data.
+     */
+    private static class LineFit {
+
+        /** The number of pairs. */
+        private int count;
+
+        /** The mean of the x-values. */
+        private double meanX;
+
+        /** The mean of the y-values. */
+        private double meanY;
+
+        /** The sum of squared deviations of the x-values. */
+        private double sxx;
+
+        /** The sum of products of the x- and y-deviations. */
+        private double sxy;
+
+        /**
+         * Adds a pair.
+         *
+         * @param x  the x-value.
+         * @param y  the y-value.
+         */
+        public void add(double x, double y) {
+            this.count++;
+            double dx = x - this.meanX;
+            this.meanX += dx / this.count;
+            this.meanY += (y - this.meanY) / this.count;
+            this.sxx += dx * (x - this.meanX);
+            this.sxy += dx * (y - this.meanY);
+        }
+
+        /**
+         * Returns the number of pairs added.
+         *
+         * @return The count.
+         */
+        public int getCount() {
+            return this.count;
+        }
+
+        /**
+         * Returns the intercept 'a' and slope 'b' of the line y = a + bx
+         * through the pairs.
+         *
+         * @return The parameters.
+         */
+        public double[] getParameters() {
+            double[] result = new double[2];
+            result[1] = this.sxy / this.sxx;
+            result[0] = this.meanY - result[1] * this.meanX;
+            return result;
+        }
+
+    }
+
 }
@@ -0,0 +1,201 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------------
+ * SimpleHistogramAccumulator.java
+ * -------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import java.util.Arrays;
+
+import org.jfree.chart.util.ParamChecks;
+
+/**
+ * Counts observations into the bins of a {@link SimpleHistogramDataset}
+ * without changing the dataset, and without keeping the observations.  This
+ * can be used to count a stream of values that is too large to hold in
+ * memory, or to count values on several threads (with one accumulator per
+ * thread), and the counts are then added to the dataset in one step with
+ * {@link SimpleHistogramDataset#addCounts(SimpleHistogramAccumulator)}:
+ * <pre>
+ * SimpleHistogramAccumulator counts = dataset.createAccumulator();
+ * while (source.hasNext()) {
+ *     counts.add(source.next());
+ * }
+ * dataset.addCounts(counts);
+ * </pre>
+ * Values that do not belong in any bin are counted separately (see
+ * {@link #getUnbinnedCount()}) instead of causing an exception.
+ * <P>
+ * An accumulator is not thread-safe, and can only be used with the bins that
+ * the dataset had when the accumulator was created.
+ *
+ * @see SimpleHistogramDataset#createAccumulator()
+ *
+ * @since 1.0.20
+ */
+public class SimpleHistogramAccumulator {
+
+    /** The index used to find the bin for a value. */
+    private final SimpleHistogramBinIndex index;
+
+    /** The count for each bin. */
+    private final long[] counts;
+
+    /** The number of values that did not belong in any bin. */
+    private long unbinnedCount;
+
+    /**
+     * Creates a new accumulator.
+     *
+     * @param index  the bin index (<code>null</code> not permitted).
+     */
+    SimpleHistogramAccumulator(SimpleHistogramBinIndex index) {
+        this.index = index;
+        this.counts = new long[index.getBinCount()];
+    }
+
+    /**
+     * Returns the bin index used by this accumulator.
+     *
+     * @return The bin index.
+     */
+    SimpleHistogramBinIndex getIndex() {
+        return this.index;
+    }
+
+    /**
+     * Returns the number of bins.
+     *
+     * @return The bin count.
+     */
+    public int getBinCount() {
+        return this.counts.length;
+    }
+
+    /**
+     * Returns the number of values counted in a bin.
+     *
+     * @param bin  the bin index (zero-based, in the same order as the items
+     *     in the dataset).
+     *
+     * @return The count.
+     */
+    public long getCount(int bin) {
+        return this.counts[bin];
+    }
+
+    /**
+     * Returns the number of values that did not belong in any bin (including
+     * <code>NaN</code> values).
+     *
+     * @return The count.
+     */
+    public long getUnbinnedCount() {
+        return this.unbinnedCount;
+    }
+
+    /**
+     * Counts a value.
+     *
+     * @param value  the value.
+     *
+     * @return A boolean indicating whether or not the value belongs in a bin.
+     */
+    public boolean add(double value) {
+        int bin = this.index.indexOf(value);
+        if (bin < 0) {
+            this.unbinnedCount++;
+            return false;
+        }
+        this.counts[bin]++;
+        return true;
+    }
+
+    /**
+     * Counts some values from an array.
+     *
+     * @param values  the values (<code>null</code> not permitted).
+     * @param offset  the index of the first value to count.
+     * @param length  the number of values to count.
+     */
+    public void add(double[] values, int offset, int length) {
+        ParamChecks.nullNotPermitted(values, "values");
+        if (offset < 0 || length < 0 || offset + length > values.length) {
+            throw new IndexOutOfBoundsException("Invalid range: offset = "
+                    + offset + ", length = " + length);
+        }
+        SimpleHistogramBinIndex idx = this.index;
+        long[] c = this.counts;
+        for (int i = offset; i < offset + length; i++) {
+            int bin = idx.indexOf(values[i]);
+            if (bin < 0) {
+                this.unbinnedCount++;
+            }
+            else {
+                c[bin]++;
+            }
+        }
+    }
+
+    /**
+     * Adds the counts from another accumulator to this one.
+     *
+     * @param other  the other accumulator (<code>null</code> not permitted),
+     *     which must have been created for the same bins.
+     */
+    public void merge(SimpleHistogramAccumulator other) {
+        ParamChecks.nullNotPermitted(other, "other");
+        if (other.index != this.index) {
+            throw new IllegalArgumentException(
+                    "The accumulators are for different bins.");
+        }
+        for (int i = 0; i < this.counts.length; i++) {
+            this.counts[i] += other.counts[i];
+        }
+        this.unbinnedCount += other.unbinnedCount;
+    }
+
+    /**
+     * Resets all the counts to zero.
+     */
+    public void clear() {
+        Arrays.fill(this.counts, 0L);
+        this.unbinnedCount = 0L;
+    }
+
+}
@@ -35,6 +35,10 @@
  * Changes
  * -------
  * 10-Jan-2005 : Version 1 (DG);
+ * 16-Oct-2026 : Allow item counts beyond the range of an int, and added
+ *               getCount() and setCount().  The part of a count that does
+ *               not fit in the int field is kept in a separate field, so
+ *               the serialized form stays compatible;
  *
  */
 
@@ -71,9 +75,18 @@ public class SimpleHistogramBin implements Comparable,
      */
     private boolean includeUpperBound;
 
-    /** The item count. */
+    /**
+     * The item count (or <code>Integer.MAX_VALUE</code>, if the count is
+     * greater than that).
+     */
     private int itemCount;
 
+    /**
+     * The part of the item count that does not fit in
+     * <code>itemCount</code> (zero in data serialized by earlier versions).
+     */
+    private long overflowCount;
+
     /**
      * Creates a new bin.
      *
@@ -124,9 +137,13 @@ public class SimpleHistogramBin implements Comparable,
     }
 
     /**
-     * Returns the item count.
+     * Returns the item count.  If the count is greater than
+     * <code>Integer.MAX_VALUE</code>, this method returns
+     * <code>Integer.MAX_VALUE</code>.
      *
      * @return The item count.
+     *
+     * @see #getCount()
      */
     public int getItemCount() {
         return this.itemCount;
@@ -136,9 +153,36 @@ public class SimpleHistogramBin implements Comparable,
      * Sets the item count.
      *
      * @param count  the item count.
+     *
+     * @see #setCount(long)
      */
     public void setItemCount(int count) {
         this.itemCount = count;
+        this.overflowCount = 0;
+    }
+
+    /**
+     * Returns the item count as a <code>long</code>.
+     *
+     * @return The item count.
+     *
+     * @since 1.0.20
+     */
+    public long getCount() {
+        return this.itemCount + this.overflowCount;
+    }
+
+    /**
+     * Sets the item count.
+     *
+     * @param count  the item count.
+     *
+     * @since 1.0.20
+     */
+    public void setCount(long count) {
+        this.itemCount = (int) Math.max(Math.min(count, Integer.MAX_VALUE),
+                Integer.MIN_VALUE);
+        this.overflowCount = count - this.itemCount;
     }
 
     /**
@@ -251,6 +295,9 @@ public class SimpleHistogramBin implements Comparable,
         if (this.itemCount != that.itemCount) {
             return false;
         }
+        if (this.overflowCount != that.overflowCount) {
+            return false;
+        }
         return true;
     }
 
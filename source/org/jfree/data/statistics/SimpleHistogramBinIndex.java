@@ -0,0 +1,214 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------------
+ * SimpleHistogramBinIndex.java
+ * ----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import java.util.List;
+
+/**
+ * A lookup table that finds the bin for a value in a
+ * {@link SimpleHistogramDataset}.  When the bins all have (nearly) the same
+ * width and are contiguous, the bin index is calculated directly from the
+ * value, otherwise it is found by a binary search on the lower bounds of the
+ * bins.  Either way, the candidate bins are checked with the same rules as
+ * {@link SimpleHistogramBin#accepts(double)}.
+ * <P>
+ * Instances are immutable, and can be shared between threads.
+ */
+final class SimpleHistogramBinIndex {
+
+    /** The lower bounds of the bins, in ascending order. */
+    private final double[] lowerBounds;
+
+    /** The upper bounds of the bins. */
+    private final double[] upperBounds;
+
+    /** Flags indicating whether each bin includes its lower bound. */
+    private final boolean[] includeLowerBounds;
+
+    /** Flags indicating whether each bin includes its upper bound. */
+    private final boolean[] includeUpperBounds;
+
+    /** The lower bound of the first bin. */
+    private final double origin;
+
+    /** The bin width, or <code>NaN</code> if the bins are not uniform. */
+    private final double width;
+
+    /**
+     * Creates an index for a list of bins.
+     *
+     * @param bins  the bins, sorted and not overlapping (<code>null</code>
+     *     not permitted).
+     */
+    SimpleHistogramBinIndex(List bins) {
+        int n = bins.size();
+        this.lowerBounds = new double[n];
+        this.upperBounds = new double[n];
+        this.includeLowerBounds = new boolean[n];
+        this.includeUpperBounds = new boolean[n];
+        for (int i = 0; i < n; i++) {
+            SimpleHistogramBin bin = (SimpleHistogramBin) bins.get(i);
+            this.lowerBounds[i] = bin.getLowerBound();
+            this.upperBounds[i] = bin.getUpperBound();
+            this.includeLowerBounds[i] = bin.accepts(bin.getLowerBound());
+            this.includeUpperBounds[i] = bin.accepts(bin.getUpperBound());
+        }
+        if (n > 0) {
+            this.origin = this.lowerBounds[0];
+            this.width = isUniform() ? this.upperBounds[0] - this.origin
+                    : Double.NaN;
+        }
+        else {
+            this.origin = Double.NaN;
+            this.width = Double.NaN;
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if the bins are close enough to contiguous
+     * bins of equal width that the index calculated from a value is never
+     * more than one bin away from the correct bin.
+     *
+     * @return A boolean.
+     */
+    private boolean isUniform() {
+        double w = this.upperBounds[0] - this.lowerBounds[0];
+        double tolerance = w / 4.0;
+        for (int i = 0; i < this.lowerBounds.length; i++) {
+            double lower = this.origin + i * w;
+            if (Math.abs(this.lowerBounds[i] - lower) > tolerance
+                    || Math.abs(this.upperBounds[i] - lower - w) > tolerance) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of bins.
+     *
+     * @return The bin count.
+     */
+    int getBinCount() {
+        return this.lowerBounds.length;
+    }
+
+    /**
+     * Returns the index of the bin that a value belongs in.
+     *
+     * @param value  the value.
+     *
+     * @return The bin index, or -1 if the value does not belong in any bin.
+     */
+    int indexOf(double value) {
+        int n = this.lowerBounds.length;
+        if (Double.isNaN(value) || n == 0) {
+            return -1;
+        }
+        if (!Double.isNaN(this.width)) {
+            double guess = Math.floor((value - this.origin) / this.width);
+            if (guess >= -1.0 && guess <= n) {
+                int i = (int) guess;
+                if (accepts(i, value)) {
+                    return i;
+                }
+                if (accepts(i - 1, value)) {
+                    return i - 1;
+                }
+                if (accepts(i + 1, value)) {
+                    return i + 1;
+                }
+            }
+            return -1;
+        }
+
+        // find the last bin with a lower bound that is not greater than the
+        // value...
+        int low = 0;
+        int high = n - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (this.lowerBounds[mid] <= value) {
+                low = mid + 1;
+            }
+            else {
+                high = mid - 1;
+            }
+        }
+        // ...since the bins don't overlap, the value can only belong in that
+        // bin or, if it is on a shared boundary, the bin before it
+        if (accepts(high, value)) {
+            return high;
+        }
+        if (accepts(high - 1, value)) {
+            return high - 1;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns <code>true</code> if the specified bin exists and the value
+     * belongs in it.
+     *
+     * @param bin  the bin index.
+     * @param value  the value (not <code>NaN</code>).
+     *
+     * @return A boolean.
+     */
+    private boolean accepts(int bin, double value) {
+        if (bin < 0 || bin >= this.lowerBounds.length) {
+            return false;
+        }
+        double lower = this.lowerBounds[bin];
+        double upper = this.upperBounds[bin];
+        if (value < lower || value > upper) {
+            return false;
+        }
+        if (value == lower) {
+            return this.includeLowerBounds[bin];
+        }
+        if (value == upper) {
+            return this.includeUpperBounds[bin];
+        }
+        return true;
+    }
+
+}
@@ -38,6 +38,9 @@
  * 21-May-2007 : Added clearObservations() and removeAllBins() (SI);
  * 10-Jul-2007 : Added null argument check to constructor (DG);
  * 03-Jul-2013 : Use ParamChecks (DG);
+ * 16-Oct-2026 : Count changes made without notification;
+ * 16-Oct-2026 : Find bins with a lookup table instead of a linear search,
+ *               count large arrays in parallel, and added accumulators;
  *
  */
 
@@ -48,6 +51,10 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import org.jfree.chart.util.ParamChecks;
 
 import org.jfree.data.DomainOrder;
@@ -59,6 +66,11 @@ import org.jfree.util.PublicCloneable;
 
 /**
  * A dataset used for creating simple histograms with custom defined bins.
+ * The bin for an observation is found with a lookup table, which calculates
+ * the bin directly when the bins are contiguous and of equal width, and uses
+ * a binary search otherwise.  To count a stream of observations without
+ * sending an event for each one, use an accumulator (see
+ * {@link #createAccumulator()}).
  *
  * @see HistogramDataset
  */
@@ -81,6 +93,18 @@ public class SimpleHistogramDataset extends AbstractIntervalXYDataset
      */
     private boolean adjustForBinSize;
 
+    /**
+     * The lookup table for the bins (created when required, and discarded
+     * when the bins change).
+     */
+    private transient SimpleHistogramBinIndex binIndex;
+
+    /**
+     * The number of values per task when an array of values is counted in
+     * parallel.
+     */
+    private static final int PARALLEL_CHUNK_SIZE = 1 << 16;
+
     /**
      * Creates a new histogram dataset.  Note that the
      * <code>adjustForBinSize</code> flag defaults to <code>true</code>.
@@ -175,17 +199,37 @@ public class SimpleHistogramDataset extends AbstractIntervalXYDataset
      * @see #removeAllBins()
      */
     public void addBin(SimpleHistogramBin bin) {
-        // check that the new bin doesn't overlap with any existing bin
-        Iterator iterator = this.bins.iterator();
-        while (iterator.hasNext()) {
+        // check that the new bin doesn't overlap with any existing bin - the
+        // existing bins are sorted and don't overlap, so if the new bin
+        // overlaps any bin it overlaps one of its neighbours
+        int index = Collections.binarySearch(this.bins, bin);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        for (int i = Math.max(index - 1, 0);
+                i <= Math.min(index, this.bins.size() - 1); i++) {
             SimpleHistogramBin existingBin
-                    = (SimpleHistogramBin) iterator.next();
+                    = (SimpleHistogramBin) this.bins.get(i);
             if (bin.overlapsWith(existingBin)) {
                 throw new RuntimeException("Overlapping bin");
             }
         }
-        this.bins.add(bin);
-        Collections.sort(this.bins);
+        this.bins.add(index, bin);
+        this.binIndex = null;
+    }
+
+    /**
+     * Returns the lookup table for the current bins.
+     *
+     * @return The lookup table.
+     */
+    private SimpleHistogramBinIndex getBinIndex() {
+        SimpleHistogramBinIndex result = this.binIndex;
+        if (result == null) {
+            result = new SimpleHistogramBinIndex(this.bins);
+            this.binIndex = result;
+        }
+        return result;
     }
 
     /**
@@ -208,36 +252,167 @@ public class SimpleHistogramDataset extends AbstractIntervalXYDataset
      * @param notify  send {@link DatasetChangeEvent} to listeners?
      */
     public void addObservation(double value, boolean notify) {
-        boolean placed = false;
-        Iterator iterator = this.bins.iterator();
-        while (iterator.hasNext() && !placed) {
-            SimpleHistogramBin bin = (SimpleHistogramBin) iterator.next();
-            if (bin.accepts(value)) {
-                bin.setItemCount(bin.getItemCount() + 1);
-                placed = true;
-            }
-        }
-        if (!placed) {
+        int index = getBinIndex().indexOf(value);
+        if (index < 0) {
             throw new RuntimeException("No bin.");
         }
+        SimpleHistogramBin bin = (SimpleHistogramBin) this.bins.get(index);
+        bin.setCount(bin.getCount() + 1);
         if (notify) {
             notifyListeners(new DatasetChangeEvent(this, this));
         }
+        else {
+            incrementModificationCount();
+        }
     }
 
     /**
      * Adds a set of values to the dataset and sends a
-     * {@link DatasetChangeEvent} to all registered listeners.
+     * {@link DatasetChangeEvent} to all registered listeners.  A runtime
+     * exception is thrown (and the dataset is not changed) if any value does
+     * not fit into a bin.  Large arrays are counted in parallel, using the
+     * common <code>ForkJoinPool</code>.
      *
      * @param values  the values (<code>null</code> not permitted).
      *
      * @see #clearObservations()
      */
     public void addObservations(double[] values) {
-        for (int i = 0; i < values.length; i++) {
-            addObservation(values[i], false);
+        ParamChecks.nullNotPermitted(values, "values");
+        SimpleHistogramAccumulator counts = count(values);
+        if (counts.getUnbinnedCount() > 0) {
+            throw new RuntimeException("No bin.");
+        }
+        addCounts(counts, true);
+    }
+
+    /**
+     * Counts an array of values into a new accumulator, splitting the array
+     * into chunks that are counted in parallel if it is large enough.
+     *
+     * @param values  the values.
+     *
+     * @return The counts.
+     */
+    private SimpleHistogramAccumulator count(final double[] values) {
+        final SimpleHistogramBinIndex index = getBinIndex();
+        int chunkCount = Math.min(Runtime.getRuntime().availableProcessors(),
+                values.length / PARALLEL_CHUNK_SIZE);
+        if (chunkCount < 2) {
+            SimpleHistogramAccumulator result
+                    = new SimpleHistogramAccumulator(index);
+            result.add(values, 0, values.length);
+            return result;
+        }
+        List<Callable<SimpleHistogramAccumulator>> tasks
+                = new ArrayList<Callable<SimpleHistogramAccumulator>>();
+        for (int c = 0; c < chunkCount; c++) {
+            final int start = (int) ((long) values.length * c / chunkCount);
+            final int end = (int) ((long) values.length * (c + 1)
+                    / chunkCount);
+            tasks.add(new Callable<SimpleHistogramAccumulator>() {
+                @Override
+                public SimpleHistogramAccumulator call() {
+                    SimpleHistogramAccumulator result
+                            = new SimpleHistogramAccumulator(index);
+                    result.add(values, start, end - start);
+                    return result;
+                }
+            });
+        }
+        List<Future<SimpleHistogramAccumulator>> results
+                = ForkJoinPool.commonPool().invokeAll(tasks);
+        SimpleHistogramAccumulator total = null;
+        try {
+            for (Future<SimpleHistogramAccumulator> f : results) {
+                if (total == null) {
+                    total = f.get();
+                }
+                else {
+                    total.merge(f.get());
+                }
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+        catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new RuntimeException(cause);
+        }
+        return total;
+    }
+
+    /**
+     * Creates a new accumulator that can count observations for the current
+     * bins in this dataset, without changing the dataset.  The counts can be
+     * added to the dataset later with
+     * {@link #addCounts(SimpleHistogramAccumulator)}, as long as the bins
+     * have not been changed in the meantime.
+     *
+     * @return A new accumulator.
+     *
+     * @since 1.0.20
+     */
+    public SimpleHistogramAccumulator createAccumulator() {
+        return new SimpleHistogramAccumulator(getBinIndex());
+    }
+
+    /**
+     * Adds the counts from an accumulator to the bins in this dataset and
+     * sends a {@link DatasetChangeEvent} to all registered listeners.  Values
+     * that the accumulator could not place in a bin are ignored.
+     *
+     * @param counts  the counts (<code>null</code> not permitted), which
+     *     must be from an accumulator created by this dataset since the bins
+     *     were last changed.
+     *
+     * @since 1.0.20
+     */
+    public void addCounts(SimpleHistogramAccumulator counts) {
+        addCounts(counts, true);
+    }
+
+    /**
+     * Adds the counts from an accumulator to the bins in this dataset and,
+     * if requested, sends a {@link DatasetChangeEvent} to all registered
+     * listeners.  Values that the accumulator could not place in a bin are
+     * ignored.
+     *
+     * @param counts  the counts (<code>null</code> not permitted), which
+     *     must be from an accumulator created by this dataset since the bins
+     *     were last changed.
+     * @param notify  send {@link DatasetChangeEvent} to listeners?
+     *
+     * @since 1.0.20
+     */
+    public void addCounts(SimpleHistogramAccumulator counts, boolean notify) {
+        ParamChecks.nullNotPermitted(counts, "counts");
+        if (counts.getIndex() != this.binIndex) {
+            throw new IllegalArgumentException(
+                    "The counts are not for the current bins.");
+        }
+        for (int i = 0; i < counts.getBinCount(); i++) {
+            long c = counts.getCount(i);
+            if (c != 0) {
+                SimpleHistogramBin bin
+                        = (SimpleHistogramBin) this.bins.get(i);
+                bin.setCount(bin.getCount() + c);
+            }
+        }
+        if (notify) {
+            notifyListeners(new DatasetChangeEvent(this, this));
+        }
+        else {
+            incrementModificationCount();
         }
-        notifyListeners(new DatasetChangeEvent(this, this));
     }
 
     /**
@@ -253,7 +428,7 @@ public class SimpleHistogramDataset extends AbstractIntervalXYDataset
         Iterator iterator = this.bins.iterator();
         while (iterator.hasNext()) {
             SimpleHistogramBin bin = (SimpleHistogramBin) iterator.next();
-            bin.setItemCount(0);
+            bin.setCount(0L);
         }
         notifyListeners(new DatasetChangeEvent(this, this));
     }
@@ -268,6 +443,7 @@ public class SimpleHistogramDataset extends AbstractIntervalXYDataset
      */
     public void removeAllBins() {
         this.bins = new ArrayList();
+        this.binIndex = null;
         notifyListeners(new DatasetChangeEvent(this, this));
     }
 
@@ -327,11 +503,11 @@ public class SimpleHistogramDataset extends AbstractIntervalXYDataset
     public double getYValue(int series, int item) {
         SimpleHistogramBin bin = (SimpleHistogramBin) this.bins.get(item);
         if (this.adjustForBinSize) {
-            return bin.getItemCount()
+            return bin.getCount()
                    / (bin.getUpperBound() - bin.getLowerBound());
         }
         else {
-            return bin.getItemCount();
+            return bin.getCount();
         }
     }
 
@@ -485,6 +661,7 @@ public class SimpleHistogramDataset extends AbstractIntervalXYDataset
     public Object clone() throws CloneNotSupportedException {
         SimpleHistogramDataset clone = (SimpleHistogramDataset) super.clone();
         clone.bins = (List) ObjectUtilities.deepClone(this.bins);
+        clone.binIndex = null;
         return clone;
     }
 
@@ -44,20 +44,25 @@
  * 11-Jan-2005 : Removed deprecated code in preparation for the 1.0.0
  *               release (DG);
  * 02-Jul-2013 : Use ParamChecks (DG);
+ * 16-Oct-2026 : Added methods for double[] arrays, use quickselect for the
+ *               median and a running sum for the moving average;
  *
  */
 
 package org.jfree.data.statistics;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import org.jfree.chart.util.ParamChecks;
 
 /**
- * A utility class that provides some common statistical functions.
+ * A utility class that provides some common statistical functions.  Most
+ * functions are available for arrays or lists of <code>Number</code>
+ * objects, and some also for arrays of <code>double</code> primitives (in
+ * which <code>NaN</code> values are ignored), which avoid creating objects
+ * and find medians by selection rather than sorting.
  */
 public abstract class Statistics {
 
@@ -168,6 +173,68 @@ public abstract class Statistics {
         return total / count;
     }
 
+    /**
+     * Returns the mean of a range of values in an array, ignoring
+     * <code>NaN</code> values.
+     *
+     * @param values  the values (<code>null</code> not permitted).
+     * @param start  the index of the first value.
+     * @param end  the index of the last value.
+     *
+     * @return The mean (<code>NaN</code> if there are no values).
+     *
+     * @since 1.0.20
+     */
+    public static double calculateMean(double[] values, int start, int end) {
+        checkRange(values, start, end);
+        double total = 0.0;
+        int count = 0;
+        for (int i = start; i <= end; i++) {
+            double v = values[i];
+            if (!Double.isNaN(v)) {
+                total += v;
+                count++;
+            }
+        }
+        return count > 0 ? total / count : Double.NaN;
+    }
+
+    /**
+     * Calculates the mean and (sample) standard deviation of a range of
+     * values in an array in a single pass, using Welford's method, and
+     * ignoring <code>NaN</code> values.
+     *
+     * @param values  the values (<code>null</code> not permitted).
+     * @param start  the index of the first value.
+     * @param end  the index of the last value.
+     *
+     * @return The mean and standard deviation (either may be
+     *     <code>NaN</code> if there are too few values).
+     *
+     * @since 1.0.20
+     */
+    public static MeanAndStandardDeviation calculateMeanAndStandardDeviation(
+            double[] values, int start, int end) {
+        checkRange(values, start, end);
+        int count = 0;
+        double mean = 0.0;
+        double m2 = 0.0;
+        for (int i = start; i <= end; i++) {
+            double v = values[i];
+            if (!Double.isNaN(v)) {
+                count++;
+                double delta = v - mean;
+                mean += delta / count;
+                m2 += delta * (v - mean);
+            }
+        }
+        if (count == 0) {
+            return new MeanAndStandardDeviation(Double.NaN, Double.NaN);
+        }
+        return new MeanAndStandardDeviation(mean,
+                Math.sqrt(m2 / (count - 1)));
+    }
+
     /**
      * Calculates the median for a list of values ({@code Number} objects).
      * The list of values will be copied, and the copy sorted, before
@@ -199,13 +266,8 @@ public abstract class Statistics {
         double result = Double.NaN;
         if (values != null) {
             if (copyAndSort) {
-                int itemCount = values.size();
-                List copy = new ArrayList(itemCount);
-                for (int i = 0; i < itemCount; i++) {
-                    copy.add(i, values.get(i));
-                }
-                Collections.sort(copy);
-                values = copy;
+                return calculateMedian(toDoubleArray(values, 0,
+                        values.size() - 1));
             }
             int count = values.size();
             if (count > 0) {
@@ -262,12 +324,7 @@ public abstract class Statistics {
 
         double result = Double.NaN;
         if (copyAndSort) {
-            List working = new ArrayList(end - start + 1);
-            for (int i = start; i <= end; i++) {
-                working.add(values.get(i));
-            }
-            Collections.sort(working);
-            result = calculateMedian(working, false);
+            result = calculateMedian(toDoubleArray(values, start, end));
         }
         else {
             int count = end - start + 1;
@@ -295,6 +352,209 @@ public abstract class Statistics {
 
     }
 
+    /**
+     * Calculates the median of a range of values in an array, ignoring
+     * <code>NaN</code> values.  The array is not changed.
+     *
+     * @param values  the values, in any order (<code>null</code> not
+     *     permitted).
+     * @param start  the index of the first value.
+     * @param end  the index of the last value.
+     *
+     * @return The median (<code>NaN</code> if there are no values).
+     *
+     * @since 1.0.20
+     */
+    public static double calculateMedian(double[] values, int start,
+            int end) {
+        checkRange(values, start, end);
+        double[] working = new double[end - start + 1];
+        int count = 0;
+        for (int i = start; i <= end; i++) {
+            if (!Double.isNaN(values[i])) {
+                working[count++] = values[i];
+            }
+        }
+        return selectMedian(working, 0, count - 1);
+    }
+
+    /**
+     * Returns the median of an array of values that the method is free to
+     * reorder (the values of a list, copied into an array).  The values are
+     * expected to be non-null <code>Number</code> objects.
+     *
+     * @param values  the values.
+     *
+     * @return The median.
+     */
+    private static double calculateMedian(double[] values) {
+        for (int i = 0; i < values.length; i++) {
+            if (Double.isNaN(values[i])) {
+                // NaN sorts after all other values, as it would in a list
+                Arrays.sort(values);
+                return medianOfSorted(values, 0, values.length - 1);
+            }
+        }
+        return selectMedian(values, 0, values.length - 1);
+    }
+
+    /**
+     * Copies a range of the values in a list of <code>Number</code> objects
+     * into a new array.
+     *
+     * @param values  the values.
+     * @param start  the index of the first value.
+     * @param end  the index of the last value.
+     *
+     * @return The array.
+     */
+    private static double[] toDoubleArray(List values, int start, int end) {
+        double[] result = new double[Math.max(end - start + 1, 0)];
+        for (int i = start; i <= end; i++) {
+            result[i - start] = ((Number) values.get(i)).doubleValue();
+        }
+        return result;
+    }
+
+    /**
+     * Returns the median of the values in a range of a sorted array.
+     *
+     * @param values  the values, in ascending order.
+     * @param start  the index of the first value.
+     * @param end  the index of the last value.
+     *
+     * @return The median (<code>NaN</code> if the range is empty).
+     */
+    private static double medianOfSorted(double[] values, int start,
+            int end) {
+        int count = end - start + 1;
+        if (count <= 0) {
+            return Double.NaN;
+        }
+        if (count % 2 == 1) {
+            return values[start + (count - 1) / 2];
+        }
+        return (values[start + count / 2 - 1] + values[start + count / 2])
+                / 2.0;
+    }
+
+    /**
+     * Returns the median of the values in a range of an array, using
+     * selection rather than sorting.  The values in the range are reordered
+     * so that the value (or values) in the middle are where they would be if
+     * the range was sorted, with no larger values before them and no smaller
+     * values after them.
+     *
+     * @param values  the values (no <code>NaN</code> values).
+     * @param start  the index of the first value.
+     * @param end  the index of the last value.
+     *
+     * @return The median (<code>NaN</code> if the range is empty).
+     */
+    static double selectMedian(double[] values, int start, int end) {
+        int count = end - start + 1;
+        if (count <= 0) {
+            return Double.NaN;
+        }
+        int upper = start + count / 2;
+        select(values, start, end, upper);
+        if (count % 2 == 1) {
+            return values[upper];
+        }
+        // the lower middle value is the largest value before the upper one
+        double lower = values[start];
+        for (int i = start + 1; i < upper; i++) {
+            if (values[i] > lower) {
+                lower = values[i];
+            }
+        }
+        return (lower + values[upper]) / 2.0;
+    }
+
+    /**
+     * Reorders a range of an array (using the quickselect algorithm) so that
+     * the value at index <code>k</code> is the value that would be there if
+     * the range was sorted, all the values before it are less than or equal
+     * to it, and all the values after it are greater than or equal to it.
+     *
+     * @param values  the values (no <code>NaN</code> values).
+     * @param start  the index of the first value in the range.
+     * @param end  the index of the last value in the range.
+     * @param k  the index to select (in the range).
+     */
+    static void select(double[] values, int start, int end, int k) {
+        int lo = start;
+        int hi = end;
+        while (hi > lo) {
+            // use the median of three values as the pivot
+            int mid = (lo + hi) >>> 1;
+            if (values[mid] < values[lo]) {
+                swap(values, mid, lo);
+            }
+            if (values[hi] < values[lo]) {
+                swap(values, hi, lo);
+            }
+            if (values[hi] < values[mid]) {
+                swap(values, hi, mid);
+            }
+            double pivot = values[mid];
+            int i = lo;
+            int j = hi;
+            while (i <= j) {
+                while (values[i] < pivot) {
+                    i++;
+                }
+                while (values[j] > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    swap(values, i, j);
+                    i++;
+                    j--;
+                }
+            }
+            if (k <= j) {
+                hi = j;
+            }
+            else if (k >= i) {
+                lo = i;
+            }
+            else {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Swaps two values in an array.
+     *
+     * @param values  the array.
+     * @param i  the index of the first value.
+     * @param j  the index of the second value.
+     */
+    private static void swap(double[] values, int i, int j) {
+        double temp = values[i];
+        values[i] = values[j];
+        values[j] = temp;
+    }
+
+    /**
+     * Checks that an array is not <code>null</code> and that a range of
+     * indices is valid for it.  The range can be empty
+     * (<code>end = start - 1</code>).
+     *
+     * @param values  the array.
+     * @param start  the index of the first value.
+     * @param end  the index of the last value.
+     */
+    static void checkRange(double[] values, int start, int end) {
+        ParamChecks.nullNotPermitted(values, "values");
+        if (start < 0 || end >= values.length || end < start - 1) {
+            throw new IndexOutOfBoundsException("Invalid range: start = "
+                    + start + ", end = " + end);
+        }
+    }
+
     /**
      * Returns the standard deviation of a set of numbers.
      *
@@ -429,6 +689,51 @@ public abstract class Statistics {
                 * (n * sumY2 - sumY * sumY), 0.5);
     }
 
+    /**
+     * Calculates the correlation between two arrays of values, in a single
+     * pass that accumulates the covariance and variances about the running
+     * means (which is more accurate than accumulating sums of squares).
+     * Pairs in which either value is <code>NaN</code> are ignored.
+     *
+     * @param data1  the first array (<code>null</code> not permitted).
+     * @param data2  the second array (<code>null</code> not permitted), with
+     *     the same length as the first.
+     *
+     * @return The correlation.
+     *
+     * @since 1.0.20
+     */
+    public static double calculateCorrelation(double[] data1, double[] data2) {
+        ParamChecks.nullNotPermitted(data1, "data1");
+        ParamChecks.nullNotPermitted(data2, "data2");
+        if (data1.length != data2.length) {
+            throw new IllegalArgumentException(
+                "'data1' and 'data2' arrays must have same length.");
+        }
+        int n = 0;
+        double meanX = 0.0;
+        double meanY = 0.0;
+        double m2x = 0.0;
+        double m2y = 0.0;
+        double cxy = 0.0;
+        for (int i = 0; i < data1.length; i++) {
+            double x = data1[i];
+            double y = data2[i];
+            if (Double.isNaN(x) || Double.isNaN(y)) {
+                continue;
+            }
+            n++;
+            double dx = x - meanX;
+            double dy = y - meanY;
+            meanX += dx / n;
+            meanY += dy / n;
+            m2x += dx * (x - meanX);
+            m2y += dy * (y - meanY);
+            cxy += dx * (y - meanY);
+        }
+        return cxy / Math.sqrt(m2x * m2y);
+    }
+
     /**
      * Returns a data set for a moving average on the data set passed in.
      *
@@ -453,18 +758,158 @@ public abstract class Statistics {
         }
 
         double[][] result = new double[xData.length - period][2];
+        double[] y = new double[Math.max(result.length + period - 1, 0)];
+        for (int j = 0; j < y.length; j++) {
+            y[j] = yData[j].doubleValue();
+        }
         for (int i = 0; i < result.length; i++) {
             result[i][0] = xData[i + period].doubleValue();
-            // holds the moving average sum
-            double sum = 0.0;
-            for (int j = 0; j < period; j++) {
-                sum += yData[i + j].doubleValue();
-            }
-            sum = sum / period;
-            result[i][1] = sum;
         }
+        fillMovingAverage(y, period, result);
         return result;
 
     }
 
+    /**
+     * Returns a data set for a moving average on the data set passed in,
+     * calculated in a single pass with a running sum.  The result is the
+     * same as for {@link #getMovingAverage(Number[], Number[], int)}.
+     *
+     * @param xData  an array of the x data (<code>null</code> not
+     *     permitted).
+     * @param yData  an array of the y data (<code>null</code> not
+     *     permitted).
+     * @param period  the number of data points to average.
+     *
+     * @return A double[][] the length of the data set in the first dimension,
+     *         with two doubles for x and y in the second dimension.
+     *
+     * @since 1.0.20
+     */
+    public static double[][] calculateMovingAverage(double[] xData,
+            double[] yData, int period) {
+        ParamChecks.nullNotPermitted(xData, "xData");
+        ParamChecks.nullNotPermitted(yData, "yData");
+        if (xData.length != yData.length) {
+            throw new IllegalArgumentException("Array lengths must be equal.");
+        }
+        if (period > xData.length) {
+            throw new IllegalArgumentException(
+                "Period can't be longer than dataset.");
+        }
+        double[][] result = new double[xData.length - period][2];
+        for (int i = 0; i < result.length; i++) {
+            result[i][0] = xData[i + period];
+        }
+        fillMovingAverage(yData, period, result);
+        return result;
+    }
+
+    /**
+     * Calculates the moving averages for
+     * {@link #getMovingAverage(Number[], Number[], int)} with a running sum
+     * of the finite values in the window.  The sum is compensated for
+     * rounding errors, so that a large value leaving the window does not
+     * take the smaller values with it, and is recalculated from the window
+     * every <code>period</code> steps so that the remaining errors do not
+     * build up.  The average for a window that contains an infinite or
+     * <code>NaN</code> value is calculated directly, so that the value only
+     * affects the windows that contain it.
+     *
+     * @param y  the y-values.
+     * @param period  the number of values to average.
+     * @param result  the result array, with the averages to be written to
+     *     <code>result[i][1]</code>.
+     */
+    private static void fillMovingAverage(double[] y, int period,
+            double[][] result) {
+        // the sum and its rounding error
+        double[] sum = new double[2];
+        int nonFinite = 0;
+        for (int i = 0; i < result.length; i++) {
+            if (i == 0) {
+                for (int j = 0; j < period; j++) {
+                    if (isFinite(y[j])) {
+                        accumulate(sum, y[j]);
+                    }
+                    else {
+                        nonFinite++;
+                    }
+                }
+            }
+            else {
+                double in = y[i + period - 1];
+                double out = y[i - 1];
+                if (!isFinite(in)) {
+                    nonFinite++;
+                }
+                if (!isFinite(out)) {
+                    nonFinite--;
+                }
+                if (i % period == 0) {
+                    sum[0] = 0.0;
+                    sum[1] = 0.0;
+                    for (int j = 0; j < period; j++) {
+                        if (isFinite(y[i + j])) {
+                            accumulate(sum, y[i + j]);
+                        }
+                    }
+                }
+                else {
+                    if (isFinite(in)) {
+                        accumulate(sum, in);
+                    }
+                    if (isFinite(out)) {
+                        accumulate(sum, -out);
+                    }
+                }
+            }
+            if (nonFinite > 0) {
+                double windowSum = 0.0;
+                for (int j = 0; j < period; j++) {
+                    windowSum += y[i + j];
+                }
+                result[i][1] = windowSum / period;
+            }
+            else {
+                result[i][1] = (sum[0] + sum[1]) / period;
+            }
+        }
+    }
+
+    /**
+     * Adds a value to a sum, keeping track of the rounding error (Neumaier's
+     * variant of Kahan summation).
+     *
+     * @param sum  the sum (in <code>sum[0]</code>) and its rounding error
+     *     (in <code>sum[1]</code>).
+     * @param value  the (finite) value.
+     */
+    private static void accumulate(double[] sum, double value) {
+        double t = sum[0] + value;
+        if (Double.isInfinite(t)) {
+            sum[0] = t;  // there is no error to track
+            return;
+        }
+        if (Math.abs(sum[0]) >= Math.abs(value)) {
+            sum[1] += (sum[0] - t) + value;
+        }
+        else {
+            sum[1] += (value - t) + sum[0];
+        }
+        sum[0] = t;
+    }
+
+    /**
+     * Returns <code>true</code> if a value is neither infinite nor
+     * <code>NaN</code>.
+     *
+     * @param value  the value.
+     *
+     * @return A boolean.
+     */
+    private static boolean isFinite(double value) {
+        return !Double.isNaN(value) && !Double.isInfinite(value);
+    }
+
 }
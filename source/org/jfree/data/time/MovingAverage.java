@@ -45,6 +45,8 @@
  *               release (DG);
  * 09-Jun-2009 : Tidied up some calls to TimeSeries (DG);
  * 02-Jul-2013 : Use ParamChecks (DG);
+ * 16-Oct-2026 : Calculate moving averages with a running sum in a single
+ *               pass, and added createPointMovingWindow() methods;
  *
  */
 
@@ -57,6 +59,10 @@ import org.jfree.data.xy.XYSeriesCollection;
 
 /**
  * A utility class for calculating moving averages of time series data.
+ * The averages are calculated in a single pass with a running sum.  For
+ * other functions calculated over a fixed number of items, see
+ * {@link MovingWindow}, and to keep a moving average up to date as items are
+ * added to a series, see {@link MovingWindowUpdater}.
  */
 public class MovingAverage {
 
@@ -117,55 +123,35 @@ public class MovingAverage {
         }
 
         TimeSeries result = new TimeSeries(name);
-
-        if (source.getItemCount() > 0) {
+        int count = source.getItemCount();
+        if (count > 0) {
 
             // if the initial averaging period is to be excluded, then
             // calculate the index of the
             // first data item to have an average calculated...
             long firstSerial = source.getTimePeriod(0).getSerialIndex() + skip;
 
-            for (int i = source.getItemCount() - 1; i >= 0; i--) {
-
-                // get the current data item...
-                RegularTimePeriod period = source.getTimePeriod(i);
-                long serial = period.getSerialIndex();
-
-                if (serial >= firstSerial) {
-                    // work out the average for the earlier values...
-                    int n = 0;
-                    double sum = 0.0;
-                    long serialLimit = period.getSerialIndex() - periodCount;
-                    int offset = 0;
-                    boolean finished = false;
-
-                    while ((offset < periodCount) && (!finished)) {
-                        if ((i - offset) >= 0) {
-                            TimeSeriesDataItem item = source.getRawDataItem(
-                                    i - offset);
-                            RegularTimePeriod p = item.getPeriod();
-                            Number v = item.getValue();
-                            long currentIndex = p.getSerialIndex();
-                            if (currentIndex > serialLimit) {
-                                if (v != null) {
-                                    sum = sum + v.doubleValue();
-                                    n = n + 1;
-                                }
-                            }
-                            else {
-                                finished = true;
-                            }
-                        }
-                        offset = offset + 1;
-                    }
-                    if (n > 0) {
-                        result.add(period, sum / n);
-                    }
-                    else {
-                        result.add(period, null);
-                    }
+            // the window holds the items up to 'i' with a serial index
+            // greater than the current serial index - periodCount
+            long[] serials = new long[count];
+            double[] values = new double[count];
+            boolean[] nulls = new boolean[count];
+            RunningSum window = new RunningSum(values, nulls);
+            for (int i = 0; i < count; i++) {
+                TimeSeriesDataItem item = source.getRawDataItem(i);
+                RegularTimePeriod period = item.getPeriod();
+                Number v = item.getValue();
+                serials[i] = period.getSerialIndex();
+                nulls[i] = (v == null);
+                values[i] = (v != null ? v.doubleValue() : 0.0);
+                window.add();
+                long serialLimit = serials[i] - periodCount;
+                while (serials[window.start] <= serialLimit) {
+                    window.removeFirst();
+                }
+                if (serials[i] >= firstSerial) {
+                    result.add(period, window.getAverage(), false);
                 }
-
             }
         }
 
@@ -291,8 +277,43 @@ public class MovingAverage {
         }
 
         XYSeries result = new XYSeries(name);
+        int count = source.getItemCount(series);
+        boolean sorted = true;
+        for (int i = 1; i < count && sorted; i++) {
+            sorted = source.getXValue(series, i - 1)
+                    <= source.getXValue(series, i);
+        }
 
-        if (source.getItemCount(series) > 0) {
+        if (sorted && count > 0) {
+
+            // if the initial averaging period is to be excluded, then
+            // calculate the lowest x-value to have an average calculated...
+            double first = source.getXValue(series, 0) + skip;
+
+            // the window holds the items up to 'i' with an x-value greater
+            // than the current x-value - period
+            double[] xs = new double[count];
+            double[] ys = new double[count];
+            boolean[] nulls = new boolean[count];
+            RunningSum window = new RunningSum(ys, nulls);
+            for (int i = 0; i < count; i++) {
+                Number y = source.getY(series, i);
+                xs[i] = source.getXValue(series, i);
+                nulls[i] = (y == null);
+                ys[i] = (y != null ? y.doubleValue() : 0.0);
+                window.add();
+                double limit = xs[i] - period;
+                while (xs[window.start] <= limit) {
+                    window.removeFirst();
+                }
+                if (xs[i] >= first) {
+                    result.add(xs[i], window.getAverage(), false);
+                }
+            }
+        }
+        else if (count > 0) {
+            // the items are not in x-order, so the window for each item is
+            // found by searching back from the item...
 
             // if the initial averaging period is to be excluded, then
             // calculate the lowest x-value to have an average calculated...
@@ -345,4 +366,235 @@ public class MovingAverage {
 
     }
 
+    /**
+     * Creates a new {@link TimeSeries} containing the value of a function
+     * calculated over a moving window of a fixed number of items in the given
+     * series.  Items with a <code>null</code> or <code>NaN</code> value are
+     * skipped, and the first result is for the item that fills the window.
+     *
+     * @param source  the source series (<code>null</code> not permitted).
+     * @param name  the name of the new series.
+     * @param function  the function (<code>null</code> not permitted).
+     * @param pointCount  the number of items in the window (at least 1).
+     *
+     * @return The new series.
+     *
+     * @see MovingWindowUpdater
+     *
+     * @since 1.0.20
+     */
+    public static TimeSeries createPointMovingWindow(TimeSeries source,
+            String name, MovingWindowFunction function, int pointCount) {
+        ParamChecks.nullNotPermitted(source, "source");
+        TimeSeries result = new TimeSeries(name);
+        MovingWindow window = new MovingWindow(function, pointCount);
+        for (int i = 0; i < source.getItemCount(); i++) {
+            TimeSeriesDataItem item = source.getRawDataItem(i);
+            Number value = item.getValue();
+            if (value != null && !Double.isNaN(value.doubleValue())) {
+                window.add(value.doubleValue());
+                if (window.isReady()) {
+                    result.add(item.getPeriod(), window.getValue(), false);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Creates a new {@link XYSeries} containing the value of a function
+     * calculated over a moving window of a fixed number of items in the given
+     * series.  Items with a <code>null</code> or <code>NaN</code> y-value are
+     * skipped, and the first result is for the item that fills the window.
+     *
+     * @param source  the source series (<code>null</code> not permitted).
+     * @param name  the name of the new series (<code>null</code> not
+     *     permitted).
+     * @param function  the function (<code>null</code> not permitted).
+     * @param pointCount  the number of items in the window (at least 1).
+     *
+     * @return The new series.
+     *
+     * @see MovingWindowUpdater
+     *
+     * @since 1.0.20
+     */
+    public static XYSeries createPointMovingWindow(XYSeries source,
+            String name, MovingWindowFunction function, int pointCount) {
+        ParamChecks.nullNotPermitted(source, "source");
+        XYSeries result = new XYSeries(name, source.getAutoSort(), true);
+        MovingWindow window = new MovingWindow(function, pointCount);
+        for (int i = 0; i < source.getItemCount(); i++) {
+            Number y = source.getY(i);
+            if (y != null && !Double.isNaN(y.doubleValue())) {
+                window.add(y.doubleValue());
+                if (window.isReady()) {
+                    result.add(source.getX(i).doubleValue(),
+                            window.getValue(), false);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * A running sum of the values in a moving average window, which counts
+     * <code>null</code>, infinite and <code>NaN</code> values separately so
+     * that they only affect the averages of the windows that contain them
+     * (the average of a window that contains an infinite or
+     * <code>NaN</code> value is calculated directly).  The window is a
+     * range of items in the value arrays.  The sum is compensated for
+     * rounding errors (so that a large value leaving the window does not
+     * take the smaller values with it), and is recalculated from the items
+     * once as many items have left the window as it holds, so that the
+     * remaining errors do not build up.
+     */
+    private static class RunningSum {
+
+        /** The item values. */
+        double[] values;
+
+        /** Flags for the <code>null</code> items. */
+        boolean[] nulls;
+
+        /** The index of the first item in the window. */
+        int start;
+
+        /** The index after the last item in the window. */
+        int end;
+
+        /** The number of items removed since the sum was recalculated. */
+        int removed;
+
+        /** The sum of the finite values. */
+        double sum;
+
+        /** The rounding error in the sum. */
+        double compensation;
+
+        /** The number of non-null values. */
+        int count;
+
+        /** The number of infinite and NaN values. */
+        int nonFiniteCount;
+
+        /**
+         * Creates a new, empty window.
+         *
+         * @param values  the item values.
+         * @param nulls  flags for the <code>null</code> items.
+         */
+        RunningSum(double[] values, boolean[] nulls) {
+            this.values = values;
+            this.nulls = nulls;
+        }
+
+        /**
+         * Adds the next item to the window.
+         */
+        void add() {
+            int i = this.end++;
+            if (this.nulls[i]) {
+                return;
+            }
+            this.count++;
+            if (!isFinite(this.values[i])) {
+                this.nonFiniteCount++;
+            }
+            else {
+                accumulate(this.values[i]);
+            }
+        }
+
+        /**
+         * Removes the first item from the window.
+         */
+        void removeFirst() {
+            int i = this.start++;
+            if (!this.nulls[i]) {
+                this.count--;
+                if (!isFinite(this.values[i])) {
+                    this.nonFiniteCount--;
+                }
+                else {
+                    accumulate(-this.values[i]);
+                }
+            }
+            this.removed++;
+            if (this.removed >= this.end - this.start) {
+                resum();
+            }
+        }
+
+        /**
+         * Adds a value to the sum, keeping track of the rounding error
+         * (Neumaier's variant of Kahan summation).
+         *
+         * @param value  the value.
+         */
+        private void accumulate(double value) {
+            double t = this.sum + value;
+            if (Double.isInfinite(t)) {
+                this.sum = t;  // there is no error to track
+                return;
+            }
+            if (Math.abs(this.sum) >= Math.abs(value)) {
+                this.compensation += (this.sum - t) + value;
+            }
+            else {
+                this.compensation += (value - t) + this.sum;
+            }
+            this.sum = t;
+        }
+
+        /**
+         * Recalculates the sum from the items in the window.
+         */
+        private void resum() {
+            this.sum = 0.0;
+            this.compensation = 0.0;
+            for (int i = this.start; i < this.end; i++) {
+                if (!this.nulls[i] && isFinite(this.values[i])) {
+                    accumulate(this.values[i]);
+                }
+            }
+            this.removed = 0;
+        }
+
+        /**
+         * Returns <code>true</code> if a value is neither infinite nor
+         * <code>NaN</code>.
+         *
+         * @param value  the value.
+         *
+         * @return A boolean.
+         */
+        private static boolean isFinite(double value) {
+            return !Double.isNaN(value) && !Double.isInfinite(value);
+        }
+
+        /**
+         * Returns the average of the values in the window.
+         *
+         * @return The average (<code>null</code> if the window has no
+         *     non-null values).
+         */
+        Double getAverage() {
+            if (this.count == 0) {
+                return null;
+            }
+            if (this.nonFiniteCount > 0) {
+                double windowSum = 0.0;
+                for (int i = this.start; i < this.end; i++) {
+                    if (!this.nulls[i]) {
+                        windowSum += this.values[i];
+                    }
+                }
+                return new Double(windowSum / this.count);
+            }
+            return new Double((this.sum + this.compensation) / this.count);
+        }
+
+    }
+
 }
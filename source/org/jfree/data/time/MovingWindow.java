@@ -0,0 +1,315 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------
+ * MovingWindow.java
+ * -----------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.time;
+
+import org.jfree.chart.util.ParamChecks;
+
+/**
+ * Calculates a {@link MovingWindowFunction} over the last <code>n</code>
+ * values added, in constant (amortised) time per value.  The means and the
+ * standard deviation are maintained as running sums that are recalculated
+ * from the window once every <code>n</code> values to stop rounding errors
+ * from accumulating, and the minimum and maximum are maintained with a
+ * monotonic queue.
+ *
+ * @see MovingAverage#createPointMovingWindow(TimeSeries, String,
+ *     MovingWindowFunction, int)
+ * @see MovingWindowUpdater
+ *
+ * @since 1.0.20
+ */
+public class MovingWindow {
+
+    /** The function. */
+    private MovingWindowFunction function;
+
+    /** The number of values in a full window. */
+    private int size;
+
+    /** The last values added (a ring buffer indexed by sequence number). */
+    private double[] values;
+
+    /** The number of values added since the window was created or cleared. */
+    private long count;
+
+    /** The offset subtracted from all values before summing. */
+    private double shift;
+
+    /** The sum of the (shifted) values in the window. */
+    private double sum;
+
+    /** The sum of the squares of the (shifted) values in the window. */
+    private double sumOfSquares;
+
+    /** The sum of the (shifted) values weighted by position. */
+    private double weightedSum;
+
+    /** The exponential moving average. */
+    private double exponentialMean;
+
+    /** The sequence numbers of the candidate minimum or maximum values. */
+    private long[] queue;
+
+    /** The index of the head of the queue. */
+    private int queueHead;
+
+    /** The number of items in the queue. */
+    private int queueLength;
+
+    /**
+     * Creates a new window.
+     *
+     * @param function  the function (<code>null</code> not permitted).
+     * @param size  the number of values in a full window (at least 1).
+     */
+    public MovingWindow(MovingWindowFunction function, int size) {
+        ParamChecks.nullNotPermitted(function, "function");
+        if (size < 1) {
+            throw new IllegalArgumentException("Requires 'size' >= 1.");
+        }
+        this.function = function;
+        this.size = size;
+        this.values = new double[size];
+        if (function == MovingWindowFunction.MINIMUM
+                || function == MovingWindowFunction.MAXIMUM) {
+            this.queue = new long[size];
+        }
+        clear();
+    }
+
+    /**
+     * Returns the function calculated by this window.
+     *
+     * @return The function (never <code>null</code>).
+     */
+    public MovingWindowFunction getFunction() {
+        return this.function;
+    }
+
+    /**
+     * Returns the number of values in a full window.
+     *
+     * @return The window size.
+     */
+    public int getSize() {
+        return this.size;
+    }
+
+    /**
+     * Returns the number of values added since the window was created or
+     * last cleared.
+     *
+     * @return The count.
+     */
+    public long getCount() {
+        return this.count;
+    }
+
+    /**
+     * Returns <code>true</code> if the window is full, in which case
+     * {@link #getValue()} returns a result.
+     *
+     * @return A boolean.
+     */
+    public boolean isReady() {
+        return this.count >= this.size;
+    }
+
+    /**
+     * Removes all the values from the window.
+     */
+    public void clear() {
+        this.count = 0L;
+        this.shift = 0.0;
+        this.sum = 0.0;
+        this.sumOfSquares = 0.0;
+        this.weightedSum = 0.0;
+        this.exponentialMean = Double.NaN;
+        this.queueHead = 0;
+        this.queueLength = 0;
+    }
+
+    /**
+     * Adds a value to the window, discarding the oldest value if the window
+     * is full.
+     *
+     * @param value  the value (<code>NaN</code> not permitted).
+     */
+    public void add(double value) {
+        if (Double.isNaN(value)) {
+            throw new IllegalArgumentException("NaN is not permitted.");
+        }
+        if (this.count == 0L) {
+            this.shift = value;
+        }
+        int slot = (int) (this.count % this.size);
+        boolean full = this.count >= this.size;
+        double d = value - this.shift;
+        double old = full ? this.values[slot] - this.shift : 0.0;
+        switch (this.function) {
+            case MINIMUM:
+            case MAXIMUM:
+                updateQueue(value);
+                break;
+            case EXPONENTIAL_MEAN:
+                if (full) {
+                    this.exponentialMean += 2.0 / (this.size + 1)
+                            * (value - this.exponentialMean);
+                }
+                else {
+                    this.sum += d;
+                    if (this.count + 1 == this.size) {
+                        this.exponentialMean = this.shift
+                                + this.sum / this.size;
+                    }
+                }
+                break;
+            case WEIGHTED_MEAN:
+                if (full) {
+                    this.weightedSum += this.size * d - this.sum;
+                }
+                else {
+                    this.weightedSum += (this.count + 1) * d;
+                }
+                this.sum += d - old;
+                break;
+            default:
+                this.sum += d - old;
+                this.sumOfSquares += d * d - old * old;
+                break;
+        }
+        this.values[slot] = value;
+        this.count++;
+        if (full && slot == this.size - 1) {
+            resum();
+        }
+    }
+
+    /**
+     * Returns the value of the function for the values in the window.
+     *
+     * @return The value, or <code>NaN</code> if the window is not yet full
+     *     (or, for the standard deviation, if the window size is 1).
+     */
+    public double getValue() {
+        if (this.count < this.size) {
+            return Double.NaN;
+        }
+        int n = this.size;
+        switch (this.function) {
+            case MEAN:
+                return this.shift + this.sum / n;
+            case EXPONENTIAL_MEAN:
+                return this.exponentialMean;
+            case WEIGHTED_MEAN:
+                return this.shift + this.weightedSum / (n * (n + 1) / 2.0);
+            case MINIMUM:
+            case MAXIMUM:
+                return this.values[(int) (this.queue[this.queueHead]
+                        % this.size)];
+            default:
+                if (n < 2) {
+                    return Double.NaN;
+                }
+                double variance = (this.sumOfSquares - this.sum * this.sum
+                        / n) / (n - 1);
+                return Math.sqrt(Math.max(variance, 0.0));
+        }
+    }
+
+    /**
+     * Updates the queue of candidate minimum or maximum values for a new
+     * value.  The queue holds sequence numbers whose values are increasing
+     * (for the minimum) or decreasing (for the maximum) from head to tail.
+     *
+     * @param value  the new value.
+     */
+    private void updateQueue(double value) {
+        boolean min = this.function == MovingWindowFunction.MINIMUM;
+        // drop the value that is about to leave the window
+        if (this.queueLength > 0
+                && this.queue[this.queueHead] <= this.count - this.size) {
+            this.queueHead = (this.queueHead + 1) % this.size;
+            this.queueLength--;
+        }
+        // drop the values that can no longer be the minimum (maximum)
+        while (this.queueLength > 0) {
+            int tail = (this.queueHead + this.queueLength - 1) % this.size;
+            double v = this.values[(int) (this.queue[tail] % this.size)];
+            if (min ? v < value : v > value) {
+                break;
+            }
+            this.queueLength--;
+        }
+        int tail = (this.queueHead + this.queueLength) % this.size;
+        this.queue[tail] = this.count;
+        this.queueLength++;
+    }
+
+    /**
+     * Recalculates the running sums from the values in the (full) window,
+     * when the last slot of the ring buffer has just been written.
+     */
+    private void resum() {
+        if (this.function == MovingWindowFunction.MINIMUM
+                || this.function == MovingWindowFunction.MAXIMUM
+                || this.function == MovingWindowFunction.EXPONENTIAL_MEAN) {
+            return;
+        }
+        // re-centre on the latest value, so that trending data keeps its
+        // precision
+        this.shift = this.values[this.size - 1];
+        double s = 0.0;
+        double ss = 0.0;
+        double ws = 0.0;
+        // the oldest value is at the next slot to be written (slot 0 here)
+        for (int i = 0; i < this.size; i++) {
+            double d = this.values[i] - this.shift;
+            s += d;
+            ss += d * d;
+            ws += (i + 1) * d;
+        }
+        this.sum = s;
+        this.sumOfSquares = ss;
+        this.weightedSum = ws;
+    }
+
+}
@@ -0,0 +1,75 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------
+ * MovingWindowFunction.java
+ * -------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.time;
+
+/**
+ * The functions that can be calculated by a {@link MovingWindow}.
+ *
+ * @since 1.0.20
+ */
+public enum MovingWindowFunction {
+
+    /** The simple (unweighted) mean of the values in the window. */
+    MEAN,
+
+    /**
+     * The exponential moving average, with a smoothing factor of
+     * <code>2 / (n + 1)</code> for a window of <code>n</code> values and the
+     * mean of the first <code>n</code> values as the starting point.
+     */
+    EXPONENTIAL_MEAN,
+
+    /**
+     * The linearly weighted mean of the values in the window, the most recent
+     * value having weight <code>n</code> and the oldest weight 1.
+     */
+    WEIGHTED_MEAN,
+
+    /** The minimum of the values in the window. */
+    MINIMUM,
+
+    /** The maximum of the values in the window. */
+    MAXIMUM,
+
+    /** The sample standard deviation of the values in the window. */
+    STANDARD_DEVIATION
+
+}
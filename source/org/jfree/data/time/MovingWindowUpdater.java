@@ -0,0 +1,341 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------
+ * MovingWindowUpdater.java
+ * ------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.time;
+
+import org.jfree.chart.util.ParamChecks;
+import org.jfree.data.general.Series;
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeListener;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.util.ObjectUtilities;
+
+/**
+ * Keeps a derived series up to date with a {@link MovingWindow} calculated
+ * over a source series.  When items are appended to the source series, only
+ * the new items are processed and the results appended to the target series.
+ * Removing items from the start of the source series (for example, when the
+ * series has a maximum item count) does not change the target series; any
+ * other change causes the target series to be recalculated.  Note that an
+ * update to an existing item other than the last one processed is only
+ * detected if it is the only change reported by the event.
+ * <P>
+ * The source must be a {@link TimeSeries} or an {@link XYSeries} with
+ * items in increasing x-order.  Items with a <code>null</code> or
+ * <code>NaN</code> value are skipped, and each target item has the x-value
+ * (or time period) of the last item in its window.
+ *
+ * @since 1.0.20
+ */
+public class MovingWindowUpdater implements SeriesChangeListener {
+
+    /** The source series. */
+    private Series source;
+
+    /** The target series. */
+    private Series target;
+
+    /** The window. */
+    private MovingWindow window;
+
+    /** The index of the last source item processed (-1 if none). */
+    private int lastIndex;
+
+    /** The item count of the source when last processed. */
+    private int lastCount;
+
+    /** The key (period or x-value) of the last source item processed. */
+    private Object lastKey;
+
+    /** The value of the last source item processed. */
+    private Number lastValue;
+
+    /** The key (period or x-value) of the first source item. */
+    private Object firstKey;
+
+    /**
+     * Creates an updater for a time series, calculates the target series and
+     * starts listening for changes to the source series.
+     *
+     * @param source  the source series (<code>null</code> not permitted).
+     * @param target  the target series (<code>null</code> not permitted).
+     * @param function  the function (<code>null</code> not permitted).
+     * @param pointCount  the number of items in the window (at least 1).
+     */
+    public MovingWindowUpdater(TimeSeries source, TimeSeries target,
+            MovingWindowFunction function, int pointCount) {
+        this((Series) source, (Series) target, function, pointCount);
+    }
+
+    /**
+     * Creates an updater for an XY series, calculates the target series and
+     * starts listening for changes to the source series.
+     *
+     * @param source  the source series (<code>null</code> not permitted).
+     * @param target  the target series (<code>null</code> not permitted).
+     * @param function  the function (<code>null</code> not permitted).
+     * @param pointCount  the number of items in the window (at least 1).
+     */
+    public MovingWindowUpdater(XYSeries source, XYSeries target,
+            MovingWindowFunction function, int pointCount) {
+        this((Series) source, (Series) target, function, pointCount);
+    }
+
+    /**
+     * Creates an updater.
+     *
+     * @param source  the source series.
+     * @param target  the target series.
+     * @param function  the function.
+     * @param pointCount  the number of items in the window.
+     */
+    private MovingWindowUpdater(Series source, Series target,
+            MovingWindowFunction function, int pointCount) {
+        ParamChecks.nullNotPermitted(source, "source");
+        ParamChecks.nullNotPermitted(target, "target");
+        this.source = source;
+        this.target = target;
+        this.window = new MovingWindow(function, pointCount);
+        recalculate();
+        source.addChangeListener(this);
+    }
+
+    /**
+     * Returns the source series.
+     *
+     * @return The source series (never <code>null</code>).
+     */
+    public Series getSource() {
+        return this.source;
+    }
+
+    /**
+     * Returns the target series.
+     *
+     * @return The target series (never <code>null</code>).
+     */
+    public Series getTarget() {
+        return this.target;
+    }
+
+    /**
+     * Returns the function.
+     *
+     * @return The function (never <code>null</code>).
+     */
+    public MovingWindowFunction getFunction() {
+        return this.window.getFunction();
+    }
+
+    /**
+     * Returns the number of items in the window.
+     *
+     * @return The number of items.
+     */
+    public int getPointCount() {
+        return this.window.getSize();
+    }
+
+    /**
+     * Stops listening for changes to the source series.
+     */
+    public void dispose() {
+        this.source.removeChangeListener(this);
+    }
+
+    /**
+     * Clears the target series and recalculates it from all the items in the
+     * source series.
+     */
+    public void recalculate() {
+        this.window.clear();
+        this.lastIndex = -1;
+        this.lastKey = null;
+        if (this.target instanceof TimeSeries) {
+            ((TimeSeries) this.target).clear();
+        }
+        else {
+            ((XYSeries) this.target).clear();
+        }
+        process(0);
+    }
+
+    /**
+     * Receives notification of a change to the source series and updates the
+     * target series.
+     *
+     * @param event  the event.
+     */
+    @Override
+    public void seriesChanged(SeriesChangeEvent event) {
+        int count = this.source.getItemCount();
+        if (this.lastKey == null) {
+            recalculate();
+            return;
+        }
+        int index = findLastKey(count);
+        boolean appended;
+        if (index < 0 || index > this.lastIndex) {
+            // the item is gone, or items were inserted before it
+            appended = false;
+        }
+        else if (index == this.lastIndex) {
+            // an item was updated, unless items were appended
+            appended = count > this.lastCount;
+        }
+        else {
+            // items were removed, which must include the first item
+            appended = !ObjectUtilities.equal(getKey(0), this.firstKey);
+        }
+        if (appended && ObjectUtilities.equal(getValue(index),
+                this.lastValue)) {
+            process(index + 1);
+        }
+        else {
+            recalculate();
+        }
+    }
+
+    /**
+     * Returns the key (period or x-value) of a source item.
+     *
+     * @param index  the item index.
+     *
+     * @return The key.
+     */
+    private Object getKey(int index) {
+        if (this.source instanceof TimeSeries) {
+            return ((TimeSeries) this.source).getTimePeriod(index);
+        }
+        return new Double(((XYSeries) this.source).getX(index).doubleValue());
+    }
+
+    /**
+     * Returns the value (or y-value) of a source item.
+     *
+     * @param index  the item index.
+     *
+     * @return The value (possibly <code>null</code>).
+     */
+    private Number getValue(int index) {
+        if (this.source instanceof TimeSeries) {
+            return ((TimeSeries) this.source).getValue(index);
+        }
+        return ((XYSeries) this.source).getY(index);
+    }
+
+    /**
+     * Finds the current index of the last source item processed, allowing
+     * for items removed from the start of the series.
+     *
+     * @param count  the item count of the source series.
+     *
+     * @return The index, or -1 if the item is no longer in the series.
+     */
+    private int findLastKey(int count) {
+        if (this.source instanceof TimeSeries) {
+            int index = ((TimeSeries) this.source).getIndex(
+                    (RegularTimePeriod) this.lastKey);
+            return Math.max(index, -1);
+        }
+        XYSeries s = (XYSeries) this.source;
+        double x = ((Double) this.lastKey).doubleValue();
+        for (int i = Math.min(this.lastIndex, count - 1); i >= 0; i--) {
+            if (s.getX(i).doubleValue() == x) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Adds the source items from the specified index onwards to the window,
+     * appends the results to the target series, and sends one change event
+     * from the target series if it has changed.
+     *
+     * @param start  the index of the first source item to process.
+     */
+    private void process(int start) {
+        int count = this.source.getItemCount();
+        boolean changed = false;
+        if (this.source instanceof TimeSeries) {
+            TimeSeries s = (TimeSeries) this.source;
+            TimeSeries t = (TimeSeries) this.target;
+            for (int i = start; i < count; i++) {
+                TimeSeriesDataItem item = s.getRawDataItem(i);
+                Number value = item.getValue();
+                if (value != null && !Double.isNaN(value.doubleValue())) {
+                    this.window.add(value.doubleValue());
+                    if (this.window.isReady()) {
+                        t.add(item.getPeriod(), this.window.getValue(),
+                                false);
+                        changed = true;
+                    }
+                }
+            }
+        }
+        else {
+            XYSeries s = (XYSeries) this.source;
+            XYSeries t = (XYSeries) this.target;
+            for (int i = start; i < count; i++) {
+                Number y = s.getY(i);
+                if (y != null && !Double.isNaN(y.doubleValue())) {
+                    this.window.add(y.doubleValue());
+                    if (this.window.isReady()) {
+                        t.add(s.getX(i).doubleValue(), this.window.getValue(),
+                                false);
+                        changed = true;
+                    }
+                }
+            }
+        }
+        if (count > 0) {
+            this.firstKey = getKey(0);
+            this.lastKey = getKey(count - 1);
+            this.lastValue = getValue(count - 1);
+        }
+        this.lastIndex = count - 1;
+        this.lastCount = count;
+        if (changed) {
+            this.target.fireSeriesChanged();
+        }
+    }
+
+}
@@ -85,6 +85,11 @@
  * 03-Dec-2011 : Fixed bug 3446965 which affects the y-range calculation for 
  *               the series (DG);
  * 02-Jul-2013 : Use ParamChecks (DG);
+ * 16-Oct-2026 : Added optional ring buffer storage with constant time
+ *               append, removal of old items and min/max tracking;
+ * 16-Oct-2026 : Use binary search and a min/max index in
+ *               findValueRange(Range, TimePeriodAnchor, TimeZone);
+ * 16-Oct-2026 : Count changes made without notification;
  * 
  */
 
@@ -103,6 +108,7 @@ import java.util.TimeZone;
 
 import org.jfree.chart.util.ParamChecks;
 import org.jfree.data.Range;
+import org.jfree.data.general.MinMaxIndex;
 import org.jfree.data.general.Series;
 import org.jfree.data.general.SeriesChangeEvent;
 import org.jfree.data.general.SeriesException;
@@ -161,6 +167,14 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
      */
     private double maxY;
 
+    /**
+     * An index of the y-values that is created by the first call to
+     * {@link #findValueRange(Range, TimePeriodAnchor, TimeZone)} and then
+     * kept up to date as items are appended, updated or removed from the
+     * start of the series.  Other changes discard it.
+     */
+    private transient MinMaxIndex valueIndex;
+
     /**
      * Creates a new (empty) time series.  By default, a daily time series is
      * created.  Use one of the other constructors if you require a different
@@ -186,17 +200,67 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
      * @since 1.0.13
      */
     public TimeSeries(Comparable name, String domain, String range) {
+        this(name, domain, range, false);
+    }
+
+    /**
+     * Creates a new time series that contains no data, optionally using ring
+     * buffer storage.
+     * <P>
+     * With ring buffer storage, items can be appended and removed from the
+     * start of the series in constant time, and the minimum and maximum
+     * y-values are tracked incrementally.  This suits series that receive
+     * new data at the end while old items are dropped because of the
+     * maximum item count or age (a sliding window).  Inserting or updating
+     * items elsewhere works as usual, but the next bounds calculation after
+     * such a change requires one pass through the data.
+     *
+     * @param name  the name of the series (<code>null</code> not permitted).
+     * @param domain  the domain description (<code>null</code> permitted).
+     * @param range  the range description (<code>null</code> permitted).
+     * @param ringBuffer  use ring buffer storage?
+     *
+     * @since 1.0.20
+     */
+    public TimeSeries(Comparable name, String domain, String range,
+            boolean ringBuffer) {
         super(name);
         this.domain = domain;
         this.range = range;
         this.timePeriodClass = null;
-        this.data = new java.util.ArrayList();
+        this.data = createDataList(ringBuffer);
         this.maximumItemCount = Integer.MAX_VALUE;
         this.maximumItemAge = Long.MAX_VALUE;
         this.minY = Double.NaN;
         this.maxY = Double.NaN;
     }
 
+    /**
+     * Creates a new empty list for storing the data items.
+     *
+     * @param ringBuffer  create a ring buffer?
+     *
+     * @return A new list.
+     */
+    private static List createDataList(boolean ringBuffer) {
+        if (ringBuffer) {
+            return new TimeSeriesRingBuffer();
+        }
+        return new java.util.ArrayList();
+    }
+
+    /**
+     * Returns <code>true</code> if the series uses ring buffer storage (this
+     * is set in the constructor), and <code>false</code> otherwise.
+     *
+     * @return A boolean.
+     *
+     * @since 1.0.20
+     */
+    public boolean isRingBuffer() {
+        return this.data instanceof TimeSeriesRingBuffer;
+    }
+
     /**
      * Returns the domain description.
      *
@@ -375,6 +439,10 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
      * Finds the range of y-values that fall within the specified range of
      * x-values (where the x-values are interpreted as milliseconds since the
      * epoch and converted to time periods using the specified timezone).
+     * <P>
+     * The first call builds an index of the y-values in O(n) time; after
+     * that, each call runs in O(log n) time while the series is only
+     * appended to, updated, or trimmed from the start.
      * 
      * @param xRange  the subset of x-values to use (<code>null</code> not
      *     permitted).
@@ -395,20 +463,20 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
             return null;
         }
         Calendar calendar = Calendar.getInstance(zone);
-        // since the items are ordered, we could be more clever here and avoid
-        // iterating over all the data
+        // the items are ordered, so we can use a binary search to find the
+        // items in the x-range, then look up the y-range in the index
         double lowY = Double.POSITIVE_INFINITY;
         double highY = Double.NEGATIVE_INFINITY;
-        for (int i = 0; i < this.data.size(); i++) {
-            TimeSeriesDataItem item = (TimeSeriesDataItem) this.data.get(i);
-            long millis = item.getPeriod().getMillisecond(xAnchor, calendar);
-            if (xRange.contains(millis)) {
-                Number n = item.getValue();
-                if (n != null) {
-                    double v = n.doubleValue();
-                    lowY = Math.min(lowY, v);
-                    highY = Math.max(highY, v);
-                }
+        int first = findFirstIndexAtOrAfter(xRange.getLowerBound(), xAnchor,
+                calendar);
+        int last = findFirstIndexAtOrAfter(Math.nextUp(
+                xRange.getUpperBound()), xAnchor, calendar) - 1;
+        if (first <= last) {
+            MinMaxIndex index = getValueIndex();
+            double min = index.getMinimum(first, last);
+            if (!Double.isNaN(min)) {
+                lowY = min;
+                highY = index.getMaximum(first, last);
             }
         }
         if (Double.isInfinite(lowY) && Double.isInfinite(highY)) {
@@ -678,18 +746,21 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         int count = getItemCount();
         if (count == 0) {
             this.data.add(item);
+            indexAppendedItem(item);
             added = true;
         }
         else {
             RegularTimePeriod last = getTimePeriod(getItemCount() - 1);
             if (item.getPeriod().compareTo(last) > 0) {
                 this.data.add(item);
+                indexAppendedItem(item);
                 added = true;
             }
             else {
                 int index = Collections.binarySearch(this.data, item);
                 if (index < 0) {
                     this.data.add(-index - 1, item);
+                    this.valueIndex = null;
                     added = true;
                 }
                 else {
@@ -708,7 +779,7 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
             updateBoundsForAddedItem(item);
             // check if this addition will exceed the maximum item count...
             if (getItemCount() > this.maximumItemCount) {
-                TimeSeriesDataItem d = (TimeSeriesDataItem) this.data.remove(0);
+                TimeSeriesDataItem d = removeFirstItem();
                 updateBoundsForRemovedItem(d);
             }
 
@@ -718,6 +789,9 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
             if (notify) {
                 fireSeriesChanged();
             }
+            else {
+                incrementModificationCount();
+            }
         }
 
     }
@@ -821,7 +895,8 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
                 iterate = oldY <= this.minY || oldY >= this.maxY;
             }
         }
-        item.setValue(value);
+        setItemValue(index, item, value);
+        indexUpdatedItem(index, item);
         if (iterate) {
             updateMinMaxYByIteration();
         }
@@ -926,7 +1001,8 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
             if (!Double.isNaN(oldY)) {
                 iterate = oldY <= this.minY || oldY >= this.maxY;
             }
-            existing.setValue(item.getValue());
+            setItemValue(index, existing, item.getValue());
+            indexUpdatedItem(index, existing);
             if (iterate) {
                 updateMinMaxYByIteration();
             }
@@ -939,11 +1015,17 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         else {
             item = (TimeSeriesDataItem) item.clone();
             this.data.add(-index - 1, item);
+            if (-index - 1 == this.data.size() - 1) {
+                indexAppendedItem(item);
+            }
+            else {
+                this.valueIndex = null;
+            }
             updateBoundsForAddedItem(item);
 
             // check if this addition will exceed the maximum item count...
             if (getItemCount() > this.maximumItemCount) {
-                TimeSeriesDataItem d = (TimeSeriesDataItem) this.data.remove(0);
+                TimeSeriesDataItem d = removeFirstItem();
                 updateBoundsForRemovedItem(d);
             }
         }
@@ -971,7 +1053,7 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
             boolean removed = false;
             while ((latest - getTimePeriod(0).getSerialIndex())
                     > this.maximumItemAge) {
-                this.data.remove(0);
+                removeFirstItem();
                 removed = true;
             }
             if (removed) {
@@ -979,6 +1061,9 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
                 if (notify) {
                     fireSeriesChanged();
                 }
+                else {
+                    incrementModificationCount();
+                }
             }
         }
     }
@@ -1023,7 +1108,7 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         boolean removed = false;
         while (getItemCount() > 0 && (index
                 - getTimePeriod(0).getSerialIndex()) > this.maximumItemAge) {
-            this.data.remove(0);
+            removeFirstItem();
             removed = true;
         }
         if (removed) {
@@ -1031,6 +1116,9 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
             if (notify) {
                 fireSeriesChanged();
             }
+            else {
+                incrementModificationCount();
+            }
         }
     }
 
@@ -1041,6 +1129,7 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
     public void clear() {
         if (this.data.size() > 0) {
             this.data.clear();
+            this.valueIndex = null;
             this.timePeriodClass = null;
             this.minY = Double.NaN;
             this.maxY = Double.NaN;
@@ -1061,6 +1150,7 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         if (index >= 0) {
             TimeSeriesDataItem item = (TimeSeriesDataItem) this.data.remove(
                     index);
+            this.valueIndex = null;
             updateBoundsForRemovedItem(item);
             if (this.data.isEmpty()) {
                 this.timePeriodClass = null;
@@ -1093,7 +1183,13 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
             throw new IllegalArgumentException("Requires start <= end.");
         }
         for (int i = 0; i <= (end - start); i++) {
-            this.data.remove(start);
+            if (start == 0) {
+                removeFirstItem();
+            }
+            else {
+                this.data.remove(start);
+                this.valueIndex = null;
+            }
         }
         updateMinMaxYByIteration();
         if (this.data.isEmpty()) {
@@ -1102,6 +1198,9 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         if (notify) {
             fireSeriesChanged();
         }
+        else {
+            incrementModificationCount();
+        }
     }
 
     /**
@@ -1122,7 +1221,13 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
     @Override
     public Object clone() throws CloneNotSupportedException {
         TimeSeries clone = (TimeSeries) super.clone();
-        clone.data = (List) ObjectUtilities.deepClone(this.data);
+        clone.valueIndex = null;
+        if (this.data instanceof TimeSeriesRingBuffer) {
+            clone.data = (List) ((TimeSeriesRingBuffer) this.data).clone();
+        }
+        else {
+            clone.data = (List) ObjectUtilities.deepClone(this.data);
+        }
         return clone;
     }
 
@@ -1147,9 +1252,10 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
             throw new IllegalArgumentException("Requires start <= end.");
         }
         TimeSeries copy = (TimeSeries) super.clone();
+        copy.valueIndex = null;
         copy.minY = Double.NaN;
         copy.maxY = Double.NaN;
-        copy.data = new java.util.ArrayList();
+        copy.data = createDataList(isRingBuffer());
         if (this.data.size() > 0) {
             for (int index = start; index <= end; index++) {
                 TimeSeriesDataItem item
@@ -1207,7 +1313,8 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         }
         if (emptyRange) {
             TimeSeries copy = (TimeSeries) super.clone();
-            copy.data = new java.util.ArrayList();
+            copy.valueIndex = null;
+            copy.data = createDataList(isRingBuffer());
             return copy;
         }
         return createCopy(startIndex, endIndex);
@@ -1326,6 +1433,106 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         }
     }
 
+    /**
+     * Returns the index of the first item whose anchor point is at or after
+     * the specified millisecond (<code>getItemCount()</code> if there is no
+     * such item).  This relies on the items being ordered, so that the
+     * anchor points are also ordered.
+     *
+     * @param millis  the millisecond.
+     * @param anchor  the anchor point within each time period.
+     * @param calendar  the calendar used to evaluate the anchor points.
+     *
+     * @return The item index.
+     */
+    private int findFirstIndexAtOrAfter(double millis, TimePeriodAnchor anchor,
+            Calendar calendar) {
+        int low = 0;
+        int high = this.data.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            long m = getRawDataItem(mid).getPeriod().getMillisecond(anchor,
+                    calendar);
+            if (m < millis) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the y-values, creating it if necessary.
+     *
+     * @return The index (never <code>null</code>).
+     */
+    private MinMaxIndex getValueIndex() {
+        int count = this.data.size();
+        if (this.valueIndex == null
+                || this.valueIndex.getItemCount() != count) {
+            MinMaxIndex index = new MinMaxIndex(count);
+            for (int i = 0; i < count; i++) {
+                index.add(yValue(getRawDataItem(i)));
+            }
+            this.valueIndex = index;
+        }
+        return this.valueIndex;
+    }
+
+    /**
+     * Returns the y-value for an item as a double primitive.
+     *
+     * @param item  the item.
+     *
+     * @return The y-value (<code>Double.NaN</code> for a <code>null</code>
+     *     value).
+     */
+    private static double yValue(TimeSeriesDataItem item) {
+        Number n = item.getValue();
+        return n != null ? n.doubleValue() : Double.NaN;
+    }
+
+    /**
+     * Updates the value index (if there is one) for an item that has been
+     * appended to the series.
+     *
+     * @param item  the item.
+     */
+    private void indexAppendedItem(TimeSeriesDataItem item) {
+        if (this.valueIndex != null) {
+            this.valueIndex.add(yValue(item));
+        }
+    }
+
+    /**
+     * Updates the value index (if there is one) for an item that has had its
+     * value changed.
+     *
+     * @param index  the item index.
+     * @param item  the item.
+     */
+    private void indexUpdatedItem(int index, TimeSeriesDataItem item) {
+        if (this.valueIndex != null) {
+            this.valueIndex.set(index, yValue(item));
+        }
+    }
+
+    /**
+     * Removes the first item in the series, and updates the value index (if
+     * there is one).  No bounds are updated and no event is sent.
+     *
+     * @return The item that was removed.
+     */
+    private TimeSeriesDataItem removeFirstItem() {
+        TimeSeriesDataItem item = (TimeSeriesDataItem) this.data.remove(0);
+        if (this.valueIndex != null) {
+            this.valueIndex.removeFirst();
+        }
+        return item;
+    }
+
     /**
      * Finds the bounds of the x and y values for the series, by iterating
      * through all the data items.
@@ -1333,6 +1540,13 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
      * @since 1.0.14
      */
     private void updateMinMaxYByIteration() {
+        if (this.data instanceof TimeSeriesRingBuffer) {
+            // the ring buffer tracks the bounds incrementally
+            TimeSeriesRingBuffer ring = (TimeSeriesRingBuffer) this.data;
+            this.minY = ring.getMinY();
+            this.maxY = ring.getMaxY();
+            return;
+        }
         this.minY = Double.NaN;
         this.maxY = Double.NaN;
         Iterator iterator = this.data.iterator();
@@ -1342,6 +1556,24 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         }
     }
 
+    /**
+     * Sets the y-value for an item in the series, through the storage if it
+     * tracks the bounds itself.
+     *
+     * @param index  the item index.
+     * @param item  the item at that index.
+     * @param value  the new value (<code>null</code> permitted).
+     */
+    private void setItemValue(int index, TimeSeriesDataItem item,
+            Number value) {
+        if (this.data instanceof TimeSeriesRingBuffer) {
+            ((TimeSeriesRingBuffer) this.data).setValue(index, value);
+        }
+        else {
+            item.setValue(value);
+        }
+    }
+
     /**
      * A function to find the minimum of two values, but ignoring any
      * Double.NaN values.
@@ -0,0 +1,601 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------
+ * TimeSeriesRingBuffer.java
+ * -------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.time;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * A list of {@link TimeSeriesDataItem} objects held in a circular buffer, so
+ * that items can be appended and removed from the front in constant time.
+ * The list also tracks the minimum and maximum y-values with a pair of
+ * monotonic queues, so that the bounds of a series that only grows at the
+ * end and shrinks at the front (a sliding window) are available in constant
+ * time.  Replacing the last item (the usual live update of the current
+ * period) also keeps the queues up to date.  Any other change (an insertion
+ * or removal in the middle, or a replaced item elsewhere) invalidates the
+ * queues, and they are rebuilt the next time the bounds are requested.
+ * <P>
+ * This class is used by {@link TimeSeries} for ring buffer storage.
+ */
+class TimeSeriesRingBuffer extends AbstractList implements RandomAccess,
+        Cloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 6391620853337455312L;
+
+    /** The initial capacity (must be a power of two). */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** Storage for the items (the length is always a power of two). */
+    private transient Object[] items;
+
+    /** The position of the first item in the storage array. */
+    private transient int head;
+
+    /** The number of items. */
+    private int size;
+
+    /**
+     * The sequence number for the first item.  Each item in the list has a
+     * sequence number (its index plus this offset) that doesn't change while
+     * items are appended or removed from the front.
+     */
+    private transient long firstSequence;
+
+    /**
+     * The sequence numbers of the candidates for the minimum y-value, with
+     * increasing y-values.
+     */
+    private transient SequenceQueue minQueue;
+
+    /**
+     * The sequence numbers of the candidates for the maximum y-value, with
+     * decreasing y-values.
+     */
+    private transient SequenceQueue maxQueue;
+
+    /** A flag that indicates whether or not the queues are up to date. */
+    private transient boolean boundsValid;
+
+    /**
+     * Creates a new empty list.
+     */
+    public TimeSeriesRingBuffer() {
+        this.items = new Object[INITIAL_CAPACITY];
+        this.minQueue = new SequenceQueue();
+        this.maxQueue = new SequenceQueue();
+        this.boundsValid = true;
+    }
+
+    /**
+     * Returns the number of items in the list.
+     *
+     * @return The item count.
+     */
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the item at the specified index.
+     *
+     * @param index  the index.
+     *
+     * @return The item.
+     */
+    @Override
+    public Object get(int index) {
+        checkIndex(index);
+        return this.items[position(index)];
+    }
+
+    /**
+     * Replaces the item at the specified index.  Replacing the last item
+     * keeps the bounds up to date without a rebuild.
+     *
+     * @param index  the index.
+     * @param element  the new item (a {@link TimeSeriesDataItem}).
+     *
+     * @return The item that was replaced.
+     */
+    @Override
+    public Object set(int index, Object element) {
+        checkIndex(index);
+        int p = position(index);
+        Object result = this.items[p];
+        TimeSeriesDataItem item = (TimeSeriesDataItem) element;
+        this.items[p] = item;
+        // if the same item was changed in place, its old value is lost
+        if (this.boundsValid && index == this.size - 1 && result != item) {
+            replaceLast(yValue((TimeSeriesDataItem) result), yValue(item));
+        }
+        else {
+            this.boundsValid = false;
+        }
+        return result;
+    }
+
+    /**
+     * Sets the y-value for the item at the specified index.  Updating the
+     * last item keeps the bounds up to date without a rebuild.
+     *
+     * @param index  the index.
+     * @param value  the new value (<code>null</code> permitted).
+     */
+    public void setValue(int index, Number value) {
+        checkIndex(index);
+        TimeSeriesDataItem item = (TimeSeriesDataItem) get(index);
+        double oldY = yValue(item);
+        item.setValue(value);
+        if (this.boundsValid && index == this.size - 1) {
+            replaceLast(oldY, yValue(item));
+        }
+        else {
+            this.boundsValid = false;
+        }
+    }
+
+    /**
+     * Inserts an item at the specified index.  This runs in constant time
+     * when <code>index</code> is <code>0</code> or <code>size()</code>.
+     *
+     * @param index  the index.
+     * @param element  the item (a {@link TimeSeriesDataItem}).
+     */
+    @Override
+    public void add(int index, Object element) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index
+                    + ", Size: " + this.size);
+        }
+        TimeSeriesDataItem item = (TimeSeriesDataItem) element;
+        if (this.size == this.items.length) {
+            grow();
+        }
+        int mask = this.items.length - 1;
+        if (index == this.size) {
+            this.items[(this.head + this.size) & mask] = item;
+            this.size++;
+            if (this.boundsValid) {
+                pushBack(this.firstSequence + this.size - 1, item);
+            }
+        }
+        else if (index < this.size / 2) {
+            // shift the items before the index one place towards the front
+            this.head = (this.head - 1) & mask;
+            for (int i = 0; i < index; i++) {
+                this.items[(this.head + i) & mask]
+                        = this.items[(this.head + i + 1) & mask];
+            }
+            this.items[(this.head + index) & mask] = item;
+            this.size++;
+            this.firstSequence--;
+            this.boundsValid = index == 0 && this.boundsValid
+                    && isNullOrNaN(item);
+        }
+        else {
+            // shift the items from the index one place towards the back
+            for (int i = this.size; i > index; i--) {
+                this.items[(this.head + i) & mask]
+                        = this.items[(this.head + i - 1) & mask];
+            }
+            this.items[(this.head + index) & mask] = item;
+            this.size++;
+            this.boundsValid = false;
+        }
+        this.modCount++;
+    }
+
+    /**
+     * Removes the item at the specified index.  This runs in constant time
+     * when <code>index</code> is <code>0</code>.
+     *
+     * @param index  the index.
+     *
+     * @return The item that was removed.
+     */
+    @Override
+    public Object remove(int index) {
+        checkIndex(index);
+        int mask = this.items.length - 1;
+        Object result = this.items[(this.head + index) & mask];
+        if (index == 0) {
+            this.items[this.head] = null;
+            this.head = (this.head + 1) & mask;
+            this.size--;
+            if (this.boundsValid) {
+                this.minQueue.removeFirstIf(this.firstSequence);
+                this.maxQueue.removeFirstIf(this.firstSequence);
+            }
+            this.firstSequence++;
+        }
+        else if (index < this.size / 2) {
+            for (int i = index; i > 0; i--) {
+                this.items[(this.head + i) & mask]
+                        = this.items[(this.head + i - 1) & mask];
+            }
+            this.items[this.head] = null;
+            this.head = (this.head + 1) & mask;
+            this.size--;
+            this.firstSequence++;
+            this.boundsValid = false;
+        }
+        else {
+            for (int i = index; i < this.size - 1; i++) {
+                this.items[(this.head + i) & mask]
+                        = this.items[(this.head + i + 1) & mask];
+            }
+            this.items[(this.head + this.size - 1) & mask] = null;
+            this.size--;
+            this.boundsValid = false;
+        }
+        this.modCount++;
+        return result;
+    }
+
+    /**
+     * Removes the items from <code>fromIndex</code> (inclusive) to
+     * <code>toIndex</code> (exclusive).
+     *
+     * @param fromIndex  the start index.
+     * @param toIndex  the end index.
+     */
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex == 0 && toIndex == this.size) {
+            clear();
+            return;
+        }
+        for (int i = fromIndex; i < toIndex; i++) {
+            remove(fromIndex);
+        }
+    }
+
+    /**
+     * Removes all items from the list.
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(this.items, null);
+        this.head = 0;
+        this.size = 0;
+        this.firstSequence = 0L;
+        this.minQueue.clear();
+        this.maxQueue.clear();
+        this.boundsValid = true;
+        this.modCount++;
+    }
+
+    /**
+     * Returns the minimum y-value in the list, ignoring <code>null</code>
+     * and <code>Double.NaN</code> values.  This runs in constant time unless
+     * the queues need to be rebuilt.
+     *
+     * @return The minimum y-value (<code>Double.NaN</code> if there is no
+     *     minimum).
+     */
+    public double getMinY() {
+        validateBounds();
+        if (this.minQueue.isEmpty()) {
+            return Double.NaN;
+        }
+        return valueOf(this.minQueue.getFirst());
+    }
+
+    /**
+     * Returns the maximum y-value in the list, ignoring <code>null</code>
+     * and <code>Double.NaN</code> values.  This runs in constant time unless
+     * the queues need to be rebuilt.
+     *
+     * @return The maximum y-value (<code>Double.NaN</code> if there is no
+     *     maximum).
+     */
+    public double getMaxY() {
+        validateBounds();
+        if (this.maxQueue.isEmpty()) {
+            return Double.NaN;
+        }
+        return valueOf(this.maxQueue.getFirst());
+    }
+
+    /**
+     * Returns an independent copy of this list (the items are cloned).
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        TimeSeriesRingBuffer clone = (TimeSeriesRingBuffer) super.clone();
+        clone.items = new Object[this.items.length];
+        for (int i = 0; i < this.size; i++) {
+            clone.items[i] = ((TimeSeriesDataItem) get(i)).clone();
+        }
+        clone.head = 0;
+        clone.firstSequence = 0L;
+        clone.minQueue = new SequenceQueue();
+        clone.maxQueue = new SequenceQueue();
+        clone.boundsValid = false;
+        return clone;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index
+                    + ", Size: " + this.size);
+        }
+    }
+
+    private int position(int index) {
+        return (this.head + index) & (this.items.length - 1);
+    }
+
+    private void grow() {
+        Object[] grown = new Object[this.items.length * 2];
+        for (int i = 0; i < this.size; i++) {
+            grown[i] = this.items[position(i)];
+        }
+        this.items = grown;
+        this.head = 0;
+    }
+
+    /**
+     * Returns the y-value for the item with the given sequence number.
+     */
+    private double valueOf(long sequence) {
+        TimeSeriesDataItem item = (TimeSeriesDataItem) get(
+                (int) (sequence - this.firstSequence));
+        return item.getValue().doubleValue();
+    }
+
+    private static boolean isNullOrNaN(TimeSeriesDataItem item) {
+        Number n = item.getValue();
+        return n == null || Double.isNaN(n.doubleValue());
+    }
+
+    /**
+     * Returns the y-value for an item, or <code>Double.NaN</code> if the
+     * value is <code>null</code>.
+     */
+    private static double yValue(TimeSeriesDataItem item) {
+        Number n = item.getValue();
+        return n != null ? n.doubleValue() : Double.NaN;
+    }
+
+    /**
+     * Adds an item at the back of the monotonic queues.
+     */
+    private void pushBack(long sequence, TimeSeriesDataItem item) {
+        if (isNullOrNaN(item)) {
+            return;
+        }
+        double y = item.getValue().doubleValue();
+        pushMin(sequence, y);
+        pushMax(sequence, y);
+    }
+
+    private void pushMin(long sequence, double y) {
+        if (Double.isNaN(y)) {
+            return;
+        }
+        while (!this.minQueue.isEmpty()
+                && valueOf(this.minQueue.getLast()) >= y) {
+            this.minQueue.removeLast();
+        }
+        this.minQueue.addLast(sequence);
+    }
+
+    private void pushMax(long sequence, double y) {
+        if (Double.isNaN(y)) {
+            return;
+        }
+        while (!this.maxQueue.isEmpty()
+                && valueOf(this.maxQueue.getLast()) <= y) {
+            this.maxQueue.removeLast();
+        }
+        this.maxQueue.addLast(sequence);
+    }
+
+    /**
+     * Updates the monotonic queues after the last item's y-value has been
+     * replaced.  The old value is dropped from the back of each queue and
+     * the new value is pushed in its place.  If the new value is weaker
+     * than the old one (higher, for the minimum queue), candidates that the
+     * old value had pushed out may be needed again, so the items behind the
+     * queue's new last entry are scanned again first.  These items all lie
+     * after the previous candidate, so a live update of the current period
+     * normally touches only a few items.
+     *
+     * @param oldY  the old y-value (<code>Double.NaN</code> permitted).
+     * @param newY  the new y-value (<code>Double.NaN</code> permitted).
+     */
+    private void replaceLast(double oldY, double newY) {
+        long last = this.firstSequence + this.size - 1;
+        this.minQueue.removeLastIf(last);
+        if (!Double.isNaN(oldY) && !(newY <= oldY)) {
+            long start = this.minQueue.isEmpty() ? this.firstSequence
+                    : this.minQueue.getLast() + 1;
+            for (long seq = start; seq < last; seq++) {
+                pushMin(seq, yValue((TimeSeriesDataItem) get(
+                        (int) (seq - this.firstSequence))));
+            }
+        }
+        pushMin(last, newY);
+        this.maxQueue.removeLastIf(last);
+        if (!Double.isNaN(oldY) && !(newY >= oldY)) {
+            long start = this.maxQueue.isEmpty() ? this.firstSequence
+                    : this.maxQueue.getLast() + 1;
+            for (long seq = start; seq < last; seq++) {
+                pushMax(seq, yValue((TimeSeriesDataItem) get(
+                        (int) (seq - this.firstSequence))));
+            }
+        }
+        pushMax(last, newY);
+    }
+
+    /**
+     * Rebuilds the monotonic queues if they are out of date.
+     */
+    private void validateBounds() {
+        if (this.boundsValid) {
+            return;
+        }
+        this.minQueue.clear();
+        this.maxQueue.clear();
+        this.boundsValid = true;
+        for (int i = 0; i < this.size; i++) {
+            pushBack(this.firstSequence + i, (TimeSeriesDataItem) get(i));
+        }
+    }
+
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the output stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     */
+    private void writeObject(ObjectOutputStream stream) throws IOException {
+        stream.defaultWriteObject();
+        for (int i = 0; i < this.size; i++) {
+            stream.writeObject(get(i));
+        }
+    }
+
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        int capacity = INITIAL_CAPACITY;
+        while (capacity < this.size) {
+            capacity = capacity * 2;
+        }
+        this.items = new Object[capacity];
+        for (int i = 0; i < this.size; i++) {
+            this.items[i] = stream.readObject();
+        }
+        this.minQueue = new SequenceQueue();
+        this.maxQueue = new SequenceQueue();
+        this.boundsValid = false;
+    }
+
+    /**
+     * A double-ended queue of <code>long</code> sequence numbers.
+     */
+    private static class SequenceQueue {
+
+        /** The storage (the length is always a power of two). */
+        private long[] values = new long[INITIAL_CAPACITY];
+
+        /** The position of the first value. */
+        private int head;
+
+        /** The number of values. */
+        private int size;
+
+        boolean isEmpty() {
+            return this.size == 0;
+        }
+
+        long getFirst() {
+            return this.values[this.head];
+        }
+
+        long getLast() {
+            return this.values[(this.head + this.size - 1)
+                    & (this.values.length - 1)];
+        }
+
+        void addLast(long value) {
+            if (this.size == this.values.length) {
+                long[] grown = new long[this.values.length * 2];
+                for (int i = 0; i < this.size; i++) {
+                    grown[i] = this.values[(this.head + i)
+                            & (this.values.length - 1)];
+                }
+                this.values = grown;
+                this.head = 0;
+            }
+            this.values[(this.head + this.size) & (this.values.length - 1)]
+                    = value;
+            this.size++;
+        }
+
+        void removeLast() {
+            this.size--;
+        }
+
+        void removeLastIf(long value) {
+            if (this.size > 0 && getLast() == value) {
+                this.size--;
+            }
+        }
+
+        void removeFirstIf(long value) {
+            if (this.size > 0 && this.values[this.head] == value) {
+                this.head = (this.head + 1) & (this.values.length - 1);
+                this.size--;
+            }
+        }
+
+        void clear() {
+            this.head = 0;
+            this.size = 0;
+        }
+
+    }
+
+}
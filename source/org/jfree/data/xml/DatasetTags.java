@@ -35,6 +35,7 @@
  * Changes
  * -------
  * 23-Jan-2003 : Version 1 (DG);
+ * 16-Oct-2026 : Added tags for XY and time series datasets;
  *
  */
 
@@ -63,4 +64,39 @@ public interface DatasetTags {
     /** The 'Value' element name. */
     public static final String VALUE_TAG = "Value";
 
+    /**
+     * The 'XYDataset' element name.
+     *
+     * @since 1.0.20
+     */
+    public static final String XYDATASET_TAG = "XYDataset";
+
+    /**
+     * The 'TimeSeriesDataset' element name.
+     *
+     * @since 1.0.20
+     */
+    public static final String TIMESERIESDATASET_TAG = "TimeSeriesDataset";
+
+    /**
+     * The 'X' element name.
+     *
+     * @since 1.0.20
+     */
+    public static final String X_TAG = "X";
+
+    /**
+     * The 'Y' element name.
+     *
+     * @since 1.0.20
+     */
+    public static final String Y_TAG = "Y";
+
+    /**
+     * The 'Time' element name.
+     *
+     * @since 1.0.20
+     */
+    public static final String TIME_TAG = "Time";
+
 }
@@ -0,0 +1,342 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------
+ * DatasetWriter.java
+ * ------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.xml;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.jfree.chart.util.ParamChecks;
+import org.jfree.data.category.CategoryDataset;
+import org.jfree.data.general.PieDataset;
+import org.jfree.data.time.RegularTimePeriod;
+import org.jfree.data.time.TimeSeries;
+import org.jfree.data.time.TimeSeriesCollection;
+import org.jfree.data.xy.XYDataset;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+
+/**
+ * A utility class for writing datasets to XML.  Pie and category datasets
+ * are written in the format read by {@link DatasetReader}; all the formats
+ * can be read by {@link StreamingDatasetReader}.  For example, an XY dataset
+ * is written as:
+ * <pre>
+ * &lt;XYDataset&gt;
+ *   &lt;Series name="S1"&gt;
+ *     &lt;Item&gt;&lt;X&gt;1.0&lt;/X&gt;&lt;Y&gt;2.5&lt;/Y&gt;&lt;/Item&gt;
+ *   &lt;/Series&gt;
+ * &lt;/XYDataset&gt;
+ * </pre>
+ * and a time series dataset as a <code>TimeSeriesDataset</code> element
+ * with <code>Item</code> elements that contain a <code>Time</code> (the
+ * first millisecond of the time period) and a <code>Value</code>.  Keys are
+ * written as strings, and <code>null</code> values as empty elements.
+ * The output streams are flushed but not closed.
+ *
+ * @since 1.0.20
+ */
+public class DatasetWriter implements DatasetTags {
+
+    /**
+     * Private constructor prevents object creation.
+     */
+    private DatasetWriter() {
+        // nothing to do
+    }
+
+    /**
+     * Writes a pie dataset to a stream.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param out  the output stream (<code>null</code> not permitted).
+     *
+     * @throws IOException if there is an I/O error.
+     */
+    public static void writePieDataset(PieDataset dataset, OutputStream out)
+            throws IOException {
+        ParamChecks.nullNotPermitted(dataset, "dataset");
+        XMLStreamWriter writer = open(out);
+        try {
+            writer.writeStartElement(PIEDATASET_TAG);
+            for (int i = 0; i < dataset.getItemCount(); i++) {
+                writer.writeCharacters("\n  ");
+                writer.writeStartElement(ITEM_TAG);
+                writeElement(writer, KEY_TAG, dataset.getKey(i).toString());
+                writeValue(writer, VALUE_TAG, dataset.getValue(i));
+                writer.writeEndElement();
+            }
+            finish(writer);
+        }
+        catch (XMLStreamException e) {
+            throw toIOException(e);
+        }
+    }
+
+    /**
+     * Writes a category dataset to a stream.  Each row of the dataset is
+     * written as a series.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param out  the output stream (<code>null</code> not permitted).
+     *
+     * @throws IOException if there is an I/O error.
+     */
+    public static void writeCategoryDataset(CategoryDataset dataset,
+            OutputStream out) throws IOException {
+        ParamChecks.nullNotPermitted(dataset, "dataset");
+        XMLStreamWriter writer = open(out);
+        try {
+            writer.writeStartElement(CATEGORYDATASET_TAG);
+            int columnCount = dataset.getColumnCount();
+            String[] columnKeys = new String[columnCount];
+            for (int c = 0; c < columnCount; c++) {
+                columnKeys[c] = dataset.getColumnKey(c).toString();
+            }
+            for (int r = 0; r < dataset.getRowCount(); r++) {
+                writeSeriesStart(writer, dataset.getRowKey(r));
+                for (int c = 0; c < columnCount; c++) {
+                    writer.writeCharacters("\n    ");
+                    writer.writeStartElement(ITEM_TAG);
+                    writeElement(writer, KEY_TAG, columnKeys[c]);
+                    writeValue(writer, VALUE_TAG, dataset.getValue(r, c));
+                    writer.writeEndElement();
+                }
+                writer.writeCharacters("\n  ");
+                writer.writeEndElement();
+            }
+            finish(writer);
+        }
+        catch (XMLStreamException e) {
+            throw toIOException(e);
+        }
+    }
+
+    /**
+     * Writes an XY dataset to a stream.  For an {@link XYSeriesCollection},
+     * the sorting and duplicate flags of each series are written too.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param out  the output stream (<code>null</code> not permitted).
+     *
+     * @throws IOException if there is an I/O error.
+     */
+    public static void writeXYDataset(XYDataset dataset, OutputStream out)
+            throws IOException {
+        ParamChecks.nullNotPermitted(dataset, "dataset");
+        XMLStreamWriter writer = open(out);
+        try {
+            writer.writeStartElement(XYDATASET_TAG);
+            for (int s = 0; s < dataset.getSeriesCount(); s++) {
+                writeSeriesStart(writer, dataset.getSeriesKey(s));
+                if (dataset instanceof XYSeriesCollection) {
+                    XYSeries series = ((XYSeriesCollection) dataset)
+                            .getSeries(s);
+                    writer.writeAttribute("autoSort",
+                            String.valueOf(series.getAutoSort()));
+                    writer.writeAttribute("allowDuplicateXValues",
+                            String.valueOf(
+                            series.getAllowDuplicateXValues()));
+                }
+                for (int i = 0; i < dataset.getItemCount(s); i++) {
+                    writer.writeCharacters("\n    ");
+                    writer.writeStartElement(ITEM_TAG);
+                    writeElement(writer, X_TAG, Double.toString(
+                            dataset.getXValue(s, i)));
+                    writeValue(writer, Y_TAG, dataset.getY(s, i));
+                    writer.writeEndElement();
+                }
+                writer.writeCharacters("\n  ");
+                writer.writeEndElement();
+            }
+            finish(writer);
+        }
+        catch (XMLStreamException e) {
+            throw toIOException(e);
+        }
+    }
+
+    /**
+     * Writes a time series dataset to a stream.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param out  the output stream (<code>null</code> not permitted).
+     *
+     * @throws IOException if there is an I/O error.
+     */
+    public static void writeTimeSeriesCollection(TimeSeriesCollection dataset,
+            OutputStream out) throws IOException {
+        ParamChecks.nullNotPermitted(dataset, "dataset");
+        XMLStreamWriter writer = open(out);
+        try {
+            writer.writeStartElement(TIMESERIESDATASET_TAG);
+            for (int s = 0; s < dataset.getSeriesCount(); s++) {
+                TimeSeries series = dataset.getSeries(s);
+                writeSeriesStart(writer, series.getKey());
+                if (series.getTimePeriodClass() != null) {
+                    writer.writeAttribute("period",
+                            series.getTimePeriodClass().getName());
+                }
+                for (int i = 0; i < series.getItemCount(); i++) {
+                    RegularTimePeriod period = series.getTimePeriod(i);
+                    writer.writeCharacters("\n    ");
+                    writer.writeStartElement(ITEM_TAG);
+                    writeElement(writer, TIME_TAG, Long.toString(
+                            period.getFirstMillisecond()));
+                    writeValue(writer, VALUE_TAG, series.getValue(i));
+                    writer.writeEndElement();
+                }
+                writer.writeCharacters("\n  ");
+                writer.writeEndElement();
+            }
+            finish(writer);
+        }
+        catch (XMLStreamException e) {
+            throw toIOException(e);
+        }
+    }
+
+    /**
+     * Creates a writer for a stream and writes the XML declaration.
+     *
+     * @param out  the output stream.
+     *
+     * @return The writer.
+     *
+     * @throws IOException if the writer cannot be created.
+     */
+    private static XMLStreamWriter open(OutputStream out) throws IOException {
+        ParamChecks.nullNotPermitted(out, "out");
+        try {
+            XMLStreamWriter writer = XMLOutputFactory.newInstance()
+                    .createXMLStreamWriter(out, "UTF-8");
+            writer.writeStartDocument("UTF-8", "1.0");
+            writer.writeCharacters("\n");
+            return writer;
+        }
+        catch (XMLStreamException e) {
+            throw toIOException(e);
+        }
+    }
+
+    /**
+     * Writes the start of a series element.
+     *
+     * @param writer  the writer.
+     * @param key  the series key.
+     *
+     * @throws XMLStreamException if there is a problem writing the element.
+     */
+    private static void writeSeriesStart(XMLStreamWriter writer,
+            Comparable key) throws XMLStreamException {
+        writer.writeCharacters("\n  ");
+        writer.writeStartElement(SERIES_TAG);
+        writer.writeAttribute("name", key.toString());
+    }
+
+    /**
+     * Writes an element that contains text.
+     *
+     * @param writer  the writer.
+     * @param name  the element name.
+     * @param text  the text.
+     *
+     * @throws XMLStreamException if there is a problem writing the element.
+     */
+    private static void writeElement(XMLStreamWriter writer, String name,
+            String text) throws XMLStreamException {
+        writer.writeStartElement(name);
+        writer.writeCharacters(text);
+        writer.writeEndElement();
+    }
+
+    /**
+     * Writes an element that contains a value.
+     *
+     * @param writer  the writer.
+     * @param name  the element name.
+     * @param value  the value (<code>null</code> permitted).
+     *
+     * @throws XMLStreamException if there is a problem writing the element.
+     */
+    private static void writeValue(XMLStreamWriter writer, String name,
+            Number value) throws XMLStreamException {
+        if (value == null) {
+            writer.writeEmptyElement(name);
+        }
+        else {
+            writeElement(writer, name, Double.toString(value.doubleValue()));
+        }
+    }
+
+    /**
+     * Ends the root element and the document, and flushes the output.
+     *
+     * @param writer  the writer.
+     *
+     * @throws XMLStreamException if there is a problem writing the output.
+     */
+    private static void finish(XMLStreamWriter writer)
+            throws XMLStreamException {
+        writer.writeCharacters("\n");
+        writer.writeEndElement();
+        writer.writeEndDocument();
+        writer.flush();
+        writer.close();
+    }
+
+    /**
+     * Converts a writer exception to an I/O exception.
+     *
+     * @param e  the writer exception.
+     *
+     * @return The I/O exception.
+     */
+    private static IOException toIOException(XMLStreamException e) {
+        IOException result = new IOException(e.getMessage());
+        result.initCause(e);
+        return result;
+    }
+
+}
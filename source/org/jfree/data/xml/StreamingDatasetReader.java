@@ -0,0 +1,572 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------------
+ * StreamingDatasetReader.java
+ * ---------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.xml;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Date;
+import java.util.TimeZone;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.jfree.chart.util.ParamChecks;
+import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.data.general.ChangeEventBatch;
+import org.jfree.data.general.DefaultPieDataset;
+import org.jfree.data.time.FixedMillisecond;
+import org.jfree.data.time.RegularTimePeriod;
+import org.jfree.data.time.TimeSeries;
+import org.jfree.data.time.TimeSeriesCollection;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+
+/**
+ * A utility class for reading datasets from XML with a pull parser (StAX).
+ * This reads the same pie and category dataset formats as
+ * {@link DatasetReader}, plus the XY and time series formats written by
+ * {@link DatasetWriter}, without creating a handler object per element.
+ * Each method can add the data to an existing dataset; in that case the
+ * dataset sends a single change event when the data has been read.
+ * <P>
+ * A value that is empty or cannot be parsed is read as <code>null</code>,
+ * as it is by {@link DatasetReader}.  Keys are read as strings.  The
+ * streams are not closed.
+ *
+ * @see DatasetWriter
+ *
+ * @since 1.0.20
+ */
+public class StreamingDatasetReader implements DatasetTags {
+
+    /**
+     * Private constructor prevents object creation.
+     */
+    private StreamingDatasetReader() {
+        // nothing to do
+    }
+
+    /**
+     * Reads a pie dataset from a stream.
+     *
+     * @param in  the input stream (<code>null</code> not permitted).
+     *
+     * @return A dataset.
+     *
+     * @throws IOException if there is an I/O error or the XML is not valid.
+     */
+    public static DefaultPieDataset readPieDataset(InputStream in)
+            throws IOException {
+        DefaultPieDataset dataset = new DefaultPieDataset();
+        readPieDataset(in, dataset);
+        return dataset;
+    }
+
+    /**
+     * Reads pie data from a stream and adds it to a dataset (replacing the
+     * values for keys that are already in the dataset).
+     *
+     * @param in  the input stream (<code>null</code> not permitted).
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     *
+     * @throws IOException if there is an I/O error or the XML is not valid.
+     */
+    public static void readPieDataset(InputStream in,
+            DefaultPieDataset dataset) throws IOException {
+        ParamChecks.nullNotPermitted(dataset, "dataset");
+        XMLStreamReader reader = open(in, PIEDATASET_TAG);
+        ChangeEventBatch.begin();
+        try {
+            while (nextElement(reader, ITEM_TAG)) {
+                Comparable key = null;
+                Number value = null;
+                while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                    String name = reader.getLocalName();
+                    if (name.equals(KEY_TAG)) {
+                        key = reader.getElementText();
+                    }
+                    else if (name.equals(VALUE_TAG)) {
+                        value = parseValue(reader.getElementText());
+                    }
+                    else {
+                        throw unexpected(reader, "<Key> or <Value>");
+                    }
+                }
+                dataset.setValue(requireKey(reader, key), value);
+            }
+        }
+        catch (XMLStreamException e) {
+            throw toIOException(e);
+        }
+        finally {
+            ChangeEventBatch.commit();
+            close(reader);
+        }
+    }
+
+    /**
+     * Reads a category dataset from a stream.
+     *
+     * @param in  the input stream (<code>null</code> not permitted).
+     *
+     * @return A dataset.
+     *
+     * @throws IOException if there is an I/O error or the XML is not valid.
+     */
+    public static DefaultCategoryDataset readCategoryDataset(InputStream in)
+            throws IOException {
+        DefaultCategoryDataset dataset = new DefaultCategoryDataset();
+        readCategoryDataset(in, dataset);
+        return dataset;
+    }
+
+    /**
+     * Reads category data from a stream and adds it to a dataset (replacing
+     * the values for keys that are already in the dataset).  Each series
+     * in the XML is a row in the dataset.
+     *
+     * @param in  the input stream (<code>null</code> not permitted).
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     *
+     * @throws IOException if there is an I/O error or the XML is not valid.
+     */
+    public static void readCategoryDataset(InputStream in,
+            DefaultCategoryDataset dataset) throws IOException {
+        ParamChecks.nullNotPermitted(dataset, "dataset");
+        XMLStreamReader reader = open(in, CATEGORYDATASET_TAG);
+        ChangeEventBatch.begin();
+        try {
+            while (nextElement(reader, SERIES_TAG)) {
+                Comparable rowKey = requireKey(reader,
+                        reader.getAttributeValue(null, "name"));
+                while (nextElement(reader, ITEM_TAG)) {
+                    Comparable key = null;
+                    Number value = null;
+                    while (reader.nextTag()
+                            == XMLStreamConstants.START_ELEMENT) {
+                        String name = reader.getLocalName();
+                        if (name.equals(KEY_TAG)) {
+                            key = reader.getElementText();
+                        }
+                        else if (name.equals(VALUE_TAG)) {
+                            value = parseValue(reader.getElementText());
+                        }
+                        else {
+                            throw unexpected(reader, "<Key> or <Value>");
+                        }
+                    }
+                    dataset.addValue(value, rowKey, requireKey(reader, key));
+                }
+            }
+        }
+        catch (XMLStreamException e) {
+            throw toIOException(e);
+        }
+        finally {
+            ChangeEventBatch.commit();
+            close(reader);
+        }
+    }
+
+    /**
+     * Reads an XY dataset from a stream.
+     *
+     * @param in  the input stream (<code>null</code> not permitted).
+     *
+     * @return A dataset.
+     *
+     * @throws IOException if there is an I/O error or the XML is not valid.
+     */
+    public static XYSeriesCollection readXYSeriesCollection(InputStream in)
+            throws IOException {
+        XYSeriesCollection dataset = new XYSeriesCollection();
+        readXYSeriesCollection(in, dataset);
+        return dataset;
+    }
+
+    /**
+     * Reads XY data from a stream and adds it to a dataset.  The items for
+     * a series that is already in the dataset are added to that series;
+     * other series are added to the dataset.
+     *
+     * @param in  the input stream (<code>null</code> not permitted).
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     *
+     * @throws IOException if there is an I/O error or the XML is not valid.
+     */
+    public static void readXYSeriesCollection(InputStream in,
+            XYSeriesCollection dataset) throws IOException {
+        ParamChecks.nullNotPermitted(dataset, "dataset");
+        XMLStreamReader reader = open(in, XYDATASET_TAG);
+        ChangeEventBatch.begin();
+        try {
+            while (nextElement(reader, SERIES_TAG)) {
+                Comparable key = requireKey(reader,
+                        reader.getAttributeValue(null, "name"));
+                int index = dataset.getSeriesIndex(key);
+                XYSeries series;
+                if (index >= 0) {
+                    series = dataset.getSeries(index);
+                }
+                else {
+                    series = new XYSeries(key,
+                            readFlag(reader, "autoSort", true),
+                            readFlag(reader, "allowDuplicateXValues", true));
+                    dataset.addSeries(series);
+                }
+                while (nextElement(reader, ITEM_TAG)) {
+                    double x = Double.NaN;
+                    Number y = null;
+                    while (reader.nextTag()
+                            == XMLStreamConstants.START_ELEMENT) {
+                        String name = reader.getLocalName();
+                        if (name.equals(X_TAG)) {
+                            Number n = parseValue(reader.getElementText());
+                            if (n == null) {
+                                throw unexpected(reader, "a number");
+                            }
+                            x = n.doubleValue();
+                        }
+                        else if (name.equals(Y_TAG)) {
+                            y = parseValue(reader.getElementText());
+                        }
+                        else {
+                            throw unexpected(reader, "<X> or <Y>");
+                        }
+                    }
+                    if (Double.isNaN(x)) {
+                        throw unexpected(reader, "<X>");
+                    }
+                    series.add(x, y, false);
+                }
+                series.fireSeriesChanged();
+            }
+        }
+        catch (XMLStreamException e) {
+            throw toIOException(e);
+        }
+        finally {
+            ChangeEventBatch.commit();
+            close(reader);
+        }
+    }
+
+    /**
+     * Reads a time series dataset from a stream.
+     *
+     * @param in  the input stream (<code>null</code> not permitted).
+     *
+     * @return A dataset.
+     *
+     * @throws IOException if there is an I/O error or the XML is not valid.
+     */
+    public static TimeSeriesCollection readTimeSeriesCollection(
+            InputStream in) throws IOException {
+        TimeSeriesCollection dataset = new TimeSeriesCollection();
+        readTimeSeriesCollection(in, dataset);
+        return dataset;
+    }
+
+    /**
+     * Reads time series data from a stream and adds it to a dataset.  The
+     * items for a series that is already in the dataset are added to (or
+     * update) that series; other series are added to the dataset.  The time
+     * periods are created in the default time zone.
+     *
+     * @param in  the input stream (<code>null</code> not permitted).
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     *
+     * @throws IOException if there is an I/O error or the XML is not valid.
+     */
+    public static void readTimeSeriesCollection(InputStream in,
+            TimeSeriesCollection dataset) throws IOException {
+        ParamChecks.nullNotPermitted(dataset, "dataset");
+        XMLStreamReader reader = open(in, TIMESERIESDATASET_TAG);
+        TimeZone zone = TimeZone.getDefault();
+        ChangeEventBatch.begin();
+        try {
+            while (nextElement(reader, SERIES_TAG)) {
+                Comparable key = requireKey(reader,
+                        reader.getAttributeValue(null, "name"));
+                Class periodClass = readPeriodClass(reader);
+                TimeSeries series = dataset.getSeries(key);
+                if (series == null) {
+                    series = new TimeSeries(key);
+                    dataset.addSeries(series);
+                }
+                while (nextElement(reader, ITEM_TAG)) {
+                    long time = 0L;
+                    boolean hasTime = false;
+                    Number value = null;
+                    while (reader.nextTag()
+                            == XMLStreamConstants.START_ELEMENT) {
+                        String name = reader.getLocalName();
+                        if (name.equals(TIME_TAG)) {
+                            try {
+                                time = Long.parseLong(
+                                        reader.getElementText().trim());
+                            }
+                            catch (NumberFormatException e) {
+                                throw unexpected(reader, "a time");
+                            }
+                            hasTime = true;
+                        }
+                        else if (name.equals(VALUE_TAG)) {
+                            value = parseValue(reader.getElementText());
+                        }
+                        else {
+                            throw unexpected(reader, "<Time> or <Value>");
+                        }
+                    }
+                    if (!hasTime) {
+                        throw unexpected(reader, "<Time>");
+                    }
+                    RegularTimePeriod period;
+                    if (periodClass == FixedMillisecond.class) {
+                        period = new FixedMillisecond(time);
+                    }
+                    else {
+                        period = RegularTimePeriod.createInstance(periodClass,
+                                new Date(time), zone);
+                    }
+                    int count = series.getItemCount();
+                    if (count == 0 || period.compareTo(
+                            series.getTimePeriod(count - 1)) > 0) {
+                        series.add(period, value, false);
+                    }
+                    else {
+                        series.addOrUpdate(period, value);
+                    }
+                }
+                series.fireSeriesChanged();
+            }
+        }
+        catch (XMLStreamException e) {
+            throw toIOException(e);
+        }
+        finally {
+            ChangeEventBatch.commit();
+            close(reader);
+        }
+    }
+
+    /**
+     * Creates a reader for a stream and moves it to the root element.
+     *
+     * @param in  the input stream.
+     * @param rootTag  the expected root element name.
+     *
+     * @return The reader.
+     *
+     * @throws IOException if the stream does not start with the root
+     *     element.
+     */
+    private static XMLStreamReader open(InputStream in, String rootTag)
+            throws IOException {
+        ParamChecks.nullNotPermitted(in, "in");
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES,
+                Boolean.FALSE);
+        try {
+            XMLStreamReader reader = factory.createXMLStreamReader(in);
+            reader.nextTag();
+            if (!reader.getLocalName().equals(rootTag)) {
+                throw unexpected(reader, "<" + rootTag + ">");
+            }
+            return reader;
+        }
+        catch (XMLStreamException e) {
+            throw toIOException(e);
+        }
+    }
+
+    /**
+     * Moves to the next child element of the current element.
+     *
+     * @param reader  the reader.
+     * @param tag  the expected element name.
+     *
+     * @return <code>true</code> if the reader is at the start of a child
+     *     element, and <code>false</code> if it is at the end of the current
+     *     element.
+     *
+     * @throws XMLStreamException if the next element has a different name.
+     */
+    private static boolean nextElement(XMLStreamReader reader, String tag)
+            throws XMLStreamException {
+        if (reader.nextTag() == XMLStreamConstants.END_ELEMENT) {
+            return false;
+        }
+        if (!reader.getLocalName().equals(tag)) {
+            throw unexpected(reader, "<" + tag + ">");
+        }
+        return true;
+    }
+
+    /**
+     * Parses a value.
+     *
+     * @param text  the text.
+     *
+     * @return The value (<code>null</code> if the text is not a number or is
+     *     <code>NaN</code>).
+     */
+    private static Number parseValue(String text) {
+        try {
+            double value = Double.parseDouble(text);
+            return Double.isNaN(value) ? null : new Double(value);
+        }
+        catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Reads a boolean attribute.
+     *
+     * @param reader  the reader.
+     * @param name  the attribute name.
+     * @param defaultValue  the value if the attribute is not present.
+     *
+     * @return The value.
+     */
+    private static boolean readFlag(XMLStreamReader reader, String name,
+            boolean defaultValue) {
+        String value = reader.getAttributeValue(null, name);
+        return value == null ? defaultValue : Boolean.valueOf(value);
+    }
+
+    /**
+     * Reads the time period class attribute of a series.
+     *
+     * @param reader  the reader.
+     *
+     * @return The time period class ({@link FixedMillisecond} if the
+     *     attribute is not present).
+     *
+     * @throws XMLStreamException if the class is not a time period class.
+     */
+    private static Class readPeriodClass(XMLStreamReader reader)
+            throws XMLStreamException {
+        String name = reader.getAttributeValue(null, "period");
+        if (name == null) {
+            return FixedMillisecond.class;
+        }
+        try {
+            Class c = Class.forName(name, false,
+                    StreamingDatasetReader.class.getClassLoader());
+            if (RegularTimePeriod.class.isAssignableFrom(c)) {
+                return c;
+            }
+        }
+        catch (ClassNotFoundException e) {
+            // fall through
+        }
+        throw new XMLStreamException("Not a time period class: " + name,
+                reader.getLocation());
+    }
+
+    /**
+     * Checks that a key is present.
+     *
+     * @param reader  the reader.
+     * @param key  the key.
+     *
+     * @return The key.
+     *
+     * @throws XMLStreamException if the key is <code>null</code>.
+     */
+    private static Comparable requireKey(XMLStreamReader reader,
+            Comparable key) throws XMLStreamException {
+        if (key == null) {
+            throw new XMLStreamException("Missing key.",
+                    reader.getLocation());
+        }
+        return key;
+    }
+
+    /**
+     * Creates an exception for unexpected content.
+     *
+     * @param reader  the reader.
+     * @param expected  a description of the expected content.
+     *
+     * @return The exception.
+     */
+    private static XMLStreamException unexpected(XMLStreamReader reader,
+            String expected) {
+        String found = reader.isStartElement() || reader.isEndElement()
+                ? reader.getLocalName() : "text";
+        return new XMLStreamException("Expecting " + expected + " but found "
+                + found + ".", reader.getLocation());
+    }
+
+    /**
+     * Converts a parser exception to an I/O exception.
+     *
+     * @param e  the parser exception.
+     *
+     * @return The I/O exception.
+     */
+    private static IOException toIOException(XMLStreamException e) {
+        IOException result = new IOException(e.getMessage());
+        result.initCause(e);
+        return result;
+    }
+
+    /**
+     * Closes a reader (but not the underlying stream).
+     *
+     * @param reader  the reader.
+     */
+    private static void close(XMLStreamReader reader) {
+        try {
+            reader.close();
+        }
+        catch (XMLStreamException e) {
+            // ignore, the data has been read
+        }
+    }
+
+}
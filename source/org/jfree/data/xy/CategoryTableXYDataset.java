@@ -44,6 +44,7 @@
  * 02-Feb-2007 : Removed author tags all over JFreeChart sources (DG);
  * 22-Apr-2008 : Implemented PublicCloneable, and fixed clone() method (DG);
  * 18-Oct-2011 : Fixed bug 3190615 - added clear() method (DG);
+ * 16-Oct-2026 : Count changes made without notification;
  *
  */
 
@@ -116,6 +117,9 @@ public class CategoryTableXYDataset extends AbstractIntervalXYDataset
         if (notify) {
             fireDatasetChanged();
         }
+        else {
+            incrementModificationCount();
+        }
     }
 
     /**
@@ -140,6 +144,9 @@ public class CategoryTableXYDataset extends AbstractIntervalXYDataset
         if (notify) {
             fireDatasetChanged();
         }
+        else {
+            incrementModificationCount();
+        }
     }
 
     /**
@@ -0,0 +1,385 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------
+ * CompactXYDataList.java
+ * ----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.xy;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * A list of {@link XYDataItem} objects that stores the x and y-values in two
+ * growable <code>double[]</code> arrays rather than as item objects, so that
+ * each item costs 16 bytes.  Items returned by {@link #get(int)} are created
+ * on demand, so changes to them are not seen by the list (use
+ * {@link #set(int, Object)} instead).  X-values are always returned as
+ * <code>Double</code> instances.  This class is used by {@link XYSeries} for
+ * compact storage.
+ */
+class CompactXYDataList extends AbstractList implements RandomAccess,
+        Cloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -3377506307498858826L;
+
+    /**
+     * The value stored for a <code>null</code> y-value.  This is a quiet NaN
+     * with a non-standard bit pattern, so that it can be told apart from
+     * <code>Double.NaN</code>.
+     */
+    private static final long NULL_Y_BITS = 0x7ff8000000000001L;
+
+    /** The default initial capacity. */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /** The x-values. */
+    private transient double[] xValues;
+
+    /** The y-values. */
+    private transient double[] yValues;
+
+    /** The number of items in the list. */
+    private int size;
+
+    /**
+     * Creates a new empty list.
+     */
+    public CompactXYDataList() {
+        this.xValues = new double[DEFAULT_CAPACITY];
+        this.yValues = new double[DEFAULT_CAPACITY];
+        this.size = 0;
+    }
+
+    /**
+     * Returns the number of items in the list.
+     *
+     * @return The item count.
+     */
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns a new data item holding the values at the specified index.
+     *
+     * @param index  the item index.
+     *
+     * @return A new data item.
+     */
+    @Override
+    public Object get(int index) {
+        checkIndex(index);
+        return new XYDataItem(new Double(this.xValues[index]), getY(index));
+    }
+
+    /**
+     * Returns the x-value at the specified index.
+     *
+     * @param index  the item index.
+     *
+     * @return The x-value.
+     */
+    public double getXValue(int index) {
+        checkIndex(index);
+        return this.xValues[index];
+    }
+
+    /**
+     * Returns the y-value at the specified index, or <code>Double.NaN</code>
+     * if the y-value is <code>null</code>.
+     *
+     * @param index  the item index.
+     *
+     * @return The y-value.
+     */
+    public double getYValue(int index) {
+        checkIndex(index);
+        double y = this.yValues[index];
+        return isNullY(y) ? Double.NaN : y;
+    }
+
+    /**
+     * Returns the y-value at the specified index.
+     *
+     * @param index  the item index.
+     *
+     * @return The y-value (possibly <code>null</code>).
+     */
+    public Number getY(int index) {
+        checkIndex(index);
+        double y = this.yValues[index];
+        return isNullY(y) ? null : new Double(y);
+    }
+
+    /**
+     * Sets the y-value at the specified index.
+     *
+     * @param index  the item index.
+     * @param y  the y-value (<code>null</code> permitted).
+     */
+    public void setY(int index, Number y) {
+        checkIndex(index);
+        this.yValues[index] = toStoredY(y);
+    }
+
+    /**
+     * Replaces the item at the specified index.
+     *
+     * @param index  the item index.
+     * @param element  the new item (an {@link XYDataItem}).
+     *
+     * @return The item that was replaced.
+     */
+    @Override
+    public Object set(int index, Object element) {
+        Object result = get(index);
+        XYDataItem item = (XYDataItem) element;
+        this.xValues[index] = item.getXValue();
+        this.yValues[index] = toStoredY(item.getY());
+        return result;
+    }
+
+    /**
+     * Inserts an item at the specified index.
+     *
+     * @param index  the index.
+     * @param element  the item (an {@link XYDataItem}).
+     */
+    @Override
+    public void add(int index, Object element) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index
+                    + ", Size: " + this.size);
+        }
+        XYDataItem item = (XYDataItem) element;
+        ensureCapacity(this.size + 1);
+        if (index < this.size) {
+            System.arraycopy(this.xValues, index, this.xValues, index + 1,
+                    this.size - index);
+            System.arraycopy(this.yValues, index, this.yValues, index + 1,
+                    this.size - index);
+        }
+        this.xValues[index] = item.getXValue();
+        this.yValues[index] = toStoredY(item.getY());
+        this.size++;
+        this.modCount++;
+    }
+
+    /**
+     * Removes the item at the specified index.
+     *
+     * @param index  the index.
+     *
+     * @return The item that was removed.
+     */
+    @Override
+    public Object remove(int index) {
+        Object result = get(index);
+        removeRange(index, index + 1);
+        return result;
+    }
+
+    /**
+     * Removes all items from the list.
+     */
+    @Override
+    public void clear() {
+        this.size = 0;
+        this.modCount++;
+    }
+
+    /**
+     * Removes the items from <code>fromIndex</code> (inclusive) to
+     * <code>toIndex</code> (exclusive).
+     *
+     * @param fromIndex  the start index.
+     * @param toIndex  the end index.
+     */
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        int count = toIndex - fromIndex;
+        if (count <= 0) {
+            return;
+        }
+        System.arraycopy(this.xValues, toIndex, this.xValues, fromIndex,
+                this.size - toIndex);
+        System.arraycopy(this.yValues, toIndex, this.yValues, fromIndex,
+                this.size - toIndex);
+        this.size -= count;
+        this.modCount++;
+    }
+
+    /**
+     * Searches the (sorted) x-values for the specified value.  The result is
+     * the same as <code>Collections.binarySearch()</code> would return for an
+     * equivalent list of {@link XYDataItem} objects.
+     *
+     * @param x  the x-value.
+     *
+     * @return The index of an item with the x-value, or
+     *     <code>-(insertionPoint + 1)</code> if there is no such item.
+     */
+    public int binarySearch(double x) {
+        int low = 0;
+        int high = this.size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            double compare = this.xValues[mid] - x;
+            if (compare < 0.0) {
+                low = mid + 1;
+            }
+            else if (compare > 0.0) {
+                high = mid - 1;
+            }
+            else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Returns the index of the first item with the specified x-value, or
+     * <code>-1</code> if there is no such item.
+     *
+     * @param x  the x-value.
+     *
+     * @return The index.
+     */
+    public int indexOfX(double x) {
+        for (int i = 0; i < this.size; i++) {
+            if (this.xValues[i] == x) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Ensures that the arrays can hold at least <code>capacity</code> items.
+     *
+     * @param capacity  the required capacity.
+     */
+    public void ensureCapacity(int capacity) {
+        if (capacity > this.xValues.length) {
+            int newCapacity = Math.max(capacity, this.xValues.length
+                    + (this.xValues.length >> 1));
+            this.xValues = Arrays.copyOf(this.xValues, newCapacity);
+            this.yValues = Arrays.copyOf(this.yValues, newCapacity);
+        }
+    }
+
+    /**
+     * Returns an independent copy of this list.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        CompactXYDataList clone = (CompactXYDataList) super.clone();
+        clone.xValues = Arrays.copyOf(this.xValues,
+                Math.max(this.size, DEFAULT_CAPACITY));
+        clone.yValues = Arrays.copyOf(this.yValues,
+                Math.max(this.size, DEFAULT_CAPACITY));
+        return clone;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index
+                    + ", Size: " + this.size);
+        }
+    }
+
+    private static double toStoredY(Number y) {
+        if (y == null) {
+            return Double.longBitsToDouble(NULL_Y_BITS);
+        }
+        return y.doubleValue();
+    }
+
+    private static boolean isNullY(double y) {
+        return Double.doubleToRawLongBits(y) == NULL_Y_BITS;
+    }
+
+    /**
+     * Provides serialization support (only the occupied part of the arrays
+     * is written).
+     *
+     * @param stream  the output stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     */
+    private void writeObject(ObjectOutputStream stream) throws IOException {
+        stream.defaultWriteObject();
+        for (int i = 0; i < this.size; i++) {
+            stream.writeDouble(this.xValues[i]);
+            stream.writeLong(Double.doubleToRawLongBits(this.yValues[i]));
+        }
+    }
+
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        int capacity = Math.max(this.size, DEFAULT_CAPACITY);
+        this.xValues = new double[capacity];
+        this.yValues = new double[capacity];
+        for (int i = 0; i < this.size; i++) {
+            this.xValues[i] = stream.readDouble();
+            this.yValues[i] = Double.longBitsToDouble(stream.readLong());
+        }
+    }
+
+}
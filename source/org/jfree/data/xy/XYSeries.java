@@ -75,6 +75,11 @@
  * 10-Jun-2009 : Make clones to isolate XYDataItem instances used
  *               for data storage (DG);
  * 02-Jul-2013 : Use ParamChecks (DG);
+ * 16-Oct-2026 : Added optional compact (primitive array) storage, plus
+ *               getXValue() and getYValue() methods;
+ * 16-Oct-2026 : Added findValueRange() method backed by an index of the
+ *               y-values;
+ * 16-Oct-2026 : Count changes made without notification;
  * 
  */
 
@@ -85,7 +90,8 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import org.jfree.chart.util.ParamChecks;
-
+import org.jfree.data.Range;
+import org.jfree.data.general.MinMaxIndex;
 import org.jfree.data.general.Series;
 import org.jfree.data.general.SeriesChangeEvent;
 import org.jfree.data.general.SeriesException;
@@ -97,6 +103,12 @@ import org.jfree.util.ObjectUtilities;
  * and duplicate x-values are permitted.  Both the sorting and duplicate
  * defaults can be changed in the constructor.  Y-values can be
  * <code>null</code> to represent missing values.
+ * <P>
+ * A series can be created with compact storage, in which case the x and
+ * y-values are held in primitive arrays (16 bytes per item) rather than as
+ * {@link XYDataItem} instances, and x-values are returned as
+ * <code>Double</code> objects.  Use {@link #getXValue(int)} and
+ * {@link #getYValue(int)} to read values without creating objects.
  */
 public class XYSeries extends Series implements Cloneable, Serializable {
 
@@ -134,6 +146,13 @@ public class XYSeries extends Series implements Cloneable, Serializable {
     /** The highest y-value in the series, excluding Double.NaN values. */
     private double maxY;
 
+    /**
+     * An index of the y-values, used by {@link #findValueRange(Range)}.  This
+     * is created on demand, and discarded when the series is changed in a way
+     * that it cannot follow.
+     */
+    private transient MinMaxIndex valueIndex;
+
     /**
      * Creates a new empty series.  By default, items added to the series will
      * be sorted into ascending order by x-value, and duplicate x-values will
@@ -169,8 +188,34 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      */
     public XYSeries(Comparable key, boolean autoSort,
             boolean allowDuplicateXValues) {
+        this(key, autoSort, allowDuplicateXValues, false);
+    }
+
+    /**
+     * Constructs a new xy-series that contains no data, optionally using
+     * compact storage.  With compact storage the x and y-values are held in
+     * primitive arrays rather than as {@link XYDataItem} objects, which
+     * reduces the memory used per item from around 40 bytes to 16 bytes.
+     *
+     * @param key  the series key (<code>null</code> not permitted).
+     * @param autoSort  a flag that controls whether or not the items in the
+     *                  series are sorted.
+     * @param allowDuplicateXValues  a flag that controls whether duplicate
+     *                               x-values are allowed.
+     * @param compact  a flag that controls whether or not the data is held
+     *                 in primitive arrays.
+     *
+     * @since 1.0.20
+     */
+    public XYSeries(Comparable key, boolean autoSort,
+            boolean allowDuplicateXValues, boolean compact) {
         super(key);
-        this.data = new java.util.ArrayList();
+        if (compact) {
+            this.data = new CompactXYDataList();
+        }
+        else {
+            this.data = new java.util.ArrayList();
+        }
         this.autoSort = autoSort;
         this.allowDuplicateXValues = allowDuplicateXValues;
         this.minX = Double.NaN;
@@ -239,6 +284,58 @@ public class XYSeries extends Series implements Cloneable, Serializable {
         return this.maxY;
     }
 
+    /**
+     * Finds the range of y-values for the items with x-values that fall
+     * within the specified range, ignoring <code>null</code> and
+     * <code>Double.NaN</code> y-values.
+     * <P>
+     * For a series that is sorted by x-value, the first call builds an index
+     * of the y-values in O(n) time; after that, each call runs in O(log n)
+     * time while the series is only appended to, updated, or trimmed from
+     * the start.  For an unsorted series, all the items are examined.
+     *
+     * @param xRange  the range of x-values (<code>null</code> not permitted).
+     *
+     * @return The range of y-values (<code>null</code> if there are no
+     *     y-values in the range).
+     *
+     * @since 1.0.20
+     */
+    public Range findValueRange(Range xRange) {
+        ParamChecks.nullNotPermitted(xRange, "xRange");
+        double lowY = Double.POSITIVE_INFINITY;
+        double highY = Double.NEGATIVE_INFINITY;
+        if (this.autoSort) {
+            int first = findFirstIndexAtOrAfter(xRange.getLowerBound());
+            int last = findFirstIndexAtOrAfter(Math.nextUp(
+                    xRange.getUpperBound())) - 1;
+            if (first <= last) {
+                MinMaxIndex index = getValueIndex();
+                double min = index.getMinimum(first, last);
+                if (!Double.isNaN(min)) {
+                    lowY = min;
+                    highY = index.getMaximum(first, last);
+                }
+            }
+        }
+        else {
+            int count = getItemCount();
+            for (int i = 0; i < count; i++) {
+                if (xRange.contains(getXValue(i))) {
+                    double y = getYValue(i);
+                    if (!Double.isNaN(y)) {
+                        lowY = Math.min(lowY, y);
+                        highY = Math.max(highY, y);
+                    }
+                }
+            }
+        }
+        if (lowY > highY) {
+            return null;
+        }
+        return new Range(lowY, highY);
+    }
+
     /**
      * Updates the cached values for the minimum and maximum data values.
      *
@@ -287,8 +384,8 @@ public class XYSeries extends Series implements Cloneable, Serializable {
         }
         else if (itemContributesToXBounds) {
             if (getAutoSort()) {
-                this.minX = getX(0).doubleValue();
-                this.maxX = getX(getItemCount() - 1).doubleValue();
+                this.minX = getXValue(0);
+                this.maxX = getXValue(getItemCount() - 1);
             }
             else {
                 findBoundsByIteration();
@@ -307,6 +404,19 @@ public class XYSeries extends Series implements Cloneable, Serializable {
         this.maxX = Double.NaN;
         this.minY = Double.NaN;
         this.maxY = Double.NaN;
+        if (this.data instanceof CompactXYDataList) {
+            CompactXYDataList list = (CompactXYDataList) this.data;
+            int count = list.size();
+            for (int i = 0; i < count; i++) {
+                double x = list.getXValue(i);
+                this.minX = minIgnoreNaN(this.minX, x);
+                this.maxX = maxIgnoreNaN(this.maxX, x);
+                double y = list.getYValue(i);
+                this.minY = minIgnoreNaN(this.minY, y);
+                this.maxY = maxIgnoreNaN(this.maxY, y);
+            }
+            return;
+        }
         Iterator iterator = this.data.iterator();
         while (iterator.hasNext()) {
             XYDataItem item = (XYDataItem) iterator.next();
@@ -335,6 +445,18 @@ public class XYSeries extends Series implements Cloneable, Serializable {
         return this.allowDuplicateXValues;
     }
 
+    /**
+     * Returns the flag that indicates whether or not the series holds its
+     * data in primitive arrays (this is set in the constructor).
+     *
+     * @return A boolean.
+     *
+     * @since 1.0.20
+     */
+    public boolean isCompact() {
+        return this.data instanceof CompactXYDataList;
+    }
+
     /**
      * Returns the number of items in the series.
      *
@@ -388,6 +510,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
         int remove = this.data.size() - maximum;
         if (remove > 0) {
             this.data.subList(0, remove).clear();
+            this.valueIndex = null;
             findBoundsByIteration();
             fireSeriesChanged();
         }
@@ -505,26 +628,24 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      */
     public void add(XYDataItem item, boolean notify) {
         ParamChecks.nullNotPermitted(item, "item");
-        item = (XYDataItem) item.clone();
+        if (!(this.data instanceof CompactXYDataList)) {
+            item = (XYDataItem) item.clone();
+        }
         if (this.autoSort) {
-            int index = Collections.binarySearch(this.data, item);
+            int index = binarySearch(item.getXValue());
             if (index < 0) {
-                this.data.add(-index - 1, item);
+                addItem(-index - 1, item);
             }
             else {
                 if (this.allowDuplicateXValues) {
                     // need to make sure we are adding *after* any duplicates
                     int size = this.data.size();
-                    while (index < size && item.compareTo(
-                            this.data.get(index)) == 0) {
+                    double x = item.getXValue();
+                    while (index < size && compareX(getXValue(index), x)
+                            == 0) {
                         index++;
                     }
-                    if (index < this.data.size()) {
-                        this.data.add(index, item);
-                    }
-                    else {
-                        this.data.add(item);
-                    }
+                    addItem(index, item);
                 }
                 else {
                     throw new SeriesException("X-value already exists.");
@@ -540,16 +661,19 @@ public class XYSeries extends Series implements Cloneable, Serializable {
                     throw new SeriesException("X-value already exists.");
                 }
             }
-            this.data.add(item);
+            addItem(this.data.size(), item);
         }
         updateBoundsForAddedItem(item);
         if (getItemCount() > this.maximumItemCount) {
-            XYDataItem removed = (XYDataItem) this.data.remove(0);
+            XYDataItem removed = removeFirstItem();
             updateBoundsForRemovedItem(removed);
         }
         if (notify) {
             fireSeriesChanged();
         }
+        else {
+            incrementModificationCount();
+        }
     }
 
     /**
@@ -561,6 +685,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      */
     public void delete(int start, int end) {
         this.data.subList(start, end + 1).clear();
+        this.valueIndex = null;
         findBoundsByIteration();
         fireSeriesChanged();
     }
@@ -574,7 +699,14 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      * @return The item removed.
      */
     public XYDataItem remove(int index) {
-        XYDataItem removed = (XYDataItem) this.data.remove(index);
+        XYDataItem removed;
+        if (index == 0) {
+            removed = removeFirstItem();
+        }
+        else {
+            removed = (XYDataItem) this.data.remove(index);
+            this.valueIndex = null;
+        }
         updateBoundsForRemovedItem(removed);
         fireSeriesChanged();
         return removed;
@@ -601,6 +733,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
     public void clear() {
         if (this.data.size() > 0) {
             this.data.clear();
+            this.valueIndex = null;
             this.minX = Double.NaN;
             this.maxX = Double.NaN;
             this.minY = Double.NaN;
@@ -618,6 +751,9 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      */
     public XYDataItem getDataItem(int index) {
         XYDataItem item = (XYDataItem) this.data.get(index);
+        if (this.data instanceof CompactXYDataList) {
+            return item;  // already a new instance
+        }
         return (XYDataItem) item.clone();
     }
 
@@ -642,9 +778,30 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      * @return The x-value (never <code>null</code>).
      */
     public Number getX(int index) {
+        if (this.data instanceof CompactXYDataList) {
+            return new Double(((CompactXYDataList) this.data).getXValue(
+                    index));
+        }
         return getRawDataItem(index).getX();
     }
 
+    /**
+     * Returns the x-value at the specified index as a double primitive.  For
+     * a series with compact storage this does not create any objects.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The x-value.
+     *
+     * @since 1.0.20
+     */
+    public double getXValue(int index) {
+        if (this.data instanceof CompactXYDataList) {
+            return ((CompactXYDataList) this.data).getXValue(index);
+        }
+        return getRawDataItem(index).getXValue();
+    }
+
     /**
      * Returns the y-value at the specified index.
      *
@@ -653,9 +810,30 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      * @return The y-value (possibly <code>null</code>).
      */
     public Number getY(int index) {
+        if (this.data instanceof CompactXYDataList) {
+            return ((CompactXYDataList) this.data).getY(index);
+        }
         return getRawDataItem(index).getY();
     }
 
+    /**
+     * Returns the y-value at the specified index as a double primitive, or
+     * <code>Double.NaN</code> if the y-value is <code>null</code>.  For a
+     * series with compact storage this does not create any objects.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The y-value.
+     *
+     * @since 1.0.20
+     */
+    public double getYValue(int index) {
+        if (this.data instanceof CompactXYDataList) {
+            return ((CompactXYDataList) this.data).getYValue(index);
+        }
+        return getRawDataItem(index).getYValue();
+    }
+
     /**
      * Updates the value of an item in the series and sends a
      * {@link SeriesChangeEvent} to all registered listeners.
@@ -667,15 +845,13 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      *         confusion with the {@link #update(Number, Number)} method.
      */
     public void update(int index, Number y) {
-        XYDataItem item = getRawDataItem(index);
-
         // figure out if we need to iterate through all the y-values
         boolean iterate = false;
-        double oldY = item.getYValue();
+        double oldY = getYValue(index);
         if (!Double.isNaN(oldY)) {
             iterate = oldY <= this.minY || oldY >= this.maxY;
         }
-        item.setY(y);
+        setRawY(index, y);
 
         if (iterate) {
             findBoundsByIteration();
@@ -808,15 +984,14 @@ public class XYSeries extends Series implements Cloneable, Serializable {
         XYDataItem overwritten = null;
         int index = indexOf(item.getX());
         if (index >= 0) {
-            XYDataItem existing = (XYDataItem) this.data.get(index);
-            overwritten = (XYDataItem) existing.clone();
+            overwritten = getDataItem(index);
             // figure out if we need to iterate through all the y-values
             boolean iterate = false;
-            double oldY = existing.getYValue();
+            double oldY = overwritten.getYValue();
             if (!Double.isNaN(oldY)) {
                 iterate = oldY <= this.minY || oldY >= this.maxY;
             }
-            existing.setY(item.getY());
+            setRawY(index, item.getY());
 
             if (iterate) {
                 findBoundsByIteration();
@@ -832,18 +1007,20 @@ public class XYSeries extends Series implements Cloneable, Serializable {
             // Collections.binarySearch() and tells us where to insert the
             // new item...otherwise it will be just -1 and we should just
             // append the value to the list...
-            item = (XYDataItem) item.clone();
+            if (!(this.data instanceof CompactXYDataList)) {
+                item = (XYDataItem) item.clone();
+            }
             if (this.autoSort) {
-                this.data.add(-index - 1, item);
+                addItem(-index - 1, item);
             }
             else {
-                this.data.add(item);
+                addItem(this.data.size(), item);
             }
             updateBoundsForAddedItem(item);
 
             // check if this addition will exceed the maximum item count...
             if (getItemCount() > this.maximumItemCount) {
-                XYDataItem removed = (XYDataItem) this.data.remove(0);
+                XYDataItem removed = removeFirstItem();
                 updateBoundsForRemovedItem(removed);
             }
         }
@@ -863,7 +1040,12 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      */
     public int indexOf(Number x) {
         if (this.autoSort) {
-            return Collections.binarySearch(this.data, new XYDataItem(x, null));
+            ParamChecks.nullNotPermitted(x, "x");
+            return binarySearch(x.doubleValue());
+        }
+        else if (this.data instanceof CompactXYDataList) {
+            ParamChecks.nullNotPermitted(x, "x");
+            return ((CompactXYDataList) this.data).indexOfX(x.doubleValue());
         }
         else {
             for (int i = 0; i < this.data.size(); i++) {
@@ -876,6 +1058,139 @@ public class XYSeries extends Series implements Cloneable, Serializable {
         }
     }
 
+    /**
+     * Sets the y-value for the item at the specified index, without updating
+     * the bounds or sending a change event.
+     *
+     * @param index  the item index.
+     * @param y  the new y-value (<code>null</code> permitted).
+     */
+    private void setRawY(int index, Number y) {
+        if (this.data instanceof CompactXYDataList) {
+            ((CompactXYDataList) this.data).setY(index, y);
+        }
+        else {
+            getRawDataItem(index).setY(y);
+        }
+        if (this.valueIndex != null) {
+            this.valueIndex.set(index, y != null ? y.doubleValue()
+                    : Double.NaN);
+        }
+    }
+
+    /**
+     * Inserts an item at the specified index, and updates the value index
+     * (if there is one).  No bounds are updated and no event is sent.
+     *
+     * @param index  the index.
+     * @param item  the item.
+     */
+    private void addItem(int index, XYDataItem item) {
+        if (index < this.data.size()) {
+            this.data.add(index, item);
+            this.valueIndex = null;
+        }
+        else {
+            this.data.add(item);
+            if (this.valueIndex != null) {
+                this.valueIndex.add(item.getYValue());
+            }
+        }
+    }
+
+    /**
+     * Removes the first item in the series, and updates the value index (if
+     * there is one).  No bounds are updated and no event is sent.
+     *
+     * @return The item that was removed.
+     */
+    private XYDataItem removeFirstItem() {
+        XYDataItem item = (XYDataItem) this.data.remove(0);
+        if (this.valueIndex != null) {
+            this.valueIndex.removeFirst();
+        }
+        return item;
+    }
+
+    /**
+     * Returns the index of the first item with an x-value at or after the
+     * specified value (<code>getItemCount()</code> if there is no such item).
+     * This relies on the items being sorted by x-value.
+     *
+     * @param x  the x-value.
+     *
+     * @return The item index.
+     */
+    private int findFirstIndexAtOrAfter(double x) {
+        int low = 0;
+        int high = this.data.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (getXValue(mid) < x) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the y-values, creating it if necessary.
+     *
+     * @return The index (never <code>null</code>).
+     */
+    private MinMaxIndex getValueIndex() {
+        int count = this.data.size();
+        if (this.valueIndex == null
+                || this.valueIndex.getItemCount() != count) {
+            MinMaxIndex index = new MinMaxIndex(count);
+            for (int i = 0; i < count; i++) {
+                index.add(getYValue(i));
+            }
+            this.valueIndex = index;
+        }
+        return this.valueIndex;
+    }
+
+    /**
+     * Searches the (sorted) data for an item with the specified x-value,
+     * returning the same result as <code>Collections.binarySearch()</code>.
+     *
+     * @param x  the x-value.
+     *
+     * @return The index of an item with the x-value, or
+     *     <code>-(insertionPoint + 1)</code>.
+     */
+    private int binarySearch(double x) {
+        if (this.data instanceof CompactXYDataList) {
+            return ((CompactXYDataList) this.data).binarySearch(x);
+        }
+        return Collections.binarySearch(this.data, new XYDataItem(
+                new Double(x), null));
+    }
+
+    /**
+     * Compares two x-values in the same way as
+     * {@link XYDataItem#compareTo(Object)}.
+     *
+     * @param x1  the first x-value.
+     * @param x2  the second x-value.
+     *
+     * @return The result of the comparison.
+     */
+    private static int compareX(double x1, double x2) {
+        double compare = x1 - x2;
+        if (compare > 0.0) {
+            return 1;
+        }
+        if (compare < 0.0) {
+            return -1;
+        }
+        return 0;
+    }
+
     /**
      * Returns a new array containing the x and y values from this series.
      *
@@ -887,14 +1202,8 @@ public class XYSeries extends Series implements Cloneable, Serializable {
         int itemCount = getItemCount();
         double[][] result = new double[2][itemCount];
         for (int i = 0; i < itemCount; i++) {
-            result[0][i] = this.getX(i).doubleValue();
-            Number y = getY(i);
-            if (y != null) {
-                result[1][i] = y.doubleValue();
-            }
-            else {
-                result[1][i] = Double.NaN;
-            }
+            result[0][i] = getXValue(i);
+            result[1][i] = getYValue(i);
         }
         return result;
     }
@@ -909,7 +1218,13 @@ public class XYSeries extends Series implements Cloneable, Serializable {
     @Override
     public Object clone() throws CloneNotSupportedException {
         XYSeries clone = (XYSeries) super.clone();
-        clone.data = (List) ObjectUtilities.deepClone(this.data);
+        if (this.data instanceof CompactXYDataList) {
+            clone.data = (List) ((CompactXYDataList) this.data).clone();
+        }
+        else {
+            clone.data = (List) ObjectUtilities.deepClone(this.data);
+        }
+        clone.valueIndex = null;
         return clone;
     }
 
@@ -927,7 +1242,13 @@ public class XYSeries extends Series implements Cloneable, Serializable {
             throws CloneNotSupportedException {
 
         XYSeries copy = (XYSeries) super.clone();
-        copy.data = new java.util.ArrayList();
+        if (this.data instanceof CompactXYDataList) {
+            copy.data = new CompactXYDataList();
+        }
+        else {
+            copy.data = new java.util.ArrayList();
+        }
+        copy.valueIndex = null;
         if (this.data.size() > 0) {
             for (int index = start; index <= end; index++) {
                 XYDataItem item = (XYDataItem) this.data.get(index);
@@ -60,6 +60,8 @@
  * 02-Jul-2013 : Use ParamChecks (DG);
  * 21-Nov-2013 : Fixed bug where removeSeries(int) was not deregistering 
  *               vetoable listener (DG);
+ * 16-Oct-2026 : Overridden getXValue() and getYValue() to avoid boxing;
+ * 16-Oct-2026 : Implemented XYDomainInfo and XYRangeInfo;
  *
  */
 
@@ -90,8 +92,8 @@ import org.jfree.util.PublicCloneable;
  * dataset.
  */
 public class XYSeriesCollection extends AbstractIntervalXYDataset
-        implements IntervalXYDataset, DomainInfo, RangeInfo, 
-        VetoableChangeListener, PublicCloneable, Serializable {
+        implements IntervalXYDataset, DomainInfo, RangeInfo, XYDomainInfo,
+        XYRangeInfo, VetoableChangeListener, PublicCloneable, Serializable {
 
     /** For serialization. */
     private static final long serialVersionUID = -7590013825931496766L;
@@ -358,6 +360,21 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
         return s.getX(item);
     }
 
+    /**
+     * Returns the x-value for the specified series and item as a double
+     * primitive.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The value.
+     */
+    @Override
+    public double getXValue(int series, int item) {
+        XYSeries s = (XYSeries) this.data.get(series);
+        return s.getXValue(item);
+    }
+
     /**
      * Returns the starting X value for the specified series and item.
      *
@@ -398,6 +415,21 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
         return s.getY(index);
     }
 
+    /**
+     * Returns the y-value for the specified series and item as a double
+     * primitive (<code>Double.NaN</code> for a <code>null</code> y-value).
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The value.
+     */
+    @Override
+    public double getYValue(int series, int item) {
+        XYSeries s = (XYSeries) this.data.get(series);
+        return s.getYValue(item);
+    }
+
     /**
      * Returns the starting Y value for the specified series and item.
      *
@@ -575,6 +607,53 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
         }
     }
 
+    /**
+     * Returns the range of the x-values for the specified series.  This uses
+     * the x-bounds maintained by each series, so it does not need to iterate
+     * over the data items.
+     *
+     * @param visibleSeriesKeys  the keys of the visible series
+     *     (<code>null</code> not permitted).
+     * @param includeInterval  a flag that determines whether or not the
+     *                         x-interval is taken into account.
+     *
+     * @return The range (or <code>null</code> if the series contain no
+     *     values).
+     *
+     * @since 1.0.20
+     */
+    @Override
+    public Range getDomainBounds(List visibleSeriesKeys,
+            boolean includeInterval) {
+        ParamChecks.nullNotPermitted(visibleSeriesKeys, "visibleSeriesKeys");
+        double lower = Double.POSITIVE_INFINITY;
+        double upper = Double.NEGATIVE_INFINITY;
+        Iterator iterator = visibleSeriesKeys.iterator();
+        while (iterator.hasNext()) {
+            Comparable seriesKey = (Comparable) iterator.next();
+            XYSeries series = getSeries(seriesKey);
+            double minX = series.getMinX();
+            if (!Double.isNaN(minX)) {
+                lower = Math.min(lower, minX);
+            }
+            double maxX = series.getMaxX();
+            if (!Double.isNaN(maxX)) {
+                upper = Math.max(upper, maxX);
+            }
+        }
+        if (lower > upper) {
+            return null;
+        }
+        if (includeInterval) {
+            double width = this.intervalDelegate.getIntervalWidth();
+            double lowerAdj = width
+                    * this.intervalDelegate.getIntervalPositionFactor();
+            lower = lower - lowerAdj;
+            upper = upper + (width - lowerAdj);
+        }
+        return new Range(lower, upper);
+    }
+
     /**
      * Returns the interval width. This is used to calculate the start and end
      * x-values, if/when the dataset is used as an {@link IntervalXYDataset}.
@@ -672,6 +751,37 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
         }
     }
 
+    /**
+     * Returns the range of the y-values for the items in the specified series
+     * that have x-values within <code>xRange</code>.  For series that are
+     * sorted by x-value, this runs in O(log n) time per series (see
+     * {@link XYSeries#findValueRange(Range)}).
+     *
+     * @param visibleSeriesKeys  the keys of the visible series
+     *     (<code>null</code> not permitted).
+     * @param xRange  the x-range (<code>null</code> not permitted).
+     * @param includeInterval  ignored.
+     *
+     * @return The range (or <code>null</code> if there are no y-values in
+     *     the x-range).
+     *
+     * @since 1.0.20
+     */
+    @Override
+    public Range getRangeBounds(List visibleSeriesKeys, Range xRange,
+            boolean includeInterval) {
+        ParamChecks.nullNotPermitted(visibleSeriesKeys, "visibleSeriesKeys");
+        ParamChecks.nullNotPermitted(xRange, "xRange");
+        Range result = null;
+        Iterator iterator = visibleSeriesKeys.iterator();
+        while (iterator.hasNext()) {
+            Comparable seriesKey = (Comparable) iterator.next();
+            XYSeries series = getSeries(seriesKey);
+            result = Range.combine(result, series.findValueRange(xRange));
+        }
+        return result;
+    }
+
     /**
      * Returns the minimum y-value in the dataset.
      *
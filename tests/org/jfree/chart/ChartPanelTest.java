@@ -37,6 +37,7 @@
  * 13-Jul-2004 : Version 1 (DG);
  * 12-Jan-2009 : Added test2502355() (DG);
  * 08-Jun-2009 : Added testSetMouseWheelEnabled() (DG);
+ * 16-Oct-2026 : Added testLayeredBuffer();
  */
 
 package org.jfree.chart;
@@ -44,18 +45,26 @@ package org.jfree.chart;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertFalse;
+import java.awt.Graphics2D;
 import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
 import java.util.EventListener;
+import java.util.Iterator;
 import java.util.List;
 
 import javax.swing.event.CaretListener;
 
 import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.entity.XYItemEntity;
 import org.jfree.chart.event.ChartChangeEvent;
 import org.jfree.chart.event.ChartChangeListener;
+import org.jfree.chart.event.ChartProgressEvent;
+import org.jfree.chart.event.ChartProgressListener;
 import org.jfree.chart.plot.PlotOrientation;
 import org.jfree.chart.plot.XYPlot;
 import org.jfree.data.xy.DefaultXYDataset;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
 import org.junit.Test;
 
 /**
@@ -343,4 +352,83 @@ public class ChartPanelTest implements ChartChangeListener, ChartMouseListener {
         panel.setMouseWheelEnabled(false);
         assertFalse(panel.isMouseWheelEnabled());
     }
+
+    /**
+     * Paints a panel into an image.
+     *
+     * @param panel  the panel.
+     *
+     * @return The image.
+     */
+    private BufferedImage paint(ChartPanel panel) {
+        BufferedImage image = new BufferedImage(400, 300,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        panel.paintComponent(g2);
+        g2.dispose();
+        return image;
+    }
+
+    /**
+     * With the layered buffer, a dataset update that leaves the axis ranges
+     * unchanged only redraws the data layer, and the result is the same as
+     * redrawing the whole chart.
+     */
+    @Test
+    public void testLayeredBuffer() {
+        XYSeries series = new XYSeries("S");
+        series.add(1.0, 1.0);
+        series.add(2.0, 4.0);
+        JFreeChart chart = ChartFactory.createXYLineChart("Title", "X", "Y",
+                new XYSeriesCollection(series));
+        XYPlot plot = (XYPlot) chart.getPlot();
+        plot.getDomainAxis().setRange(0.0, 10.0);
+        plot.getRangeAxis().setRange(0.0, 10.0);
+        final int[] draws = new int[1];
+        chart.addProgressListener(new ChartProgressListener() {
+            @Override
+            public void chartProgress(ChartProgressEvent event) {
+                if (event.getType() == ChartProgressEvent.DRAWING_STARTED) {
+                    draws[0]++;
+                }
+            }
+        });
+        ChartPanel panel = new ChartPanel(chart, true);
+        panel.setSize(400, 300);
+        panel.setLayeredBuffer(true);
+        assertTrue(panel.isLayeredBuffer());
+        paint(panel);
+        assertEquals(1, draws[0]);
+
+        series.add(3.0, 2.0);
+        BufferedImage layered = paint(panel);
+        assertEquals(1, draws[0]);
+        int itemEntities = 0;
+        Iterator iterator = panel.getChartRenderingInfo()
+                .getEntityCollection().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() instanceof XYItemEntity) {
+                itemEntities++;
+            }
+        }
+        assertEquals(3, itemEntities);
+
+        panel.setRefreshBuffer(true);
+        BufferedImage full = paint(panel);
+        assertEquals(2, draws[0]);
+        for (int x = 0; x < 400; x++) {
+            for (int y = 0; y < 300; y++) {
+                assertEquals(full.getRGB(x, y), layered.getRGB(x, y));
+            }
+        }
+
+        // a dataset update that changes the axis range needs a full redraw
+        plot.getRangeAxis().setAutoRange(true);
+        paint(panel);
+        assertEquals(3, draws[0]);
+        series.add(4.0, 20.0);
+        paint(panel);
+        assertEquals(4, draws[0]);
+    }
+
 }
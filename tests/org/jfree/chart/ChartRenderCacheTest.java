@@ -0,0 +1,205 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------
+ * ChartRenderCacheTest.java
+ * -------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.awt.image.BufferedImage;
+import java.util.concurrent.CyclicBarrier;
+
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link ChartRenderCache} class.
+ */
+public class ChartRenderCacheTest {
+
+    /**
+     * Creates a chart for testing.
+     *
+     * @param series  the series.
+     *
+     * @return The chart.
+     */
+    private JFreeChart createChart(XYSeries series) {
+        return ChartFactory.createXYLineChart("Title", "X", "Y",
+                new XYSeriesCollection(series));
+    }
+
+    /**
+     * An unchanged chart is served from the cache.
+     */
+    @Test
+    public void testHit() {
+        XYSeries series = new XYSeries("S");
+        series.add(1.0, 2.0);
+        JFreeChart chart = createChart(series);
+        ChartRenderCache cache = new ChartRenderCache();
+        BufferedImage image = cache.getImage(chart, 200, 100);
+        assertSame(image, cache.getImage(chart, 200, 100));
+        assertEquals(1L, cache.getHitCount());
+        assertEquals(1L, cache.getMissCount());
+        BufferedImage image2 = cache.getImage(chart, 300, 100);
+        assertNotSame(image, image2);
+        assertEquals(300, image2.getWidth());
+        assertEquals(2, cache.getImageCount());
+    }
+
+    /**
+     * Changes to the dataset and to the chart invalidate the cached images.
+     */
+    @Test
+    public void testInvalidation() throws Exception {
+        XYSeries series = new XYSeries("S");
+        series.add(1.0, 2.0);
+        JFreeChart chart = createChart(series);
+        ChartRenderCache cache = new ChartRenderCache();
+        byte[] png = cache.getPNG(chart, 200, 100);
+        assertSame(png, cache.getPNG(chart, 200, 100));
+        series.add(2.0, 3.0);
+        assertEquals(0, cache.getImageCount());
+        assertNotSame(png, cache.getPNG(chart, 200, 100));
+        chart.setTitle("Changed");
+        assertEquals(0, cache.getImageCount());
+        cache.getImage(chart, 200, 100);
+        assertEquals(1, cache.getImageCount());
+        assertEquals(3L, cache.getMissCount());
+    }
+
+    /**
+     * The least recently used image is discarded when the cache is full, and
+     * the cache stops listening to charts without images.
+     */
+    @Test
+    public void testEviction() {
+        XYSeries series = new XYSeries("S");
+        JFreeChart chart1 = createChart(series);
+        JFreeChart chart2 = createChart(series);
+        ChartRenderCache cache = new ChartRenderCache(2);
+        cache.getImage(chart1, 100, 100);
+        cache.getImage(chart2, 100, 100);
+        cache.getImage(chart1, 100, 100);
+        cache.getImage(chart2, 200, 100);
+        assertEquals(2, cache.getImageCount());
+        cache.getImage(chart1, 100, 100);
+        assertEquals(2L, cache.getHitCount());
+        cache.getImage(chart1, 50, 50);
+        cache.getImage(chart1, 60, 60);
+        chart2.setTitle("Changed");
+        assertEquals(2, cache.getImageCount());
+        chart1.setTitle("Changed");
+        assertEquals(0, cache.getImageCount());
+    }
+
+    /**
+     * Charts that are built separately but have the same settings and show
+     * the same unchanged dataset share a cached image.
+     */
+    @Test
+    public void testContentKey() {
+        XYSeries series = new XYSeries("S");
+        series.add(1.0, 2.0);
+        XYSeriesCollection dataset = new XYSeriesCollection(series);
+        ChartRenderCache cache = new ChartRenderCache();
+        BufferedImage image = cache.getImage(ChartFactory.createXYLineChart(
+                "Title", "X", "Y", dataset), 200, 100);
+        assertSame(image, cache.getImage(ChartFactory.createXYLineChart(
+                "Title", "X", "Y", dataset), 200, 100));
+        assertEquals(1L, cache.getHitCount());
+
+        // different settings
+        assertNotSame(image, cache.getImage(ChartFactory.createXYLineChart(
+                "Other", "X", "Y", dataset), 200, 100));
+        assertEquals(2L, cache.getMissCount());
+
+        // a changed dataset
+        series.add(2.0, 3.0);
+        assertNotSame(image, cache.getImage(ChartFactory.createXYLineChart(
+                "Title", "X", "Y", dataset), 200, 100));
+        assertEquals(3L, cache.getMissCount());
+    }
+
+    /**
+     * Concurrent misses for the same chart cache a single image, and the
+     * cache stops listening to the chart once that image is evicted.
+     */
+    @Test
+    public void testConcurrentMisses() throws Exception {
+        XYSeries series = new XYSeries("S");
+        series.add(1.0, 2.0);
+        final JFreeChart chart1 = createChart(series);
+        final ChartRenderCache cache = new ChartRenderCache(1);
+        final CyclicBarrier barrier = new CyclicBarrier(8);
+        Thread[] threads = new Thread[8];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread() {
+                @Override
+                public void run() {
+                    try {
+                        barrier.await();
+                    }
+                    catch (Exception e) {
+                        throw new RuntimeException(e);
+                    }
+                    cache.getImage(chart1, 200, 100);
+                }
+            };
+            threads[i].start();
+        }
+        for (int i = 0; i < threads.length; i++) {
+            threads[i].join();
+        }
+        assertEquals(1, cache.getImageCount());
+        assertEquals(8L, cache.getHitCount() + cache.getMissCount());
+        assertEquals(1, cache.getChartCount());
+
+        cache.getImage(createChart(series), 100, 100);
+        assertEquals(1, cache.getImageCount());
+        assertEquals(1, cache.getChartCount());
+        cache.clear();
+        assertEquals(0, cache.getChartCount());
+    }
+
+}
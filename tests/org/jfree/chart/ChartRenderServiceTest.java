@@ -0,0 +1,177 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------------
+ * ChartRenderServiceTest.java
+ * ---------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.imageio.ImageIO;
+
+import org.jfree.data.general.DefaultPieDataset;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link ChartRenderService} class.
+ */
+public class ChartRenderServiceTest {
+
+    private static JFreeChart createChart() {
+        DefaultPieDataset dataset = new DefaultPieDataset();
+        dataset.setValue("A", 1.0);
+        dataset.setValue("B", 2.0);
+        return ChartFactory.createPieChart("Title", dataset);
+    }
+
+    private static BufferedImage decode(byte[] bytes) throws IOException {
+        return ImageIO.read(new ByteArrayInputStream(bytes));
+    }
+
+    /**
+     * The service should produce the same image as ChartUtilities.
+     */
+    @Test
+    public void testWriteChartAsPNG() throws IOException {
+        JFreeChart chart = createChart();
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        ChartUtilities.writeChartAsPNG(expected, chart, 200, 150);
+        ChartRenderService service = new ChartRenderService();
+        ByteArrayOutputStream actual = new ByteArrayOutputStream();
+        service.writeChartAsPNG(actual, chart, 200, 150, null);
+        BufferedImage e = decode(expected.toByteArray());
+        BufferedImage a = decode(actual.toByteArray());
+        assertEquals(200, a.getWidth());
+        assertEquals(150, a.getHeight());
+        for (int x = 0; x < 200; x++) {
+            for (int y = 0; y < 150; y++) {
+                assertEquals(e.getRGB(x, y), a.getRGB(x, y));
+            }
+        }
+    }
+
+    /**
+     * Images are returned to the pool and reused, and are cleared before
+     * reuse.
+     */
+    @Test
+    public void testPooling() throws IOException {
+        ChartRenderService service = new ChartRenderService(1, 0, 0L, 2);
+        JFreeChart chart = createChart();
+        chart.setBackgroundPaint(Color.RED);
+        service.writeChartAsPNG(new ByteArrayOutputStream(), chart, 100, 80,
+                null);
+        assertEquals(1, service.getPooledImageCount());
+        service.writeChartAsPNG(new ByteArrayOutputStream(), chart, 100, 80,
+                null);
+        assertEquals(1, service.getPooledImageCount());
+        service.writeChartAsPNG(new ByteArrayOutputStream(), chart, 90, 80,
+                null);
+        assertEquals(2, service.getPooledImageCount());
+        service.writeChartAsPNG(new ByteArrayOutputStream(), chart, 80, 80,
+                null);
+        assertEquals(2, service.getPooledImageCount());
+
+        // a chart with no background must not show the previous chart
+        chart.setBackgroundPaint(null);
+        chart.getPlot().setBackgroundPaint(null);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.writeChartAsPNG(out, chart, 100, 80, null);
+        BufferedImage image = decode(out.toByteArray());
+        assertEquals(0, image.getRGB(0, 0) >>> 24);
+        assertEquals(0, image.getRGB(99, 79) >>> 24);
+
+        service.clearPool();
+        assertEquals(0, service.getPooledImageCount());
+    }
+
+    /**
+     * Several threads can use the service at the same time.
+     */
+    @Test
+    public void testConcurrentRendering() throws Exception {
+        final ChartRenderService service = new ChartRenderService(2,
+                Integer.MAX_VALUE, 0L, 4);
+        final List failures = new ArrayList();
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread() {
+                @Override
+                public void run() {
+                    try {
+                        JFreeChart chart = createChart();
+                        for (int j = 0; j < 5; j++) {
+                            ByteArrayOutputStream out
+                                    = new ByteArrayOutputStream();
+                            ChartRenderingInfo info = new ChartRenderingInfo();
+                            service.writeChartAsPNG(out, chart, 120, 100,
+                                    info);
+                            BufferedImage image = decode(out.toByteArray());
+                            if (image.getWidth() != 120
+                                    || info.getEntityCollection()
+                                    .getEntityCount() == 0) {
+                                throw new IllegalStateException();
+                            }
+                        }
+                    }
+                    catch (Exception e) {
+                        synchronized (failures) {
+                            failures.add(e);
+                        }
+                    }
+                }
+            };
+            threads[i].start();
+        }
+        for (int i = 0; i < threads.length; i++) {
+            threads[i].join();
+        }
+        assertTrue(failures.isEmpty());
+        assertTrue(service.getPooledImageCount() <= 2);
+    }
+
+}
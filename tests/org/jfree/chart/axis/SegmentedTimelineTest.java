@@ -37,6 +37,8 @@
  * 24-May-2003 : Version 1 (BK);
  * 07-Jan-2005 : Added test for hashCode() method (DG);
  * 02-Feb-2007 : Removed author tags all over JFreeChart sources (DG);
+ * 16-Oct-2026 : Added tests for the exception segment index and the
+ *               conversion cache;
  *
  */
 
@@ -54,6 +56,8 @@ import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.GregorianCalendar;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
 
 import org.jfree.chart.TestUtilities;
 import org.junit.Before;
@@ -1104,4 +1108,74 @@ public class SegmentedTimelineTest {
 
     }
 
+    /**
+     * The exception segment count is found with an index, so check it
+     * against a count over all the exception segments.
+     */
+    @Test
+    public void testExceptionSegmentCount() {
+        SegmentedTimeline timeline
+                = SegmentedTimeline.newFifteenMinuteTimeline();
+        long start = timeline.getStartTime();
+        long day = SegmentedTimeline.DAY_SEGMENT_SIZE;
+        for (int d = 0; d < 400; d += 3) {
+            long dayStart = start + d * day;
+            if (d % 2 == 0) {
+                timeline.addException(dayStart + 3600000L);
+            }
+            else {
+                timeline.addException(dayStart, dayStart + 7200000L - 1);
+            }
+        }
+        Random random = new Random(11L);
+        for (int i = 0; i < 500; i++) {
+            long from = start + (long) (random.nextDouble() * 420 * day);
+            long to = from + (long) (random.nextDouble() * 60 * day);
+            long expected = 0;
+            List exceptions = timeline.getExceptionSegments();
+            for (Iterator iter = exceptions.iterator(); iter.hasNext();) {
+                SegmentedTimeline.Segment segment
+                        = (SegmentedTimeline.Segment) iter.next();
+                SegmentedTimeline.Segment intersection
+                        = segment.intersect(from, to);
+                if (intersection != null) {
+                    expected += intersection.getSegmentCount();
+                }
+            }
+            assertEquals(expected, timeline.getExceptionSegmentCount(from,
+                    to));
+        }
+        assertEquals(0, timeline.getExceptionSegmentCount(start + day, start));
+    }
+
+    /**
+     * Conversions are cached, so check that the results change when the
+     * timeline is changed.
+     */
+    @Test
+    public void testConversionsAfterChanges() {
+        SegmentedTimeline stl = new SegmentedTimeline(10, 2, 3);
+        stl.setStartTime(946684800000L);  // 1-Jan-2000
+        assertEquals(60, stl.toTimelineValue(946684800150L));
+        assertEquals(946684800150L, stl.toMillisecond(60));
+
+        stl.addException(946684800050L);
+        assertEquals(50, stl.toTimelineValue(946684800150L));
+        assertEquals(946684800160L, stl.toMillisecond(60));
+
+        List exceptions = new ArrayList();
+        stl.setExceptionSegments(exceptions);
+        assertEquals(60, stl.toTimelineValue(946684800150L));
+        assertEquals(946684800150L, stl.toMillisecond(60));
+
+        stl.setStartTime(946684800050L);
+        assertEquals(40, stl.toTimelineValue(946684800150L));
+
+        // repeated conversions give the same results
+        for (int i = 0; i < 40; i++) {
+            assertEquals(i % 20, stl.toTimelineValue(stl.toMillisecond(
+                    i % 20)));
+        }
+    }
+
 }
@@ -0,0 +1,220 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------------
+ * StreamingPNGEncoderTest.java
+ * ----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+
+package org.jfree.chart.encoders;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.Adler32;
+import java.util.zip.Deflater;
+
+import javax.imageio.ImageIO;
+
+import org.junit.Test;
+
+/**
+ * Tests for the {@link StreamingPNGEncoder} class.
+ */
+public class StreamingPNGEncoderTest {
+
+    /**
+     * Encodes an image, decodes the result and checks that the pixels match.
+     */
+    private static byte[] checkRoundTrip(StreamingPNGEncoder encoder,
+            BufferedImage image) throws IOException {
+        byte[] bytes = encoder.encode(image);
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(bytes));
+        assertEquals(image.getWidth(), decoded.getWidth());
+        assertEquals(image.getHeight(), decoded.getHeight());
+        boolean alpha = encoder.isEncodingAlpha()
+                && image.getColorModel().hasAlpha();
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < image.getWidth(); x++) {
+                int expected = image.getRGB(x, y);
+                if (!alpha) {
+                    expected |= 0xFF000000;
+                }
+                assertEquals(expected, decoded.getRGB(x, y));
+            }
+        }
+        return bytes;
+    }
+
+    private static BufferedImage createChartLikeImage(int type, int w,
+            int h) {
+        BufferedImage image = new BufferedImage(w, h, type);
+        Graphics2D g2 = image.createGraphics();
+        g2.setColor(Color.WHITE);
+        g2.fillRect(0, 0, w, h);
+        g2.setColor(Color.RED);
+        g2.fillRect(w / 4, h / 4, w / 2, h / 2);
+        g2.setColor(new Color(0, 0, 255, 128));
+        g2.fillRect(0, h / 2, w, h / 8);
+        g2.dispose();
+        return image;
+    }
+
+    private static BufferedImage createNoiseImage(int type, int w, int h) {
+        BufferedImage image = new BufferedImage(w, h, type);
+        Random random = new Random(1L);
+        for (int y = 0; y < h; y++) {
+            for (int x = 0; x < w; x++) {
+                int rgb = (x * 255 / w) << 16 | (y * 255 / h) << 8
+                        | random.nextInt(256);
+                image.setRGB(x, y, (random.nextInt(256) << 24) | rgb);
+            }
+        }
+        return image;
+    }
+
+    /**
+     * Images with few colors are written with a palette.
+     */
+    @Test
+    public void testPalette() throws IOException {
+        StreamingPNGEncoder encoder = new StreamingPNGEncoder();
+        BufferedImage image = createChartLikeImage(
+                BufferedImage.TYPE_INT_ARGB, 101, 37);
+        byte[] indexed = checkRoundTrip(encoder, image);
+        assertEquals(3, indexed[25]);  // the color type in the IHDR chunk
+        encoder.setEncodingAlpha(true);
+        checkRoundTrip(encoder, image);
+        encoder.setPaletteEnabled(false);
+        byte[] rgba = checkRoundTrip(encoder, image);
+        assertEquals(6, rgba[25]);
+        assertTrue(indexed.length < rgba.length);
+
+        // two colors gives a bit depth of one
+        BufferedImage bw = new BufferedImage(13, 5,
+                BufferedImage.TYPE_INT_RGB);
+        bw.setRGB(3, 2, 0xFFFFFF);
+        byte[] bytes = checkRoundTrip(new StreamingPNGEncoder(), bw);
+        assertEquals(1, bytes[24]);
+    }
+
+    /**
+     * Each filter, with and without alpha, gives the same pixels.
+     */
+    @Test
+    public void testFilters() throws IOException {
+        BufferedImage image = createNoiseImage(BufferedImage.TYPE_INT_ARGB,
+                67, 41);
+        StreamingPNGEncoder encoder = new StreamingPNGEncoder();
+        for (int f = StreamingPNGEncoder.FILTER_NONE;
+                f <= StreamingPNGEncoder.FILTER_ADAPTIVE; f++) {
+            encoder.setFilter(f);
+            encoder.setEncodingAlpha(false);
+            checkRoundTrip(encoder, image);
+            encoder.setEncodingAlpha(true);
+            checkRoundTrip(encoder, image);
+        }
+        encoder.setDeflateStrategy(Deflater.HUFFMAN_ONLY);
+        encoder.setQuality(1f);
+        checkRoundTrip(encoder, image);
+        encoder.setQuality(0f);
+        checkRoundTrip(encoder, image);
+    }
+
+    /**
+     * Images that are not read directly from the data buffer.
+     */
+    @Test
+    public void testOtherImageTypes() throws IOException {
+        StreamingPNGEncoder encoder = new StreamingPNGEncoder();
+        encoder.setEncodingAlpha(true);
+        checkRoundTrip(encoder, createNoiseImage(
+                BufferedImage.TYPE_3BYTE_BGR, 30, 20));
+        checkRoundTrip(encoder, createChartLikeImage(
+                BufferedImage.TYPE_INT_ARGB_PRE, 30, 20));
+        BufferedImage image = createNoiseImage(BufferedImage.TYPE_INT_RGB,
+                50, 40);
+        checkRoundTrip(encoder, image.getSubimage(7, 5, 30, 20));
+    }
+
+    /**
+     * Parallel compression gives the same pixels.
+     */
+    @Test
+    public void testParallel() throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            StreamingPNGEncoder encoder = new StreamingPNGEncoder();
+            encoder.setExecutor(executor);
+            checkRoundTrip(encoder, createNoiseImage(
+                    BufferedImage.TYPE_INT_RGB, 300, 1000));
+            encoder.setEncodingAlpha(true);
+            checkRoundTrip(encoder, createNoiseImage(
+                    BufferedImage.TYPE_INT_ARGB, 200, 1000));
+            checkRoundTrip(encoder, createChartLikeImage(
+                    BufferedImage.TYPE_INT_ARGB, 2000, 2000));
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Check the combination of Adler-32 checksums.
+     */
+    @Test
+    public void testCombineAdler32() {
+        byte[] data = new byte[100000];
+        new Random(2L).nextBytes(data);
+        Adler32 all = new Adler32();
+        all.update(data);
+        Adler32 first = new Adler32();
+        first.update(data, 0, 70000);
+        Adler32 second = new Adler32();
+        second.update(data, 70000, 30000);
+        assertEquals(all.getValue(), StreamingPNGEncoder.combineAdler32(
+                first.getValue(), second.getValue(), 30000));
+    }
+
+}
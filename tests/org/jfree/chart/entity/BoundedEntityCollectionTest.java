@@ -0,0 +1,224 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------------
+ * BoundedEntityCollectionTest.java
+ * --------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.entity;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.Iterator;
+
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.TestUtilities;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.labels.StandardXYToolTipGenerator;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link BoundedEntityCollection} class.
+ */
+public class BoundedEntityCollectionTest {
+
+    /**
+     * Confirm that the equals method can distinguish all the required fields.
+     */
+    @Test
+    public void testEquals() {
+        BoundedEntityCollection c1 = new BoundedEntityCollection(10, false,
+                false);
+        BoundedEntityCollection c2 = new BoundedEntityCollection(10, false,
+                false);
+        assertTrue(c1.equals(c2));
+
+        c1 = new BoundedEntityCollection(11, false, false);
+        assertFalse(c1.equals(c2));
+        c2 = new BoundedEntityCollection(11, false, false);
+        assertTrue(c1.equals(c2));
+
+        c1 = new BoundedEntityCollection(11, true, false);
+        assertFalse(c1.equals(c2));
+        c2 = new BoundedEntityCollection(11, true, false);
+        assertTrue(c1.equals(c2));
+
+        c1 = new BoundedEntityCollection(11, true, true);
+        assertFalse(c1.equals(c2));
+        c2 = new BoundedEntityCollection(11, true, true);
+        assertTrue(c1.equals(c2));
+
+        c1.add(new ChartEntity(new Rectangle2D.Double(1.0, 2.0, 3.0, 4.0)));
+        assertFalse(c1.equals(c2));
+        c2.add(new ChartEntity(new Rectangle2D.Double(1.0, 2.0, 3.0, 4.0)));
+        assertTrue(c1.equals(c2));
+    }
+
+    /**
+     * Two objects that are equal are required to return the same hashCode.
+     */
+    @Test
+    public void testHashCode() {
+        BoundedEntityCollection c1 = new BoundedEntityCollection(10, true,
+                false);
+        BoundedEntityCollection c2 = new BoundedEntityCollection(10, true,
+                false);
+        c1.add(new ChartEntity(new Rectangle2D.Double(1.0, 2.0, 3.0, 4.0)));
+        c2.add(new ChartEntity(new Rectangle2D.Double(1.0, 2.0, 3.0, 4.0)));
+        assertTrue(c1.equals(c2));
+        assertEquals(c1.hashCode(), c2.hashCode());
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        BoundedEntityCollection c1 = new BoundedEntityCollection(10, true,
+                false);
+        assertTrue(c1.claimItemEntity(1.5, 1.5));
+        BoundedEntityCollection c2 = (BoundedEntityCollection) c1.clone();
+        assertTrue(c1 != c2);
+        assertTrue(c1.getClass() == c2.getClass());
+        assertTrue(c1.equals(c2));
+
+        // check independence
+        assertTrue(c1.claimItemEntity(2.5, 2.5));
+        assertEquals(1, c2.getItemEntityCount());
+        assertTrue(c2.claimItemEntity(2.5, 2.5));
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        BoundedEntityCollection c1 = new BoundedEntityCollection(10, true,
+                true);
+        c1.add(new ChartEntity(new Rectangle2D.Double(1.0, 2.0, 3.0, 4.0)));
+        assertTrue(c1.claimItemEntity(1.5, 1.5));
+        BoundedEntityCollection c2 = (BoundedEntityCollection)
+                TestUtilities.serialised(c1);
+        assertEquals(c1, c2);
+
+        // the claims are not serialized, so the count and the pixel set
+        // start afresh together
+        assertEquals(0, c2.getItemEntityCount());
+        assertTrue(c2.claimItemEntity(1.5, 1.5));
+        assertEquals(1, c2.getItemEntityCount());
+    }
+
+    /**
+     * Some checks for the claimItemEntity() method.
+     */
+    @Test
+    public void testClaimItemEntity() {
+        BoundedEntityCollection c = new BoundedEntityCollection(3, false,
+                false);
+        assertTrue(c.claimItemEntity(1.0, 1.0));
+        assertTrue(c.claimItemEntity(1.0, 1.0));
+        assertTrue(c.claimItemEntity(2.0, 1.0));
+        assertFalse(c.claimItemEntity(3.0, 1.0));
+        c.clear();
+        assertTrue(c.claimItemEntity(3.0, 1.0));
+
+        c = new BoundedEntityCollection(Integer.MAX_VALUE, true, false);
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(c.claimItemEntity(i, -i + 0.5));
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertFalse(c.claimItemEntity(i + 0.9, -i + 0.1));
+        }
+        assertEquals(1000, c.getItemEntityCount());
+    }
+
+    /**
+     * Draws a chart with a bounded collection, and checks that the limits
+     * are applied and that lazy entities generate their tool tips.
+     */
+    @Test
+    public void testDrawWithBoundedCollection() {
+        XYSeries series = new XYSeries("S1");
+        for (int i = 0; i < 10000; i++) {
+            series.add(i, i % 10);
+        }
+        XYLineAndShapeRenderer renderer = new XYLineAndShapeRenderer();
+        StandardXYToolTipGenerator generator
+                = new StandardXYToolTipGenerator();
+        renderer.setBaseToolTipGenerator(generator);
+        XYPlot plot = new XYPlot(new XYSeriesCollection(series),
+                new NumberAxis("X"), new NumberAxis("Y"), renderer);
+        JFreeChart chart = new JFreeChart(plot);
+        BufferedImage image = new BufferedImage(200, 100,
+                BufferedImage.TYPE_INT_RGB);
+
+        BoundedEntityCollection entities = new BoundedEntityCollection(
+                Integer.MAX_VALUE, true, true);
+        ChartRenderingInfo info = new ChartRenderingInfo(entities);
+        chart.draw(image.createGraphics(), new Rectangle2D.Double(0, 0, 200,
+                100), info);
+        int itemEntities = 0;
+        Iterator iterator = entities.iterator();
+        while (iterator.hasNext()) {
+            ChartEntity entity = (ChartEntity) iterator.next();
+            if (entity instanceof XYItemEntity) {
+                itemEntities++;
+                XYItemEntity xy = (XYItemEntity) entity;
+                assertEquals(generator.generateToolTip(xy.getDataset(), 0,
+                        xy.getItem()), entity.getToolTipText());
+            }
+        }
+        assertEquals(entities.getItemEntityCount(), itemEntities);
+        assertTrue(itemEntities > 0);
+        assertTrue(itemEntities < 10000);
+
+        entities = new BoundedEntityCollection(50, false, false);
+        info = new ChartRenderingInfo(entities);
+        chart.draw(image.createGraphics(), new Rectangle2D.Double(0, 0, 200,
+                100), info);
+        assertEquals(50, entities.getItemEntityCount());
+    }
+
+}
@@ -35,6 +35,7 @@
  * Changes
  * -------
  * 19-May-2004 : Version 1 (DG);
+ * 16-Oct-2026 : Added testGetEntityAtPoint();
  *
  */
 
@@ -42,9 +43,12 @@ package org.jfree.chart.entity;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.awt.geom.Ellipse2D;
 import java.awt.geom.Rectangle2D;
+import java.util.Random;
 
 import org.jfree.chart.TestUtilities;
 
@@ -114,4 +118,52 @@ public class StandardEntityCollectionTest {
         assertEquals(c1, c2);
     }
 
+    /**
+     * Checks that getEntity(double, double) finds the same (topmost) entity
+     * with the spatial index as a search through the whole list.
+     */
+    @Test
+    public void testGetEntityAtPoint() {
+        StandardEntityCollection c = new StandardEntityCollection();
+        c.add(new ChartEntity(new Rectangle2D.Double(0.0, 0.0, 500.0,
+                400.0)));
+        Random random = new Random(123L);
+        for (int i = 0; i < 2000; i++) {
+            double x = random.nextDouble() * 480.0;
+            double y = random.nextDouble() * 380.0;
+            double w = random.nextDouble() * 20.0;
+            if (i % 2 == 0) {
+                c.add(new ChartEntity(new Rectangle2D.Double(x, y, w, w)));
+            }
+            else {
+                c.add(new ChartEntity(new Ellipse2D.Double(x, y, w, w)));
+            }
+            if (i == 1000) {
+                // a large entity in the middle of the list
+                c.add(new ChartEntity(new Rectangle2D.Double(100.0, 100.0,
+                        200.0, 200.0)));
+            }
+        }
+        for (int i = 0; i < 5000; i++) {
+            double x = random.nextDouble() * 520.0 - 10.0;
+            double y = random.nextDouble() * 420.0 - 10.0;
+            ChartEntity expected = null;
+            for (int j = c.getEntityCount() - 1; j >= 0; j--) {
+                if (c.getEntity(j).getArea().contains(x, y)) {
+                    expected = c.getEntity(j);
+                    break;
+                }
+            }
+            assertSame(expected, c.getEntity(x, y));
+        }
+
+        // the index is discarded when an entity is added
+        ChartEntity top = new ChartEntity(new Rectangle2D.Double(10.0, 10.0,
+                1.0, 1.0));
+        c.add(top);
+        assertSame(top, c.getEntity(10.5, 10.5));
+        c.clear();
+        assertEquals(null, c.getEntity(10.5, 10.5));
+    }
+
 }
@@ -69,8 +69,10 @@ import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import org.jfree.chart.ChartFactory;
+import org.jfree.chart.ChartRenderingInfo;
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.LegendItem;
 import org.jfree.chart.LegendItemCollection;
@@ -82,14 +84,18 @@ import org.jfree.chart.axis.NumberAxis;
 import org.jfree.chart.event.MarkerChangeListener;
 import org.jfree.chart.labels.StandardXYToolTipGenerator;
 import org.jfree.chart.renderer.xy.DefaultXYItemRenderer;
+import org.jfree.chart.renderer.xy.StackedXYAreaRenderer;
+import org.jfree.chart.renderer.xy.StackedXYAreaRenderer2;
 import org.jfree.chart.renderer.xy.StandardXYItemRenderer;
 import org.jfree.chart.renderer.xy.XYBarRenderer;
 import org.jfree.chart.renderer.xy.XYItemRenderer;
 import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.chart.renderer.xy.XYStepAreaRenderer;
 import org.jfree.chart.util.DefaultShadowGenerator;
 import org.jfree.data.time.Day;
 import org.jfree.data.time.TimeSeries;
 import org.jfree.data.time.TimeSeriesCollection;
+import org.jfree.data.xy.DefaultTableXYDataset;
 import org.jfree.data.xy.DefaultXYDataset;
 import org.jfree.data.xy.IntervalXYDataset;
 import org.jfree.data.xy.XYDataset;
@@ -425,6 +431,12 @@ public class XYPlotTest {
         plot2.setShadowGenerator(null);
         assertTrue(plot1.equals(plot2));
 
+        // parallelRendering
+        plot1.setParallelRendering(true);
+        assertFalse(plot1.equals(plot2));
+        plot2.setParallelRendering(true);
+        assertTrue(plot1.equals(plot2));
+
         LegendItemCollection lic1 = new LegendItemCollection();
         lic1.add(new LegendItem("XYZ", Color.red));
         plot1.setFixedLegendItems(lic1);
@@ -1067,6 +1079,102 @@ public class XYPlotTest {
         }
     }
 
+    /**
+     * Drawing with parallel rendering switched on should give the same image
+     * as drawing sequentially (antialiasing is switched off, since blending
+     * edge pixels through a tile can round differently).
+     */
+    @Test
+    public void testParallelRendering() {
+        DefaultXYDataset dataset = new DefaultXYDataset();
+        dataset.addSeries("S1", new double[][] {{1.0, 2.0, 3.0},
+                {3.0, 4.0, 1.0}});
+        dataset.addSeries("S2", new double[][] {{}, {}});
+        dataset.addSeries("S3", new double[][] {{1.0, 2.0, 3.0},
+                {4.0, 1.0, 3.0}});
+        JFreeChart chart = ChartFactory.createXYLineChart("Title", "X", "Y",
+                dataset, PlotOrientation.VERTICAL, true, false, false);
+        chart.setAntiAlias(false);
+        XYPlot plot = (XYPlot) chart.getPlot();
+        ((XYLineAndShapeRenderer) plot.getRenderer()).setBaseShapesVisible(
+                true);
+        BufferedImage image1 = chart.createBufferedImage(300, 200);
+        plot.setParallelRendering(true);
+        BufferedImage image2 = chart.createBufferedImage(300, 200);
+
+        // a single worker renders one tile at a time
+        ForkJoinPool pool = new ForkJoinPool(1);
+        plot.setRenderingPool(pool);
+        BufferedImage image3 = chart.createBufferedImage(300, 200);
+        pool.shutdown();
+        for (int x = 0; x < 300; x++) {
+            for (int y = 0; y < 200; y++) {
+                assertEquals(image1.getRGB(x, y), image2.getRGB(x, y));
+                assertEquals(image1.getRGB(x, y), image3.getRGB(x, y));
+            }
+        }
+    }
+
+    /**
+     * Creates a dataset with three series for the stacked renderers.
+     *
+     * @param offset  an offset for the y-values.
+     *
+     * @return The dataset.
+     */
+    private DefaultTableXYDataset createTableXYDataset(double offset) {
+        DefaultTableXYDataset dataset = new DefaultTableXYDataset();
+        for (int s = 0; s < 3; s++) {
+            XYSeries series = new XYSeries("S" + s, true, false);
+            for (int i = 0; i < 10; i++) {
+                series.add(i, offset + (i * (s + 1)) % 7 + 1.0);
+            }
+            dataset.addSeries(series);
+        }
+        return dataset;
+    }
+
+    /**
+     * Renderers that carry state from one series to the next (the stacked
+     * renderers) or keep drawing state in their fields are drawn a dataset
+     * at a time, and parallel rendering gives the same image as sequential
+     * rendering.  Tiles are also used when rendering info without an entity
+     * collection is supplied.
+     */
+    @Test
+    public void testParallelRenderingStacked() {
+        XYPlot plot = new XYPlot(createTableXYDataset(0.0), new NumberAxis("X"),
+                new NumberAxis("Y"), new StackedXYAreaRenderer());
+        plot.setDataset(1, createTableXYDataset(5.0));
+        plot.setRenderer(1, new StackedXYAreaRenderer2());
+        plot.setDataset(2, createTableXYDataset(10.0));
+        plot.setRenderer(2, new XYStepAreaRenderer());
+        plot.setDataset(3, createTableXYDataset(15.0));
+        plot.setRenderer(3, new XYLineAndShapeRenderer());
+        JFreeChart chart = new JFreeChart(plot);
+        chart.setAntiAlias(false);
+        BufferedImage image1 = chart.createBufferedImage(400, 300);
+        plot.setParallelRendering(true);
+        BufferedImage image2 = chart.createBufferedImage(400, 300, null);
+        BufferedImage image3 = chart.createBufferedImage(400, 300,
+                new ChartRenderingInfo(null));
+
+        // a stateful renderer shared by two datasets falls back to
+        // sequential rendering
+        plot.setRenderer(3, null);
+        plot.setParallelRendering(false);
+        BufferedImage image4 = chart.createBufferedImage(400, 300);
+        plot.setParallelRendering(true);
+        BufferedImage image5 = chart.createBufferedImage(400, 300);
+        for (int x = 0; x < 400; x++) {
+            for (int y = 0; y < 300; y++) {
+                assertEquals(image1.getRGB(x, y), image2.getRGB(x, y));
+                assertEquals(image1.getRGB(x, y), image3.getRGB(x, y));
+                assertEquals(image4.getRGB(x, y), image5.getRGB(x, y));
+            }
+        }
+    }
+
     /**
      * Check that removing a marker that isn't assigned to the plot returns
      * false.
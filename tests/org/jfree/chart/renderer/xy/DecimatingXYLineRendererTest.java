@@ -0,0 +1,174 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------------------
+ * DecimatingXYLineRendererTest.java
+ * ---------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.renderer.xy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.Color;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.TestUtilities;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.plot.CrosshairState;
+import org.jfree.chart.plot.PlotRenderingInfo;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.axis.ValueAxis;
+import org.jfree.data.xy.XYDataset;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.jfree.util.PublicCloneable;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link DecimatingXYLineRenderer} class.
+ */
+public class DecimatingXYLineRendererTest {
+
+    /**
+     * Check that the equals() method distinguishes all fields.
+     */
+    @Test
+    public void testEquals() {
+        DecimatingXYLineRenderer r1 = new DecimatingXYLineRenderer();
+        DecimatingXYLineRenderer r2 = new DecimatingXYLineRenderer();
+        assertEquals(r1, r2);
+
+        r1.setSeriesPaint(0, Color.red);
+        assertFalse(r1.equals(r2));
+        r2.setSeriesPaint(0, Color.red);
+        assertTrue(r1.equals(r2));
+
+        r1.setBaseLegendShape(new Rectangle2D.Double(1.0, 2.0, 3.0, 4.0));
+        assertFalse(r1.equals(r2));
+        r2.setBaseLegendShape(new Rectangle2D.Double(1.0, 2.0, 3.0, 4.0));
+        assertTrue(r1.equals(r2));
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        DecimatingXYLineRenderer r1 = new DecimatingXYLineRenderer();
+        DecimatingXYLineRenderer r2 = (DecimatingXYLineRenderer) r1.clone();
+        assertTrue(r1 != r2);
+        assertTrue(r1.getClass() == r2.getClass());
+        assertTrue(r1.equals(r2));
+    }
+
+    /**
+     * Verify that this class implements {@link PublicCloneable}.
+     */
+    @Test
+    public void testPublicCloneable() {
+        DecimatingXYLineRenderer r1 = new DecimatingXYLineRenderer();
+        assertTrue(r1 instanceof PublicCloneable);
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        DecimatingXYLineRenderer r1 = new DecimatingXYLineRenderer();
+        DecimatingXYLineRenderer r2 = (DecimatingXYLineRenderer)
+                TestUtilities.serialised(r1);
+        assertEquals(r1, r2);
+    }
+
+    /**
+     * A renderer that counts the calls to drawItem().
+     */
+    static class CountingRenderer extends DecimatingXYLineRenderer {
+        int calls;
+        @Override
+        public void drawItem(java.awt.Graphics2D g2,
+                XYItemRendererState state, Rectangle2D dataArea,
+                PlotRenderingInfo info, XYPlot plot, ValueAxis domainAxis,
+                ValueAxis rangeAxis, XYDataset dataset, int series, int item,
+                CrosshairState crosshairState, int pass) {
+            this.calls++;
+            super.drawItem(g2, state, dataArea, info, plot, domainAxis,
+                    rangeAxis, dataset, series, item, crosshairState, pass);
+        }
+    }
+
+    /**
+     * Draws a chart with large sorted and unsorted series, and checks that
+     * the plot only passes the first item of each series to the renderer.
+     */
+    @Test
+    public void testDrawLargeSeries() {
+        XYSeries s1 = new XYSeries("S1", true, true, true);
+        XYSeries s2 = new XYSeries("S2", false, true);
+        for (int i = 0; i < 200000; i++) {
+            s1.add(i, Math.sin(i / 100.0) + (i % 7 == 0 ? 1.0 : 0.0));
+            s2.add(199999 - i, i % 3 == 0 ? null : new Double(i % 11));
+        }
+        XYSeriesCollection dataset = new XYSeriesCollection();
+        dataset.addSeries(s1);
+        dataset.addSeries(s2);
+        CountingRenderer r = new CountingRenderer();
+        XYPlot plot = new XYPlot(dataset, new NumberAxis("X"),
+                new NumberAxis("Y"), r);
+        JFreeChart chart = new JFreeChart(plot);
+        BufferedImage image = new BufferedImage(400, 300,
+                BufferedImage.TYPE_INT_RGB);
+        chart.draw(image.createGraphics(), new Rectangle2D.Double(0, 0, 400,
+                300));
+        assertEquals(2, r.calls);
+
+        // zoom in, then switch to a horizontal orientation
+        plot.getDomainAxis().setRange(1000.0, 2000.0);
+        r.calls = 0;
+        chart.draw(image.createGraphics(), new Rectangle2D.Double(0, 0, 400,
+                300));
+        assertEquals(2, r.calls);
+        plot.setOrientation(org.jfree.chart.plot.PlotOrientation.HORIZONTAL);
+        chart.draw(image.createGraphics(), new Rectangle2D.Double(0, 0, 400,
+                300));
+    }
+
+}
@@ -0,0 +1,269 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------
+ * ChartImageCacheTest.java
+ * ------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.servlet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Test;
+
+/**
+ * Tests for the {@link ChartImageCache} class.
+ */
+public class ChartImageCacheTest {
+
+    /**
+     * Some checks for the put(), get() and remove() methods.
+     */
+    @Test
+    public void testPutAndGet() throws Exception {
+        ChartImageCache cache = new ChartImageCache();
+        ChartImage image = cache.put("A", new byte[] {1, 2, 3}, "image/png");
+        assertSame(image, cache.get("A"));
+        assertEquals("image/png", image.getMimeType());
+        assertEquals(3L, cache.getByteCount());
+        assertNull(cache.get("B"));
+
+        // identical content gives the same entity tag
+        ChartImage image2 = cache.put("B", new byte[] {1, 2, 3}, "image/png");
+        assertEquals(image.getETag(), image2.getETag());
+        ChartImage image3 = cache.put("B", new byte[] {1, 2, 4}, "image/png");
+        assertFalse(image.getETag().equals(image3.getETag()));
+        assertEquals(6L, cache.getByteCount());
+
+        assertTrue(cache.remove("A"));
+        assertFalse(cache.remove("A"));
+        assertNull(cache.get("A"));
+        assertEquals(3L, cache.getByteCount());
+    }
+
+    /**
+     * The least recently used images are discarded when the size limit is
+     * exceeded.
+     */
+    @Test
+    public void testEviction() throws Exception {
+        ChartImageCache cache = new ChartImageCache(10, 60000L, null);
+        cache.put("A", new byte[4], "image/png");
+        cache.put("B", new byte[4], "image/png");
+        cache.get("A");
+        cache.put("C", new byte[4], "image/png");
+        assertNotNull(cache.get("A"));
+        assertNull(cache.get("B"));
+        assertNotNull(cache.get("C"));
+        assertEquals(8L, cache.getByteCount());
+        assertEquals(2, cache.getImageCount());
+    }
+
+    /**
+     * Images evicted from memory are read back from the spill directory.
+     */
+    @Test
+    public void testSpill() throws Exception {
+        File dir = new File(System.getProperty("java.io.tmpdir"),
+                "jfreechart-cache-test-" + System.nanoTime());
+        ChartImageCache cache = new ChartImageCache(4, 60000L, dir);
+        ChartImage a = cache.put("A", new byte[] {1, 2, 3}, "image/png");
+        cache.put("B", new byte[] {4, 5, 6}, "image/jpeg");
+        assertEquals(3L, cache.getByteCount());
+        assertEquals(1, dir.listFiles().length);
+        ChartImage a2 = cache.get("A");
+        assertTrue(Arrays.equals(a.getData(), a2.getData()));
+        assertEquals(a.getETag(), a2.getETag());
+        assertEquals("image/png", a2.getMimeType());
+        cache.clear();
+        assertEquals(0, dir.listFiles().length);
+        assertEquals(0L, cache.getByteCount());
+        dir.delete();
+    }
+
+    /**
+     * An image that is being written to the spill directory can still be
+     * read, and removing it meanwhile leaves no file behind.
+     */
+    @Test
+    public void testSpillRemoved() throws Exception {
+        File dir = new File(System.getProperty("java.io.tmpdir"),
+                "jfreechart-cache-test-" + System.nanoTime());
+        ChartImageCache cache = new ChartImageCache(100, 60000L, dir);
+        cache.put("A", new byte[60], "image/png");
+        cache.put("B", new byte[60], "image/png");
+        assertEquals(60L, cache.getByteCount());
+        assertEquals(1, dir.listFiles().length);
+        assertEquals(60, cache.get("A").getData().length);
+        assertTrue(cache.remove("A"));
+        assertEquals(0, dir.listFiles().length);
+        cache.setMaxBytes(0L);
+        assertEquals(0L, cache.getByteCount());
+        assertEquals(1, dir.listFiles().length);
+        assertEquals(60, cache.get("B").getData().length);
+        cache.clear();
+        assertEquals(0, dir.listFiles().length);
+        dir.delete();
+    }
+
+    /**
+     * A shared image stays in the cache until every session that acquired
+     * it has released it.
+     */
+    @Test
+    public void testSharedImageRelease() throws Exception {
+        ChartImageCache saved = ServletUtilities.getImageCache();
+        ChartImageCache cache = new ChartImageCache();
+        ServletUtilities.setImageCache(cache);
+        try {
+            cache.put("S", new byte[] {1}, "image/png");
+            cache.put("T", new byte[] {2}, "image/png");
+            assertTrue(cache.acquire("S"));
+            assertTrue(cache.acquire("S"));
+            assertFalse(cache.acquire("X"));
+            ChartDeleter d1 = new ChartDeleter();
+            d1.addChart("S");
+            d1.addChart("T");
+            ChartDeleter d2 = new ChartDeleter();
+            d2.addChart("S");
+
+            // the first session expires
+            d1.valueUnbound(null);
+            assertNotNull(cache.get("S"));
+            assertNull(cache.get("T"));
+
+            // the second session expires
+            d2.valueUnbound(null);
+            assertNull(cache.get("S"));
+            assertEquals(0L, cache.getByteCount());
+        }
+        finally {
+            ServletUtilities.setImageCache(saved);
+        }
+    }
+
+    /**
+     * Images that are not used within the time-to-live are discarded.
+     */
+    @Test
+    public void testTimeToLive() throws Exception {
+        ChartImageCache cache = new ChartImageCache(1000, 1L, null);
+        cache.put("A", new byte[4], "image/png");
+        Thread.sleep(20L);
+        assertNull(cache.get("A"));
+        assertEquals(0L, cache.getByteCount());
+    }
+
+    /**
+     * Concurrent renderings with the same key are shared.
+     */
+    @Test
+    public void testRenderShared() throws Exception {
+        final ChartImageCache cache = new ChartImageCache();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final int[] count = new int[1];
+        final Callable task = new Callable() {
+            @Override
+            public Object call() throws Exception {
+                synchronized (count) {
+                    count[0]++;
+                }
+                started.countDown();
+                release.await();
+                return cache.put("X", new byte[1], "image/png");
+            }
+        };
+        final ChartImage[] result = new ChartImage[1];
+        Thread t = new Thread() {
+            @Override
+            public void run() {
+                try {
+                    result[0] = cache.render("key", task);
+                }
+                catch (Exception e) {
+                    // checked below
+                }
+            }
+        };
+        t.start();
+        started.await();
+        Thread waiter = new Thread() {
+            @Override
+            public void run() {
+                try {
+                    Thread.sleep(50L);
+                }
+                catch (InterruptedException e) {
+                    // ignore
+                }
+                release.countDown();
+            }
+        };
+        waiter.start();
+        ChartImage image = cache.render("key", task);
+        t.join();
+        assertSame(image, result[0]);
+        assertEquals(1, count[0]);
+
+        // once finished, a new request renders again
+        cache.render("key", task);
+        assertEquals(2, count[0]);
+    }
+
+    /**
+     * Some checks for the If-None-Match matching.
+     */
+    @Test
+    public void testETagMatched() {
+        assertFalse(ServletUtilities.isETagMatched(null, "\"a\""));
+        assertTrue(ServletUtilities.isETagMatched("\"a\"", "\"a\""));
+        assertTrue(ServletUtilities.isETagMatched("\"b\", W/\"a\"", "\"a\""));
+        assertTrue(ServletUtilities.isETagMatched("*", "\"a\""));
+        assertFalse(ServletUtilities.isETagMatched("\"b\"", "\"a\""));
+    }
+
+}
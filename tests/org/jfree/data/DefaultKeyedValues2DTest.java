@@ -41,6 +41,7 @@
  * 26-Feb-2007 : Added some basic tests (DG);
  * 30-Mar-2007 : Added a test for bug 1690654 (DG);
  * 21-Nov-2007 : Added testRemoveColumnByKey() method (DG);
+ * 16-Oct-2026 : Added testSetValues() and testIndicesAfterRemoval();
  *
  */
 
@@ -50,6 +51,10 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+
+import java.util.Arrays;
+import java.util.List;
+
 import org.jfree.chart.TestUtilities;
 import org.junit.Test;
 
@@ -332,4 +337,81 @@ public class DefaultKeyedValues2DTest {
         assertTrue(pass);
     }
 
+    /**
+     * Some checks for the setValues() method.
+     */
+    @Test
+    public void testSetValues() {
+        DefaultKeyedValues2D d = new DefaultKeyedValues2D();
+        d.addValue(new Double(9.0), "R2", "C0");
+        List rowKeys = Arrays.asList(new String[] {"R1", "R2"});
+        List columnKeys = Arrays.asList(new String[] {"C1", "C2", "C3"});
+        d.setValues(rowKeys, columnKeys, new double[][] {{1.0, 2.0, 3.0},
+                {4.0, 5.0, 6.0}});
+
+        DefaultKeyedValues2D expected = new DefaultKeyedValues2D();
+        expected.addValue(new Double(9.0), "R2", "C0");
+        for (int r = 0; r < 2; r++) {
+            for (int c = 0; c < 3; c++) {
+                expected.addValue(new Double(r * 3 + c + 1),
+                        (Comparable) rowKeys.get(r),
+                        (Comparable) columnKeys.get(c));
+            }
+        }
+        assertEquals(expected, d);
+        assertEquals(Arrays.asList(new String[] {"R2", "R1"}),
+                d.getRowKeys());
+        assertEquals(Arrays.asList(new String[] {"C0", "C1", "C2", "C3"}),
+                d.getColumnKeys());
+        assertEquals(3, d.getColumnIndex("C3"));
+        assertNull(d.getValue("R1", "C0"));
+
+        boolean pass = false;
+        try {
+            d.setValues(rowKeys, columnKeys, new double[][] {{1.0}});
+        }
+        catch (IllegalArgumentException e) {
+            pass = true;
+        }
+        assertTrue(pass);
+    }
+
+    /**
+     * The row and column indices must stay correct when rows and columns
+     * are removed, and after cloning and serialization.
+     */
+    @Test
+    public void testIndicesAfterRemoval() throws CloneNotSupportedException {
+        DefaultKeyedValues2D d = new DefaultKeyedValues2D();
+        d.addValue(new Double(1.0), "R1", "C1");
+        d.addValue(new Double(2.0), "R2", "C2");
+        d.addValue(new Double(3.0), "R3", "C3");
+        d.removeRow("R1");
+        assertEquals(0, d.getRowIndex("R2"));
+        assertEquals(1, d.getRowIndex("R3"));
+        assertEquals(-1, d.getRowIndex("R1"));
+        d.removeColumn("C2");
+        assertEquals(1, d.getColumnIndex("C3"));
+        assertEquals(-1, d.getColumnIndex("C2"));
+        d.removeValue("R3", "C3");
+        assertEquals(-1, d.getRowIndex("R3"));
+        assertEquals(-1, d.getColumnIndex("C3"));
+        d.addValue(new Double(4.0), "R4", "C4");
+        assertEquals(1, d.getRowIndex("R4"));
+        assertEquals(1, d.getColumnIndex("C4"));
+
+        DefaultKeyedValues2D d2 = (DefaultKeyedValues2D) d.clone();
+        d2.addValue(new Double(5.0), "R5", "C5");
+        assertEquals(-1, d.getRowIndex("R5"));
+        assertEquals(2, d2.getRowIndex("R5"));
+
+        DefaultKeyedValues2D d3 = (DefaultKeyedValues2D)
+                TestUtilities.serialised(d);
+        assertEquals(1, d3.getRowIndex("R4"));
+        assertEquals(1, d3.getColumnIndex("C4"));
+        d3.clear();
+        assertEquals(-1, d3.getRowIndex("R4"));
+        assertEquals(-1, d3.getColumnIndex("C4"));
+    }
+
 }
@@ -37,6 +37,7 @@
  * 01-Mar-2004 : Version 1 (DG);
  * 28-Sep-2007 : Added testEquals() and enhanced testClone() (DG);
  * 03-Oct-2007 : Added new tests (DG);
+ * 16-Oct-2026 : Added testIndicesAfterRemoval();
  *
  */
 
@@ -389,4 +390,36 @@ public class KeyedObjects2DTest {
         assertEquals("Obj1", data.getObject(0, 0));
     }
 
+    /**
+     * The row and column indices must stay correct when rows and columns
+     * are removed, and after cloning and serialization.
+     */
+    @Test
+    public void testIndicesAfterRemoval() throws CloneNotSupportedException {
+        KeyedObjects2D data = new KeyedObjects2D();
+        data.setObject("Obj1", "R1", "C1");
+        data.setObject("Obj2", "R2", "C2");
+        data.setObject("Obj3", "R3", "C3");
+        data.removeRow("R1");
+        assertEquals(0, data.getRowIndex("R2"));
+        assertEquals(1, data.getRowIndex("R3"));
+        data.removeColumn("C2");
+        assertEquals(1, data.getColumnIndex("C3"));
+        data.removeObject("R3", "C3");
+        assertEquals(-1, data.getRowIndex("R3"));
+        assertEquals(-1, data.getColumnIndex("C3"));
+        data.setObject("Obj4", "R4", "C4");
+        assertEquals(1, data.getRowIndex("R4"));
+        assertEquals("Obj4", data.getObject("R4", "C4"));
+
+        KeyedObjects2D clone = (KeyedObjects2D) data.clone();
+        clone.setObject("Obj5", "R5", "C5");
+        assertEquals(-1, data.getRowIndex("R5"));
+        assertEquals(2, clone.getRowIndex("R5"));
+
+        KeyedObjects2D copy = (KeyedObjects2D) TestUtilities.serialised(data);
+        assertEquals("Obj4", copy.getObject("R4", "C4"));
+        assertEquals(1, copy.getColumnIndex("C4"));
+    }
+
 }
@@ -38,6 +38,7 @@
  * 08-Mar-2007 : Added testCloning() (DG);
  * 21-Nov-2007 : Added testBug1835955() method (DG);
  * 09-May-2008 : Added testPublicCloneable() (DG);
+ * 16-Oct-2026 : Added testModificationCount();
  *
  */
 
@@ -374,4 +375,25 @@ public class DefaultCategoryDatasetTest {
         assertTrue(pass);
     }
 
+    /**
+     * Every change increases the modification count, including changes made
+     * while the notify flag is off.
+     */
+    @Test
+    public void testModificationCount() {
+        DefaultCategoryDataset d = new DefaultCategoryDataset();
+        long count = d.getModificationCount();
+        d.addValue(1.0, "R1", "C1");
+        assertTrue(d.getModificationCount() > count);
+        count = d.getModificationCount();
+        d.setNotify(false);
+        d.incrementValue(2.0, "R1", "C1");
+        assertTrue(d.getModificationCount() > count);
+        count = d.getModificationCount();
+        d.getValue("R1", "C1");
+        assertEquals(count, d.getModificationCount());
+        d.clear();
+        assertTrue(d.getModificationCount() > count);
+    }
+
 }
@@ -0,0 +1,281 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------------
+ * DenseCategoryDatasetTest.java
+ * -----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+
+package org.jfree.data.category;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.jfree.chart.TestUtilities;
+import org.jfree.data.Range;
+import org.jfree.data.UnknownKeyException;
+import org.jfree.data.general.DatasetUtilities;
+import org.jfree.util.PublicCloneable;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link DenseCategoryDataset} class.
+ */
+public class DenseCategoryDatasetTest {
+
+    private static final double EPSILON = 0.0000000001;
+
+    private static DenseCategoryDataset createSampleDataset() {
+        DenseCategoryDataset d = new DenseCategoryDataset();
+        d.setValues(Arrays.asList(new String[] {"R1", "R2"}),
+                Arrays.asList(new String[] {"C1", "C2", "C3"}),
+                new double[][] {{1.0, Double.NaN, 3.0}, {4.0, 5.0, -6.0}});
+        return d;
+    }
+
+    /**
+     * Some checks for the getValue() methods.
+     */
+    @Test
+    public void testGetValue() {
+        DenseCategoryDataset d = createSampleDataset();
+        assertEquals(2, d.getRowCount());
+        assertEquals(3, d.getColumnCount());
+        assertEquals(1.0, d.getValue(0, 0).doubleValue(), EPSILON);
+        assertNull(d.getValue(0, 1));
+        assertNull(d.getValue("R1", "C2"));
+        assertEquals(-6.0, d.getValue("R2", "C3").doubleValue(), EPSILON);
+        assertTrue(Double.isNaN(d.getDoubleValue(0, 1)));
+        assertEquals(1, d.getRowIndex("R2"));
+        assertEquals(2, d.getColumnIndex("C3"));
+        assertEquals(-1, d.getColumnIndex("XX"));
+
+        boolean pass = false;
+        try {
+            d.getValue("XX", "C1");
+        }
+        catch (UnknownKeyException e) {
+            pass = true;
+        }
+        assertTrue(pass);
+        pass = false;
+        try {
+            d.getValue(0, 3);
+        }
+        catch (IndexOutOfBoundsException e) {
+            pass = true;
+        }
+        assertTrue(pass);
+    }
+
+    /**
+     * The dataset should be equal to a DefaultCategoryDataset with the same
+     * data, after a series of updates that makes the storage grow.
+     */
+    @Test
+    public void testEqualsDefaultCategoryDataset() {
+        DenseCategoryDataset d1 = new DenseCategoryDataset();
+        DefaultCategoryDataset d2 = new DefaultCategoryDataset();
+        assertTrue(d1.equals(d2));
+        for (int r = 0; r < 7; r++) {
+            for (int c = 0; c < 9; c++) {
+                if ((r + c) % 3 != 0) {
+                    d1.setValue(r * c, "R" + r, "C" + c);
+                    d2.setValue(r * c, "R" + r, "C" + c);
+                }
+            }
+        }
+        assertTrue(d1.equals(d2));
+        assertTrue(d2.equals(d1));
+        d1.removeRow("R3");
+        d2.removeRow("R3");
+        d1.removeColumn(4);
+        d2.removeColumn(4);
+        assertTrue(d1.equals(d2));
+        d1.setValue(1.5, "R1", "C1");
+        assertFalse(d1.equals(d2));
+    }
+
+    /**
+     * Refreshing the same block of values with setValues() should not grow
+     * the storage.
+     */
+    @Test
+    public void testSetValuesCapacity() {
+        List rowKeys = new java.util.ArrayList();
+        List columnKeys = new java.util.ArrayList();
+        for (int i = 0; i < 100; i++) {
+            rowKeys.add("R" + i);
+            columnKeys.add("C" + i);
+        }
+        double[][] values = new double[100][100];
+        DenseCategoryDataset d = new DenseCategoryDataset();
+        d.setValues(rowKeys, columnKeys, values);
+        assertEquals(10000, d.getCellCapacity());
+        for (int i = 0; i < 5; i++) {
+            values[0][0] = i;
+            d.setValues(rowKeys, columnKeys, values);
+        }
+        assertEquals(10000, d.getCellCapacity());
+        assertEquals(4.0, d.getValue("R0", "C0").doubleValue(), EPSILON);
+
+        // one new row and a repeated new column key
+        d.setValues(Arrays.asList(new String[] {"R0", "R100"}),
+                Arrays.asList(new String[] {"C100", "C100"}),
+                new double[][] {{1.0, 2.0}, {3.0, 4.0}});
+        assertEquals(101, d.getRowCount());
+        assertEquals(101, d.getColumnCount());
+        assertEquals(2.0, d.getValue("R0", "C100").doubleValue(), EPSILON);
+    }
+
+    /**
+     * Some checks for the setRow() and setColumn() methods.
+     */
+    @Test
+    public void testSetRowAndColumn() {
+        DenseCategoryDataset d = createSampleDataset();
+        d.setRow("R3", new double[] {7.0, 8.0, 9.0});
+        assertEquals(3, d.getRowCount());
+        assertEquals(8.0, d.getValue("R3", "C2").doubleValue(), EPSILON);
+        d.setColumn("C2", new double[] {2.0, Double.NaN, 10.0});
+        assertEquals(2.0, d.getValue("R1", "C2").doubleValue(), EPSILON);
+        assertNull(d.getValue("R2", "C2"));
+        d.setColumn("C4", new double[] {11.0, 12.0, 13.0});
+        assertEquals(4, d.getColumnCount());
+        assertEquals(new Range(11.0, 13.0), d.getColumnBounds(3));
+        assertEquals(new Range(-6.0, 13.0), d.getRangeBounds(false));
+
+        boolean pass = false;
+        try {
+            d.setRow("R4", new double[] {1.0});
+        }
+        catch (IllegalArgumentException e) {
+            pass = true;
+        }
+        assertTrue(pass);
+    }
+
+    /**
+     * Check that the cached bounds follow the changes to the data.
+     */
+    @Test
+    public void testRangeBounds() {
+        DenseCategoryDataset d = new DenseCategoryDataset();
+        assertNull(d.getRangeBounds(true));
+        assertTrue(Double.isNaN(d.getRangeLowerBound(true)));
+        d = createSampleDataset();
+        assertEquals(new Range(-6.0, 5.0), d.getRangeBounds(false));
+        assertEquals(new Range(-6.0, 5.0),
+                DatasetUtilities.findRangeBounds(d));
+        assertEquals(new Range(1.0, 3.0), d.getRowBounds(0));
+        assertEquals(new Range(-6.0, 5.0), d.getRowBounds(1));
+        assertEquals(new Range(-6.0, 3.0), d.getColumnBounds(2));
+
+        // raise the minimum, then lower the maximum
+        d.setValue(2.0, "R2", "C3");
+        assertEquals(new Range(1.0, 5.0), d.getRangeBounds(false));
+        assertEquals(new Range(2.0, 3.0), d.getColumnBounds(2));
+        d.setValue(null, "R2", "C2");
+        assertEquals(new Range(1.0, 4.0), d.getRangeBounds(false));
+        assertNull(d.getColumnBounds(1));
+
+        // extend the range
+        d.setValue(100.0, "R1", "C2");
+        assertEquals(new Range(1.0, 100.0), d.getRangeBounds(false));
+
+        List visible = Collections.singletonList("R2");
+        assertEquals(new Range(2.0, 4.0), d.getRangeBounds(visible, false));
+        assertEquals(new Range(2.0, 4.0),
+                DatasetUtilities.findRangeBounds(d, visible, false));
+        assertNull(d.getRangeBounds(Collections.singletonList("XX"), false));
+
+        d.removeRow(0);
+        assertEquals(new Range(2.0, 4.0), d.getRangeBounds(false));
+        d.removeColumn("C1");
+        assertEquals(new Range(2.0, 2.0), d.getRangeBounds(false));
+        d.clear();
+        assertNull(d.getRangeBounds(false));
+        assertEquals(0, d.getRowCount());
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        DenseCategoryDataset d1 = createSampleDataset();
+        DenseCategoryDataset d2 = (DenseCategoryDataset) d1.clone();
+        assertTrue(d1 != d2);
+        assertTrue(d1.getClass() == d2.getClass());
+        assertTrue(d1.equals(d2));
+
+        // check independence
+        d1.setValue(99.0, "R3", "C4");
+        assertFalse(d1.equals(d2));
+        d2.setValue(99.0, "R3", "C4");
+        assertTrue(d1.equals(d2));
+        assertEquals(d1.getRangeBounds(false), d2.getRangeBounds(false));
+    }
+
+    /**
+     * Check that this class implements PublicCloneable.
+     */
+    @Test
+    public void testPublicCloneable() {
+        DenseCategoryDataset d = new DenseCategoryDataset();
+        assertTrue(d instanceof PublicCloneable);
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        DenseCategoryDataset d1 = createSampleDataset();
+        DenseCategoryDataset d2 = (DenseCategoryDataset)
+                TestUtilities.serialised(d1);
+        assertEquals(d1, d2);
+        assertEquals(1, d2.getRowIndex("R2"));
+        assertEquals(new Range(-6.0, 5.0), d2.getRangeBounds(false));
+    }
+
+}
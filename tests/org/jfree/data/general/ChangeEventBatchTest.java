@@ -0,0 +1,260 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------
+ * ChangeEventBatchTest.java
+ * -------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.general;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import javax.swing.SwingUtilities;
+
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.event.ChartChangeEvent;
+import org.jfree.chart.event.ChartChangeEventType;
+import org.jfree.chart.event.ChartChangeListener;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link ChangeEventBatch} and
+ * {@link CoalescingDatasetChangeListener} classes.
+ */
+public class ChangeEventBatchTest {
+
+    /**
+     * Counts the change events it receives.
+     */
+    static class Counter implements DatasetChangeListener,
+            ChartChangeListener {
+
+        int datasetEvents;
+
+        int chartEvents;
+
+        ChartChangeEvent lastChartEvent;
+
+        @Override
+        public void datasetChanged(DatasetChangeEvent event) {
+            this.datasetEvents++;
+        }
+
+        @Override
+        public void chartChanged(ChartChangeEvent event) {
+            this.chartEvents++;
+            this.lastChartEvent = event;
+        }
+    }
+
+    /**
+     * A burst of updates to several series inside a batch should result in
+     * one dataset change event and one chart change event.
+     */
+    @Test
+    public void testBatch() {
+        XYSeries s1 = new XYSeries("S1");
+        XYSeries s2 = new XYSeries("S2");
+        XYSeriesCollection dataset = new XYSeriesCollection();
+        dataset.addSeries(s1);
+        dataset.addSeries(s2);
+        JFreeChart chart = ChartFactory.createXYLineChart("Title", "X", "Y",
+                dataset);
+        Counter counter = new Counter();
+        dataset.addChangeListener(counter);
+        chart.addChangeListener(counter);
+
+        ChangeEventBatch.begin();
+        try {
+            for (int i = 0; i < 5000; i++) {
+                s1.add(i, i);
+                s2.add(i, -i);
+            }
+            dataset.setIntervalWidth(2.0);
+            assertEquals(0, counter.datasetEvents);
+            assertEquals(0, counter.chartEvents);
+        }
+        finally {
+            ChangeEventBatch.commit();
+        }
+        assertEquals(1, counter.datasetEvents);
+        assertEquals(1, counter.chartEvents);
+        assertFalse(ChangeEventBatch.isActive());
+        assertTrue(chart.getXYPlot().getRangeAxis().getLowerBound() <= -4999.0);
+
+        // outside a batch, events are sent immediately
+        s1.add(5000, 5000);
+        assertEquals(2, counter.datasetEvents);
+        assertEquals(2, counter.chartEvents);
+    }
+
+    /**
+     * A title change and a dataset change in one batch should result in a
+     * single GENERAL chart change event, so that a listener that redraws
+     * only the data for a DATASET_UPDATED event doesn't miss the title.
+     */
+    @Test
+    public void testBatchMixedEventTypes() {
+        XYSeries s1 = new XYSeries("S1");
+        XYSeriesCollection dataset = new XYSeriesCollection(s1);
+        JFreeChart chart = ChartFactory.createXYLineChart("Title", "X", "Y",
+                dataset);
+        Counter counter = new Counter();
+        chart.addChangeListener(counter);
+
+        ChangeEventBatch.begin();
+        try {
+            chart.setTitle("New Title");
+            s1.add(1.0, 1.0);
+        }
+        finally {
+            ChangeEventBatch.commit();
+        }
+        assertEquals(1, counter.chartEvents);
+        assertEquals(ChartChangeEventType.GENERAL,
+                counter.lastChartEvent.getType());
+
+        // events of one type keep that type
+        ChangeEventBatch.begin();
+        try {
+            s1.add(2.0, 2.0);
+            s1.add(3.0, 3.0);
+        }
+        finally {
+            ChangeEventBatch.commit();
+        }
+        assertEquals(2, counter.chartEvents);
+        assertEquals(ChartChangeEventType.DATASET_UPDATED,
+                counter.lastChartEvent.getType());
+    }
+
+    /**
+     * If a listener throws an exception during the commit, the other
+     * pending events are still delivered.
+     */
+    @Test
+    public void testCommitWithFailingListener() {
+        XYSeries s1 = new XYSeries("S1");
+        XYSeries s2 = new XYSeries("S2");
+        XYSeriesCollection d1 = new XYSeriesCollection(s1);
+        XYSeriesCollection d2 = new XYSeriesCollection(s2);
+        d1.addChangeListener(new DatasetChangeListener() {
+            @Override
+            public void datasetChanged(DatasetChangeEvent event) {
+                throw new IllegalStateException("Failed.");
+            }
+        });
+        Counter counter = new Counter();
+        d2.addChangeListener(counter);
+        ChangeEventBatch.begin();
+        s1.add(1.0, 1.0);
+        s2.add(1.0, 1.0);
+        try {
+            ChangeEventBatch.commit();
+            fail("Expected an IllegalStateException.");
+        }
+        catch (IllegalStateException e) {
+            assertEquals("Failed.", e.getMessage());
+        }
+        assertEquals(1, counter.datasetEvents);
+        assertFalse(ChangeEventBatch.isActive());
+    }
+
+    /**
+     * Events are delivered when the outermost batch is committed.
+     */
+    @Test
+    public void testNestedBatch() {
+        XYSeries s1 = new XYSeries("S1");
+        XYSeriesCollection dataset = new XYSeriesCollection(s1);
+        Counter counter = new Counter();
+        dataset.addChangeListener(counter);
+        ChangeEventBatch.begin();
+        s1.add(1.0, 1.0);
+        ChangeEventBatch.begin();
+        s1.add(2.0, 2.0);
+        ChangeEventBatch.commit();
+        assertEquals(0, counter.datasetEvents);
+        ChangeEventBatch.commit();
+        assertEquals(1, counter.datasetEvents);
+    }
+
+    /**
+     * Committing without an open batch is an error.
+     */
+    @Test
+    public void testCommitWithoutBegin() {
+        try {
+            ChangeEventBatch.commit();
+            fail("Expected an IllegalStateException.");
+        }
+        catch (IllegalStateException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Many events within the coalescing period result in one delivery.
+     *
+     * @throws Exception if there is a problem.
+     */
+    @Test
+    public void testCoalescingListener() throws Exception {
+        XYSeries s1 = new XYSeries("S1");
+        XYSeriesCollection dataset = new XYSeriesCollection(s1);
+        Counter counter = new Counter();
+        dataset.addChangeListener(counter);
+        CoalescingDatasetChangeListener.install(dataset, counter, 50);
+        for (int i = 0; i < 1000; i++) {
+            s1.add(i, i);
+        }
+        Thread.sleep(200);
+        SwingUtilities.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                // wait for the timer event to be processed
+            }
+        });
+        assertEquals(1, counter.datasetEvents);
+    }
+
+}
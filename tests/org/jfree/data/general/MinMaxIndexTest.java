@@ -0,0 +1,135 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------
+ * MinMaxIndexTest.java
+ * --------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.general;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link MinMaxIndex} class.
+ */
+public class MinMaxIndexTest {
+
+    private static final double EPSILON = 0.0000000001;
+
+    /**
+     * Some checks for an index with NaN values.
+     */
+    @Test
+    public void testNaN() {
+        MinMaxIndex index = new MinMaxIndex();
+        index.add(Double.NaN);
+        index.add(3.0);
+        index.add(Double.NaN);
+        assertTrue(Double.isNaN(index.getMinimum(0, 0)));
+        assertTrue(Double.isNaN(index.getMaximum(2, 2)));
+        assertEquals(3.0, index.getMinimum(0, 2), EPSILON);
+        assertEquals(3.0, index.getMaximum(0, 2), EPSILON);
+    }
+
+    /**
+     * Compare the results against a scan of the values, while appending,
+     * updating and removing values.
+     */
+    @Test
+    public void testAgainstScan() {
+        Random random = new Random(42L);
+        double[] values = new double[500];
+        int first = 0;
+        int count = 0;
+        MinMaxIndex index = new MinMaxIndex();
+        for (int step = 0; step < 2000; step++) {
+            int op = random.nextInt(10);
+            if (op < 5 && first + count < values.length) {
+                double v = random.nextInt(20) == 0 ? Double.NaN
+                        : random.nextInt(1000);
+                values[first + count] = v;
+                index.add(v);
+                count++;
+            }
+            else if (op < 7 && count > 0) {
+                int i = random.nextInt(count);
+                double v = random.nextInt(1000);
+                values[first + i] = v;
+                index.set(i, v);
+            }
+            else if (op < 8 && count > 0) {
+                first++;
+                count--;
+                index.removeFirst();
+            }
+            assertEquals(count, index.getItemCount());
+            if (count > 0) {
+                int a = random.nextInt(count);
+                int b = a + random.nextInt(count - a);
+                double min = Double.NaN;
+                double max = Double.NaN;
+                for (int i = a; i <= b; i++) {
+                    double v = values[first + i];
+                    if (!Double.isNaN(v)) {
+                        min = Double.isNaN(min) ? v : Math.min(min, v);
+                        max = Double.isNaN(max) ? v : Math.max(max, v);
+                    }
+                }
+                assertEquals(min, index.getMinimum(a, b), EPSILON);
+                assertEquals(max, index.getMaximum(a, b), EPSILON);
+            }
+        }
+    }
+
+    /**
+     * Check the constructor that takes an array.
+     */
+    @Test
+    public void testArrayConstructor() {
+        double[] values = {5.0, 1.0, 7.0, -2.0, 4.0};
+        MinMaxIndex index = new MinMaxIndex(values, 1, 4);
+        assertEquals(3, index.getItemCount());
+        assertEquals(-2.0, index.getMinimum(0, 2), EPSILON);
+        assertEquals(7.0, index.getMaximum(0, 1), EPSILON);
+        index.add(10.0);
+        assertEquals(10.0, index.getMaximum(0, 3), EPSILON);
+    }
+
+}
@@ -0,0 +1,270 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------
+ * ChunkedCSVReaderTest.java
+ * -------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.text.SimpleDateFormat;
+import java.util.Random;
+import java.util.TimeZone;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.data.time.FixedMillisecond;
+import org.jfree.data.time.TimeSeries;
+import org.jfree.data.time.TimeSeriesCollection;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link ChunkedCSVReader} class.
+ */
+public class ChunkedCSVReaderTest {
+
+    /**
+     * Returns a stream for a string.
+     *
+     * @param s  the string.
+     *
+     * @return The stream.
+     *
+     * @throws IOException if there is a problem.
+     */
+    private static InputStream stream(String s) throws IOException {
+        return new ByteArrayInputStream(s.getBytes("UTF-8"));
+    }
+
+    /**
+     * Checks the fast number parser against Double.parseDouble().
+     */
+    @Test
+    public void testParseDouble() {
+        String[] values = {"0", "-0", "1", "+2.5", "-3.25", "0.1", ".5", "5.",
+                "1e10", "1.5E-7", "123456789012345", "1234567890123456789",
+                "0.000000000000000000000001", "9007199254740993", "1e308",
+                "4.9e-324", "NaN", "-Infinity", "00012.3400"};
+        for (int i = 0; i < values.length; i++) {
+            byte[] b = values[i].getBytes();
+            assertEquals(values[i], Double.parseDouble(values[i]),
+                    ChunkedCSVReader.parseDouble(b, 0, b.length), 0.0);
+        }
+        Random random = new Random(1L);
+        for (int i = 0; i < 10000; i++) {
+            String s = Double.toString((random.nextDouble() - 0.5)
+                    * Math.pow(10, random.nextInt(30) - 15));
+            byte[] b = s.getBytes();
+            assertEquals(s, Double.parseDouble(s),
+                    ChunkedCSVReader.parseDouble(b, 0, b.length), 0.0);
+        }
+        try {
+            byte[] b = "1.2.3".getBytes();
+            ChunkedCSVReader.parseDouble(b, 0, b.length);
+            fail("Expected a NumberFormatException.");
+        }
+        catch (NumberFormatException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Checks the timestamp parser against SimpleDateFormat.
+     *
+     * @throws Exception if there is a problem.
+     */
+    @Test
+    public void testParseTimestamp() throws Exception {
+        TimeZone utc = TimeZone.getTimeZone("UTC");
+        TimeZone paris = TimeZone.getTimeZone("Europe/Paris");
+        SimpleDateFormat f = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS");
+        f.setTimeZone(paris);
+        String[] values = {"1969-12-31 23:59:59.999", "2000-02-29 12:00:00.000",
+                "2014-03-30 01:30:00.000", "2014-07-01 00:00:00.250"};
+        for (int i = 0; i < values.length; i++) {
+            byte[] b = values[i].getBytes();
+            assertEquals(values[i], f.parse(values[i]).getTime(),
+                    ChunkedCSVReader.parseTimestamp(b, 0, b.length, paris));
+        }
+        byte[] b = "2014-06-30T12:00:00.5Z".getBytes();
+        assertEquals(1404129600500L,
+                ChunkedCSVReader.parseTimestamp(b, 0, b.length, paris));
+        b = "2014-06-30T14:00+02:00".getBytes();
+        assertEquals(1404129600000L,
+                ChunkedCSVReader.parseTimestamp(b, 0, b.length, utc));
+        b = "2014-06-30".getBytes();
+        assertEquals(1404086400000L,
+                ChunkedCSVReader.parseTimestamp(b, 0, b.length, utc));
+        b = "1404129600000".getBytes();
+        assertEquals(1404129600000L,
+                ChunkedCSVReader.parseTimestamp(b, 0, b.length, utc));
+    }
+
+    /**
+     * Reads an XY dataset, with quoted fields, CRLF line ends and missing
+     * values.
+     *
+     * @throws IOException if there is a problem.
+     */
+    @Test
+    public void testReadXYSeriesCollection() throws IOException {
+        String csv = "X,\"S1\",S2\r\n1.0,2.0,3.0\r\n\r\n2.0, \"4.5\" ,\r\n"
+                + "3.0,-1e2";
+        ChunkedCSVReader reader = new ChunkedCSVReader();
+        XYSeriesCollection dataset = reader.readXYSeriesCollection(
+                stream(csv));
+        assertEquals(2, dataset.getSeriesCount());
+        XYSeries s1 = dataset.getSeries("S1");
+        XYSeries s2 = dataset.getSeries("S2");
+        assertEquals(3, s1.getItemCount());
+        assertEquals(4.5, s1.getYValue(1), 0.0);
+        assertEquals(-100.0, s1.getYValue(2), 0.0);
+        assertEquals(3.0, s2.getYValue(0), 0.0);
+        assertNull(s2.getY(1));
+        assertNull(s2.getY(2));
+    }
+
+    /**
+     * Reads a large input in small blocks, in parallel, and checks that the
+     * data is in order and that progress is reported.
+     *
+     * @throws IOException if there is a problem.
+     */
+    @Test
+    public void testReadInParallel() throws IOException {
+        StringBuilder csv = new StringBuilder("X,A,B\n");
+        for (int i = 0; i < 20000; i++) {
+            csv.append(i).append(',').append(i * 0.5).append(',')
+                    .append(-i).append('\n');
+        }
+        final long[] progress = new long[2];
+        ChunkedCSVReader reader = new ChunkedCSVReader();
+        reader.setBlockSize(4096);
+        reader.addProgressListener(new CSVProgressListener() {
+            @Override
+            public void progressChanged(CSVProgressEvent event) {
+                assertTrue(event.getRowsRead() >= progress[1]);
+                progress[0] = event.getBytesRead();
+                progress[1] = event.getRowsRead();
+            }
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            reader.setExecutor(executor);
+            XYSeriesCollection dataset = reader.readXYSeriesCollection(
+                    stream(csv.toString()));
+            XYSeries a = dataset.getSeries("A");
+            XYSeries b = dataset.getSeries("B");
+            assertEquals(20000, a.getItemCount());
+            for (int i = 0; i < 20000; i++) {
+                assertEquals(i, a.getXValue(i), 0.0);
+                assertEquals(i * 0.5, a.getYValue(i), 0.0);
+                assertEquals(-i, b.getYValue(i), 0.0);
+            }
+        }
+        finally {
+            executor.shutdown();
+        }
+        assertEquals(csv.length(), progress[0]);
+        assertEquals(20000, progress[1]);
+    }
+
+    /**
+     * Reads a time series dataset.
+     *
+     * @throws IOException if there is a problem.
+     */
+    @Test
+    public void testReadTimeSeriesCollection() throws IOException {
+        String csv = "Time,T\n2014-06-30T12:00:00Z,20.5\n"
+                + "2014-06-30T12:00:01Z,\n2014-06-30T12:00:02Z,21.0\n";
+        ChunkedCSVReader reader = new ChunkedCSVReader();
+        TimeSeriesCollection dataset = reader.readTimeSeriesCollection(
+                stream(csv), FixedMillisecond.class);
+        TimeSeries series = dataset.getSeries("T");
+        assertEquals(3, series.getItemCount());
+        assertEquals(new FixedMillisecond(1404129601000L),
+                series.getTimePeriod(1));
+        assertNull(series.getValue(1));
+        assertEquals(21.0, series.getValue(2).doubleValue(), 0.0);
+    }
+
+    /**
+     * Reads a category dataset.
+     *
+     * @throws IOException if there is a problem.
+     */
+    @Test
+    public void testReadCategoryDataset() throws IOException {
+        String csv = "Key,\"C1\",C2\n\"R1\",1,2\nR2,,4\n";
+        ChunkedCSVReader reader = new ChunkedCSVReader();
+        DefaultCategoryDataset dataset = reader.readCategoryDataset(
+                stream(csv));
+        assertEquals(2, dataset.getRowCount());
+        assertEquals(2, dataset.getColumnCount());
+        assertEquals(2.0, dataset.getValue("R1", "C2").doubleValue(), 0.0);
+        assertNull(dataset.getValue("R2", "C1"));
+        assertEquals(4.0, dataset.getValue("R2", "C2").doubleValue(), 0.0);
+    }
+
+    /**
+     * An invalid value is reported with its line number.
+     */
+    @Test
+    public void testError() {
+        ChunkedCSVReader reader = new ChunkedCSVReader();
+        reader.setBlockSize(16);
+        try {
+            reader.readXYSeriesCollection(stream("X,Y\n1,2\n2,3\n\n3,x\n"));
+            fail("Expected an IOException.");
+        }
+        catch (IOException e) {
+            assertTrue(e.getMessage(), e.getMessage().startsWith("Line 5:"));
+        }
+    }
+
+}
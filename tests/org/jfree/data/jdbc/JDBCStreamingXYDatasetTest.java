@@ -0,0 +1,423 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------------
+ * JDBCStreamingXYDatasetTest.java
+ * -------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.jdbc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeListener;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link JDBCStreamingXYDataset} class.
+ */
+public class JDBCStreamingXYDatasetTest implements DatasetChangeListener {
+
+    private static final double EPSILON = 0.0000000001;
+
+    /** The number of change events received. */
+    private int events;
+
+    /**
+     * Receives dataset change events.
+     *
+     * @param event  the event.
+     */
+    @Override
+    public void datasetChanged(DatasetChangeEvent event) {
+        this.events++;
+    }
+
+    /**
+     * A stub database that holds one table.  The SQL is not parsed: the main
+     * query returns all the rows, and the incremental query returns the rows
+     * with an x-value greater than its parameter.
+     */
+    static class StubDatabase {
+
+        /** The column labels. */
+        String[] labels;
+
+        /** The column types (from {@link Types}). */
+        int[] types;
+
+        /** The rows. */
+        List rows = new ArrayList();
+
+        /** If not negative, reading this row throws an SQLException. */
+        int failAtRow = -1;
+
+        /** The last fetch size set on a statement. */
+        int fetchSize = -1;
+
+        /** The last parameter set on the incremental query. */
+        Object parameter;
+
+        /** The number of statements that are open. */
+        int openStatements;
+
+        StubDatabase(String[] labels, int[] types) {
+            this.labels = labels;
+            this.types = types;
+        }
+
+        void addRow(Object[] row) {
+            this.rows.add(row);
+        }
+
+        Connection getConnection() {
+            return (Connection) proxy(Connection.class,
+                    new InvocationHandler() {
+                @Override
+                public Object invoke(Object p, Method m, Object[] args) {
+                    if (m.getName().equals("createStatement")
+                            || m.getName().equals("prepareStatement")) {
+                        return createStatement();
+                    }
+                    if (m.getName().equals("close")) {
+                        return null;
+                    }
+                    throw new UnsupportedOperationException(m.getName());
+                }
+            });
+        }
+
+        PreparedStatement createStatement() {
+            StubDatabase.this.openStatements++;
+            return (PreparedStatement) proxy(PreparedStatement.class,
+                    new InvocationHandler() {
+                @Override
+                public Object invoke(Object p, Method m, Object[] args) {
+                    String name = m.getName();
+                    if (name.equals("setFetchSize")) {
+                        StubDatabase.this.fetchSize
+                                = ((Integer) args[0]).intValue();
+                        return null;
+                    }
+                    if (name.equals("setDouble")
+                            || name.equals("setTimestamp")) {
+                        StubDatabase.this.parameter = args[1];
+                        return null;
+                    }
+                    if (name.equals("executeQuery")) {
+                        boolean all = args != null && args.length == 1;
+                        return createResultSet(all);
+                    }
+                    if (name.equals("close")) {
+                        StubDatabase.this.openStatements--;
+                        return null;
+                    }
+                    throw new UnsupportedOperationException(name);
+                }
+            });
+        }
+
+        ResultSet createResultSet(boolean all) {
+            final List selected = new ArrayList();
+            for (int i = 0; i < this.rows.size(); i++) {
+                Object[] row = (Object[]) this.rows.get(i);
+                if (all || isAfterParameter(row[0])) {
+                    selected.add(row);
+                }
+            }
+            return (ResultSet) proxy(ResultSet.class, new InvocationHandler() {
+                private int index = -1;
+                private boolean wasNull;
+                @Override
+                public Object invoke(Object p, Method m, Object[] args)
+                        throws SQLException {
+                    String name = m.getName();
+                    if (name.equals("next")) {
+                        this.index++;
+                        if (this.index == StubDatabase.this.failAtRow) {
+                            throw new SQLException("Connection lost.");
+                        }
+                        return Boolean.valueOf(this.index < selected.size());
+                    }
+                    if (name.equals("getDouble")) {
+                        Number n = (Number) value(args);
+                        return new Double(n != null ? n.doubleValue() : 0.0);
+                    }
+                    if (name.equals("getTimestamp")) {
+                        return value(args);
+                    }
+                    if (name.equals("wasNull")) {
+                        return Boolean.valueOf(this.wasNull);
+                    }
+                    if (name.equals("getMetaData")) {
+                        return createMetaData();
+                    }
+                    if (name.equals("close")) {
+                        return null;
+                    }
+                    throw new UnsupportedOperationException(name);
+                }
+                private Object value(Object[] args) {
+                    int column = ((Integer) args[0]).intValue();
+                    Object[] row = (Object[]) selected.get(this.index);
+                    Object result = row[column - 1];
+                    this.wasNull = result == null;
+                    return result;
+                }
+            });
+        }
+
+        boolean isAfterParameter(Object x) {
+            if (x instanceof Timestamp) {
+                return ((Timestamp) x).after((Timestamp) this.parameter);
+            }
+            return x != null && ((Number) x).doubleValue()
+                    > ((Double) this.parameter).doubleValue();
+        }
+
+        ResultSetMetaData createMetaData() {
+            return (ResultSetMetaData) proxy(ResultSetMetaData.class,
+                    new InvocationHandler() {
+                @Override
+                public Object invoke(Object p, Method m, Object[] args) {
+                    String name = m.getName();
+                    if (name.equals("getColumnCount")) {
+                        return new Integer(StubDatabase.this.labels.length);
+                    }
+                    int column = ((Integer) args[0]).intValue() - 1;
+                    if (name.equals("getColumnType")) {
+                        return new Integer(StubDatabase.this.types[column]);
+                    }
+                    if (name.equals("getColumnLabel")) {
+                        return StubDatabase.this.labels[column];
+                    }
+                    throw new UnsupportedOperationException(name);
+                }
+            });
+        }
+
+        static Object proxy(Class c, InvocationHandler handler) {
+            return Proxy.newProxyInstance(
+                    JDBCStreamingXYDatasetTest.class.getClassLoader(),
+                    new Class[] {c}, handler);
+        }
+
+    }
+
+    private static StubDatabase createNumberDatabase() {
+        StubDatabase db = new StubDatabase(
+                new String[] {"X", "A", "NAME", "B"},
+                new int[] {Types.DOUBLE, Types.DOUBLE, Types.VARCHAR,
+                Types.INTEGER});
+        db.addRow(new Object[] {new Double(1.0), new Double(10.0), "a",
+                null});
+        db.addRow(new Object[] {new Double(2.0), null, "b",
+                new Integer(5)});
+        db.addRow(new Object[] {null, new Double(99.0), "c",
+                new Integer(99)});
+        db.addRow(new Object[] {new Double(3.0), new Double(-30.0), "d",
+                new Integer(7)});
+        return db;
+    }
+
+    /**
+     * Some checks for executeQuery(), including null values and ignored
+     * columns.
+     *
+     * @throws SQLException if there is a problem.
+     */
+    @Test
+    public void testExecuteQuery() throws SQLException {
+        StubDatabase db = createNumberDatabase();
+        JDBCStreamingXYDataset d = new JDBCStreamingXYDataset(
+                db.getConnection(), "SELECT * FROM T");
+        d.addChangeListener(this);
+        assertEquals(3, d.executeQuery());
+        assertEquals(1, this.events);
+        assertEquals(0, db.openStatements);
+        assertFalse(d.isTimeSeries());
+
+        // the VARCHAR column is ignored, the row with a null x is skipped
+        assertEquals(2, d.getSeriesCount());
+        assertEquals("A", d.getSeriesKey(0));
+        assertEquals("B", d.getSeriesKey(1));
+        assertEquals(3, d.getItemCount(0));
+        assertEquals(3.0, d.getXValue(0, 2), EPSILON);
+        assertEquals(10.0, d.getYValue(0, 0), EPSILON);
+        assertNull(d.getY(0, 1));
+        assertNull(d.getY(1, 0));
+        assertEquals(5.0, d.getYValue(1, 1), EPSILON);
+        assertEquals(1.0, d.getDomainLowerBound(false), EPSILON);
+        assertEquals(3.0, d.getDomainUpperBound(false), EPSILON);
+        assertEquals(-30.0, d.getRangeLowerBound(false), EPSILON);
+        assertEquals(10.0, d.getRangeUpperBound(false), EPSILON);
+    }
+
+    /**
+     * The fetch size is passed to the statement.
+     *
+     * @throws SQLException if there is a problem.
+     */
+    @Test
+    public void testFetchSize() throws SQLException {
+        StubDatabase db = createNumberDatabase();
+        JDBCStreamingXYDataset d = new JDBCStreamingXYDataset(
+                db.getConnection(), "SELECT * FROM T");
+        assertEquals(JDBCStreamingXYDataset.DEFAULT_FETCH_SIZE,
+                d.getFetchSize());
+        d.executeQuery();
+        assertEquals(JDBCStreamingXYDataset.DEFAULT_FETCH_SIZE,
+                db.fetchSize);
+        d.setFetchSize(500);
+        d.executeQuery();
+        assertEquals(500, db.fetchSize);
+        try {
+            d.setFetchSize(-1);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    /**
+     * With an incremental query, refresh() loads only the new rows.
+     *
+     * @throws SQLException if there is a problem.
+     */
+    @Test
+    public void testIncrementalRefresh() throws SQLException {
+        StubDatabase db = new StubDatabase(new String[] {"TIME", "TEMP"},
+                new int[] {Types.TIMESTAMP, Types.DOUBLE});
+        db.addRow(new Object[] {new Timestamp(1000L), new Double(20.0)});
+        db.addRow(new Object[] {new Timestamp(2000L), new Double(21.0)});
+        JDBCStreamingXYDataset d = new JDBCStreamingXYDataset(
+                db.getConnection(), "SELECT time, temp FROM readings",
+                "SELECT time, temp FROM readings WHERE time > ?");
+        d.addChangeListener(this);
+        assertEquals(2, d.refresh());
+        assertTrue(d.isTimeSeries());
+        assertEquals(1, this.events);
+
+        // no new rows: no event
+        assertEquals(0, d.refresh());
+        assertEquals(new Timestamp(2000L), db.parameter);
+        assertEquals(1, this.events);
+
+        for (int i = 3; i <= 40; i++) {
+            db.addRow(new Object[] {new Timestamp(i * 1000L),
+                    new Double(20.0 + i)});
+        }
+        assertEquals(38, d.refresh());
+        assertEquals(2, this.events);
+        assertEquals(40, d.getItemCount());
+        assertEquals(40000.0, d.getXValue(0, 39), EPSILON);
+        assertEquals(60.0, d.getYValue(0, 39), EPSILON);
+        assertEquals(60.0, d.getRangeUpperBound(false), EPSILON);
+        assertEquals(0, db.openStatements);
+    }
+
+    /**
+     * If reading the rows fails part-way, the current data is left unchanged
+     * and no event is sent.
+     *
+     * @throws SQLException if there is a problem.
+     */
+    @Test
+    public void testQueryFailure() throws SQLException {
+        StubDatabase db = createNumberDatabase();
+        JDBCStreamingXYDataset d = new JDBCStreamingXYDataset(
+                db.getConnection(), "SELECT * FROM T",
+                "SELECT * FROM T WHERE X > ?");
+        d.addChangeListener(this);
+        d.executeQuery();
+        assertEquals(1, this.events);
+
+        for (int i = 4; i < 100; i++) {
+            db.addRow(new Object[] {new Double(i), new Double(i), "e",
+                    new Integer(i)});
+        }
+        db.failAtRow = 50;
+        try {
+            d.executeQuery();
+            fail("Expected an SQLException.");
+        }
+        catch (SQLException e) {
+            // expected
+        }
+        assertEquals(0, db.openStatements);
+        assertEquals(1, this.events);
+        assertEquals(2, d.getSeriesCount());
+        assertEquals(3, d.getItemCount());
+        assertEquals(3.0, d.getXValue(0, 2), EPSILON);
+        assertEquals(10.0, d.getRangeUpperBound(false), EPSILON);
+
+        // the same for an incremental refresh
+        try {
+            d.refresh();
+            fail("Expected an SQLException.");
+        }
+        catch (SQLException e) {
+            // expected
+        }
+        assertEquals(1, this.events);
+        assertEquals(3, d.getItemCount());
+        assertEquals(3.0, d.getDomainUpperBound(false), EPSILON);
+
+        db.failAtRow = -1;
+        assertEquals(96, d.refresh());
+        assertEquals(99, d.getItemCount());
+        assertEquals(2, this.events);
+    }
+
+}
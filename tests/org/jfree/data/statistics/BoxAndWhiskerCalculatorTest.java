@@ -35,6 +35,8 @@
  * Changes
  * -------
  * 28-Aug-2003 : Version 1 (DG);
+ * 16-Oct-2026 : Added testCalculateSketchStatistics();
+ * 16-Oct-2026 : Added testCalculateStatisticsDoubleArray();
  *
  */
 
@@ -44,7 +46,9 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertEquals;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 import org.junit.Test;
 
 /**
@@ -81,6 +85,47 @@ public class BoxAndWhiskerCalculatorTest {
 
     private static final double EPSILON = 0.000000001;
 
+    /**
+     * Some checks for the statistics calculated from a
+     * {@link QuantileSketch}.
+     */
+    @Test
+    public void testCalculateSketchStatistics() {
+        // while the sketch holds every value, the result is exact
+        List values = new ArrayList();
+        QuantileSketch sketch = new QuantileSketch();
+        double[] data = {5.0, 1.0, 3.0, 2.0, 40.0, 4.0, -30.0};
+        for (int i = 0; i < data.length; i++) {
+            values.add(new Double(data[i]));
+            sketch.add(data[i]);
+        }
+        assertEquals(
+                BoxAndWhiskerCalculator.calculateBoxAndWhiskerStatistics(
+                values),
+                BoxAndWhiskerCalculator.calculateSketchStatistics(sketch));
+
+        // otherwise the quartiles are estimates, and the extremes are exact
+        sketch = new QuantileSketch();
+        Random random = new Random(17L);
+        for (int i = 0; i < 200000; i++) {
+            sketch.add(random.nextGaussian());
+        }
+        sketch.add(-50.0);
+        sketch.add(60.0);
+        BoxAndWhiskerItem item
+                = BoxAndWhiskerCalculator.calculateSketchStatistics(sketch);
+        assertEquals(0.0, item.getMedian().doubleValue(), 0.05);
+        assertEquals(-0.6745, item.getQ1().doubleValue(), 0.05);
+        assertEquals(0.6745, item.getQ3().doubleValue(), 0.05);
+        assertEquals(sketch.getMean(), item.getMean().doubleValue(), EPSILON);
+        List outliers = item.getOutliers();
+        assertTrue(outliers.contains(new Double(-50.0)));
+        assertTrue(outliers.contains(new Double(60.0)));
+        assertTrue(outliers.size() < 4 * QuantileSketch.DEFAULT_K);
+        assertTrue(item.getMinRegularValue().doubleValue() > -3.0);
+        assertTrue(item.getMaxRegularValue().doubleValue() < 3.0);
+    }
+
     /**
      * Tests the Q1 calculation.
      */
@@ -162,4 +207,49 @@ public class BoxAndWhiskerCalculatorTest {
         assertEquals(1.0, theItem.getMinRegularValue().doubleValue(), EPSILON);
         assertEquals(4.0, theItem.getMaxRegularValue().doubleValue(), EPSILON);
     }
+
+    /**
+     * The statistics for a range of an array should be the same as for a
+     * list of the values.
+     */
+    @Test
+    public void testCalculateStatisticsDoubleArray() {
+        Random random = new Random(23L);
+        for (int n = 1; n < 40; n++) {
+            double[] values = new double[n + 2];
+            List list = new ArrayList();
+            values[0] = 1000.0;
+            for (int i = 1; i <= n; i++) {
+                double v = random.nextInt(100);
+                if (i % 7 == 0) {
+                    v = v * 10.0;
+                }
+                else if (i % 11 == 0) {
+                    v = Double.NaN;
+                }
+                values[i] = v;
+                list.add(new Double(v));
+            }
+            values[n + 1] = -1000.0;
+            double[] copy = values.clone();
+            BoxAndWhiskerItem expected = BoxAndWhiskerCalculator
+                    .calculateBoxAndWhiskerStatistics(list);
+            BoxAndWhiskerItem actual = BoxAndWhiskerCalculator
+                    .calculateBoxAndWhiskerStatistics(values, 1, n);
+            assertEquals(expected.getMean().doubleValue(),
+                    actual.getMean().doubleValue(), EPSILON);
+            assertEquals(expected.getMedian(), actual.getMedian());
+            assertEquals(expected.getQ1(), actual.getQ1());
+            assertEquals(expected.getQ3(), actual.getQ3());
+            assertEquals(expected.getMinRegularValue(),
+                    actual.getMinRegularValue());
+            assertEquals(expected.getMaxRegularValue(),
+                    actual.getMaxRegularValue());
+            assertEquals(expected.getMinOutlier(), actual.getMinOutlier());
+            assertEquals(expected.getMaxOutlier(), actual.getMaxOutlier());
+            assertEquals(expected.getOutliers(), actual.getOutliers());
+            assertTrue(Arrays.equals(copy, values));
+        }
+    }
+
 }
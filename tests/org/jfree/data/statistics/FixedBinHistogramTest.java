@@ -0,0 +1,143 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------
+ * FixedBinHistogramTest.java
+ * --------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.jfree.chart.TestUtilities;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link FixedBinHistogram} class.
+ */
+public class FixedBinHistogramTest {
+
+    /**
+     * Values outside the bin range are counted in the first and last bins,
+     * and values on a boundary are counted in the higher bin.
+     */
+    @Test
+    public void testAdd() {
+        FixedBinHistogram h = new FixedBinHistogram(4, 0.0, 4.0);
+        h.add(new double[] {-10.0, 0.0, 0.5, 1.0, 3.99, 4.0, 100.0}, 0, 7);
+        assertEquals(3, h.getCount(0));
+        assertEquals(1, h.getCount(1));
+        assertEquals(0, h.getCount(2));
+        assertEquals(3, h.getCount(3));
+        assertEquals(7, h.getTotalCount());
+    }
+
+    /**
+     * Some checks for the merge() method.
+     */
+    @Test
+    public void testMerge() {
+        FixedBinHistogram h1 = new FixedBinHistogram(2, 0.0, 2.0);
+        FixedBinHistogram h2 = new FixedBinHistogram(2, 0.0, 2.0);
+        h1.add(0.5);
+        h2.add(0.5);
+        h2.add(1.5);
+        h1.merge(h2);
+        assertEquals(2, h1.getCount(0));
+        assertEquals(1, h1.getCount(1));
+        assertEquals(3, h1.getTotalCount());
+        try {
+            h1.merge(new FixedBinHistogram(3, 0.0, 2.0));
+            assertTrue(false);
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        h1.clear();
+        assertEquals(0, h1.getTotalCount());
+    }
+
+    /**
+     * Ensure that the equals() method can distinguish all fields.
+     */
+    @Test
+    public void testEquals() {
+        FixedBinHistogram h1 = new FixedBinHistogram(2, 0.0, 2.0);
+        FixedBinHistogram h2 = new FixedBinHistogram(2, 0.0, 2.0);
+        assertTrue(h1.equals(h2));
+        h1 = new FixedBinHistogram(2, 1.0, 2.0);
+        assertFalse(h1.equals(h2));
+        h2 = new FixedBinHistogram(2, 1.0, 2.0);
+        assertTrue(h1.equals(h2));
+        h1 = new FixedBinHistogram(2, 1.0, 3.0);
+        assertFalse(h1.equals(h2));
+        h2 = new FixedBinHistogram(2, 1.0, 3.0);
+        assertTrue(h1.equals(h2));
+        h1.add(1.5);
+        assertFalse(h1.equals(h2));
+        h2.add(1.5);
+        assertTrue(h1.equals(h2));
+        assertEquals(h1.hashCode(), h2.hashCode());
+    }
+
+    /**
+     * Some checks for the clone() method.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        FixedBinHistogram h1 = new FixedBinHistogram(2, 0.0, 2.0);
+        h1.add(0.5);
+        FixedBinHistogram h2 = (FixedBinHistogram) h1.clone();
+        assertTrue(h1 != h2);
+        assertTrue(h1.equals(h2));
+        h2.add(0.5);
+        assertFalse(h1.equals(h2));
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        FixedBinHistogram h1 = new FixedBinHistogram(3, 0.0, 2.0);
+        h1.add(1.0);
+        FixedBinHistogram h2 = (FixedBinHistogram) TestUtilities.serialised(h1);
+        assertEquals(h1, h2);
+    }
+
+}
@@ -35,6 +35,7 @@
  * Changes
  * -------
  * 01-Mar-2004 : Version 1 (DG);
+ * 16-Oct-2026 : Added testLongCount;
  *
  */
 
@@ -89,4 +90,19 @@ public class HistogramBinTest {
         assertEquals(b1, b2);
     }
 
+    /**
+     * The count can exceed the range of an int.
+     */
+    @Test
+    public void testLongCount() {
+        HistogramBin b1 = new HistogramBin(10.0, 20.0);
+        b1.addCount(5000000000L);
+        b1.incrementCount();
+        assertEquals(5000000001L, b1.getLongCount());
+        assertEquals(Integer.MAX_VALUE, b1.getCount());
+        HistogramBin b2 = (HistogramBin) TestUtilities.serialised(b1);
+        assertEquals(5000000001L, b2.getLongCount());
+        assertEquals(b1, b2);
+    }
+
 }
@@ -39,6 +39,7 @@
  * 03-Aug-2006 : Added testAddSeries() and testBinBoundaries() method (DG);
  * 22-May-2008 : Added testAddSeries2() and enhanced testCloning() (DG);
  * 08-Dec-2009 : Added test2902842() for patch at SourceForge (DG);
+ * 16-Oct-2026 : Added testAddSeriesFromHistogram();
  *
  */
 
@@ -238,6 +239,27 @@ public class HistogramDatasetTest implements DatasetChangeListener {
         assertNotNull(this.lastEvent);
     }
 
+    /**
+     * A series added from a {@link FixedBinHistogram} is the same as a series
+     * added from the values that were counted by the histogram.
+     */
+    @Test
+    public void testAddSeriesFromHistogram() {
+        double[] values = {-1.0, 0.0, 1.0, 2.0, 2.5, 3.0, 4.0, 5.0, 9.0};
+        HistogramDataset d1 = new HistogramDataset();
+        d1.addSeries("S1", values, 4, 0.0, 5.0);
+        FixedBinHistogram h1 = new FixedBinHistogram(4, 0.0, 5.0);
+        FixedBinHistogram h2 = new FixedBinHistogram(4, 0.0, 5.0);
+        h1.add(values, 0, 4);
+        h2.add(values, 4, values.length - 4);
+        h1.merge(h2);
+        HistogramDataset d2 = new HistogramDataset();
+        d2.addSeries("S1", h1);
+        assertEquals(d1, d2);
+        d2.setType(HistogramType.RELATIVE_FREQUENCY);
+        assertEquals(3.0 / 9.0, d2.getYValue(0, 0), EPSILON);
+    }
+
     /**
      * A reference to the last event received by the datasetChanged() method.
      */
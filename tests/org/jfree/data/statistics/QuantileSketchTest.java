@@ -0,0 +1,191 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------
+ * QuantileSketchTest.java
+ * -----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.jfree.chart.TestUtilities;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link QuantileSketch} class.
+ */
+public class QuantileSketchTest {
+
+    private static final double EPSILON = 0.0000000001;
+
+    /**
+     * Some checks for a sketch that holds every value.
+     */
+    @Test
+    public void testExact() {
+        QuantileSketch s = new QuantileSketch();
+        assertTrue(Double.isNaN(s.getQuantile(0.5)));
+        assertTrue(Double.isNaN(s.getMean()));
+        for (int i = 10; i >= 1; i--) {
+            s.add(i);
+        }
+        s.add(Double.NaN);
+        assertTrue(s.isExact());
+        assertEquals(10, s.getCount());
+        assertEquals(5.5, s.getMean(), EPSILON);
+        assertEquals(1.0, s.getMinimum(), EPSILON);
+        assertEquals(10.0, s.getMaximum(), EPSILON);
+        assertEquals(1.0, s.getQuantile(0.0), EPSILON);
+        assertEquals(1.0, s.getQuantile(0.1), EPSILON);
+        assertEquals(5.0, s.getQuantile(0.5), EPSILON);
+        assertEquals(6.0, s.getQuantile(0.55), EPSILON);
+        assertEquals(10.0, s.getQuantile(1.0), EPSILON);
+    }
+
+    /**
+     * The estimated quantiles for a large stream are close to the exact
+     * quantiles, and the sketch stays small.
+     */
+    @Test
+    public void testAccuracy() {
+        int n = 1000000;
+        double[] values = new double[n];
+        Random random = new Random(42L);
+        QuantileSketch s = new QuantileSketch();
+        for (int i = 0; i < n; i++) {
+            values[i] = Math.exp(random.nextGaussian());
+            s.add(values[i]);
+        }
+        assertFalse(s.isExact());
+        assertEquals(n, s.getCount());
+        assertTrue(s.getRetainedValues().length < 4 * QuantileSketch.DEFAULT_K);
+        Arrays.sort(values);
+        double[] qs = {0.01, 0.25, 0.5, 0.75, 0.99};
+        for (int i = 0; i < qs.length; i++) {
+            double estimate = s.getQuantile(qs[i]);
+            double rank = (double) rankOf(values, estimate) / n;
+            assertEquals(qs[i], rank, 0.01);
+        }
+        assertEquals(values[0], s.getMinimum(), 0.0);
+        assertEquals(values[n - 1], s.getMaximum(), 0.0);
+    }
+
+    /**
+     * Returns the number of values less than or equal to a value.
+     *
+     * @param sorted  the values, in ascending order.
+     * @param value  the value.
+     *
+     * @return The rank.
+     */
+    private int rankOf(double[] sorted, double value) {
+        int index = Arrays.binarySearch(sorted, value);
+        if (index < 0) {
+            return -index - 1;
+        }
+        while (index + 1 < sorted.length && sorted[index + 1] == value) {
+            index++;
+        }
+        return index + 1;
+    }
+
+    /**
+     * Sketches built for separate parts of a stream can be merged.
+     */
+    @Test
+    public void testMerge() {
+        QuantileSketch total = new QuantileSketch();
+        QuantileSketch[] shards = new QuantileSketch[8];
+        for (int i = 0; i < shards.length; i++) {
+            shards[i] = new QuantileSketch();
+        }
+        for (int i = 0; i < 400000; i++) {
+            shards[i % shards.length].add(i);
+        }
+        for (int i = 0; i < shards.length; i++) {
+            total.merge(shards[i]);
+        }
+        assertEquals(400000, total.getCount());
+        assertEquals(0.0, total.getMinimum(), EPSILON);
+        assertEquals(399999.0, total.getMaximum(), EPSILON);
+        assertEquals(199999.5, total.getMean(), EPSILON);
+        assertEquals(200000.0, total.getQuantile(0.5), 4000.0);
+        assertEquals(100000.0, total.getQuantile(0.25), 4000.0);
+
+        // merging a sketch with itself doubles every count
+        total.merge(total);
+        assertEquals(800000, total.getCount());
+        assertEquals(200000.0, total.getQuantile(0.5), 4000.0);
+    }
+
+    /**
+     * Some checks for the clone() method.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        QuantileSketch s1 = new QuantileSketch(20);
+        for (int i = 0; i < 1000; i++) {
+            s1.add(i);
+        }
+        QuantileSketch s2 = (QuantileSketch) s1.clone();
+        assertEquals(s1.getQuantile(0.3), s2.getQuantile(0.3), 0.0);
+        s2.add(5000.0);
+        assertEquals(1000, s1.getCount());
+        assertEquals(999.0, s1.getMaximum(), 0.0);
+    }
+
+    /**
+     * Serialize an instance, restore it, and check that it summarises the
+     * same values.
+     */
+    @Test
+    public void testSerialization() {
+        QuantileSketch s1 = new QuantileSketch(20);
+        for (int i = 0; i < 1000; i++) {
+            s1.add(i * 0.5);
+        }
+        QuantileSketch s2 = (QuantileSketch) TestUtilities.serialised(s1);
+        assertEquals(s1.getCount(), s2.getCount());
+        assertEquals(s1.getQuantile(0.7), s2.getQuantile(0.7), 0.0);
+    }
+
+}
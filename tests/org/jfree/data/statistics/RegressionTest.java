@@ -36,12 +36,14 @@
  * -------
  * 30-Sep-2002 : Version 1 (DG);
  * 17-Oct-2002 : Fixed errors reported by Checkstyle (DG);
+ * 16-Oct-2026 : Added tests for the double[] methods;
  *
  */
 
 package org.jfree.data.statistics;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import org.jfree.data.xy.XYDataset;
 import org.jfree.data.xy.XYSeries;
@@ -185,6 +187,77 @@ public class RegressionTest {
 
     }
 
+    /**
+     * The array methods should give the same results as the other methods,
+     * and ignore pairs that contain a NaN value.
+     */
+    @Test
+    public void testOLSRegressionDoubleArrays() {
+        double[][] data = createSampleData1();
+        double[] x = new double[data.length + 1];
+        double[] y = new double[data.length + 1];
+        for (int i = 0; i < data.length; i++) {
+            x[i] = data[i][0];
+            y[i] = data[i][1];
+        }
+        x[data.length] = 5.0;
+        y[data.length] = Double.NaN;
+        double[] result = Regression.getOLSRegression(x, y);
+        assertEquals(.25680930, result[0], 0.0000001);
+        assertEquals(0.72792106, result[1], 0.0000001);
+
+        // a large offset in x does not lose precision
+        double[] shifted = new double[] {1e9, 1e9 + 1, 1e9 + 2, 1e9 + 3};
+        double[] line = new double[] {1.0, 3.0, 5.0, 7.0};
+        result = Regression.getOLSRegression(shifted, line);
+        assertEquals(2.0, result[1], 0.0000001);
+
+        boolean pass = false;
+        try {
+            Regression.getOLSRegression(new double[] {1.0, Double.NaN},
+                    new double[] {1.0, 2.0});
+        }
+        catch (IllegalArgumentException e) {
+            pass = true;
+        }
+        assertTrue(pass);
+    }
+
+    /**
+     * The polynomial regression for arrays should match the dataset method,
+     * and fit a quadratic exactly.
+     */
+    @Test
+    public void testPolynomialRegressionDoubleArrays() {
+        double[][] data = createSampleData2();
+        XYSeries series = new XYSeries("Test");
+        double[] x = new double[data.length];
+        double[] y = new double[data.length];
+        for (int i = 0; i < data.length; i++) {
+            series.add(data[i][0], data[i][1]);
+            x[i] = data[i][0];
+            y[i] = data[i][1];
+        }
+        XYDataset ds = new XYSeriesCollection(series);
+        double[] expected = Regression.getPolynomialRegression(ds, 0, 3);
+        double[] result = Regression.getPolynomialRegression(x, y, 3);
+        assertEquals(expected.length, result.length);
+        for (int i = 0; i < result.length; i++) {
+            assertEquals(expected[i], result[i], 0.0000001);
+        }
+
+        double[] qx = new double[] {-2.0, -1.0, 0.0, 1.0, 2.0, 3.0};
+        double[] qy = new double[qx.length];
+        for (int i = 0; i < qx.length; i++) {
+            qy[i] = 1.0 - 2.0 * qx[i] + 0.5 * qx[i] * qx[i];
+        }
+        result = Regression.getPolynomialRegression(qx, qy, 2);
+        assertEquals(1.0, result[0], 0.0000001);
+        assertEquals(-2.0, result[1], 0.0000001);
+        assertEquals(0.5, result[2], 0.0000001);
+        assertEquals(1.0, result[3], 0.0000001);
+    }
+
     /**
      * Creates and returns a sample dataset.
      * <P>
@@ -35,6 +35,7 @@
  * Changes
  * -------
  * 10-Jan-2005 : Version 1 (DG);
+ * 16-Oct-2026 : Added testCount;
  *
  */
 
@@ -162,4 +163,20 @@ public class SimpleHistogramBinTest {
         assertEquals(b1, b2);
     }
 
+    /**
+     * The item count can exceed the range of an int.
+     */
+    @Test
+    public void testCount() {
+        SimpleHistogramBin b1 = new SimpleHistogramBin(1.0, 2.0);
+        b1.setCount(5000000000L);
+        assertEquals(5000000000L, b1.getCount());
+        assertEquals(Integer.MAX_VALUE, b1.getItemCount());
+        SimpleHistogramBin b2 = (SimpleHistogramBin)
+                TestUtilities.serialised(b1);
+        assertEquals(5000000000L, b2.getCount());
+        b1.setItemCount(7);
+        assertEquals(7L, b1.getCount());
+    }
+
 }
@@ -36,6 +36,7 @@
  * -------
  * 10-Jan-2005 : Version 1 (DG);
  * 21-May-2007 : Added testClearObservations (DG);
+ * 16-Oct-2026 : Added tests for bin lookup, bulk counts and accumulators;
  *
  */
 
@@ -44,6 +45,9 @@ package org.jfree.data.statistics;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+import java.util.Random;
 
 import org.jfree.chart.TestUtilities;
 import org.junit.Test;
@@ -125,4 +129,163 @@ public class SimpleHistogramDatasetTest {
         assertEquals(0, d1.getItemCount(0));
     }
 
+    /**
+     * Observations are placed in the same bins as a linear search with
+     * {@link SimpleHistogramBin#accepts(double)} would place them, for
+     * uniform bins and for bins of varying width with gaps.
+     */
+    @Test
+    public void testAddObservation() {
+        SimpleHistogramBin[] bins = new SimpleHistogramBin[10];
+        SimpleHistogramDataset uniform = new SimpleHistogramDataset("U");
+        for (int i = 9; i >= 0; i--) {
+            bins[i] = new SimpleHistogramBin(i * 0.1, (i + 1) * 0.1, true,
+                    i == 9);
+            uniform.addBin(bins[i]);
+        }
+        checkBins(uniform, bins, new double[] {0.0, 0.1, 0.3, 0.7, 0.9,
+                0.95, 1.0});
+
+        bins = new SimpleHistogramBin[] {
+                new SimpleHistogramBin(-5.0, -1.0, false, true),
+                new SimpleHistogramBin(-1.0, 0.5, false, false),
+                new SimpleHistogramBin(2.0, 2.5),
+                new SimpleHistogramBin(2.5, 100.0, false, true)};
+        SimpleHistogramDataset varying = new SimpleHistogramDataset("V");
+        for (int i = 0; i < bins.length; i++) {
+            varying.addBin(bins[i]);
+        }
+        checkBins(varying, bins, new double[] {-4.0, -1.0, 0.0, 2.0, 2.5,
+                2.6, 100.0});
+        try {
+            varying.addObservation(0.5);
+            fail("0.5 is not in any bin.");
+        }
+        catch (RuntimeException e) {
+            assertEquals("No bin.", e.getMessage());
+        }
+        try {
+            varying.addBin(new SimpleHistogramBin(0.0, 2.0));
+            fail("The bin overlaps (-1.0, 0.5).");
+        }
+        catch (RuntimeException e) {
+            assertEquals("Overlapping bin", e.getMessage());
+        }
+        SimpleHistogramBin gap = new SimpleHistogramBin(0.5, 2.0, true, false);
+        varying.addBin(gap);
+        varying.addObservation(0.5);
+        assertEquals(1, gap.getItemCount());
+    }
+
+    /**
+     * Adds the values to the dataset one at a time, and checks that each
+     * value was counted in the bin that accepts it.
+     *
+     * @param dataset  the dataset.
+     * @param bins  the bins in the dataset.
+     * @param values  the values, each of which must belong in a bin.
+     */
+    private void checkBins(SimpleHistogramDataset dataset,
+            SimpleHistogramBin[] bins, double[] values) {
+        for (int i = 0; i < values.length; i++) {
+            SimpleHistogramBin bin = null;
+            for (int b = 0; b < bins.length; b++) {
+                if (bins[b].accepts(values[i])) {
+                    bin = bins[b];
+                }
+            }
+            long count = bin.getCount();
+            dataset.addObservation(values[i]);
+            assertEquals(count + 1, bin.getCount());
+        }
+    }
+
+    /**
+     * Some checks for the addObservations() method, with an array that is
+     * large enough to be counted in parallel.
+     */
+    @Test
+    public void testAddObservations() {
+        SimpleHistogramDataset d1 = new SimpleHistogramDataset("D1");
+        d1.setAdjustForBinSize(false);
+        double[] bounds = {0.0, 0.5, 1.5, 3.0, 7.0, 20.0};
+        for (int i = 0; i < bounds.length - 1; i++) {
+            d1.addBin(new SimpleHistogramBin(bounds[i], bounds[i + 1], true,
+                    false));
+        }
+        Random random = new Random(123L);
+        double[] values = new double[500000];
+        long[] expected = new long[bounds.length - 1];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextDouble() * 20.0;
+            for (int b = 0; b < expected.length; b++) {
+                if (values[i] < bounds[b + 1]) {
+                    expected[b]++;
+                    break;
+                }
+            }
+        }
+        d1.addObservations(values);
+        for (int b = 0; b < expected.length; b++) {
+            assertEquals(expected[b], d1.getYValue(0, b), EPSILON);
+        }
+
+        // if any value is not in a bin, nothing is added
+        values[values.length - 1] = 20.0;
+        try {
+            d1.addObservations(values);
+            fail("20.0 is not in any bin.");
+        }
+        catch (RuntimeException e) {
+            assertEquals("No bin.", e.getMessage());
+        }
+        assertEquals(expected[0], d1.getYValue(0, 0), EPSILON);
+    }
+
+    /**
+     * Some checks for the accumulators created by a dataset.
+     */
+    @Test
+    public void testAccumulator() {
+        SimpleHistogramDataset d1 = new SimpleHistogramDataset("D1");
+        d1.setAdjustForBinSize(false);
+        d1.addBin(new SimpleHistogramBin(0.0, 1.0, true, false));
+        d1.addBin(new SimpleHistogramBin(1.0, 2.0));
+        SimpleHistogramAccumulator a1 = d1.createAccumulator();
+        SimpleHistogramAccumulator a2 = d1.createAccumulator();
+        assertTrue(a1.add(0.5));
+        assertTrue(a1.add(1.0));
+        assertFalse(a1.add(5.0));
+        assertFalse(a1.add(Double.NaN));
+        a2.add(new double[] {9.0, 0.1, 0.2, 1.5, 9.0}, 1, 3);
+        a1.merge(a2);
+        assertEquals(3, a1.getCount(0));
+        assertEquals(2, a1.getCount(1));
+        assertEquals(2, a1.getUnbinnedCount());
+
+        d1.addCounts(a1);
+        assertEquals(3.0, d1.getYValue(0, 0), EPSILON);
+        assertEquals(2.0, d1.getYValue(0, 1), EPSILON);
+        a1.clear();
+        assertEquals(0, a1.getCount(0));
+        assertEquals(0, a1.getUnbinnedCount());
+
+        // an accumulator can't be used after the bins change
+        d1.addBin(new SimpleHistogramBin(3.0, 4.0));
+        try {
+            d1.addCounts(a2);
+            fail("The bins have changed.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            d1.createAccumulator().merge(a2);
+            fail("The bins have changed.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
 }
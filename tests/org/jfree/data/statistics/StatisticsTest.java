@@ -36,6 +36,7 @@
  * -------
  * 25-Mar-2004 : Version 1 (DG);
  * 04-Oct-2004 : Eliminated NumberUtils usage (DG);
+ * 16-Oct-2026 : Added tests for the double[] methods;
  *
  */
 
@@ -45,9 +46,11 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 import org.junit.Test;
 
 /**
@@ -462,4 +465,154 @@ public class StatisticsTest {
                 {new Double(1.0)})));
     }
 
+    /**
+     * The median found by selection should match the median of the sorted
+     * values, for both odd and even counts.
+     */
+    @Test
+    public void testCalculateMedianDoubleArray() {
+        Random random = new Random(31L);
+        for (int n = 1; n < 60; n++) {
+            double[] values = new double[n];
+            for (int i = 0; i < n; i++) {
+                values[i] = random.nextInt(20);
+            }
+            double[] copy = values.clone();
+            double[] sorted = values.clone();
+            Arrays.sort(sorted);
+            double expected = (n % 2 == 1) ? sorted[n / 2]
+                    : (sorted[n / 2 - 1] + sorted[n / 2]) / 2.0;
+            assertEquals(expected, Statistics.calculateMedian(values, 0,
+                    n - 1), 0.0);
+            // the input array is not changed
+            assertTrue(Arrays.equals(copy, values));
+            assertEquals(expected, Statistics.selectMedian(values, 0, n - 1),
+                    0.0);
+        }
+
+        // NaN values are ignored, and a sub-range can be used
+        double[] values = new double[] {9.0, 3.0, Double.NaN, 1.0, 2.0, 8.0};
+        assertEquals(2.0, Statistics.calculateMedian(values, 1, 4), 0.0);
+        assertEquals(3.0, Statistics.calculateMedian(values, 0, 5), 0.0);
+        assertTrue(Double.isNaN(Statistics.calculateMedian(values, 2, 2)));
+    }
+
+    /**
+     * The List median now uses selection, so check it against the sorted
+     * list with NaN values present.
+     */
+    @Test
+    public void testCalculateMedianListWithNaN() {
+        List values = new ArrayList();
+        values.add(new Double(4.0));
+        values.add(new Double(Double.NaN));
+        values.add(new Double(1.0));
+        values.add(new Double(3.0));
+        double expected = Statistics.calculateMedian(values, false);
+        List sorted = new ArrayList(values);
+        Collections.sort(sorted);
+        assertEquals(Statistics.calculateMedian(sorted, false),
+                Statistics.calculateMedian(values, true), 0.0);
+        assertEquals(expected, Statistics.calculateMedian(values, false), 0.0);
+    }
+
+    /**
+     * Some checks for the calculateMean() and
+     * calculateMeanAndStandardDeviation() methods for arrays.
+     */
+    @Test
+    public void testCalculateMeanAndStandardDeviationDoubleArray() {
+        double[] values = new double[] {1.0, 2.0, Double.NaN, 3.0, 4.0, 10.0};
+        assertEquals(2.5, Statistics.calculateMean(values, 0, 4), EPSILON);
+        assertEquals(4.0, Statistics.calculateMean(values, 0, 5), EPSILON);
+        assertTrue(Double.isNaN(Statistics.calculateMean(values, 2, 2)));
+
+        Double[] boxed = new Double[] {new Double(1.0), new Double(2.0),
+                new Double(3.0), new Double(4.0), new Double(10.0)};
+        MeanAndStandardDeviation msd
+                = Statistics.calculateMeanAndStandardDeviation(values, 0, 5);
+        assertEquals(4.0, msd.getMeanValue(), EPSILON);
+        assertEquals(Statistics.getStdDev(boxed),
+                msd.getStandardDeviationValue(), EPSILON);
+
+        // large offsets do not lose precision
+        double[] shifted = new double[] {1e9 + 4, 1e9 + 7, 1e9 + 13,
+                1e9 + 16};
+        msd = Statistics.calculateMeanAndStandardDeviation(shifted, 0, 3);
+        assertEquals(Math.sqrt(30.0), msd.getStandardDeviationValue(),
+                EPSILON);
+    }
+
+    /**
+     * The correlation for arrays should match getCorrelation().
+     */
+    @Test
+    public void testCalculateCorrelationDoubleArray() {
+        Random random = new Random(7L);
+        double[] d1 = new double[50];
+        double[] d2 = new double[50];
+        Number[] n1 = new Number[50];
+        Number[] n2 = new Number[50];
+        for (int i = 0; i < 50; i++) {
+            d1[i] = random.nextDouble() * 100.0;
+            d2[i] = d1[i] * 0.5 + random.nextGaussian() * 10.0;
+            n1[i] = new Double(d1[i]);
+            n2[i] = new Double(d2[i]);
+        }
+        assertEquals(Statistics.getCorrelation(n1, n2),
+                Statistics.calculateCorrelation(d1, d2), EPSILON);
+    }
+
+    /**
+     * The moving average for arrays should match getMovingAverage(),
+     * including when the data contains a NaN value.
+     */
+    @Test
+    public void testCalculateMovingAverageDoubleArray() {
+        int n = 40;
+        double[] x = new double[n];
+        double[] y = new double[n];
+        Number[] xn = new Number[n];
+        Number[] yn = new Number[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = i;
+            y[i] = (i == 12) ? Double.NaN : Math.sin(i) * 10.0;
+            xn[i] = new Double(x[i]);
+            yn[i] = new Double(y[i]);
+        }
+        double[][] expected = Statistics.getMovingAverage(xn, yn, 5);
+        double[][] actual = Statistics.calculateMovingAverage(x, y, 5);
+        assertEquals(expected.length, actual.length);
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i][0], actual[i][0], 0.0);
+            assertEquals(expected[i][1], actual[i][1], EPSILON);
+        }
+        assertTrue(Double.isNaN(actual[10][1]));
+        assertTrue(!Double.isNaN(actual[13][1]));
+    }
+
+    /**
+     * A large value that has left the window does not affect the later
+     * averages through rounding errors in the running sum.
+     */
+    @Test
+    public void testMovingAverageLargeValue() {
+        double[] y = new double[] {1e17, 1.0, 1.0, 1.0, 1.0, 1.0, 1.0};
+        double[] x = new double[y.length];
+        Number[] xn = new Number[y.length];
+        Number[] yn = new Number[y.length];
+        for (int i = 0; i < y.length; i++) {
+            x[i] = i;
+            xn[i] = new Double(x[i]);
+            yn[i] = new Double(y[i]);
+        }
+        double[][] ma = Statistics.getMovingAverage(xn, yn, 2);
+        double[][] ma2 = Statistics.calculateMovingAverage(x, y, 2);
+        assertEquals(5, ma.length);
+        for (int i = 1; i < ma.length; i++) {
+            assertEquals(1.0, ma[i][1], EPSILON);
+            assertEquals(1.0, ma2[i][1], EPSILON);
+        }
+    }
+
 }
@@ -36,13 +36,20 @@
  * -------
  * 14-Aug-2003 : Version 1 (DG);
  * 04-Oct-2004 : Eliminated NumberUtils usage (DG);
+ * 16-Oct-2026 : Added tests for XY data, null values, moving windows and
+ *               the MovingWindowUpdater class;
  *
  */
 
 package org.jfree.data.time;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
 import org.jfree.date.MonthConstants;
 import org.junit.Test;
 
@@ -81,6 +88,275 @@ public class MovingAverageTest {
         assertEquals(12.5, value, EPSILON);
     }
 
+    /**
+     * Null values are excluded from the averages, and an average is
+     * <code>null</code> when there are no values in the window.
+     */
+    @Test
+    public void testNullValues() {
+        TimeSeries source = new TimeSeries("Series 1");
+        source.add(new Day(1, MonthConstants.MARCH, 2010), 1.0);
+        source.add(new Day(2, MonthConstants.MARCH, 2010), null);
+        source.add(new Day(3, MonthConstants.MARCH, 2010), 3.0);
+        source.add(new Day(8, MonthConstants.MARCH, 2010), null);
+        source.add(new Day(9, MonthConstants.MARCH, 2010), 5.0);
+        TimeSeries maverage = MovingAverage.createMovingAverage(source,
+                "MA", 2, 0);
+        assertEquals(5, maverage.getItemCount());
+        assertEquals(1.0, maverage.getValue(0).doubleValue(), EPSILON);
+        assertEquals(1.0, maverage.getValue(1).doubleValue(), EPSILON);
+        assertEquals(3.0, maverage.getValue(2).doubleValue(), EPSILON);
+        assertNull(maverage.getValue(3));
+        assertEquals(5.0, maverage.getValue(4).doubleValue(), EPSILON);
+    }
+
+    /**
+     * A test for the values calculated from an XY series, with the x-values
+     * in ascending order and not.
+     */
+    @Test
+    public void testXYDataset() {
+        XYSeries s1 = new XYSeries("S1");
+        s1.add(1.0, 2.0);
+        s1.add(2.0, 4.0);
+        s1.add(2.5, 9.0);
+        s1.add(5.0, 1.0);
+        XYSeries ma = MovingAverage.createMovingAverage(
+                new XYSeriesCollection(s1), 0, "MA", 2.0, 0.5);
+        assertEquals(3, ma.getItemCount());
+        assertEquals(3.0, ma.getY(0).doubleValue(), EPSILON);
+        assertEquals(5.0, ma.getY(1).doubleValue(), EPSILON);
+        assertEquals(1.0, ma.getY(2).doubleValue(), EPSILON);
+
+        XYSeries s2 = new XYSeries("S2", false);
+        s2.add(3.0, 2.0);
+        s2.add(1.0, 4.0);
+        s2.add(4.0, 6.0);
+        ma = MovingAverage.createMovingAverage(new XYSeriesCollection(s2), 0,
+                "MA", 2.0, 0.0);
+        assertEquals(2, ma.getItemCount());
+        assertEquals(3.0, ma.getX(0).doubleValue(), EPSILON);
+        assertEquals(2.0, ma.getY(0).doubleValue(), EPSILON);
+        assertEquals(4.0, ma.getX(1).doubleValue(), EPSILON);
+        assertEquals(6.0, ma.getY(1).doubleValue(), EPSILON);
+    }
+
+    /**
+     * An infinite value only affects the averages of the windows that
+     * contain it.
+     */
+    @Test
+    public void testInfiniteValue() {
+        TimeSeries source = new TimeSeries("Series 1");
+        XYSeries s1 = new XYSeries("S1");
+        Day day = new Day(1, MonthConstants.MARCH, 2010);
+        for (int i = 0; i < 7; i++) {
+            double v = 1.0;
+            if (i == 1) {
+                v = Double.POSITIVE_INFINITY;
+            }
+            else if (i == 5) {
+                v = Double.NEGATIVE_INFINITY;
+            }
+            source.add(day, v);
+            s1.add(i, v);
+            day = (Day) day.next();
+        }
+        TimeSeries maverage = MovingAverage.createMovingAverage(source,
+                "MA", 3, 0);
+        XYSeries ma = MovingAverage.createMovingAverage(
+                new XYSeriesCollection(s1), 0, "MA", 3.0, 0.0);
+        assertEquals(7, maverage.getItemCount());
+        assertEquals(7, ma.getItemCount());
+        assertEquals(Double.POSITIVE_INFINITY,
+                maverage.getValue(3).doubleValue(), EPSILON);
+        assertEquals(Double.POSITIVE_INFINITY, ma.getY(3).doubleValue(),
+                EPSILON);
+        assertEquals(1.0, maverage.getValue(4).doubleValue(), EPSILON);
+        assertEquals(1.0, ma.getY(4).doubleValue(), EPSILON);
+        assertEquals(Double.NEGATIVE_INFINITY,
+                maverage.getValue(5).doubleValue(), EPSILON);
+        assertEquals(Double.NEGATIVE_INFINITY, ma.getY(5).doubleValue(),
+                EPSILON);
+    }
+
+    /**
+     * A large value that has left the window does not affect the later
+     * averages through rounding errors in the running sum.
+     */
+    @Test
+    public void testLargeValueLeavesWindow() {
+        TimeSeries source = new TimeSeries("Series 1");
+        XYSeries s1 = new XYSeries("S1");
+        Day day = new Day(1, MonthConstants.MARCH, 2010);
+        for (int i = 0; i < 6; i++) {
+            double v = (i == 0 ? 1e17 : 1.0);
+            source.add(day, v);
+            s1.add(i, v);
+            day = (Day) day.next();
+        }
+        TimeSeries maverage = MovingAverage.createMovingAverage(source,
+                "MA", 2, 0);
+        XYSeries ma = MovingAverage.createMovingAverage(
+                new XYSeriesCollection(s1), 0, "MA", 2.0, 0.0);
+        assertEquals(6, maverage.getItemCount());
+        assertEquals(6, ma.getItemCount());
+        for (int i = 2; i < 6; i++) {
+            assertEquals(1.0, maverage.getValue(i).doubleValue(), EPSILON);
+            assertEquals(1.0, ma.getY(i).doubleValue(), EPSILON);
+        }
+    }
+
+    /**
+     * Some checks for the values calculated by the createPointMovingWindow()
+     * method.
+     */
+    @Test
+    public void testCreatePointMovingWindow() {
+        TimeSeries source = createDailyTimeSeries1();
+        TimeSeries mean = MovingAverage.createPointMovingWindow(source, "M",
+                MovingWindowFunction.MEAN, 3);
+        assertEquals(7, mean.getItemCount());
+        assertEquals(new Day(17, MonthConstants.AUGUST, 2003),
+                mean.getTimePeriod(0));
+        assertEquals(13.033333333333, mean.getValue(0).doubleValue(),
+                EPSILON);
+        assertEquals(14.1, MovingAverage.createPointMovingWindow(source, "M",
+                MovingWindowFunction.MAXIMUM, 3).getValue(1).doubleValue(),
+                EPSILON);
+        assertEquals(10.7, MovingAverage.createPointMovingWindow(source, "M",
+                MovingWindowFunction.MINIMUM, 3).getValue(5).doubleValue(),
+                EPSILON);
+        assertEquals((14.1 + 2 * 12.7 + 3 * 16.5) / 6.0,
+                MovingAverage.createPointMovingWindow(source, "M",
+                MovingWindowFunction.WEIGHTED_MEAN, 3).getValue(2)
+                .doubleValue(), EPSILON);
+
+        // check the running calculations against direct calculations...
+        XYSeries xy = new XYSeries("XY");
+        for (int i = 0; i < 500; i++) {
+            xy.add(i, 1000.0 + Math.sin(i * 0.37) * 50.0 + (i % 7));
+        }
+        int n = 20;
+        XYSeries sd = MovingAverage.createPointMovingWindow(xy, "SD",
+                MovingWindowFunction.STANDARD_DEVIATION, n);
+        XYSeries max = MovingAverage.createPointMovingWindow(xy, "MAX",
+                MovingWindowFunction.MAXIMUM, n);
+        assertEquals(500 - n + 1, sd.getItemCount());
+        for (int i = n - 1; i < 500; i++) {
+            double sum = 0.0;
+            double m = Double.NEGATIVE_INFINITY;
+            for (int j = i - n + 1; j <= i; j++) {
+                sum += xy.getY(j).doubleValue();
+                m = Math.max(m, xy.getY(j).doubleValue());
+            }
+            double avg = sum / n;
+            double ss = 0.0;
+            for (int j = i - n + 1; j <= i; j++) {
+                double d = xy.getY(j).doubleValue() - avg;
+                ss += d * d;
+            }
+            int k = i - n + 1;
+            assertEquals(Math.sqrt(ss / (n - 1)), sd.getY(k).doubleValue(),
+                    1e-8);
+            assertEquals(m, max.getY(k).doubleValue(), EPSILON);
+        }
+    }
+
+    /**
+     * Some checks for the {@link MovingWindow} class.
+     */
+    @Test
+    public void testMovingWindow() {
+        MovingWindow w = new MovingWindow(
+                MovingWindowFunction.EXPONENTIAL_MEAN, 3);
+        w.add(1.0);
+        w.add(2.0);
+        assertFalse(w.isReady());
+        assertTrue(Double.isNaN(w.getValue()));
+        w.add(3.0);
+        assertTrue(w.isReady());
+        assertEquals(2.0, w.getValue(), EPSILON);
+        w.add(6.0);
+        assertEquals(4.0, w.getValue(), EPSILON);
+        w.clear();
+        assertEquals(0, w.getCount());
+        assertFalse(w.isReady());
+    }
+
+    /**
+     * The updater appends results as items are added to the source series,
+     * and recalculates when other changes are made.
+     */
+    @Test
+    public void testMovingWindowUpdater() {
+        TimeSeries source = new TimeSeries("Source");
+        TimeSeries target = new TimeSeries("Target");
+        MovingWindowUpdater updater = new MovingWindowUpdater(source, target,
+                MovingWindowFunction.MEAN, 2);
+        Day day = new Day(1, MonthConstants.JANUARY, 2010);
+        source.add(day, 1.0);
+        assertEquals(0, target.getItemCount());
+        source.add(day.next(), 3.0);
+        source.add(day.next().next(), 8.0);
+        assertEquals(2, target.getItemCount());
+        assertEquals(2.0, target.getValue(0).doubleValue(), EPSILON);
+        assertEquals(5.5, target.getValue(1).doubleValue(), EPSILON);
+
+        // a change to an earlier item triggers a recalculation
+        source.update(0, new Double(5.0));
+        assertEquals(2, target.getItemCount());
+        assertEquals(4.0, target.getValue(0).doubleValue(), EPSILON);
+
+        // after dispose(), the target is no longer updated
+        updater.dispose();
+        source.add(day.next().next().next(), 10.0);
+        assertEquals(2, target.getItemCount());
+    }
+
+    /**
+     * The updater recalculates the target when an item is inserted before
+     * the last item processed, or when the last item is updated in the same
+     * event as an append, but not when items are removed from the start of
+     * the source.
+     */
+    @Test
+    public void testMovingWindowUpdaterChanges() {
+        TimeSeries source = new TimeSeries("Source");
+        TimeSeries target = new TimeSeries("Target");
+        new MovingWindowUpdater(source, target, MovingWindowFunction.MEAN, 2);
+        Day d1 = new Day(1, MonthConstants.JANUARY, 2010);
+        Day d3 = new Day(3, MonthConstants.JANUARY, 2010);
+        Day d4 = new Day(4, MonthConstants.JANUARY, 2010);
+        source.add(d1, 1.0);
+        source.add(d3, 3.0);
+        assertEquals(1, target.getItemCount());
+        assertEquals(2.0, target.getValue(0).doubleValue(), EPSILON);
+
+        // an item inserted before the last item
+        source.add(d1.next(), 5.0);
+        assertEquals(2, target.getItemCount());
+        assertEquals(3.0, target.getValue(0).doubleValue(), EPSILON);
+        assertEquals(4.0, target.getValue(1).doubleValue(), EPSILON);
+
+        // an update to the last item and an append in one event
+        source.setNotify(false);
+        source.update(d3, new Double(7.0));
+        source.add(d4, 9.0);
+        source.setNotify(true);
+        assertEquals(3, target.getItemCount());
+        assertEquals(6.0, target.getValue(1).doubleValue(), EPSILON);
+        assertEquals(8.0, target.getValue(2).doubleValue(), EPSILON);
+
+        // removing the first item keeps the earlier results
+        source.setMaximumItemCount(4);
+        source.add(d4.next(), 11.0);
+        assertEquals(4, source.getItemCount());
+        assertEquals(4, target.getItemCount());
+        assertEquals(3.0, target.getValue(0).doubleValue(), EPSILON);
+        assertEquals(10.0, target.getValue(3).doubleValue(), EPSILON);
+    }
+
     /**
      * Creates a sample series.
      *
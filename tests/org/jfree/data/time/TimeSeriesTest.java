@@ -50,6 +50,7 @@
  * 09-Jun-2009 : Added testAdd_TimeSeriesDataItem (DG);
  * 31-Aug-2009 : Added new test for createCopy() method (DG);
  * 03-Dec-2011 : Added testBug3446965() (DG);
+ * 16-Oct-2026 : Added testModificationCount();
  * 
  */
 
@@ -1203,4 +1204,187 @@ public class TimeSeriesTest implements SeriesChangeListener {
         assertTrue(ts.findValueRange(range, TimePeriodAnchor.MIDDLE, tzone).isNaNRange());
         assertTrue(ts.findValueRange(range, TimePeriodAnchor.END, tzone).isNaNRange());
     }
+
+    /**
+     * A series with ring buffer storage and a maximum item count should hold
+     * the same data and bounds as a series with the default storage.
+     */
+    @Test
+    public void testRingBuffer() {
+        TimeSeries s1 = new TimeSeries("S", "Time", "Value");
+        TimeSeries s2 = new TimeSeries("S", "Time", "Value", true);
+        assertFalse(s1.isRingBuffer());
+        assertTrue(s2.isRingBuffer());
+        s1.setMaximumItemCount(20);
+        s2.setMaximumItemCount(20);
+        RegularTimePeriod p = new Day(1, 1, 2014);
+        java.util.Random random = new java.util.Random(123L);
+        for (int i = 0; i < 200; i++) {
+            Double y = i % 17 == 0 ? null : new Double(random.nextInt(50));
+            s1.add(p, y);
+            s2.add(p, y);
+            p = p.next();
+            assertEquals(s1.getMinY(), s2.getMinY(), EPSILON);
+            assertEquals(s1.getMaxY(), s2.getMaxY(), EPSILON);
+        }
+        assertEquals(s1, s2);
+
+        // an update in the middle and an out-of-order insert
+        s1.update(10, new Double(-5.0));
+        s2.update(10, new Double(-5.0));
+        assertEquals(-5.0, s2.getMinY(), EPSILON);
+        s1.delete(s1.getTimePeriod(5));
+        s2.delete(s2.getTimePeriod(5));
+        s1.add(s1.getTimePeriod(4).next(), 99.0);
+        s2.add(s2.getTimePeriod(4).next(), 99.0);
+        assertEquals(s1, s2);
+        assertEquals(99.0, s2.getMaxY(), EPSILON);
+        s1.delete(0, 12);
+        s2.delete(0, 12);
+        assertEquals(s1, s2);
+        assertEquals(s1.getMinY(), s2.getMinY(), EPSILON);
+        assertEquals(s1.getMaxY(), s2.getMaxY(), EPSILON);
+    }
+
+    /**
+     * Check the removal of aged items and cloning with ring buffer storage.
+     */
+    @Test
+    public void testRingBufferAgedItems() throws CloneNotSupportedException {
+        TimeSeries s = new TimeSeries("S", "Time", "Value", true);
+        s.setMaximumItemAge(3);
+        s.add(new Year(2000), 9.0);
+        s.add(new Year(2001), 1.0);
+        s.add(new Year(2002), 5.0);
+        s.add(new Year(2003), 4.0);
+        assertEquals(1.0, s.getMinY(), EPSILON);
+        assertEquals(9.0, s.getMaxY(), EPSILON);
+        s.add(new Year(2005), 3.0);
+        assertEquals(3, s.getItemCount());
+        assertEquals(3.0, s.getMinY(), EPSILON);
+        assertEquals(5.0, s.getMaxY(), EPSILON);
+
+        TimeSeries clone = (TimeSeries) s.clone();
+        assertTrue(clone.isRingBuffer());
+        assertEquals(s, clone);
+        clone.add(new Year(2006), 7.0);
+        assertEquals(3, s.getItemCount());
+        assertEquals(7.0, clone.getMaxY(), EPSILON);
+
+        TimeSeries copy = (TimeSeries) TestUtilities.serialised(s);
+        assertTrue(copy.isRingBuffer());
+        assertEquals(s, copy);
+        assertEquals(5.0, copy.getMaxY(), EPSILON);
+    }
+
+    /**
+     * Updating the value for the current period in a ring buffer series
+     * (the usual live update) should keep the bounds correct.
+     */
+    @Test
+    public void testRingBufferUpdateLast() {
+        TimeSeries s1 = new TimeSeries("S", "Time", "Value");
+        TimeSeries s2 = new TimeSeries("S", "Time", "Value", true);
+        s1.setMaximumItemCount(10);
+        s2.setMaximumItemCount(10);
+        RegularTimePeriod p = new Day(1, 1, 2014);
+        java.util.Random random = new java.util.Random(456L);
+        for (int i = 0; i < 100; i++) {
+            for (int j = 0; j < 4; j++) {
+                Double y = random.nextInt(9) == 0 ? null
+                        : new Double(random.nextInt(30) - 15);
+                s1.addOrUpdate(p, y);
+                s2.addOrUpdate(p, y);
+                assertEquals(s1.getMinY(), s2.getMinY(), EPSILON);
+                assertEquals(s1.getMaxY(), s2.getMaxY(), EPSILON);
+            }
+            p = p.next();
+        }
+        assertEquals(s1, s2);
+    }
+
+    /**
+     * Replacing the last item in a {@link TimeSeriesRingBuffer} should
+     * restore candidates that the old value had pushed out of the queues.
+     */
+    @Test
+    public void testRingBufferReplaceLast() {
+        TimeSeriesRingBuffer buffer = new TimeSeriesRingBuffer();
+        RegularTimePeriod p = new Day(1, 1, 2014);
+        buffer.add(new TimeSeriesDataItem(p, 5.0));
+        p = p.next();
+        buffer.add(new TimeSeriesDataItem(p, 3.0));
+        assertEquals(3.0, buffer.getMinY(), EPSILON);
+        assertEquals(5.0, buffer.getMaxY(), EPSILON);
+        buffer.set(1, new TimeSeriesDataItem(p, 10.0));
+        assertEquals(5.0, buffer.getMinY(), EPSILON);
+        assertEquals(10.0, buffer.getMaxY(), EPSILON);
+        buffer.set(1, new TimeSeriesDataItem(p, (Number) null));
+        assertEquals(5.0, buffer.getMinY(), EPSILON);
+        assertEquals(5.0, buffer.getMaxY(), EPSILON);
+        buffer.set(1, new TimeSeriesDataItem(p, 1.0));
+        assertEquals(1.0, buffer.getMinY(), EPSILON);
+        assertEquals(5.0, buffer.getMaxY(), EPSILON);
+    }
+
+    /**
+     * Check that findValueRange() keeps giving the right result as the series
+     * changes after the first call.
+     */
+    @Test
+    public void testFindValueRange3() {
+        TimeZone zone = TimeZone.getTimeZone("UTC");
+        TimeSeries ts = new TimeSeries("S");
+        ts.setMaximumItemCount(5);
+        for (int i = 1; i <= 5; i++) {
+            ts.add(new Year(2000 + i), i);
+        }
+        Range all = new Range(Long.MIN_VALUE, Long.MAX_VALUE);
+        Year y2003 = new Year(2003);
+        Range r2003 = new Range(y2003.getFirstMillisecond(zone),
+                y2003.getLastMillisecond(zone));
+        assertEquals(new Range(1.0, 5.0), ts.findValueRange(all,
+                TimePeriodAnchor.MIDDLE, zone));
+        assertEquals(new Range(3.0, 3.0), ts.findValueRange(r2003,
+                TimePeriodAnchor.START, zone));
+
+        ts.add(new Year(2006), 0.5);  // evicts 2001
+        assertEquals(new Range(0.5, 5.0), ts.findValueRange(all,
+                TimePeriodAnchor.MIDDLE, zone));
+        ts.update(new Year(2003), new Double(9.0));
+        assertEquals(new Range(9.0, 9.0), ts.findValueRange(r2003,
+                TimePeriodAnchor.END, zone));
+        assertEquals(new Range(0.5, 9.0), ts.findValueRange(all,
+                TimePeriodAnchor.MIDDLE, zone));
+        ts.delete(new Year(2003));
+        assertTrue(ts.findValueRange(r2003, TimePeriodAnchor.MIDDLE,
+                zone).isNaNRange());
+        assertEquals(new Range(0.5, 5.0), ts.findValueRange(all,
+                TimePeriodAnchor.MIDDLE, zone));
+    }
+
+    /**
+     * Every change increases the modification count, including changes made
+     * without notification.
+     */
+    @Test
+    public void testModificationCount() {
+        TimeSeries s = new TimeSeries("S");
+        long count = s.getModificationCount();
+        s.add(new Year(2001), 1.0);
+        assertTrue(s.getModificationCount() > count);
+        count = s.getModificationCount();
+        s.add(new Year(2002), 2.0, false);
+        assertTrue(s.getModificationCount() > count);
+        count = s.getModificationCount();
+        s.update(0, new Double(3.0));
+        assertTrue(s.getModificationCount() > count);
+        count = s.getModificationCount();
+        s.delete(0, 0, false);
+        assertTrue(s.getModificationCount() > count);
+        count = s.getModificationCount();
+        s.getValue(0);
+        assertEquals(count, s.getModificationCount());
+    }
+
 }
@@ -0,0 +1,217 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------------
+ * StreamingDatasetReaderTest.java
+ * -------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.xml;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.jfree.data.category.CategoryDataset;
+import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeListener;
+import org.jfree.data.general.DefaultPieDataset;
+import org.jfree.data.general.PieDataset;
+import org.jfree.data.time.Day;
+import org.jfree.data.time.FixedMillisecond;
+import org.jfree.data.time.TimeSeries;
+import org.jfree.data.time.TimeSeriesCollection;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link StreamingDatasetReader} and {@link DatasetWriter}
+ * classes.
+ */
+public class StreamingDatasetReaderTest {
+
+    /**
+     * Counts dataset change events.
+     */
+    static class Counter implements DatasetChangeListener {
+
+        int count;
+
+        @Override
+        public void datasetChanged(DatasetChangeEvent event) {
+            this.count++;
+        }
+    }
+
+    /**
+     * Writes a pie dataset, and reads it back with both readers.
+     *
+     * @throws IOException if there is a problem.
+     */
+    @Test
+    public void testPieDataset() throws IOException {
+        DefaultPieDataset d1 = new DefaultPieDataset();
+        d1.setValue("A & B", 1.5);
+        d1.setValue("C", null);
+        d1.setValue("D", -2.0);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        DatasetWriter.writePieDataset(d1, out);
+        DefaultPieDataset d2 = StreamingDatasetReader.readPieDataset(
+                new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(d1, d2);
+        PieDataset d3 = DatasetReader.readPieDatasetFromXML(
+                new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(d1, d3);
+    }
+
+    /**
+     * Writes a category dataset, reads it back with both readers, and
+     * appends it to an existing dataset.
+     *
+     * @throws IOException if there is a problem.
+     */
+    @Test
+    public void testCategoryDataset() throws IOException {
+        DefaultCategoryDataset d1 = new DefaultCategoryDataset();
+        d1.addValue(1.0, "R1", "C1");
+        d1.addValue(2.0, "R1", "C2");
+        d1.addValue(null, "R2", "C1");
+        d1.addValue(4.0, "R2", "C2");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        DatasetWriter.writeCategoryDataset(d1, out);
+        DefaultCategoryDataset d2 = StreamingDatasetReader.readCategoryDataset(
+                new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(d1, d2);
+        CategoryDataset d3 = DatasetReader.readCategoryDatasetFromXML(
+                new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(d1, d3);
+
+        DefaultCategoryDataset d4 = new DefaultCategoryDataset();
+        d4.addValue(9.0, "R3", "C1");
+        Counter counter = new Counter();
+        d4.addChangeListener(counter);
+        StreamingDatasetReader.readCategoryDataset(
+                new ByteArrayInputStream(out.toByteArray()), d4);
+        assertEquals(3, d4.getRowCount());
+        assertEquals(4.0, d4.getValue("R2", "C2").doubleValue(), 0.0);
+        assertEquals(1, counter.count);
+    }
+
+    /**
+     * Writes an XY dataset and reads it back.
+     *
+     * @throws IOException if there is a problem.
+     */
+    @Test
+    public void testXYSeriesCollection() throws IOException {
+        XYSeries s1 = new XYSeries("S1");
+        s1.add(1.0, 2.0);
+        s1.add(2.0, null);
+        s1.add(3.0, 0.1);
+        XYSeries s2 = new XYSeries("S2", false, true);
+        s2.add(5.0, 1.0);
+        s2.add(4.0, 1.0E-300);
+        XYSeriesCollection d1 = new XYSeriesCollection();
+        d1.addSeries(s1);
+        d1.addSeries(s2);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        DatasetWriter.writeXYDataset(d1, out);
+        XYSeriesCollection d2 = StreamingDatasetReader.readXYSeriesCollection(
+                new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(d1, d2);
+        assertEquals(false, d2.getSeries(1).getAutoSort());
+
+        // append
+        StreamingDatasetReader.readXYSeriesCollection(
+                new ByteArrayInputStream(out.toByteArray()), d2);
+        assertEquals(2, d2.getSeriesCount());
+        assertEquals(6, d2.getSeries(0).getItemCount());
+    }
+
+    /**
+     * Writes a time series dataset and reads it back.
+     *
+     * @throws IOException if there is a problem.
+     */
+    @Test
+    public void testTimeSeriesCollection() throws IOException {
+        TimeSeries s1 = new TimeSeries("S1");
+        s1.add(new Day(1, 1, 2014), 1.0);
+        s1.add(new Day(2, 1, 2014), null);
+        s1.add(new Day(5, 1, 2014), 3.0);
+        TimeSeries s2 = new TimeSeries("S2");
+        s2.add(new FixedMillisecond(123456789L), 7.0);
+        TimeSeriesCollection d1 = new TimeSeriesCollection();
+        d1.addSeries(s1);
+        d1.addSeries(s2);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        DatasetWriter.writeTimeSeriesCollection(d1, out);
+        TimeSeriesCollection d2
+                = StreamingDatasetReader.readTimeSeriesCollection(
+                new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(d1, d2);
+        assertNull(d2.getSeries("S1").getValue(new Day(2, 1, 2014)));
+
+        // appending updates the existing items
+        StreamingDatasetReader.readTimeSeriesCollection(
+                new ByteArrayInputStream(out.toByteArray()), d2);
+        assertEquals(d1, d2);
+    }
+
+    /**
+     * Invalid XML is reported as an IOException.
+     */
+    @Test
+    public void testInvalidXML() {
+        String xml = "<PieDataset><Item><Key>A</Key><Oops/></Item>"
+                + "</PieDataset>";
+        try {
+            StreamingDatasetReader.readPieDataset(
+                    new ByteArrayInputStream(xml.getBytes()));
+            fail("Expected an IOException.");
+        }
+        catch (IOException e) {
+            assertTrue(e.getMessage().indexOf("Oops") >= 0);
+        }
+    }
+
+}
@@ -44,6 +44,7 @@
  * 17-May-2010 : Added checks for duplicate series names (DG);
  * 08-Jan-2012 : Added testBug3445507() (DG);
  * 28-Jul-2012 : Added testSeriesRename() (DG);
+ * 16-Oct-2026 : Added testGetBoundsForVisibleSeries();
  *
  */
 
@@ -60,6 +61,7 @@ import static org.junit.Assert.fail;
 import org.jfree.chart.TestUtilities;
 import org.jfree.data.Range;
 import org.jfree.data.UnknownKeyException;
+import org.jfree.data.general.DatasetUtilities;
 import org.jfree.util.PublicCloneable;
 
 import org.junit.Test;
@@ -534,4 +536,44 @@ public class XYSeriesCollectionTest {
         // change because "C" is already the key for the other series in the
         // collection
     }
+
+    /**
+     * Checks that the XYDomainInfo and XYRangeInfo methods give the same
+     * results as iterating over the data items.
+     */
+    @Test
+    public void testGetBoundsForVisibleSeries() {
+        XYSeries s1 = new XYSeries("S1");
+        XYSeries s2 = new XYSeries("S2", true, true, true);
+        for (int i = 0; i < 100; i++) {
+            s1.add(i, Math.sin(i / 7.0));
+            s2.add(i * 0.5, i % 3 == 0 ? null : new Double(i % 17));
+        }
+        XYSeriesCollection dataset = new XYSeriesCollection();
+        dataset.addSeries(s1);
+        dataset.addSeries(s2);
+        java.util.List keys = java.util.Arrays.asList(new Comparable[] {"S1",
+                "S2"});
+        java.util.List keys2 = java.util.Arrays.asList(new Comparable[] {
+                "S2"});
+        assertEquals(DatasetUtilities.iterateToFindDomainBounds(dataset, keys,
+                false), dataset.getDomainBounds(keys, false));
+        assertEquals(DatasetUtilities.iterateToFindDomainBounds(dataset, keys,
+                true), dataset.getDomainBounds(keys, true));
+        assertEquals(DatasetUtilities.iterateToFindDomainBounds(dataset, keys2,
+                true), dataset.getDomainBounds(keys2, true));
+        Range[] xRanges = new Range[] {new Range(0.0, 100.0),
+                new Range(10.0, 20.0), new Range(12.2, 12.4),
+                new Range(30.5, 30.5), new Range(-5.0, -1.0)};
+        for (int i = 0; i < xRanges.length; i++) {
+            assertEquals(DatasetUtilities.iterateToFindRangeBounds(dataset,
+                    keys, xRanges[i], false), dataset.getRangeBounds(keys,
+                    xRanges[i], false));
+            assertEquals(DatasetUtilities.iterateToFindRangeBounds(dataset,
+                    keys2, xRanges[i], false), dataset.getRangeBounds(keys2,
+                    xRanges[i], false));
+        }
+        assertNull(dataset.getDomainBounds(new java.util.ArrayList(), true));
+    }
+
 }
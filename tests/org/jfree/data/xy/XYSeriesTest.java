@@ -41,6 +41,8 @@
  * 01-May-2008 : Added testAddOrUpdate3() (DG);
  * 24-Nov-2008 : Added testBug1955483() (DG);
  * 06-Mar-2009 : Added tests for cached bounds values (DG);
+ * 16-Oct-2026 : Added tests for compact storage and findValueRange();
+ * 16-Oct-2026 : Added testModificationCount();
  *
  */
 
@@ -50,9 +52,11 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertFalse;
 
 import org.jfree.chart.TestUtilities;
+import org.jfree.data.Range;
 
 import org.jfree.data.general.SeriesException;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.fail;
 import org.junit.Test;
 
@@ -806,4 +810,145 @@ public class XYSeriesTest {
         c.removeSeries(1);
         s1.setKey("S2");
     }
+
+    /**
+     * A series with compact storage should hold the same data as a series
+     * with the default storage.
+     */
+    @Test
+    public void testCompact() {
+        XYSeries s1 = new XYSeries("S", true, true);
+        XYSeries s2 = new XYSeries("S", true, true, true);
+        assertFalse(s1.isCompact());
+        assertTrue(s2.isCompact());
+        double[] x = {5.0, 1.0, 3.0, 3.0, 2.0};
+        for (int i = 0; i < x.length; i++) {
+            s1.add(x[i], x[i] * 10.0);
+            s2.add(x[i], x[i] * 10.0);
+        }
+        s1.add(new Double(4.0), null);
+        s2.add(new Double(4.0), null);
+        assertEquals(s1, s2);
+        assertEquals(6, s2.getItemCount());
+        assertEquals(1.0, s2.getXValue(0), EPSILON);
+        assertEquals(50.0, s2.getYValue(5), EPSILON);
+        assertEquals(null, s2.getY(4));
+        assertTrue(Double.isNaN(s2.getYValue(4)));
+        assertEquals(s1.indexOf(new Double(2.0)), s2.indexOf(new Double(2.0)));
+        assertEquals(s1.indexOf(new Double(9.0)), s2.indexOf(new Double(9.0)));
+
+        s1.update(new Double(5.0), new Double(-1.0));
+        s2.update(new Double(5.0), new Double(-1.0));
+        assertEquals(-1.0, s2.getMinY(), EPSILON);
+        s1.remove(0);
+        s2.remove(0);
+        assertEquals(s1, s2);
+        assertEquals(s1.getMinX(), s2.getMinX(), EPSILON);
+        assertEquals(s1.getMaxY(), s2.getMaxY(), EPSILON);
+    }
+
+    /**
+     * Check that a series with compact storage can be cloned and serialized.
+     */
+    @Test
+    public void testCompactCloningAndSerialization()
+            throws CloneNotSupportedException {
+        XYSeries s1 = new XYSeries("S", true, false, true);
+        s1.add(1.0, 1.1);
+        s1.add(new Double(2.0), null);
+        s1.add(3.0, Double.NaN);
+        XYSeries s2 = (XYSeries) s1.clone();
+        assertTrue(s2.isCompact());
+        assertEquals(s1, s2);
+        s1.addOrUpdate(1.0, 9.9);
+        assertFalse(s1.equals(s2));
+
+        XYSeries s3 = (XYSeries) TestUtilities.serialised(s1);
+        assertTrue(s3.isCompact());
+        assertEquals(s1, s3);
+        assertEquals(null, s3.getY(1));
+        assertEquals(new Double(Double.NaN), s3.getY(2));
+    }
+
+    /**
+     * Some checks for the findValueRange() method.
+     */
+    @Test
+    public void testFindValueRange() {
+        XYSeries s = new XYSeries("S", true, false);
+        assertNull(s.findValueRange(new Range(0.0, 10.0)));
+        s.add(1.0, 5.0);
+        s.add(2.0, null);
+        s.add(3.0, -2.0);
+        s.add(4.0, 8.0);
+        assertEquals(new Range(-2.0, 8.0), s.findValueRange(
+                new Range(0.0, 10.0)));
+        assertEquals(new Range(-2.0, 5.0), s.findValueRange(
+                new Range(1.0, 3.0)));
+        assertNull(s.findValueRange(new Range(1.5, 2.5)));
+        assertNull(s.findValueRange(new Range(4.5, 5.0)));
+
+        // the index follows appends, updates and evictions...
+        s.setMaximumItemCount(4);
+        s.add(5.0, 1.0);
+        assertEquals(new Range(-2.0, 8.0), s.findValueRange(
+                new Range(0.0, 10.0)));
+        s.updateByIndex(1, new Double(20.0));
+        assertEquals(new Range(1.0, 20.0), s.findValueRange(
+                new Range(3.0, 5.0)));
+        s.addOrUpdate(5.0, 30.0);
+        assertEquals(new Range(8.0, 30.0), s.findValueRange(
+                new Range(3.0, 5.0)));
+
+        // ...and other changes
+        s.setMaximumItemCount(10);
+        s.add(0.5, 100.0);
+        assertEquals(new Range(8.0, 100.0), s.findValueRange(
+                new Range(0.0, 4.0)));
+        s.remove(new Double(0.5));
+        assertEquals(new Range(8.0, 20.0), s.findValueRange(
+                new Range(0.0, 4.0)));
+
+        // an unsorted series is searched item by item
+        XYSeries u = new XYSeries("U", false, true, true);
+        u.add(3.0, 3.0);
+        u.add(1.0, 1.0);
+        u.add(2.0, 2.0);
+        assertEquals(new Range(1.0, 2.0), u.findValueRange(
+                new Range(0.0, 2.0)));
+    }
+
+    /**
+     * Every change increases the modification count, including changes made
+     * without notification.
+     */
+    @Test
+    public void testModificationCount() {
+        XYSeries s = new XYSeries("S");
+        long count = s.getModificationCount();
+        s.add(1.0, 1.0);
+        assertTrue(s.getModificationCount() > count);
+        count = s.getModificationCount();
+        s.add(2.0, 2.0, false);
+        assertTrue(s.getModificationCount() > count);
+        count = s.getModificationCount();
+        s.updateByIndex(0, new Double(5.0));
+        assertTrue(s.getModificationCount() > count);
+        count = s.getModificationCount();
+        s.setNotify(false);
+        s.remove(0);
+        assertTrue(s.getModificationCount() > count);
+        count = s.getModificationCount();
+        s.getDataItem(0);
+        s.getMaxY();
+        assertEquals(count, s.getModificationCount());
+
+        // datasets count the change events of their series
+        XYSeriesCollection d = new XYSeriesCollection(s);
+        s.setNotify(true);
+        count = d.getModificationCount();
+        s.add(3.0, 3.0);
+        assertTrue(d.getModificationCount() > count);
+    }
+
 }